@@ -17,41 +17,39 @@
  */
 package io.siddhi.extension.io.grpc.sink;
 
-import io.grpc.ManagedChannel;
+import io.grpc.LoadBalancerRegistry;
 import io.grpc.ManagedChannelBuilder;
-import io.grpc.Metadata;
-import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
+import io.grpc.NameResolverRegistry;
 import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
-import io.grpc.netty.shaded.io.netty.handler.ssl.SslContextBuilder;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
+import io.grpc.netty.shaded.io.netty.channel.ChannelOption;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContext;
 import io.grpc.stub.AbstractStub;
 import io.grpc.stub.MetadataUtils;
 import io.siddhi.core.config.SiddhiAppContext;
-import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.stream.ServiceDeploymentInfo;
 import io.siddhi.core.stream.output.sink.Sink;
+import io.siddhi.core.util.SiddhiConstants;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.core.util.transport.DynamicOptions;
 import io.siddhi.core.util.transport.Option;
 import io.siddhi.core.util.transport.OptionHolder;
+import io.siddhi.extension.io.grpc.util.GrpcByteBufAllocators;
+import io.siddhi.extension.io.grpc.util.GrpcChannelConfigs;
+import io.siddhi.extension.io.grpc.util.GrpcCompressionCodecs;
 import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.extension.io.grpc.util.GrpcEventLoopGroups;
+import io.siddhi.extension.io.grpc.util.GrpcUtils;
+import io.siddhi.extension.io.grpc.util.KeyValueTemplate;
 import io.siddhi.extension.io.grpc.util.ServiceConfigs;
 import io.siddhi.query.api.definition.StreamDefinition;
 import org.wso2.grpc.Event;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.security.KeyStore;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.security.UnrecoverableKeyException;
-import java.security.cert.CertificateException;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLException;
-import javax.net.ssl.TrustManagerFactory;
 
 /**
  * {@code AbstractGrpcSink} is a super class extended by GrpcCallSink, and GrpcSink.
@@ -59,24 +57,37 @@ import javax.net.ssl.TrustManagerFactory;
  */
 public abstract class AbstractGrpcSink extends Sink {
     protected String siddhiAppName;
-    protected ManagedChannel channel = null;
+    protected SiddhiAppContext siddhiAppContext;
+    protected ChannelPool channel = null;
     protected String streamID;
     protected Option headersOption;
     protected Option metadataOption;
-    protected ManagedChannelBuilder managedChannelBuilder;
+    protected ManagedChannelBuilder<?> managedChannelBuilder;
     protected long channelTerminationWaitingTimeInMillis = -1L;
+    protected GrpcChannelConfigs channelConfigs;
+    private EventLoopGroup eventLoopGroup;
+    private volatile PooledByteBufAllocator byteBufAllocator;
     protected ServiceConfigs serviceConfigs;
     protected StreamDefinition streamDefinition;
     protected Map<String, String> headersMap;
+    protected KeyValueTemplate headersTemplate;
+    protected KeyValueTemplate metadataTemplate;
+    protected String messageEncoding;
+
+    static {
+        NameResolverRegistry.getDefaultRegistry().register(new MultiEndpointNameResolverProvider());
+        LoadBalancerRegistry.getDefaultRegistry().register(new LeastLoadedLoadBalancerProvider());
+    }
 
     /**
      * Returns the list of classes which this sink can consume.
      */
     @Override
     public Class[] getSupportedInputEventClasses() {
-        return new Class[]{com.google.protobuf.GeneratedMessageV3.class, String.class};
-        // in default case json mapper will inject String. In custom gRPC service
-        // case protobuf mapper will inject gRPC message class
+        return new Class[]{com.google.protobuf.GeneratedMessageV3.class, String.class, byte[].class,
+                ByteBuffer.class};
+        // in default case json mapper will inject String, and binary mappers byte[] or ByteBuffer. In custom gRPC
+        // service case protobuf mapper will inject gRPC message class
     }
 
     @Override
@@ -108,6 +119,7 @@ public abstract class AbstractGrpcSink extends Sink {
     protected StateFactory init(StreamDefinition streamDefinition, OptionHolder optionHolder, ConfigReader configReader,
                                 SiddhiAppContext siddhiAppContext) {
         this.siddhiAppName = siddhiAppContext.getName();
+        this.siddhiAppContext = siddhiAppContext;
         this.streamID = streamDefinition.getId();
         this.streamDefinition = streamDefinition;
         if (optionHolder.isOptionExists(GrpcConstants.HEADERS)) {
@@ -118,73 +130,79 @@ public abstract class AbstractGrpcSink extends Sink {
         }
         this.serviceConfigs = new ServiceConfigs(optionHolder, siddhiAppContext, streamID , configReader, false);
 
-        managedChannelBuilder = NettyChannelBuilder.forTarget(serviceConfigs.getHostPort());
+        if (serviceConfigs.getEndpoints().size() > 1) {
+            managedChannelBuilder = NettyChannelBuilder.forTarget(MultiEndpointNameResolverProvider.getTarget(
+                    serviceConfigs.getEndpoints()));
+        } else {
+            managedChannelBuilder = NettyChannelBuilder.forTarget(serviceConfigs.getHostPort());
+        }
 
-        if (serviceConfigs.getTruststoreFilePath() != null || serviceConfigs.getKeystoreFilePath() != null) {
-            SslContextBuilder sslContextBuilder = GrpcSslContexts.forClient();
-            if (serviceConfigs.getTruststoreFilePath() != null) {
-                sslContextBuilder.trustManager(getTrustManagerFactory(serviceConfigs.getTruststoreFilePath(),
-                        serviceConfigs.getTruststorePassword(), serviceConfigs.getTruststoreAlgorithm(),
-                        serviceConfigs.getTlsStoreType()));
-            }
-            if (serviceConfigs.getKeystoreFilePath() != null) {
-                sslContextBuilder.keyManager(getKeyManagerFactory(serviceConfigs.getKeystoreFilePath(),
-                        serviceConfigs.getKeystorePassword(), serviceConfigs.getKeystoreAlgorithm(),
-                        serviceConfigs.getTlsStoreType()));
-            }
-            try {
-                managedChannelBuilder = ((NettyChannelBuilder) managedChannelBuilder).sslContext(sslContextBuilder
-                        .build());
-            } catch (SSLException e) {
-                throw new SiddhiAppCreationException(siddhiAppContext.getName() + ": " + streamID + ": Error while " +
-                        "creating gRPC channel. " + e.getMessage(), e);
-            }
+        SslContext sslContext = GrpcUtils.createClientSslContext(serviceConfigs, siddhiAppName, streamID);
+        if (sslContext != null) {
+            managedChannelBuilder = ((NettyChannelBuilder) managedChannelBuilder).sslContext(sslContext);
         } else {
                 managedChannelBuilder = managedChannelBuilder.usePlaintext();
         }
 
-        if (optionHolder.isOptionExists(GrpcConstants.IDLE_TIMEOUT_MILLIS)) {
-            managedChannelBuilder.idleTimeout(Long.parseLong(optionHolder.validateAndGetOption(
-                    GrpcConstants.IDLE_TIMEOUT_MILLIS).getValue()), TimeUnit.MILLISECONDS);
+        this.channelConfigs = new GrpcChannelConfigs(optionHolder, serviceConfigs, siddhiAppName, streamID);
+        if (channelConfigs.getTransport() != null) {
+            this.eventLoopGroup = GrpcEventLoopGroups.getInstance().acquire(channelConfigs.getTransport(),
+                    GrpcConstants.EVENT_LOOP_ROLE_WORKER, channelConfigs.getWorkerThreads());
+            ((NettyChannelBuilder) managedChannelBuilder).eventLoopGroup(eventLoopGroup)
+                    .channelType(channelConfigs.getTransport().getChannelType());
+        }
+        if (channelConfigs.getAllocatorConfig() != null) {
+            this.byteBufAllocator = GrpcByteBufAllocators.getInstance().acquire(channelConfigs.getAllocatorConfig());
+            ((NettyChannelBuilder) managedChannelBuilder).withOption(ChannelOption.ALLOCATOR, byteBufAllocator);
+            GrpcByteBufAllocators.registerMetrics(siddhiAppContext, getMetricName(), () -> byteBufAllocator);
         }
-        if (optionHolder.isOptionExists(GrpcConstants.KEEP_ALIVE_TIME_MILLIS)) {
-            managedChannelBuilder.keepAliveTime(Long.parseLong(optionHolder.validateAndGetOption(
-                    GrpcConstants.KEEP_ALIVE_TIME_MILLIS).getValue()), TimeUnit.MILLISECONDS);
+        this.messageEncoding = GrpcCompressionCodecs.getMessageEncoding(optionHolder.getOrCreateOption(
+                GrpcConstants.COMPRESSION, GrpcConstants.COMPRESSION_NONE).getValue(), siddhiAppName, streamID);
+        managedChannelBuilder.compressorRegistry(GrpcCompressionCodecs.getCompressorRegistry());
+        managedChannelBuilder.decompressorRegistry(GrpcCompressionCodecs.getDecompressorRegistry());
+        if (channelConfigs.getIdleTimeoutMillis() != -1L) {
+            managedChannelBuilder.idleTimeout(channelConfigs.getIdleTimeoutMillis(), TimeUnit.MILLISECONDS);
         }
-        if (optionHolder.isOptionExists(GrpcConstants.KEEP_ALIVE_TIMEOUT_MILLIS)) {
-            managedChannelBuilder.keepAliveTimeout(Long.parseLong(optionHolder.validateAndGetOption(
-                    GrpcConstants.KEEP_ALIVE_TIMEOUT_MILLIS).getValue()), TimeUnit.MILLISECONDS);
+        if (channelConfigs.getKeepAliveTimeMillis() != -1L) {
+            managedChannelBuilder.keepAliveTime(channelConfigs.getKeepAliveTimeMillis(), TimeUnit.MILLISECONDS);
         }
-        if (optionHolder.isOptionExists(GrpcConstants.KEEP_ALIVE_WITHOUT_CALLS)) {
-            managedChannelBuilder.keepAliveWithoutCalls(Boolean.parseBoolean(optionHolder.validateAndGetOption(
-                    GrpcConstants.KEEP_ALIVE_WITHOUT_CALLS).getValue()));
+        if (channelConfigs.getKeepAliveTimeoutMillis() != -1L) {
+            managedChannelBuilder.keepAliveTimeout(channelConfigs.getKeepAliveTimeoutMillis(),
+                    TimeUnit.MILLISECONDS);
         }
-        if (Boolean.parseBoolean(optionHolder.getOrCreateOption(GrpcConstants.ENABLE_RETRY,
-                GrpcConstants.ENABLE_RETRY_DEFAULT).getValue())) {
+        if (channelConfigs.getKeepAliveWithoutCalls() != null) {
+            managedChannelBuilder.keepAliveWithoutCalls(channelConfigs.getKeepAliveWithoutCalls());
+        }
+        if (channelConfigs.isEnableRetry()) {
             managedChannelBuilder.enableRetry();
-            if (optionHolder.isOptionExists(GrpcConstants.MAX_RETRY_ATTEMPTS)) {
-                managedChannelBuilder.maxRetryAttempts(Integer.parseInt(optionHolder.validateAndGetOption(
-                        GrpcConstants.MAX_RETRY_ATTEMPTS).getValue()));
+            if (channelConfigs.getMaxRetryAttempts() != -1) {
+                managedChannelBuilder.maxRetryAttempts(channelConfigs.getMaxRetryAttempts());
             }
-            if (optionHolder.isOptionExists(GrpcConstants.RETRY_BUFFER_SIZE)) {
-                managedChannelBuilder.retryBufferSize(Long.parseLong(optionHolder.validateAndGetOption(
-                        GrpcConstants.RETRY_BUFFER_SIZE).getValue()));
+            if (channelConfigs.getRetryBufferSize() != -1L) {
+                managedChannelBuilder.retryBufferSize(channelConfigs.getRetryBufferSize());
             }
-            if (optionHolder.isOptionExists(GrpcConstants.PER_RPC_BUFFER_SIZE)) {
-                managedChannelBuilder.perRpcBufferLimit(Long.parseLong(optionHolder.validateAndGetOption(
-                        GrpcConstants.PER_RPC_BUFFER_SIZE).getValue()));
+            if (channelConfigs.getPerRpcBufferSize() != -1L) {
+                managedChannelBuilder.perRpcBufferLimit(channelConfigs.getPerRpcBufferSize());
             }
         }
+        if (channelConfigs.getMaxInboundMessageSize() != -1) {
+            managedChannelBuilder.maxInboundMessageSize(channelConfigs.getMaxInboundMessageSize());
+        }
+        if (channelConfigs.getMaxInboundMetadataSize() != -1) {
+            managedChannelBuilder.maxInboundMetadataSize(channelConfigs.getMaxInboundMetadataSize());
+        }
+        if (channelConfigs.getDefaultServiceConfig() != null) {
+            managedChannelBuilder.defaultServiceConfig(channelConfigs.getDefaultServiceConfig());
+        }
         initSink(optionHolder);
+        if (headersOption != null) {
+            headersTemplate = new KeyValueTemplate(headersOption, streamDefinition, siddhiAppName, streamID);
+        }
+        if (metadataOption != null) {
+            metadataTemplate = new KeyValueTemplate(metadataOption, streamDefinition, siddhiAppName, streamID);
+        }
         if (headersOption != null && headersOption.isStatic()) {
-            headersMap = new HashMap<>();
-            String headers = headersOption.getValue();
-            headers = headers.replaceAll(GrpcConstants.INVERTED_COMMA_STRING, GrpcConstants.EMPTY_STRING);
-            String[] headersArray = headers.split(GrpcConstants.COMMA_STRING);
-            for (String headerKeyValue: headersArray) {
-                String[] headerKeyValueArray = headerKeyValue.split(GrpcConstants.SEMI_COLON_STRING);
-                headersMap.put(headerKeyValueArray[0], headerKeyValueArray[1]);
-            }
+            headersMap = headersTemplate.toMap(null);
             if (serviceConfigs.getSequenceName() != null) {
                 headersMap.put(GrpcConstants.SEQUENCE_HEADER_KEY, serviceConfigs.getSequenceName());
             }
@@ -192,46 +210,30 @@ public abstract class AbstractGrpcSink extends Sink {
         return null;
     }
 
-    private TrustManagerFactory getTrustManagerFactory(String filePath, String password, String algorithm,
-                                                       String storeType)  {
-        char[] passphrase = password.toCharArray();
-        try {
-            KeyStore keyStore = KeyStore.getInstance(storeType);
-            try (FileInputStream fis = new FileInputStream(filePath)) {
-                keyStore.load(fis, passphrase);
-            } catch (IOException e) {
-                throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": " + e.getMessage(), e);
-            }
-            TrustManagerFactory tmf = TrustManagerFactory.getInstance(algorithm);
-            tmf.init(keyStore);
-            return tmf;
-        } catch (CertificateException | NoSuchAlgorithmException | KeyStoreException e) {
-           throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": Error while reading truststore " +
-                   e.getMessage(), e);
-        }
+    public abstract void initSink(OptionHolder optionHolder);
+
+    /**
+     * Returns the prefix of the names of the metrics of the sink, named like the size metrics of streams.
+     */
+    protected String getMetricName() {
+        return siddhiAppContext.getSiddhiContext().getStatisticsConfiguration().getMetricPrefix() +
+                SiddhiConstants.METRIC_DELIMITER + SiddhiConstants.METRIC_INFIX_SIDDHI_APPS +
+                SiddhiConstants.METRIC_DELIMITER + siddhiAppName + SiddhiConstants.METRIC_DELIMITER +
+                SiddhiConstants.METRIC_INFIX_SIDDHI + SiddhiConstants.METRIC_DELIMITER +
+                SiddhiConstants.METRIC_INFIX_SINKS + SiddhiConstants.METRIC_DELIMITER + streamID +
+                SiddhiConstants.METRIC_DELIMITER + getType() + SiddhiConstants.METRIC_DELIMITER;
     }
 
-    private KeyManagerFactory getKeyManagerFactory(String filePath, String password, String algorithm,
-                                                   String storeType) {
-        try {
-            KeyStore keyStore = KeyStore.getInstance(storeType);
-            char[] passphrase = password.toCharArray();
-            try (FileInputStream fis = new FileInputStream(filePath)) {
-                keyStore.load(fis, passphrase);
-            } catch (IOException e) {
-                throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": " + e.getMessage(), e);
-            }
-            KeyManagerFactory kmf = KeyManagerFactory.getInstance(algorithm);
-            kmf.init(keyStore, passphrase);
-            return kmf;
-        } catch (CertificateException | UnrecoverableKeyException | NoSuchAlgorithmException | KeyStoreException e) {
-            throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": Error while reading keystore " +
-                    e.getMessage(), e);
+    /**
+     * Set the message compression of the sink on the stub, if any.
+     */
+    protected <S extends AbstractStub<S>> S applyCompression(S stub) {
+        if (messageEncoding == null) {
+            return stub;
         }
+        return stub.withCompression(messageEncoding);
     }
 
-    public abstract void initSink(OptionHolder optionHolder);
-
     /**
      * The method can be called when removing an event receiver.
      * The cleanups that have to be done after removing the receiver could be done here.
@@ -239,17 +241,19 @@ public abstract class AbstractGrpcSink extends Sink {
     @Override
     public void destroy() {
         channel = null;
+        if (eventLoopGroup != null) {
+            GrpcEventLoopGroups.getInstance().release(eventLoopGroup);
+            eventLoopGroup = null;
+        }
+        if (byteBufAllocator != null) {
+            GrpcByteBufAllocators.getInstance().release(byteBufAllocator);
+            byteBufAllocator = null;
+        }
     }
 
     public Event.Builder addHeadersToEventBuilder(DynamicOptions dynamicOptions, Event.Builder eventBuilder) {
-        if (headersOption != null) {
-            String headers = headersOption.getValue(dynamicOptions);
-            headers = headers.replaceAll(GrpcConstants.INVERTED_COMMA_STRING, GrpcConstants.EMPTY_STRING);
-            String[] headersArray = headers.split(GrpcConstants.COMMA_STRING);
-            for (String headerKeyValue: headersArray) {
-                String[] headerKeyValueArray = headerKeyValue.split(GrpcConstants.SEMI_COLON_STRING);
-                eventBuilder.putHeaders(headerKeyValueArray[0], headerKeyValueArray[1]);
-            }
+        if (headersTemplate != null) {
+            headersTemplate.forEach(dynamicOptions.getEvent().getData(), eventBuilder::putHeaders);
         }
         if (serviceConfigs.getSequenceName() != null) {
             eventBuilder.putHeaders(GrpcConstants.SEQUENCE_HEADER_KEY, serviceConfigs.getSequenceName());
@@ -257,21 +261,22 @@ public abstract class AbstractGrpcSink extends Sink {
         return eventBuilder;
     }
 
-    public AbstractStub attachMetaDataToStub(DynamicOptions dynamicOptions, AbstractStub stub) {
-        Metadata metadata = new Metadata();
-        String metadataString;
-        if (metadataOption.isStatic()) {
-            metadataString = metadataOption.getValue();
-        } else {
-            metadataString = metadataOption.getValue(dynamicOptions);
-        }
-        metadataString = metadataString.replaceAll(GrpcConstants.INVERTED_COMMA_STRING, GrpcConstants.EMPTY_STRING);
-        String[] metadataArray = metadataString.split(GrpcConstants.COMMA_STRING);
-        for (String metadataKeyValue: metadataArray) {
-            String[] headerKeyValueArray = metadataKeyValue.split(GrpcConstants.SEMI_COLON_STRING);
-            metadata.put(Metadata.Key.of(headerKeyValueArray[0], Metadata.ASCII_STRING_MARSHALLER),
-                    headerKeyValueArray[1]);
+    /**
+     * Prepare a newly created stub for sending the metadata option. Static metadata is attached to the stub once,
+     * while dynamic metadata is passed per call through {@link #attachMetaDataToStub(DynamicOptions, AbstractStub)}.
+     */
+    public <S extends AbstractStub<S>> S attachMetaDataToStub(S stub) {
+        if (metadataTemplate.isStatic()) {
+            return stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadataTemplate.toMetadata(null)));
         }
-        return MetadataUtils.attachHeaders(stub, metadata);
+        return stub.withInterceptors(new CallMetadataInterceptor());
+    }
+
+    /**
+     * Set the dynamic metadata of the event on a stub prepared by {@link #attachMetaDataToStub(AbstractStub)}.
+     */
+    public <S extends AbstractStub<S>> S attachMetaDataToStub(DynamicOptions dynamicOptions, S stub) {
+        return stub.withOption(CallMetadataInterceptor.METADATA, metadataTemplate.toMetadata(dynamicOptions
+                .getEvent().getData()));
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Client interceptor adding the metadata given in the {@link #METADATA} call option to the headers of the call, so
+ * that metadata which changes for each event is sent without intercepting the stub for every event.
+ */
+public class CallMetadataInterceptor implements ClientInterceptor {
+    public static final CallOptions.Key<Metadata> METADATA = CallOptions.Key.create("siddhi-grpc-metadata");
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        Metadata metadata = callOptions.getOption(METADATA);
+        ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+        if (metadata == null) {
+            return call;
+        }
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(call) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                headers.merge(metadata);
+                super.start(responseListener, headers);
+            }
+        };
+    }
+}
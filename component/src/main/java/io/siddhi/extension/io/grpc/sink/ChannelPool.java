@@ -0,0 +1,191 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of {@link ManagedChannel}s built from the same builder so that a sink can spread its calls over several
+ * HTTP/2 connections. The pool itself is a {@link Channel}, so stubs created on it pick a pooled channel for every
+ * call according to the configured {@link Strategy}.
+ */
+public class ChannelPool extends Channel {
+    private final ManagedChannel[] channels;
+    private final AtomicInteger[] outstandingCalls;
+    private final AtomicInteger nextChannel = new AtomicInteger();
+    private final Strategy strategy;
+
+    public ChannelPool(ManagedChannelBuilder<?> managedChannelBuilder, int poolSize, Strategy strategy) {
+        this.channels = new ManagedChannel[poolSize];
+        this.outstandingCalls = new AtomicInteger[poolSize];
+        this.strategy = strategy;
+        for (int i = 0; i < poolSize; i++) {
+            channels[i] = managedChannelBuilder.build();
+            outstandingCalls[i] = new AtomicInteger();
+        }
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor,
+                                                         CallOptions callOptions) {
+        int index = nextChannelIndex();
+        AtomicInteger outstanding = outstandingCalls[index];
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+                channels[index].newCall(methodDescriptor, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                outstanding.incrementAndGet();
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+                        responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        outstanding.decrementAndGet();
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+        };
+    }
+
+    @Override
+    public String authority() {
+        return channels[0].authority();
+    }
+
+    public int size() {
+        return channels.length;
+    }
+
+    public boolean isShutdown() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public ChannelPool shutdown() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        return this;
+    }
+
+    /**
+     * Run the callback once a pooled channel becomes ready, asking idle channels to connect. Channels which are
+     * ready at the time of the call notify only after they lose and regain their connection. The callback runs at
+     * most once and is dropped when the channels shut down, or when the given flag is set before a channel becomes
+     * ready.
+     */
+    public void notifyWhenReady(Runnable callback, AtomicBoolean cancelled) {
+        AtomicBoolean notified = new AtomicBoolean();
+        for (ManagedChannel channel : channels) {
+            ConnectivityState state = channel.getState(true);
+            if (state != ConnectivityState.SHUTDOWN) {
+                channel.notifyWhenStateChanged(state, () -> watchState(channel, callback, cancelled, notified));
+            }
+        }
+    }
+
+    private void watchState(ManagedChannel channel, Runnable callback, AtomicBoolean cancelled,
+                            AtomicBoolean notified) {
+        if (cancelled.get() || notified.get()) {
+            return;
+        }
+        ConnectivityState state = channel.getState(true);
+        if (state == ConnectivityState.READY) {
+            if (notified.compareAndSet(false, true)) {
+                callback.run();
+            }
+        } else if (state != ConnectivityState.SHUTDOWN) {
+            channel.notifyWhenStateChanged(state, () -> watchState(channel, callback, cancelled, notified));
+        }
+    }
+
+    /**
+     * Wait for all pooled channels to terminate. The timeout applies to the pool as a whole.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ManagedChannel channel : channels) {
+            if (!channel.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int nextChannelIndex() {
+        if (channels.length == 1) {
+            return 0;
+        }
+        int start = Math.floorMod(nextChannel.getAndIncrement(), channels.length);
+        if (strategy == Strategy.ROUND_ROBIN) {
+            return start;
+        }
+        int selected = start;
+        int leastOutstanding = outstandingCalls[start].get();
+        for (int i = 1; i < channels.length && leastOutstanding > 0; i++) {
+            int index = (start + i) % channels.length;
+            int outstanding = outstandingCalls[index].get();
+            if (outstanding < leastOutstanding) {
+                selected = index;
+                leastOutstanding = outstanding;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Strategy used to pick a pooled channel for a new call.
+     */
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_OUTSTANDING;
+
+        public static Strategy fromString(String strategy, String siddhiAppName, String streamID) {
+            switch (strategy.toLowerCase()) {
+                case GrpcConstants.CHANNEL_POOL_STRATEGY_ROUND_ROBIN:
+                    return ROUND_ROBIN;
+                case GrpcConstants.CHANNEL_POOL_STRATEGY_LEAST_OUTSTANDING:
+                    return LEAST_OUTSTANDING;
+                default:
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                            GrpcConstants.CHANNEL_POOL_STRATEGY + " '" + strategy + "'. Expected either " +
+                            GrpcConstants.CHANNEL_POOL_STRATEGY_ROUND_ROBIN + " or " +
+                            GrpcConstants.CHANNEL_POOL_STRATEGY_LEAST_OUTSTANDING);
+            }
+        }
+    }
+}
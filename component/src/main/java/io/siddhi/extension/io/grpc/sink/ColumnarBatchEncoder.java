@@ -0,0 +1,304 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import com.google.protobuf.CodedOutputStream;
+import io.siddhi.core.event.Event;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.definition.StreamDefinition;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.grpc.BoolColumn;
+import org.wso2.grpc.Column;
+import org.wso2.grpc.ColumnarBatch;
+import org.wso2.grpc.DoubleColumn;
+import org.wso2.grpc.LongColumn;
+import org.wso2.grpc.StringColumn;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder of {@link ColumnarBatch} messages from Siddhi events. The rows are held in a typed array per attribute
+ * of the stream definition, so adding an event only copies its attribute values. When the batch is built, a long
+ * column is delta encoded if that makes it smaller, and a string column is dictionary encoded if each distinct
+ * value appears at least twice on average.
+ */
+public class ColumnarBatchEncoder {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Attribute.Type[] types;
+    private final long[][] longColumns;
+    private final double[][] doubleColumns;
+    private final boolean[][] boolColumns;
+    private final String[][] stringColumns;
+    private final BitSet[] nullRows;
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private int rowCount;
+    private long estimatedBytes;
+
+    /**
+     * @throws SiddhiAppValidationException if the stream has an attribute of type object, which has no column type
+     */
+    public ColumnarBatchEncoder(StreamDefinition streamDefinition, String siddhiAppName) {
+        List<Attribute> attributes = streamDefinition.getAttributeList();
+        this.types = new Attribute.Type[attributes.size()];
+        this.longColumns = new long[types.length][];
+        this.doubleColumns = new double[types.length][];
+        this.boolColumns = new boolean[types.length][];
+        this.stringColumns = new String[types.length][];
+        this.nullRows = new BitSet[types.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = attributes.get(i).getType();
+            nullRows[i] = new BitSet();
+            switch (types[i]) {
+                case INT:
+                case LONG:
+                    longColumns[i] = new long[INITIAL_CAPACITY];
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    doubleColumns[i] = new double[INITIAL_CAPACITY];
+                    break;
+                case BOOL:
+                    boolColumns[i] = new boolean[INITIAL_CAPACITY];
+                    break;
+                case STRING:
+                    stringColumns[i] = new String[INITIAL_CAPACITY];
+                    break;
+                default:
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamDefinition.getId() + ": " +
+                            GrpcConstants.FORMAT + " '" + GrpcConstants.FORMAT_COLUMNAR + "' does not support " +
+                            "the attribute '" + attributes.get(i).getName() + "' of type " + types[i]);
+            }
+        }
+    }
+
+    /**
+     * Add an event as the next row of the batch.
+     */
+    public void add(Event event) {
+        if (rowCount == timestamps.length) {
+            grow();
+        }
+        Object[] data = event.getData();
+        timestamps[rowCount] = event.getTimestamp();
+        estimatedBytes += Long.BYTES;
+        for (int i = 0; i < types.length; i++) {
+            Object value = data[i];
+            if (value == null) {
+                nullRows[i].set(rowCount);
+                estimatedBytes++;
+                continue;
+            }
+            switch (types[i]) {
+                case INT:
+                case LONG:
+                    longColumns[i][rowCount] = ((Number) value).longValue();
+                    estimatedBytes += Long.BYTES;
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    doubleColumns[i][rowCount] = ((Number) value).doubleValue();
+                    estimatedBytes += Double.BYTES;
+                    break;
+                case BOOL:
+                    boolColumns[i][rowCount] = (Boolean) value;
+                    estimatedBytes++;
+                    break;
+                default:
+                    stringColumns[i][rowCount] = value.toString();
+                    estimatedBytes += stringColumns[i][rowCount].length() + 1;
+            }
+        }
+        rowCount++;
+    }
+
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        for (int i = 0; i < types.length; i++) {
+            if (longColumns[i] != null) {
+                longColumns[i] = Arrays.copyOf(longColumns[i], capacity);
+            } else if (doubleColumns[i] != null) {
+                doubleColumns[i] = Arrays.copyOf(doubleColumns[i], capacity);
+            } else if (boolColumns[i] != null) {
+                boolColumns[i] = Arrays.copyOf(boolColumns[i], capacity);
+            } else {
+                stringColumns[i] = Arrays.copyOf(stringColumns[i], capacity);
+            }
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the approximate size of the rows added since the batch was last cleared.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Build the batch of the rows added since it was last cleared.
+     *
+     * @param headers the headers of the batch, such as the stream.id, or null if there are none
+     */
+    public ColumnarBatch build(Map<String, String> headers) {
+        ColumnarBatch.Builder batchBuilder = ColumnarBatch.newBuilder().setRowCount(rowCount)
+                .setTimestamps(encodeLongs(timestamps, null));
+        if (headers != null) {
+            batchBuilder.putAllHeaders(headers);
+        }
+        for (int i = 0; i < types.length; i++) {
+            Column.Builder columnBuilder = Column.newBuilder();
+            BitSet nulls = nullRows[i];
+            for (int row = nulls.nextSetBit(0); row >= 0; row = nulls.nextSetBit(row + 1)) {
+                columnBuilder.addNullRows(row);
+            }
+            if (longColumns[i] != null) {
+                columnBuilder.setLongValues(encodeLongs(longColumns[i], nulls));
+            } else if (doubleColumns[i] != null) {
+                DoubleColumn.Builder doubleColumn = DoubleColumn.newBuilder();
+                for (int row = 0; row < rowCount; row++) {
+                    if (!nulls.get(row)) {
+                        doubleColumn.addValues(doubleColumns[i][row]);
+                    }
+                }
+                columnBuilder.setDoubleValues(doubleColumn);
+            } else if (boolColumns[i] != null) {
+                BoolColumn.Builder boolColumn = BoolColumn.newBuilder();
+                for (int row = 0; row < rowCount; row++) {
+                    if (!nulls.get(row)) {
+                        boolColumn.addValues(boolColumns[i][row]);
+                    }
+                }
+                columnBuilder.setBoolValues(boolColumn);
+            } else {
+                columnBuilder.setStringValues(encodeStrings(stringColumns[i], nulls));
+            }
+            batchBuilder.addColumns(columnBuilder);
+        }
+        return batchBuilder.build();
+    }
+
+    /**
+     * Encode the non null values of a long column, as differences from the previous value if that is smaller.
+     */
+    private LongColumn encodeLongs(long[] values, BitSet nulls) {
+        int plainSize = 0;
+        int deltaSize = 0;
+        long previous = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (nulls == null || !nulls.get(row)) {
+                plainSize += CodedOutputStream.computeSInt64SizeNoTag(values[row]);
+                deltaSize += CodedOutputStream.computeSInt64SizeNoTag(values[row] - previous);
+                previous = values[row];
+            }
+        }
+        boolean delta = deltaSize < plainSize;
+        LongColumn.Builder longColumn = LongColumn.newBuilder().setDelta(delta);
+        previous = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (nulls == null || !nulls.get(row)) {
+                longColumn.addValues(delta ? values[row] - previous : values[row]);
+                previous = values[row];
+            }
+        }
+        return longColumn.build();
+    }
+
+    /**
+     * Encode the non null values of a string column, as indexes of the distinct values if each of them appears at
+     * least twice on average.
+     */
+    private StringColumn encodeStrings(String[] values, BitSet nulls) {
+        StringColumn.Builder stringColumn = StringColumn.newBuilder();
+        Map<String, Integer> dictionary = new HashMap<>();
+        int valueCount = rowCount - nulls.cardinality();
+        for (int row = 0; row < rowCount && dictionary.size() * 2 <= valueCount; row++) {
+            if (!nulls.get(row)) {
+                dictionary.putIfAbsent(values[row], dictionary.size());
+            }
+        }
+        if (valueCount > 1 && dictionary.size() * 2 <= valueCount) {
+            String[] distinctValues = new String[dictionary.size()];
+            dictionary.forEach((value, index) -> distinctValues[index] = value);
+            stringColumn.addAllValues(Arrays.asList(distinctValues));
+            for (int row = 0; row < rowCount; row++) {
+                if (!nulls.get(row)) {
+                    stringColumn.addDictionaryIndexes(dictionary.get(values[row]));
+                }
+            }
+        } else {
+            for (int row = 0; row < rowCount; row++) {
+                if (!nulls.get(row)) {
+                    stringColumn.addValues(values[row]);
+                }
+            }
+        }
+        return stringColumn.build();
+    }
+
+    /**
+     * Drop the rows added after the given number of rows, such as the rows of an event chunk that could not be
+     * sent.
+     */
+    public void truncate(int rowCount) {
+        for (int row = rowCount; row < this.rowCount; row++) {
+            estimatedBytes -= Long.BYTES;
+            for (int i = 0; i < types.length; i++) {
+                if (nullRows[i].get(row)) {
+                    estimatedBytes--;
+                } else if (longColumns[i] != null) {
+                    estimatedBytes -= Long.BYTES;
+                } else if (doubleColumns[i] != null) {
+                    estimatedBytes -= Double.BYTES;
+                } else if (boolColumns[i] != null) {
+                    estimatedBytes--;
+                } else {
+                    estimatedBytes -= stringColumns[i][row].length() + 1;
+                    stringColumns[i][row] = null;
+                }
+            }
+        }
+        for (int i = 0; i < types.length; i++) {
+            nullRows[i].clear(rowCount, this.rowCount);
+        }
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Drop the rows of the batch, keeping the allocated columns for the next batch.
+     */
+    public void clear() {
+        for (int i = 0; i < types.length; i++) {
+            nullRows[i].clear();
+            if (stringColumns[i] != null) {
+                Arrays.fill(stringColumns[i], 0, rowCount, null);
+            }
+        }
+        rowCount = 0;
+        estimatedBytes = 0;
+    }
+}
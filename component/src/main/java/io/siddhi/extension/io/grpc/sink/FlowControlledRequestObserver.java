@@ -0,0 +1,293 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.siddhi.core.exception.ConnectionUnavailableException;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client stream observer that honours the HTTP/2 flow control of a gRPC client stream. Requests are written to the
+ * stream only while it is ready and are otherwise held in a bounded outbound buffer which is drained by the on
+ * ready handler. When the buffer is full the configured {@link OverflowPolicy} decides what happens to the request.
+ * <p>
+ * Once the stream fails, requests are still buffered up to the same bound so that they can be handed over to the
+ * stream which replaces it through {@link #transferTo}. Requests sent after the hand over go to the new stream.
+ *
+ * @param <ReqT>  type of the requests sent through the stream
+ * @param <RespT> type of the responses received from the server
+ */
+public class FlowControlledRequestObserver<ReqT, RespT> implements ClientResponseObserver<ReqT, RespT> {
+    private static final Logger logger = LogManager.getLogger(FlowControlledRequestObserver.class);
+    private final StreamObserver<RespT> responseObserver;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final String siddhiAppName;
+    private final String streamID;
+    private final Deque<ReqT> buffer = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition bufferNotFull = lock.newCondition();
+    private final Runnable failureListener;
+    private ClientCallStreamObserver<ReqT> requestStream;
+    private FlowControlledRequestObserver<ReqT, ?> successor;
+    private volatile Throwable failure;
+    private volatile boolean completed;
+    private volatile boolean becameReady;
+
+    public FlowControlledRequestObserver(StreamObserver<RespT> responseObserver, int bufferSize,
+                                         OverflowPolicy overflowPolicy, String siddhiAppName, String streamID) {
+        this(responseObserver, bufferSize, overflowPolicy, siddhiAppName, streamID, null);
+    }
+
+    /**
+     * @param failureListener called once when the stream is closed by the server or fails, unless the stream was
+     *                        completed by the sink
+     */
+    public FlowControlledRequestObserver(StreamObserver<RespT> responseObserver, int bufferSize,
+                                         OverflowPolicy overflowPolicy, String siddhiAppName, String streamID,
+                                         Runnable failureListener) {
+        this.responseObserver = responseObserver;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.siddhiAppName = siddhiAppName;
+        this.streamID = streamID;
+        this.failureListener = failureListener;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.setOnReadyHandler(this::drain);
+    }
+
+    /**
+     * Send the request through the stream, or buffer it until the stream becomes ready. Requests sent after the
+     * stream has been handed over through {@link #transferTo} are sent through the new stream.
+     *
+     * @param request request to be sent
+     * @throws ConnectionUnavailableException if the buffer is full with fail.fast policy, or with block policy
+     *                                        while the stream is failed
+     */
+    public void send(ReqT request) throws ConnectionUnavailableException {
+        FlowControlledRequestObserver<ReqT, ?> next;
+        lock.lock();
+        try {
+            if (successor == null) {
+                if (failure == null && !completed && buffer.isEmpty() && requestStream.isReady()) {
+                    becameReady = true;
+                    requestStream.onNext(request);
+                    return;
+                }
+                while (buffer.size() >= bufferSize && successor == null) {
+                    if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                        buffer.poll();
+                        if (logger.isDebugEnabled()) {
+                            logger.debug(siddhiAppName + ":" + streamID + ": Outbound buffer of size " +
+                                    bufferSize + " is full. Dropping the oldest buffered request");
+                        }
+                    } else if (overflowPolicy == OverflowPolicy.BLOCK && failure == null && !completed) {
+                        try {
+                            bufferNotFull.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": " +
+                                    "Interrupted while waiting for the gRPC stream to become ready", e);
+                        }
+                    } else if (failure != null || completed) {
+                        throw new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": Outbound " +
+                                "buffer of size " + bufferSize + " is full while the gRPC stream is closed. " +
+                                (failure != null ? failure.getMessage() : ""), failure);
+                    } else {
+                        throw new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": Outbound " +
+                                "buffer of size " + bufferSize + " is full since the gRPC server is not " +
+                                "consuming requests fast enough");
+                    }
+                }
+                if (successor == null) {
+                    buffer.add(request);
+                    drainBuffer();
+                    return;
+                }
+            }
+            next = successor;
+        } finally {
+            lock.unlock();
+        }
+        next.send(request);
+    }
+
+    /**
+     * Hand the requests buffered by this failed stream over to the stream replacing it. Later calls to
+     * {@link #send} are forwarded to the new stream.
+     */
+    public void transferTo(FlowControlledRequestObserver<ReqT, ?> next) {
+        lock.lock();
+        try {
+            next.lock.lock();
+            try {
+                next.buffer.addAll(buffer);
+                next.drainBuffer();
+            } finally {
+                next.lock.unlock();
+            }
+            buffer.clear();
+            successor = next;
+            bufferNotFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write out all buffered requests regardless of the stream readiness and half close the stream.
+     */
+    public void complete() {
+        lock.lock();
+        try {
+            completed = true;
+            if (failure == null && requestStream != null) {
+                while (!buffer.isEmpty()) {
+                    requestStream.onNext(buffer.poll());
+                }
+                requestStream.onCompleted();
+            } else if (!buffer.isEmpty()) {
+                logger.error(siddhiAppName + ":" + streamID + ": Dropping " + buffer.size() + " buffered " +
+                        "requests since the gRPC stream is closed.");
+            }
+            buffer.clear();
+            bufferNotFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Whether the stream was ready to accept requests at some point, that is whether the call got a connection.
+     */
+    public boolean hasBecomeReady() {
+        return becameReady;
+    }
+
+    /**
+     * Whether a request sent now would be written to the stream or buffered without applying the overflow policy.
+     */
+    public boolean isAccepting() {
+        return failure == null && !completed && successor == null && buffer.size() < bufferSize;
+    }
+
+    public int getBufferedRequestCount() {
+        return buffer.size();
+    }
+
+    @Override
+    public void onNext(RespT response) {
+        responseObserver.onNext(response);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        fail(t);
+        responseObserver.onError(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        fail(new IllegalStateException("Stream closed by the server"));
+        responseObserver.onCompleted();
+    }
+
+    private void fail(Throwable t) {
+        lock.lock();
+        try {
+            if (failure != null) {
+                return;
+            }
+            failure = t;
+            bufferNotFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (failureListener != null && !completed) {
+            failureListener.run();
+        }
+    }
+
+    private void drain() {
+        lock.lock();
+        try {
+            drainBuffer();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainBuffer() {
+        if (requestStream == null || failure != null || completed) {
+            return;
+        }
+        if (requestStream.isReady()) {
+            becameReady = true;
+        }
+        boolean drained = false;
+        while (!buffer.isEmpty() && requestStream.isReady()) {
+            requestStream.onNext(buffer.poll());
+            drained = true;
+        }
+        if (drained) {
+            bufferNotFull.signalAll();
+        }
+    }
+
+    /**
+     * Action taken when a request is sent while the outbound buffer is full.
+     */
+    public enum OverflowPolicy {
+        BLOCK, DROP_OLDEST, FAIL_FAST;
+
+        public static OverflowPolicy fromString(String policy, String siddhiAppName, String streamID) {
+            switch (policy.toLowerCase()) {
+                case GrpcConstants.OUTBOUND_BUFFER_POLICY_BLOCK:
+                    return BLOCK;
+                case GrpcConstants.OUTBOUND_BUFFER_POLICY_DROP_OLDEST:
+                    return DROP_OLDEST;
+                case GrpcConstants.OUTBOUND_BUFFER_POLICY_FAIL_FAST:
+                    return FAIL_FAST;
+                default:
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                            GrpcConstants.OUTBOUND_BUFFER_POLICY + " '" + policy + "'. Expected one of " +
+                            GrpcConstants.OUTBOUND_BUFFER_POLICY_BLOCK + ", " +
+                            GrpcConstants.OUTBOUND_BUFFER_POLICY_DROP_OLDEST + " or " +
+                            GrpcConstants.OUTBOUND_BUFFER_POLICY_FAIL_FAST);
+            }
+        }
+    }
+}
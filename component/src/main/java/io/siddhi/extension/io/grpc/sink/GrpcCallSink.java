@@ -21,7 +21,9 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.MessageLite;
 import io.grpc.Channel;
+import io.grpc.Status;
 import io.grpc.stub.AbstractStub;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
@@ -30,23 +32,29 @@ import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.exception.ConnectionUnavailableException;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
 import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.statistics.BufferedEventsTracker;
+import io.siddhi.core.util.statistics.EventBufferHolder;
 import io.siddhi.core.util.transport.DynamicOptions;
+import io.siddhi.core.util.transport.Option;
 import io.siddhi.core.util.transport.OptionHolder;
+import io.siddhi.extension.io.grpc.source.GrpcCallResponseSource;
 import io.siddhi.extension.io.grpc.util.GrpcConstants;
 import io.siddhi.extension.io.grpc.util.GrpcSourceRegistry;
+import io.siddhi.extension.io.grpc.util.GrpcUtils;
 import io.siddhi.extension.io.grpc.util.ServiceConfigs;
-import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.grpc.Event;
 import org.wso2.grpc.EventServiceGrpc;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
@@ -72,7 +80,10 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                                 "method name in the following format. `grpc://0.0.0.0:9763/<serviceName>/" +
                                 "<methodName>`\n" +
                                 "For example:\n" +
-                                "grpc://0.0.0.0:9763/org.wso2.grpc.EventService/consume",
+                                "grpc://0.0.0.0:9763/org.wso2.grpc.EventService/consume\n" +
+                                "Several endpoints of the same service can be given as a comma separated list of " +
+                                "`<host>:<port>`, for example `grpc://10.0.0.1:9763,10.0.0.2:9763/<serviceName>/" +
+                                "<methodName>`. Calls are then spread over the endpoints according to lb.policy.",
                         type = {DataType.STRING}),
                 @Parameter(
                         name = "sink.id",
@@ -145,6 +156,82 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                         type = {DataType.LONG},
                         optional = true,
                         defaultValue = "1048576"),
+                @Parameter(
+                        name = "retry.policy",
+                        description = "The policy with which gRPC retries failed calls, as comma separated " +
+                                "'key:value' pairs. 'max.attempts' is the number of attempts including the first " +
+                                "one, and is required. 'initial.backoff' and 'max.backoff' bound the randomized " +
+                                "wait before a retry in milliseconds (defaults 100 and 1000), which grows by " +
+                                "'backoff.multiplier' (default 2) after each attempt. 'retryable.status.codes' " +
+                                "lists the status codes to retry separated by '|' (default UNAVAILABLE). Giving a " +
+                                "policy enables retries. Cannot be given together with hedging.policy.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "hedging.policy",
+                        description = "The policy with which gRPC hedges calls, sending further copies of a call " +
+                                "which has not completed yet and taking the first response, as comma separated " +
+                                "'key:value' pairs. 'max.attempts' is the number of copies including the first " +
+                                "one, and is required. 'hedging.delay' is the wait in milliseconds before sending " +
+                                "each further copy (default 0). 'non.fatal.status.codes' lists the status codes " +
+                                "separated by '|' after which the remaining copies are still sent. Giving a policy " +
+                                "enables retries. Cannot be given together with retry.policy.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "compression",
+                        description = "The compression applied to the messages sent to the server. Supported " +
+                                "values are `none`, `gzip`, `snappy` and `zstd`. grpc sources accept all of these " +
+                                "and compress their responses with the encoding of the request. Other servers " +
+                                "must have a codec registered for the chosen encoding.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "none"),
+                @Parameter(
+                        name = "channel.pool.size",
+                        description = "The number of channels, and hence HTTP/2 connections, opened to the " +
+                                "server. Calls are spread over the channels according to channel.pool.strategy. " +
+                                "Sinks publishing to the same host and port with the same TLS and channel " +
+                                "configurations share one pool.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1"),
+                @Parameter(
+                        name = "channel.pool.strategy",
+                        description = "How a channel is picked from the pool. `round.robin` uses the channels in " +
+                                "turn and `least.outstanding` picks the channel with the fewest calls in progress.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "round.robin"),
+                @Parameter(
+                        name = "lb.policy",
+                        description = "The load balancing policy used to spread calls over the endpoints given in " +
+                                "publisher.url. `pick_first` sends all calls to the first reachable endpoint, " +
+                                "`round_robin` uses the endpoints in turn and `least_loaded` picks the endpoint " +
+                                "with fewer calls in progress out of two randomly chosen endpoints. Only " +
+                                "`least_loaded` ejects failing endpoints. When several endpoints are given the " +
+                                "default is `round_robin`, otherwise it is `pick_first`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "round_robin"),
+                @Parameter(
+                        name = "outlier.ejection.consecutive.failures",
+                        description = "The number of consecutive failed calls, such as calls failing with " +
+                                "UNAVAILABLE or DEADLINE_EXCEEDED, after which the least_loaded policy stops " +
+                                "sending calls to an endpoint. Set to 0 to disable outlier ejection.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "5"),
+                @Parameter(
+                        name = "outlier.ejection.time.ms",
+                        description = "The time an endpoint is ejected for by the least_loaded policy. The time " +
+                                "grows with each consecutive ejection of the same endpoint, up to ten times " +
+                                "this value. At least one ready endpoint is always kept.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "30000"),
                 @Parameter(
                         name = "channel.termination.waiting.time",
                         description = "The time in seconds to wait for the channel to become terminated, giving up " +
@@ -152,12 +239,140 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                         type = {DataType.LONG},
                         optional = true,
                         defaultValue = "5"),
+                @Parameter(
+                        name = "call.deadline",
+                        description = "The time in milliseconds within which each call should complete. A call " +
+                                "that is still in progress when its deadline expires is cancelled, releasing its " +
+                                "resources on both the client and the server, and the event is handled by the " +
+                                "sink's `on.error` action. The deadline can be taken from an attribute of the " +
+                                "event, as in `call.deadline = '{{deadline}}'`, in which case a value of 0 or less " +
+                                "sends the call without a deadline. By default calls have no deadline.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        dynamic = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "max.inflight.requests",
+                        description = "The maximum number of calls the sink has in progress at a time. Once the " +
+                                "limit is reached further events wait or fail according to max.inflight.policy " +
+                                "until calls complete, which bounds the memory held for a slow server. Set to 0 " +
+                                "for no limit. The number of calls in progress is reported as the " +
+                                "`inflight.requests` metric of the sink when statistics are enabled.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "0"),
+                @Parameter(
+                        name = "max.inflight.bytes",
+                        description = "The maximum total size in bytes of the requests of the calls in progress. " +
+                                "Set to 0 for no limit. The size is reported as the `inflight.bytes` metric of the " +
+                                "sink when statistics are enabled.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "0"),
+                @Parameter(
+                        name = "max.inflight.policy",
+                        description = "The action taken when an event is published while max.inflight.requests or " +
+                                "max.inflight.bytes is reached. `block` waits until a call completes and " +
+                                "`fail.fast` fails the publish with a connection unavailable error so that the " +
+                                "sink's `on.error` action is applied.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "block"),
+                @Parameter(
+                        name = "response.threadpool.size",
+                        description = "The number of threads delivering responses to the grpc-call-response " +
+                                "source, so that the queries consuming them do not hold up the network threads of " +
+                                "the channel. With a single thread responses are delivered in the order the calls " +
+                                "complete. Set to 0 to deliver responses on the network threads.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1"),
+                @Parameter(
+                        name = "response.threadpool.buffer.size",
+                        description = "The number of responses waiting for a delivery thread, per thread when " +
+                                "response.partition.key is given. Once it is reached the network thread waits for " +
+                                "space, which slows down reading responses from the server.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1024"),
+                @Parameter(
+                        name = "response.partition.key",
+                        description = "The name of a stream attribute partitioning the responses over the delivery " +
+                                "threads. Responses of events with the same value of the attribute are delivered " +
+                                "by the same thread, in the order their calls complete. It is also the key of the " +
+                                "'key' ordering.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "ordering",
+                        description = "The order in which responses are delivered to the grpc-call-response " +
+                                "source. 'none' delivers each response as soon as its call completes. 'request' " +
+                                "delivers the responses in the order the requests were sent. 'key' does the same " +
+                                "separately for each value of the response.partition.key attribute, so a slow call " +
+                                "holds up only the responses of its own key. Calls are still made concurrently in " +
+                                "all modes. A call which fails gives up its turn and is reported through on.error " +
+                                "when it fails.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "none"),
+                @Parameter(
+                        name = "ordering.buffer.size",
+                        description = "The number of requests which were sent but whose responses are not " +
+                                "delivered yet, when ordering is 'request' or 'key'. Once it is reached sending " +
+                                "waits for the oldest response to be delivered.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1024"),
+                @Parameter(
+                        name = "transport",
+                        description = "The Netty transport of the channel, 'nio' or 'epoll'. 'epoll' uses the " +
+                                "native transport of Linux, which makes fewer system calls than 'nio'. When this " +
+                                "or worker.threads is given, the channel runs on an event loop group shared by " +
+                                "all gRPC channels and servers of the JVM with the same transport and number of " +
+                                "threads. Otherwise the gRPC default is used.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "nio"),
+                @Parameter(
+                        name = "worker.threads",
+                        description = "The number of threads of the shared event loop group of the channel. 0 " +
+                                "uses twice the number of processor cores.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "0"),
+                @Parameter(
+                        name = "allocator.direct.arenas",
+                        description = "The number of direct memory arenas of the pooled buffer allocator of the " +
+                                "channel. When this, 'allocator.chunk.size' or 'allocator.thread.local.cache' is " +
+                                "given the channel allocates from a pooled direct allocator shared by all gRPC " +
+                                "servers and channels of the JVM with the same allocator options, and reports the " +
+                                "direct memory reserved by the allocator and held by live buffers as the " +
+                                "`direct.memory.used` and `direct.memory.pinned` metrics when statistics are " +
+                                "enabled. Otherwise the gRPC default allocator is used.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "twice the number of processor cores"),
+                @Parameter(
+                        name = "allocator.chunk.size",
+                        description = "The size in bytes of the chunks the arenas of the allocator reserve, a " +
+                                "power of two between the page size of 8192 and 134217728.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "16777216"),
+                @Parameter(
+                        name = "allocator.thread.local.cache",
+                        description = "Whether the threads of the allocator keep released buffers in thread local " +
+                                "caches for reuse. Without the caches buffers go back to their arenas when released.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "true"),
                 @Parameter(
                         name = "max.inbound.message.size",
                         description = "Sets the maximum message size allowed to be received on the channel in bytes",
                         type = {DataType.LONG},
                         optional = true,
-                        defaultValue = "4194304"),
+                        defaultValue = "16777216"),
                 @Parameter(
                         name = "max.inbound.metadata.size",
                         description = "Sets the maximum size of metadata allowed to be received in bytes",
@@ -239,6 +454,19 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                                 "requests published from this stream. Note that since we are using EventService/" +
                                 "process the sink will be operating in default mode"
                 ),
+                @Example(syntax = "" +
+                        "@sink(type='grpc-call',\n" +
+                        "      publisher.url = 'grpc://194.23.98.100:8080,194.23.98.101:8080/EventService/process',\n" +
+                        "      sink.id= '1', lb.policy = 'least_loaded', @map(type='json'))\n" +
+                        "define stream FooStream (message String);\n" +
+                        "@source(type='grpc-call-response', sink.id= '1')\n" +
+                        "define stream BarStream (message String);",
+                        description = "" +
+                                "Here the calls from FooStream are spread over the grpc servers running at " +
+                                "194.23.98.100 and 194.23.98.101. Each call is sent to the server with fewer calls " +
+                                "in progress out of two randomly picked servers, and a server failing 5 " +
+                                "consecutive calls stops receiving calls for 30 seconds."
+                ),
                 @Example(syntax = "" +
                         "@sink(type='grpc-call',\n" +
                         "      publisher.url = 'grpc://194.23.98.100:8080/EventService/process',\n" +
@@ -301,8 +529,18 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
 public class GrpcCallSink extends AbstractGrpcSink {
     private static final Logger logger = LogManager.getLogger(GrpcCallSink.class);
     protected String sinkID;
-    protected AbstractStub futureStub;
-    private GrpcCallSink referenceToThisSink;
+    protected AbstractStub<?> futureStub;
+    private MethodHandle rpcMethodHandle;
+    private static final Object[] NO_REQUEST_DATA = new Object[0];
+    private InflightWindow inflightWindow;
+    private volatile GrpcCallResponseSource responseSource;
+    private int[] requestAttributeIndexes;
+    private ResponseDispatcher responseDispatcher;
+    private int partitionKeyIndex = -1;
+    private ReorderBuffer reorderBuffer;
+    private boolean orderedByKey;
+    private Option callDeadlineOption;
+    private long callDeadlineMillis;
 
     private static Method getRpcMethod(ServiceConfigs serviceConfigs, String siddhiAppName, String streamID) {
 
@@ -334,7 +572,6 @@ public class GrpcCallSink extends AbstractGrpcSink {
 
     @Override
     public void initSink(OptionHolder optionHolder) {
-        referenceToThisSink = this;
         if (serviceConfigs.isDefaultService()) {
             if (serviceConfigs.getMethodName() == null) {
                 serviceConfigs.setMethodName(GrpcConstants.DEFAULT_METHOD_NAME_WITH_RESPONSE);
@@ -346,68 +583,159 @@ public class GrpcCallSink extends AbstractGrpcSink {
                         .getMethodName());
             }
         }
-        if (optionHolder.isOptionExists(GrpcConstants.MAX_INBOUND_MESSAGE_SIZE)) {
-            managedChannelBuilder.maxInboundMessageSize(Integer.parseInt(optionHolder.validateAndGetOption(
-                    GrpcConstants.MAX_INBOUND_MESSAGE_SIZE).getValue()));
+        this.sinkID = optionHolder.validateAndGetOption(GrpcConstants.SINK_ID).getValue();
+        if (optionHolder.isOptionExists(GrpcConstants.CALL_DEADLINE_MILLIS)) {
+            this.callDeadlineOption = optionHolder.validateAndGetOption(GrpcConstants.CALL_DEADLINE_MILLIS);
+            if (callDeadlineOption.isStatic()) {
+                this.callDeadlineMillis = Long.parseLong(callDeadlineOption.getValue());
+                if (callDeadlineMillis <= 0) {
+                    throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " +
+                            GrpcConstants.CALL_DEADLINE_MILLIS + " should be positive but given " +
+                            callDeadlineMillis);
+                }
+            }
         }
-        if (optionHolder.isOptionExists(GrpcConstants.MAX_INBOUND_METADATA_SIZE)) {
-            managedChannelBuilder.maxInboundMetadataSize(Integer.parseInt(optionHolder.validateAndGetOption(
-                    GrpcConstants.MAX_INBOUND_METADATA_SIZE).getValue()));
+        int responseThreadPoolSize = Integer.parseInt(optionHolder.getOrCreateOption(
+                GrpcConstants.RESPONSE_THREADPOOL_SIZE, GrpcConstants.RESPONSE_THREADPOOL_SIZE_DEFAULT).getValue());
+        if (optionHolder.isOptionExists(GrpcConstants.RESPONSE_PARTITION_KEY)) {
+            String partitionKey = optionHolder.validateAndGetOption(GrpcConstants.RESPONSE_PARTITION_KEY)
+                    .getValue();
+            this.partitionKeyIndex = Arrays.asList(streamDefinition.getAttributeNameArray()).indexOf(partitionKey);
+            if (partitionKeyIndex < 0) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                        GrpcConstants.RESPONSE_PARTITION_KEY + " '" + partitionKey + "'. Expected one of the " +
+                        "attributes " + Arrays.toString(streamDefinition.getAttributeNameArray()));
+            }
+        }
+        ReorderBuffer.Ordering ordering = ReorderBuffer.Ordering.fromString(optionHolder.getOrCreateOption(
+                GrpcConstants.ORDERING, GrpcConstants.ORDERING_NONE).getValue(), siddhiAppName, streamID);
+        if (ordering == ReorderBuffer.Ordering.KEY && partitionKeyIndex < 0) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " + GrpcConstants.ORDERING +
+                    " '" + GrpcConstants.ORDERING_KEY + "' requires " + GrpcConstants.RESPONSE_PARTITION_KEY +
+                    " to be given");
+        }
+        if (ordering != ReorderBuffer.Ordering.NONE) {
+            this.reorderBuffer = new ReorderBuffer(Integer.parseInt(optionHolder.getOrCreateOption(
+                    GrpcConstants.ORDERING_BUFFER_SIZE, GrpcConstants.ORDERING_BUFFER_SIZE_DEFAULT).getValue()),
+                    siddhiAppName, streamID);
+            this.orderedByKey = ordering == ReorderBuffer.Ordering.KEY;
+        }
+        if (responseThreadPoolSize > 0) {
+            this.responseDispatcher = new ResponseDispatcher(responseThreadPoolSize, Integer.parseInt(optionHolder
+                    .getOrCreateOption(GrpcConstants.RESPONSE_THREADPOOL_BUFFER_SIZE,
+                            GrpcConstants.RESPONSE_THREADPOOL_BUFFER_SIZE_DEFAULT).getValue()),
+                    partitionKeyIndex >= 0, siddhiAppName, streamID);
+        }
+        InflightWindow window = new InflightWindow(Integer.parseInt(optionHolder.getOrCreateOption(
+                GrpcConstants.MAX_INFLIGHT_REQUESTS, GrpcConstants.MAX_INFLIGHT_REQUESTS_DEFAULT).getValue()),
+                Long.parseLong(optionHolder.getOrCreateOption(GrpcConstants.MAX_INFLIGHT_BYTES,
+                        GrpcConstants.MAX_INFLIGHT_BYTES_DEFAULT).getValue()),
+                InflightWindow.Policy.fromString(optionHolder.getOrCreateOption(GrpcConstants.MAX_INFLIGHT_POLICY,
+                        GrpcConstants.MAX_INFLIGHT_POLICY_BLOCK).getValue(), siddhiAppName, streamID),
+                siddhiAppName, streamID);
+        if (window.isBounded() || siddhiAppContext.getStatisticsManager() != null) {
+            this.inflightWindow = window;
+            registerInflightMetrics();
+        }
+        if (!serviceConfigs.isDefaultService()) {
+            Method rpcMethod = getRpcMethod(serviceConfigs, siddhiAppName, streamID);
+            try {
+                this.rpcMethodHandle = MethodHandles.publicLookup().unreflect(rpcMethod).asType(MethodType
+                        .methodType(ListenableFuture.class, AbstractStub.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid method name " +
+                        "provided in the url, provided method name: '" + serviceConfigs.getMethodName() +
+                        "', expected one of these methods: " + getRpcMethodList(serviceConfigs, siddhiAppName,
+                        streamID), e);
+            }
         }
-        this.sinkID = optionHolder.validateAndGetOption(GrpcConstants.SINK_ID).getValue();
     }
 
-    private class ListenableFutureWrapper {
-        private Object payload;
-        private DynamicOptions dynamicOptions;
+    /**
+     * Callback passing the response of a call to the grpc-call-response source of the sink, along with the data of
+     * the event which made the call.
+     */
+    private class ResponseCallback implements FutureCallback<Object> {
+        private final Object payload;
+        private final DynamicOptions dynamicOptions;
+        private final Object[] requestData;
+        private final long requestSize;
+        private final ReorderBuffer.Ticket ticket;
 
-        public ListenableFutureWrapper(Object payload, DynamicOptions dynamicOptions) {
+        private ResponseCallback(Object payload, DynamicOptions dynamicOptions, long requestSize,
+                                 ReorderBuffer.Ticket ticket) {
             this.payload = payload;
             this.dynamicOptions = dynamicOptions;
+            this.requestData = getRequestData(dynamicOptions);
+            this.requestSize = requestSize;
+            this.ticket = ticket;
         }
 
-        private void addDefaultCallback(ListenableFuture futureResponse) {
-            Futures.addCallback(futureResponse, new FutureCallback<Event>() {
-                Map<String, String> siddhiRequestEventData = getRequestEventDataMap(dynamicOptions);
-
-                @Override
-                public void onSuccess(Event result) {
-                    GrpcSourceRegistry.getInstance().getGrpcCallResponseSource(sinkID).onResponse(result,
-                            siddhiRequestEventData);
-                }
-
-                @Override
-                public void onFailure(Throwable t) {
-                    referenceToThisSink.onError(payload, dynamicOptions, (Exception) t);
-                    logger.error(siddhiAppName + ": " + streamID + ": " + t.getMessage());
-                }
-            }, MoreExecutors.directExecutor());
+        @Override
+        public void onSuccess(Object response) {
+            if (inflightWindow != null) {
+                inflightWindow.release(requestSize);
+            }
+            if (ticket != null) {
+                reorderBuffer.complete(ticket, () -> deliver(response));
+            } else {
+                deliver(response);
+            }
         }
 
-        private void addGenericCallback(ListenableFuture genericFutureResponse) {
-            Futures.addCallback(genericFutureResponse, new FutureCallback<Object>() {
-                Map<String, String> siddhiRequestEventData = getRequestEventDataMap(dynamicOptions);
-
-                @Override
-                public void onSuccess(Object o) {
-                    GrpcSourceRegistry.getInstance().getGrpcCallResponseSource(sinkID).onResponse(o,
-                            siddhiRequestEventData);
-                }
+        private void deliver(Object response) {
+            if (serviceConfigs.isDefaultService()) {
+                responseSource.onResponse((Event) response, requestData);
+            } else {
+                responseSource.onResponse(response, requestData);
+            }
+        }
 
-                @Override
-                public void onFailure(Throwable t) {
-                    referenceToThisSink.onError(payload, dynamicOptions, (Exception) t);
-                    logger.error(siddhiAppName + ":" + streamID + ": " + t.getMessage());
-                }
-            }, MoreExecutors.directExecutor());
+        @Override
+        public void onFailure(Throwable t) {
+            if (inflightWindow != null) {
+                inflightWindow.release(requestSize);
+            }
+            if (ticket != null) {
+                reorderBuffer.skip(ticket);
+            }
+            if (Status.fromThrowable(t).getCode() == Status.Code.DEADLINE_EXCEEDED) {
+                GrpcCallSink.this.onError(payload, dynamicOptions, new SiddhiAppRuntimeException(
+                        siddhiAppName + ":" + streamID + ": Call to " + serviceConfigs.getUrl() + " was cancelled " +
+                        "since it did not complete within its deadline. " + t.getMessage(), t));
+                return;
+            }
+            GrpcCallSink.this.onError(payload, dynamicOptions, (Exception) t);
+            logger.error(siddhiAppName + ":" + streamID + ": " + t.getMessage());
         }
     }
 
+    @Override
+    public String[] getSupportedDynamicOptions() {
+        return new String[]{GrpcConstants.HEADERS, GrpcConstants.METADATA, GrpcConstants.CALL_DEADLINE_MILLIS};
+    }
+
     @Override
     public void publish(Object payload, DynamicOptions dynamicOptions, State state)
             throws ConnectionUnavailableException {
+        if (reorderBuffer == null) {
+            call(payload, dynamicOptions, null);
+            return;
+        }
+        ReorderBuffer.Ticket ticket = reorderBuffer.register(orderedByKey ?
+                dynamicOptions.getEvent().getData(partitionKeyIndex) : null);
+        try {
+            call(payload, dynamicOptions, ticket);
+        } catch (ConnectionUnavailableException | RuntimeException e) {
+            reorderBuffer.skip(ticket);
+            throw e;
+        }
+    }
+
+    private void call(Object payload, DynamicOptions dynamicOptions, ReorderBuffer.Ticket ticket)
+            throws ConnectionUnavailableException {
         if (serviceConfigs.isDefaultService()) {
-            Event.Builder eventBuilder = Event.newBuilder().setPayload(payload.toString());
+            Event.Builder eventBuilder = GrpcUtils.setPayload(Event.newBuilder(), payload);
             EventServiceGrpc.EventServiceFutureStub currentFutureStub = (EventServiceGrpc.EventServiceFutureStub)
                     futureStub;
 
@@ -419,43 +747,145 @@ public class GrpcCallSink extends AbstractGrpcSink {
                 }
             }
 
-            if (metadataOption != null) {
-                currentFutureStub = (EventServiceGrpc.EventServiceFutureStub) attachMetaDataToStub(dynamicOptions,
-                        currentFutureStub);
+            if (metadataOption != null && !metadataOption.isStatic()) {
+                currentFutureStub = attachMetaDataToStub(dynamicOptions, currentFutureStub);
             }
 
-            ListenableFuture<Event> futureResponse = currentFutureStub.process(eventBuilder.build());
-            ListenableFutureWrapper wrapper = new ListenableFutureWrapper(payload, dynamicOptions);
-            wrapper.addDefaultCallback(futureResponse);
-        } else {
-            AbstractStub currentStub = futureStub;
-            Method rpcMethod = getRpcMethod(serviceConfigs, siddhiAppName, streamID);
-            if (metadataOption != null) {
-                currentStub = attachMetaDataToStub(dynamicOptions, currentStub);
+            currentFutureStub = applyDeadline(dynamicOptions, currentFutureStub);
+            Event event = eventBuilder.build();
+            long requestSize = acquireInflightSlot(event);
+            ListenableFuture<Event> futureResponse;
+            try {
+                futureResponse = currentFutureStub.process(event);
+            } catch (RuntimeException e) {
+                releaseInflightSlot(requestSize);
+                throw e;
             }
+            Futures.addCallback(futureResponse,
+                    new ResponseCallback(payload, dynamicOptions, requestSize, ticket),
+                    getResponseExecutor(dynamicOptions));
+        } else {
+            AbstractStub<?> currentStub = prepareGenericStub(dynamicOptions);
+            long requestSize = acquireInflightSlot(payload);
             ListenableFuture genericFutureResponse;
             try {
-                genericFutureResponse = (ListenableFuture) rpcMethod.invoke(currentStub, payload);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid method name " +
-                        "provided in the url, provided method name: '" + serviceConfigs.getMethodName() +
-                        "', expected one of these methods: " + getRpcMethodList(serviceConfigs, siddhiAppName,
-                        streamID), e);
+                genericFutureResponse = (ListenableFuture) rpcMethodHandle.invokeExact(currentStub, payload);
+            } catch (RuntimeException | Error e) {
+                releaseInflightSlot(requestSize);
+                throw e;
+            } catch (Throwable t) {
+                releaseInflightSlot(requestSize);
+                throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Error while calling " +
+                        "method '" + serviceConfigs.getMethodName() + "'. " + t.getMessage(), t);
+            }
+            Futures.addCallback(genericFutureResponse,
+                    new ResponseCallback(payload, dynamicOptions, requestSize, ticket),
+                    getResponseExecutor(dynamicOptions));
+        }
+    }
+
+    private Executor getResponseExecutor(DynamicOptions dynamicOptions) {
+        if (responseDispatcher == null) {
+            return MoreExecutors.directExecutor();
+        }
+        return responseDispatcher.getExecutor(partitionKeyIndex >= 0 ?
+                dynamicOptions.getEvent().getData(partitionKeyIndex) : null);
+    }
+
+    /**
+     * Set the dynamic metadata and the deadline of the call on the stub of a generic service, whose type is only
+     * known at runtime since the stub is created reflectively.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private AbstractStub<?> prepareGenericStub(DynamicOptions dynamicOptions) {
+        AbstractStub stub = futureStub;
+        if (metadataOption != null && !metadataOption.isStatic()) {
+            stub = attachMetaDataToStub(dynamicOptions, stub);
+        }
+        return applyDeadline(dynamicOptions, stub);
+    }
+
+    /**
+     * Set the deadline of the call on the stub. gRPC cancels the call once the deadline expires, failing it with
+     * DEADLINE_EXCEEDED.
+     */
+    private <S extends AbstractStub<S>> S applyDeadline(DynamicOptions dynamicOptions, S stub) {
+        if (callDeadlineOption == null) {
+            return stub;
+        }
+        long deadline = callDeadlineMillis;
+        if (!callDeadlineOption.isStatic()) {
+            String value = callDeadlineOption.getValue(dynamicOptions);
+            try {
+                deadline = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Invalid " +
+                        GrpcConstants.CALL_DEADLINE_MILLIS + " '" + value + "'. Expected a number of milliseconds", e);
             }
-            ListenableFutureWrapper wrapper = new ListenableFutureWrapper(payload, dynamicOptions);
-            wrapper.addGenericCallback(genericFutureResponse);
+            if (deadline <= 0) {
+                return stub;
+            }
+        }
+        return stub.withDeadlineAfter(deadline, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Take a slot of the in-flight window for the request and return the size it was accounted with.
+     */
+    private long acquireInflightSlot(Object request) throws ConnectionUnavailableException {
+        if (inflightWindow == null) {
+            return 0;
+        }
+        long requestSize = request instanceof MessageLite ? ((MessageLite) request).getSerializedSize() : 0;
+        inflightWindow.acquire(requestSize);
+        return requestSize;
+    }
+
+    private void releaseInflightSlot(long requestSize) {
+        if (inflightWindow != null) {
+            inflightWindow.release(requestSize);
         }
     }
 
-    private Map<String, String> getRequestEventDataMap(DynamicOptions dynamicOptions) {
-        io.siddhi.core.event.Event event = dynamicOptions.getEvent();
-        Object[] data = event.getData();
-        List<Attribute> attributes = streamDefinition.getAttributeList();
-        Map<String, String> requestEventDataMap = new HashMap<>();
-        for (int i = 0; i < attributes.size(); i++) {
-            requestEventDataMap.put(attributes.get(i).getName(), data[i].toString());
-        }
-        return requestEventDataMap;
+    /**
+     * Report the calls and request bytes in flight as gauges of the sink.
+     */
+    private void registerInflightMetrics() {
+        if (siddhiAppContext.getStatisticsManager() == null) {
+            return;
+        }
+        String metricName = getMetricName();
+        BufferedEventsTracker tracker = siddhiAppContext.getSiddhiContext().getStatisticsConfiguration()
+                .getFactory().createBufferSizeTracker(siddhiAppContext.getStatisticsManager());
+        tracker.registerEventBufferHolder(inflightWindow, metricName + GrpcConstants.METRIC_INFLIGHT_REQUESTS);
+        tracker.registerEventBufferHolder(new EventBufferHolder() {
+            @Override
+            public long getBufferedEvents() {
+                return inflightWindow.getInflightBytes();
+            }
+
+            @Override
+            public boolean containsBufferedEvents() {
+                return inflightWindow.getInflightBytes() > 0;
+            }
+        }, metricName + GrpcConstants.METRIC_INFLIGHT_BYTES);
+    }
+
+    /**
+     * Capture the values of the request attributes which the response source asked for as transport properties.
+     */
+    private Object[] getRequestData(DynamicOptions dynamicOptions) {
+        if (requestAttributeIndexes.length == 0) {
+            return NO_REQUEST_DATA;
+        }
+        Object[] data = dynamicOptions.getEvent().getData();
+        Object[] requestData = new Object[requestAttributeIndexes.length];
+        for (int i = 0; i < requestAttributeIndexes.length; i++) {
+            if (requestAttributeIndexes[i] >= 0) {
+                requestData[i] = data[requestAttributeIndexes[i]];
+            }
+        }
+        return requestData;
     }
 
     /**
@@ -467,9 +897,22 @@ public class GrpcCallSink extends AbstractGrpcSink {
      */
     @Override
     public void connect() throws ConnectionUnavailableException {
-        this.channel = managedChannelBuilder.build();
+        GrpcCallResponseSource source = GrpcSourceRegistry.getInstance().getGrpcCallResponseSource(sinkID);
+        if (source == null) {
+            throw new SiddhiAppRuntimeException(siddhiAppName + ": " + streamID + ": For grpc-call sink " +
+                    "to work a grpc-call-response source should be available with the same sink.id. In this case " +
+                    "sink.id is " + sinkID + ". Please provide a grpc-call-response source with the sink.id " + sinkID);
+        }
+        if (source != responseSource) {
+            this.requestAttributeIndexes = source.getRequestAttributeIndexes(streamDefinition);
+            this.responseSource = source;
+        }
+        if (channel != null) {
+            return;
+        }
+        this.channel = GrpcChannelManager.getInstance().acquireChannel(channelConfigs, managedChannelBuilder);
         if (serviceConfigs.isDefaultService()) {
-            this.futureStub = EventServiceGrpc.newFutureStub(channel);
+            this.futureStub = prepareStub(EventServiceGrpc.newFutureStub(channel));
         } else {
             this.futureStub = createFutureStub(serviceConfigs, siddhiAppName, streamID);
         }
@@ -480,11 +923,6 @@ public class GrpcCallSink extends AbstractGrpcSink {
             throw new ConnectionUnavailableException(siddhiAppName + ": gRPC service on" + streamID + " could not " +
                     "connect to " + serviceConfigs.getUrl());
         }
-        if (GrpcSourceRegistry.getInstance().getGrpcCallResponseSource(sinkID) == null) {
-            throw new SiddhiAppRuntimeException(siddhiAppName + ": " + streamID + ": For grpc-call sink " +
-                    "to work a grpc-call-response source should be available with the same sink.id. In this case " +
-                    "sink.id is " + sinkID + ". Please provide a grpc-call-response source with the sink.id " + sinkID);
-        }
     }
 
     /**
@@ -494,12 +932,9 @@ public class GrpcCallSink extends AbstractGrpcSink {
     @Override
     public void disconnect() {
         try {
-            if (channelTerminationWaitingTimeInMillis > 0L) {
-                channel.shutdown().awaitTermination(channelTerminationWaitingTimeInMillis, TimeUnit.MILLISECONDS);
-            } else {
-                if (channel != null) {
-                    channel.shutdown();
-                }
+            if (channel != null) {
+                GrpcChannelManager.getInstance().releaseChannel(channelConfigs, channel,
+                        channelTerminationWaitingTimeInMillis);
             }
             channel = null;
         } catch (InterruptedException e) {
@@ -508,12 +943,37 @@ public class GrpcCallSink extends AbstractGrpcSink {
         }
     }
 
-    private AbstractStub createFutureStub(ServiceConfigs serviceConfigs, String siddhiAppName, String streamID) {
+    @Override
+    public void destroy() {
+        super.destroy();
+        if (responseDispatcher != null) {
+            responseDispatcher.shutdown();
+        }
+    }
+
+    /**
+     * Set the message compression and the metadata of the sink on a new stub.
+     */
+    private <S extends AbstractStub<S>> S prepareStub(S stub) {
+        stub = applyCompression(stub);
+        if (metadataOption != null) {
+            stub = attachMetaDataToStub(stub);
+        }
+        return stub;
+    }
+
+    /**
+     * Create the future stub of a generic service using reflection, prepared by {@link #prepareStub}. The type of
+     * the stub is only known at runtime.
+     */
+    @SuppressWarnings("unchecked")
+    private AbstractStub<?> createFutureStub(ServiceConfigs serviceConfigs, String siddhiAppName,
+                                             String streamID) {
         try {
             Class serviceClass = Class.forName(serviceConfigs.getFullyQualifiedServiceName() + GrpcConstants
                     .GRPC_PROTOCOL_NAME_UPPERCAMELCASE);
             Method newStub = serviceClass.getDeclaredMethod(GrpcConstants.FUTURE_STUB_METHOD_NAME, Channel.class);
-            return (AbstractStub) newStub.invoke(serviceClass, this.channel);
+            return prepareStub((AbstractStub) newStub.invoke(serviceClass, this.channel));
         } catch (ClassNotFoundException e) {
             throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid service name " +
                     "provided in the url, provided service name: '" + serviceConfigs
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.grpc.ManagedChannelBuilder;
+import io.siddhi.extension.io.grpc.util.GrpcChannelConfigs;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class to manage the client channels shared by sinks publishing to the same server with the same channel
+ * configurations. A channel is shut down once the last sink using it releases it.
+ */
+public class GrpcChannelManager {
+    private static GrpcChannelManager instance = new GrpcChannelManager();
+    private final Map<GrpcChannelConfigs, SharedChannel> channelMap = new HashMap<>();
+
+    public static GrpcChannelManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the channel for the given configurations, creating it with the given builder if no sink is using one.
+     */
+    public synchronized ChannelPool acquireChannel(GrpcChannelConfigs channelConfigs,
+                                                   ManagedChannelBuilder<?> managedChannelBuilder) {
+        SharedChannel sharedChannel = channelMap.get(channelConfigs);
+        if (sharedChannel == null || sharedChannel.channelPool.isShutdown()) {
+            sharedChannel = new SharedChannel(new ChannelPool(managedChannelBuilder,
+                    channelConfigs.getChannelPoolSize(), channelConfigs.getChannelPoolStrategy()));
+            channelMap.put(channelConfigs, sharedChannel);
+        }
+        sharedChannel.referenceCount++;
+        return sharedChannel.channelPool;
+    }
+
+    /**
+     * Release a channel acquired through {@link #acquireChannel}. The channel is shut down when no other sink is
+     * using it, waiting for its termination if a positive waiting time is given.
+     */
+    public void releaseChannel(GrpcChannelConfigs channelConfigs, ChannelPool channelPool,
+                               long terminationWaitingTimeInMillis) throws InterruptedException {
+        synchronized (this) {
+            SharedChannel sharedChannel = channelMap.get(channelConfigs);
+            if (sharedChannel != null && sharedChannel.channelPool == channelPool) {
+                if (--sharedChannel.referenceCount > 0) {
+                    return;
+                }
+                channelMap.remove(channelConfigs);
+            }
+        }
+        if (terminationWaitingTimeInMillis > 0L) {
+            channelPool.shutdown().awaitTermination(terminationWaitingTimeInMillis, TimeUnit.MILLISECONDS);
+        } else {
+            channelPool.shutdown();
+        }
+    }
+
+    public synchronized int getNumChannels() {
+        return channelMap.size();
+    }
+
+    private static class SharedChannel {
+        private final ChannelPool channelPool;
+        private int referenceCount;
+
+        private SharedChannel(ChannelPool channelPool) {
+            this.channelPool = channelPool;
+        }
+    }
+}
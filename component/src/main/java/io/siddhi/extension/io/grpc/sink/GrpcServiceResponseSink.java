@@ -39,6 +39,8 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.ByteBuffer;
+
 /**
  * {@code GrpcServiceResponseSink} Handle sending responses for requests received via grpc-service source.
  */
@@ -120,8 +122,9 @@ public class GrpcServiceResponseSink extends Sink {
 
     @Override
     public Class[] getSupportedInputEventClasses() {
-        return new Class[]{String.class, GeneratedMessageV3.class}; // in default case json mapper will inject String.
-        // In custom gRPC service case protobuf mapper will inject gRPC message class
+        return new Class[]{String.class, GeneratedMessageV3.class, byte[].class, ByteBuffer.class};
+        // in default case json mapper will inject String, and binary mappers byte[] or ByteBuffer. In custom gRPC
+        // service case protobuf mapper will inject gRPC message class
     }
 
     @Override
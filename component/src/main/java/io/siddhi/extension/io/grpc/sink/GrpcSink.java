@@ -17,9 +17,14 @@
  */
 package io.siddhi.extension.io.grpc.sink;
 
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Empty;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
 import io.grpc.Channel;
+import io.grpc.Metadata;
 import io.grpc.stub.AbstractStub;
+import io.grpc.stub.MetadataUtils;
 import io.grpc.stub.StreamObserver;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
@@ -31,16 +36,34 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.transport.DynamicOptions;
 import io.siddhi.core.util.transport.OptionHolder;
 import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.extension.io.grpc.util.GrpcUtils;
+import io.siddhi.extension.io.grpc.util.NativeEventCodec;
 import io.siddhi.extension.io.grpc.util.ServiceConfigs;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.wso2.grpc.ColumnarBatch;
 import org.wso2.grpc.Event;
+import org.wso2.grpc.EventBatch;
 import org.wso2.grpc.EventServiceGrpc;
+import org.wso2.grpc.NativeEvents;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
 
@@ -56,7 +79,8 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                 "protobuf definition [here](https://github.com/siddhi-io/siddhi-io-grpc/tree/master/component/src/" +
                 "main/resources/EventService.proto). Please find the custom protobuf definition that uses in " +
                 "examples [here](https://github.com/siddhi-io/siddhi-io-grpc/tree/master/component/src/main/resources" +
-                "/sample.proto). ",
+                "/sample.proto). In the default service the byte[] or ByteBuffer payloads of binary mappers are " +
+                "sent in the `binary_payload` field of the event, and other payloads as text in `payload`.",
 
         parameters = {
                 @Parameter(
@@ -66,7 +90,10 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                                 "method name in the following format. `grpc://0.0.0.0:9763/<serviceName>/" +
                                 "<methodName>`\n" +
                                 "For example:\n" +
-                                "grpc://0.0.0.0:9763/org.wso2.grpc.EventService/consume",
+                                "grpc://0.0.0.0:9763/org.wso2.grpc.EventService/consume\n" +
+                                "Several endpoints of the same service can be given as a comma separated list of " +
+                                "`<host>:<port>`, for example `grpc://10.0.0.1:9763,10.0.0.2:9763/<serviceName>/" +
+                                "<methodName>`. Calls are then spread over the endpoints according to lb.policy.",
                         type = {DataType.STRING}),
                 @Parameter(
                         name = "headers",
@@ -132,6 +159,247 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                         type = {DataType.LONG},
                         optional = true,
                         defaultValue = "1048576"),
+                @Parameter(
+                        name = "transport",
+                        description = "The Netty transport of the channel, 'nio' or 'epoll'. 'epoll' uses the " +
+                                "native transport of Linux, which makes fewer system calls than 'nio'. When this " +
+                                "or worker.threads is given, the channel runs on an event loop group shared by " +
+                                "all gRPC channels and servers of the JVM with the same transport and number of " +
+                                "threads. Otherwise the gRPC default is used.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "nio"),
+                @Parameter(
+                        name = "worker.threads",
+                        description = "The number of threads of the shared event loop group of the channel. 0 " +
+                                "uses twice the number of processor cores.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "0"),
+                @Parameter(
+                        name = "allocator.direct.arenas",
+                        description = "The number of direct memory arenas of the pooled buffer allocator of the " +
+                                "channel. When this, 'allocator.chunk.size' or 'allocator.thread.local.cache' is " +
+                                "given the channel allocates from a pooled direct allocator shared by all gRPC " +
+                                "servers and channels of the JVM with the same allocator options, and reports the " +
+                                "direct memory reserved by the allocator and held by live buffers as the " +
+                                "`direct.memory.used` and `direct.memory.pinned` metrics when statistics are " +
+                                "enabled. Otherwise the gRPC default allocator is used.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "twice the number of processor cores"),
+                @Parameter(
+                        name = "allocator.chunk.size",
+                        description = "The size in bytes of the chunks the arenas of the allocator reserve, a " +
+                                "power of two between the page size of 8192 and 134217728.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "16777216"),
+                @Parameter(
+                        name = "allocator.thread.local.cache",
+                        description = "Whether the threads of the allocator keep released buffers in thread local " +
+                                "caches for reuse. Without the caches buffers go back to their arenas when released.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "true"),
+                @Parameter(
+                        name = "retry.policy",
+                        description = "The policy with which gRPC retries failed calls, as comma separated " +
+                                "'key:value' pairs. 'max.attempts' is the number of attempts including the first " +
+                                "one, and is required. 'initial.backoff' and 'max.backoff' bound the randomized " +
+                                "wait before a retry in milliseconds (defaults 100 and 1000), which grows by " +
+                                "'backoff.multiplier' (default 2) after each attempt. 'retryable.status.codes' " +
+                                "lists the status codes to retry separated by '|' (default UNAVAILABLE). Giving a " +
+                                "policy enables retries. Cannot be given together with hedging.policy.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "hedging.policy",
+                        description = "The policy with which gRPC hedges calls, sending further copies of a call " +
+                                "which has not completed yet and taking the first response, as comma separated " +
+                                "'key:value' pairs. 'max.attempts' is the number of copies including the first " +
+                                "one, and is required. 'hedging.delay' is the wait in milliseconds before sending " +
+                                "each further copy (default 0). 'non.fatal.status.codes' lists the status codes " +
+                                "separated by '|' after which the remaining copies are still sent. Giving a policy " +
+                                "enables retries. Cannot be given together with retry.policy.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "batch.size",
+                        description = "The maximum number of events sent together as one `EventBatch` message " +
+                                "through the `consumeBatch` method of the default `EventService`. Batching is " +
+                                "enabled only when this is greater than 1, and it is supported only in the default " +
+                                "mode. The events of a batch that cannot be sent are kept and sent with the next " +
+                                "flush, while the event that filled the batch is handled by the `on.error` " +
+                                "action of the sink.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1"),
+                @Parameter(
+                        name = "batch.linger.ms",
+                        description = "The maximum time in milliseconds an incomplete batch waits for more events " +
+                                "before it is sent. If set to 0 a batch is sent only when it reaches batch.size or " +
+                                "batch.max.bytes.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "10"),
+                @Parameter(
+                        name = "batch.max.bytes",
+                        description = "The maximum serialized size of a batch in bytes. A batch is sent as soon as " +
+                                "it reaches this size, even if it has fewer than batch.size events.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "1048576"),
+                @Parameter(
+                        name = "format",
+                        description = "The format of the requests sent to the default `EventService`. `event` " +
+                                "sends each mapped payload as an `Event`. `columnar` sends the events of the " +
+                                "passThrough mapper in `ColumnarBatch` messages through the `consumeColumnar` " +
+                                "method, laid out as typed columns of the stream attributes, where long columns " +
+                                "are delta encoded and string columns dictionary encoded when that is smaller. A " +
+                                "batch is sent once it has batch.size events or reaches batch.max.bytes, and the " +
+                                "events of a chunk are sent together unless they exceed batch.max.bytes. The " +
+                                "headers are sent once per batch, so they have to be static, and attributes of " +
+                                "type object are not supported. `native` is meant for Siddhi to Siddhi pipelines, " +
+                                "and sends the events of the passThrough mapper through the `consumeNative` method " +
+                                "as compact rows of their timestamps and typed attribute values. The attribute " +
+                                "names and types are sent once in the `siddhi.schema` metadata when a stream is " +
+                                "opened, along with the headers, which have to be static. The receiving grpc " +
+                                "source matches them with its stream definition by name and injects the events " +
+                                "through its passThrough mapper. Each chunk of events is sent as one request, and " +
+                                "attributes of type object are not supported.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "event"),
+                @Parameter(
+                        name = "outbound.buffer.size",
+                        description = "The maximum number of requests held by the sink while the gRPC stream is " +
+                                "not ready to accept more data due to HTTP/2 flow control, or while a broken " +
+                                "stream is being re-established. This applies only to client streaming methods, " +
+                                "including the default `EventService`.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1024"),
+                @Parameter(
+                        name = "outbound.buffer.policy",
+                        description = "The action taken when a request is published while the outbound buffer is " +
+                                "full. `block` waits until the server consumes the buffered requests, " +
+                                "`drop.oldest` discards the oldest buffered request and `fail.fast` fails the " +
+                                "publish with a connection unavailable error so that the sink's `on.error` " +
+                                "action is applied. While a broken stream is being re-established `block` " +
+                                "behaves as `fail.fast`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "block"),
+                @Parameter(
+                        name = "stream.reconnect.initial.backoff.ms",
+                        description = "The time in milliseconds to wait before re-establishing a client stream " +
+                                "which was closed by an error. The wait grows exponentially with each failed " +
+                                "attempt and is randomized by 20% so that sinks do not reconnect in lockstep. The " +
+                                "stream is re-established right away once the channel becomes ready again.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "100"),
+                @Parameter(
+                        name = "stream.reconnect.max.backoff.ms",
+                        description = "The maximum time in milliseconds to wait between attempts to re-establish " +
+                                "a client stream.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "30000"),
+                @Parameter(
+                        name = "spill.directory",
+                        description = "The directory of a disk backed buffer which holds the requests that cannot " +
+                                "be sent while the server is unreachable or slower than the sink. Once the " +
+                                "outbound buffer of the stream is full, requests are appended to memory mapped " +
+                                "segment files under `<spill.directory>/<app name>/<stream id>` instead of " +
+                                "blocking or failing the publish, and they are sent in order as soon as the stream " +
+                                "accepts requests again. Spilled requests are also sent after the Siddhi app is " +
+                                "restarted. The buffer is disabled when no directory is given, and it is supported " +
+                                "only in the default mode.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "spill.max.bytes",
+                        description = "The maximum disk space in bytes taken by the spill buffer. When it is full " +
+                                "`drop.oldest` outbound.buffer.policy discards the oldest spilled requests, " +
+                                "otherwise the publish fails with a connection unavailable error.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "1073741824"),
+                @Parameter(
+                        name = "spill.segment.bytes",
+                        description = "The size in bytes of each segment file of the spill buffer. A segment file " +
+                                "is deleted once all of its requests are sent.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "16777216"),
+                @Parameter(
+                        name = "spill.sync.policy",
+                        description = "When spilled requests are forced to the disk. `none` leaves it to the " +
+                                "operating system, so requests survive a crash of the process but not of the host, " +
+                                "`segment` forces each segment file when it is full and `always` forces every " +
+                                "spilled request.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "segment"),
+                @Parameter(
+                        name = "compression",
+                        description = "The compression applied to the messages sent to the server. Supported " +
+                                "values are `none`, `gzip`, `snappy` and `zstd`. grpc sources accept all of these " +
+                                "and compress their responses with the encoding of the request. Other servers " +
+                                "must have a codec registered for the chosen encoding.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "none"),
+                @Parameter(
+                        name = "channel.pool.size",
+                        description = "The number of channels, and hence HTTP/2 connections, opened to the " +
+                                "server. Calls are spread over the channels according to channel.pool.strategy. " +
+                                "Sinks publishing to the same host and port with the same TLS and channel " +
+                                "configurations share one pool. For client streaming methods each sink opens one " +
+                                "stream per channel, so the order of events is preserved only when the pool size " +
+                                "is 1.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1"),
+                @Parameter(
+                        name = "channel.pool.strategy",
+                        description = "How a channel is picked from the pool. `round.robin` uses the channels in " +
+                                "turn and `least.outstanding` picks the channel with the fewest calls in progress.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "round.robin"),
+                @Parameter(
+                        name = "lb.policy",
+                        description = "The load balancing policy used to spread calls over the endpoints given in " +
+                                "publisher.url. `pick_first` sends all calls to the first reachable endpoint, " +
+                                "`round_robin` uses the endpoints in turn and `least_loaded` picks the endpoint " +
+                                "with fewer calls in progress out of two randomly chosen endpoints. Only " +
+                                "`least_loaded` ejects failing endpoints. When several endpoints are given the " +
+                                "default is `round_robin`, otherwise it is `pick_first`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "round_robin"),
+                @Parameter(
+                        name = "outlier.ejection.consecutive.failures",
+                        description = "The number of consecutive failed calls, such as calls failing with " +
+                                "UNAVAILABLE or DEADLINE_EXCEEDED, after which the least_loaded policy stops " +
+                                "sending calls to an endpoint. Set to 0 to disable outlier ejection.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "5"),
+                @Parameter(
+                        name = "outlier.ejection.time.ms",
+                        description = "The time an endpoint is ejected for by the least_loaded policy. The time " +
+                                "grows with each consecutive ejection of the same endpoint, up to ten times " +
+                                "this value. At least one ready endpoint is always kept.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "30000"),
                 @Parameter(
                         name = "channel.termination.waiting.time",
                         description = "The time in seconds to wait for the channel to become terminated, giving up " +
@@ -222,6 +490,16 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                                 "stream as a data. In the sink headers dynamic property reads the value and sends " +
                                 "it as MetaData with the request"
                 ),
+                @Example(syntax = "" +
+                        "@sink(type='grpc',\n" +
+                        "      publisher.url = 'grpc://134.23.43.35:8080/org.wso2.grpc.EventService/consume',\n" +
+                        "      batch.size = '500', batch.linger.ms = '5',\n" +
+                        "      @map(type='json'))\n" +
+                        "define stream FooStream (message String);",
+                        description = "Here the sink collects up to 500 events, or whatever arrived within 5 " +
+                                "milliseconds, and sends them to the server as one `EventBatch` message using the " +
+                                "`consumeBatch` method of the default `EventService`."
+                ),
                 @Example(syntax = "" +
                         "@sink(type='grpc',\n" +
                         "      publisher.url = 'grpc://134.23.43.35:8080/org.wso2.grpc.MyService/send',\n" +
@@ -275,15 +553,138 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
 
 public class GrpcSink extends AbstractGrpcSink {
     private static final Logger logger = LogManager.getLogger(GrpcSink.class);
-    private StreamObserver responseObserver;
-    private AbstractStub asyncStub;
-    private StreamObserver requestObserver;
+    private static final double RECONNECT_BACKOFF_MULTIPLIER = 1.6;
+    private static final double RECONNECT_BACKOFF_JITTER = 0.2;
+    private static final long SPILL_DRAIN_RETRY_MILLIS = 10;
+    private StreamObserver<Empty> eventServiceResponseObserver;
+    private StreamObserver<Object> responseObserver;
+    private AbstractStub<?> asyncStub;
+    private FlowControlledRequestObserver<Message, ?>[] requestObservers;
+    private final AtomicInteger nextRequestObserver = new AtomicInteger();
+    private int outboundBufferSize;
+    private FlowControlledRequestObserver.OverflowPolicy overflowPolicy;
+    private long reconnectInitialBackoffMillis;
+    private long reconnectMaxBackoffMillis;
+    private long[] reconnectBackoffMillis;
+    private boolean[] reconnectScheduled;
+    private final Object streamLock = new Object();
     private Method rpcMethod;
+    private MethodHandle rpcMethodHandle;
+    private int batchSize;
+    private long batchLingerTimeInMillis;
+    private long batchMaxBytes;
+    private EventBatch.Builder batchBuilder;
+    private ColumnarBatchEncoder columnarEncoder;
+    private NativeEventCodec nativeCodec;
+    private long batchBytes;
+    private ScheduledFuture<?> lingerFuture;
+    private final ReentrantLock batchLock = new ReentrantLock();
+    private SpillBuffer spillBuffer;
+    private final Object spillLock = new Object();
+    private final AtomicBoolean spillDrainScheduled = new AtomicBoolean();
+
+    /**
+     * Validate that a format other than event is used with the default service and static headers, which are sent
+     * once per batch or stream.
+     */
+    private void validateFormat(String format, String unit) {
+        if (!serviceConfigs.isDefaultService()) {
+            throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " + GrpcConstants.FORMAT +
+                    " '" + format + "' is only supported in default mode grpc-sink when using EventService");
+        }
+        if (headersOption != null && !headersOption.isStatic()) {
+            throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " + GrpcConstants.FORMAT +
+                    " '" + format + "' sends the headers once per " + unit + ", so they cannot refer to the " +
+                    "attributes of the events");
+        }
+    }
+
+    /**
+     * Returns the list of classes which this sink can consume, including the events of the passThrough mapper taken
+     * by the columnar format.
+     */
+    @Override
+    public Class[] getSupportedInputEventClasses() {
+        return new Class[]{com.google.protobuf.GeneratedMessageV3.class, String.class, byte[].class,
+                ByteBuffer.class, io.siddhi.core.event.Event.class, io.siddhi.core.event.Event[].class};
+    }
 
     @Override
     public void initSink(OptionHolder optionHolder) {
+        this.batchSize = Integer.parseInt(optionHolder.getOrCreateOption(GrpcConstants.BATCH_SIZE,
+                GrpcConstants.BATCH_SIZE_DEFAULT).getValue());
+        this.batchLingerTimeInMillis = Long.parseLong(optionHolder.getOrCreateOption(
+                GrpcConstants.BATCH_LINGER_MILLIS, GrpcConstants.BATCH_LINGER_MILLIS_DEFAULT).getValue());
+        this.batchMaxBytes = Long.parseLong(optionHolder.getOrCreateOption(GrpcConstants.BATCH_MAX_BYTES,
+                GrpcConstants.BATCH_MAX_BYTES_DEFAULT).getValue());
+        this.outboundBufferSize = Integer.parseInt(optionHolder.getOrCreateOption(
+                GrpcConstants.OUTBOUND_BUFFER_SIZE, GrpcConstants.OUTBOUND_BUFFER_SIZE_DEFAULT).getValue());
+        this.overflowPolicy = FlowControlledRequestObserver.OverflowPolicy.fromString(optionHolder
+                .getOrCreateOption(GrpcConstants.OUTBOUND_BUFFER_POLICY, GrpcConstants.OUTBOUND_BUFFER_POLICY_BLOCK)
+                .getValue(), siddhiAppName, streamID);
+        this.reconnectInitialBackoffMillis = Long.parseLong(optionHolder.getOrCreateOption(
+                GrpcConstants.STREAM_RECONNECT_INITIAL_BACKOFF_MILLIS,
+                GrpcConstants.STREAM_RECONNECT_INITIAL_BACKOFF_MILLIS_DEFAULT).getValue());
+        this.reconnectMaxBackoffMillis = Long.parseLong(optionHolder.getOrCreateOption(
+                GrpcConstants.STREAM_RECONNECT_MAX_BACKOFF_MILLIS,
+                GrpcConstants.STREAM_RECONNECT_MAX_BACKOFF_MILLIS_DEFAULT).getValue());
+        if (reconnectInitialBackoffMillis <= 0 || reconnectMaxBackoffMillis < reconnectInitialBackoffMillis) {
+            throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " +
+                    GrpcConstants.STREAM_RECONNECT_INITIAL_BACKOFF_MILLIS + " should be positive and not greater " +
+                    "than " + GrpcConstants.STREAM_RECONNECT_MAX_BACKOFF_MILLIS);
+        }
+        String format = optionHolder.getOrCreateOption(GrpcConstants.FORMAT, GrpcConstants.FORMAT_EVENT)
+                .getValue().toLowerCase();
+        switch (format) {
+            case GrpcConstants.FORMAT_EVENT:
+                break;
+            case GrpcConstants.FORMAT_COLUMNAR:
+                validateFormat(format, "batch");
+                columnarEncoder = new ColumnarBatchEncoder(streamDefinition, siddhiAppName);
+                break;
+            case GrpcConstants.FORMAT_NATIVE:
+                validateFormat(format, "stream");
+                nativeCodec = NativeEventCodec.forSender(streamDefinition, siddhiAppName);
+                break;
+            default:
+                throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": Invalid " +
+                        GrpcConstants.FORMAT + " '" + format + "'. Expected one of " + GrpcConstants.FORMAT_EVENT +
+                        ", " + GrpcConstants.FORMAT_COLUMNAR + " or " + GrpcConstants.FORMAT_NATIVE);
+        }
+        if (batchSize > 1) {
+            if (!serviceConfigs.isDefaultService()) {
+                throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " +
+                        GrpcConstants.BATCH_SIZE + " is only supported in default mode grpc-sink when using " +
+                        "EventService");
+            }
+            if (format.equals(GrpcConstants.FORMAT_EVENT)) {
+                batchBuilder = EventBatch.newBuilder();
+            }
+        }
+        if (optionHolder.isOptionExists(GrpcConstants.SPILL_DIRECTORY)) {
+            if (!serviceConfigs.isDefaultService()) {
+                throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " +
+                        GrpcConstants.SPILL_DIRECTORY + " is only supported in default mode grpc-sink when using " +
+                        "EventService");
+            }
+            long spillMaxBytes = Long.parseLong(optionHolder.getOrCreateOption(GrpcConstants.SPILL_MAX_BYTES,
+                    GrpcConstants.SPILL_MAX_BYTES_DEFAULT).getValue());
+            int spillSegmentBytes = Integer.parseInt(optionHolder.getOrCreateOption(
+                    GrpcConstants.SPILL_SEGMENT_BYTES, GrpcConstants.SPILL_SEGMENT_BYTES_DEFAULT).getValue());
+            SpillBuffer.SyncPolicy syncPolicy = SpillBuffer.SyncPolicy.fromString(optionHolder.getOrCreateOption(
+                    GrpcConstants.SPILL_SYNC_POLICY, GrpcConstants.SPILL_SYNC_POLICY_SEGMENT).getValue(),
+                    siddhiAppName, streamID);
+            if (spillSegmentBytes <= 0 || spillMaxBytes < spillSegmentBytes) {
+                throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " +
+                        GrpcConstants.SPILL_SEGMENT_BYTES + " should be positive and not greater than " +
+                        GrpcConstants.SPILL_MAX_BYTES);
+            }
+            spillBuffer = new SpillBuffer(Paths.get(optionHolder.validateAndGetOption(
+                    GrpcConstants.SPILL_DIRECTORY).getValue(), siddhiAppName, streamID), spillMaxBytes,
+                    spillSegmentBytes, syncPolicy, siddhiAppName, streamID);
+        }
         if (serviceConfigs.isDefaultService()) {
-            responseObserver = new StreamObserver<Empty>() {
+            eventServiceResponseObserver = new StreamObserver<Empty>() {
                 @Override
                 public void onNext(Empty event) {
                 }
@@ -329,8 +730,16 @@ public class GrpcSink extends AbstractGrpcSink {
     @Override
     public void publish(Object payload, DynamicOptions dynamicOptions, State state)
             throws ConnectionUnavailableException {
-        if (serviceConfigs.isDefaultService()) {
-            Event.Builder eventBuilder = Event.newBuilder().setPayload(payload.toString());
+        if (columnarEncoder != null) {
+            addToColumnarBatch(payload);
+        } else if (nativeCodec != null) {
+            try {
+                send(nativeCodec.encode(payload));
+            } catch (SiddhiAppRuntimeException e) {
+                throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": " + e.getMessage(), e);
+            }
+        } else if (serviceConfigs.isDefaultService()) {
+            Event.Builder eventBuilder = GrpcUtils.setPayload(Event.newBuilder(), payload);
             if (headersOption != null || serviceConfigs.getSequenceName() != null) {
                 if (headersOption != null && headersOption.isStatic()) {
                     eventBuilder.putAllHeaders(headersMap);
@@ -338,20 +747,23 @@ public class GrpcSink extends AbstractGrpcSink {
                     eventBuilder = addHeadersToEventBuilder(dynamicOptions, eventBuilder);
                 }
             }
-            requestObserver.onNext(eventBuilder.build());
+            if (batchBuilder != null) {
+                addToBatch(eventBuilder.build());
+            } else {
+                send(eventBuilder.build());
+            }
         } else {
-            if (requestObserver == null) {
-                Object[] arguments = new Object[]{payload, responseObserver};
+            if (requestObservers == null) {
                 try {
-                    rpcMethod.invoke(asyncStub, arguments);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid method name " +
-                            "provided in the url, provided method name: '" + serviceConfigs.getMethodName() +
-                            "', expected one of these methods: " + getRpcMethodList(serviceConfigs, siddhiAppName,
-                            streamID), e);
+                    rpcMethodHandle.invokeExact(payload, responseObserver);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Error while calling " +
+                            "method '" + serviceConfigs.getMethodName() + "'. " + t.getMessage(), t);
                 }
             } else {
-                requestObserver.onNext(payload);
+                nextRequestObserver().send((Message) payload);
             }
         }
     }
@@ -366,33 +778,27 @@ public class GrpcSink extends AbstractGrpcSink {
     @Override
     public void connect() throws ConnectionUnavailableException {
         if (channel == null || channel.isShutdown()) {
-            this.channel = managedChannelBuilder.build();
+            this.channel = GrpcChannelManager.getInstance().acquireChannel(channelConfigs, managedChannelBuilder);
             if (serviceConfigs.isDefaultService()) {
-                this.asyncStub = EventServiceGrpc.newStub(channel);
-                if (metadataOption != null) {
-                    if (metadataOption.isStatic()) {
-                        asyncStub = attachMetaDataToStub(null, asyncStub);
-                    }
-                }
-                requestObserver = ((EventServiceGrpc.EventServiceStub) asyncStub).consume(responseObserver);
+                this.asyncStub = prepareStub(EventServiceGrpc.newStub(channel));
             } else {
                 rpcMethod = getRpcMethod(serviceConfigs, siddhiAppName, streamID);
                 this.asyncStub = createStub(serviceConfigs);
-                if (metadataOption != null) {
-                    if (metadataOption.isStatic()) {
-                        asyncStub = attachMetaDataToStub(null, asyncStub);
-                    }
-                }
-                try {
-                    if (rpcMethod.getParameterCount() == 1) {
-                        requestObserver = (StreamObserver) rpcMethod.invoke(asyncStub, responseObserver);
+            }
+            if (!serviceConfigs.isDefaultService() && rpcMethod.getParameterCount() == 2) {
+                rpcMethodHandle = bindRpcMethod(rpcMethod, asyncStub);
+            }
+            if (serviceConfigs.isDefaultService() || rpcMethod.getParameterCount() == 1) {
+                synchronized (streamLock) {
+                    requestObservers = newRequestObservers(channel.size());
+                    reconnectBackoffMillis = new long[requestObservers.length];
+                    reconnectScheduled = new boolean[requestObservers.length];
+                    for (int i = 0; i < requestObservers.length; i++) {
+                        reconnectBackoffMillis[i] = reconnectInitialBackoffMillis;
+                        requestObservers[i] = openStream(i);
                     }
-                } catch (IllegalAccessException | InvocationTargetException e) { //throws from 'invoke'
-                    throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Invalid method name " +
-                            "provided in the url, provided method name: '" + serviceConfigs.getMethodName() +
-                            "', expected one of these methods: " + getRpcMethodList(serviceConfigs, siddhiAppName,
-                            streamID), e);
                 }
+                scheduleSpillDrain(0);
             }
             if (!channel.isShutdown()) {
                 logger.info(siddhiAppName + ": gRPC service on " + streamID + " has successfully connected to "
@@ -401,25 +807,266 @@ public class GrpcSink extends AbstractGrpcSink {
                 throw new ConnectionUnavailableException(siddhiAppName + ": gRPC service on" + streamID +
                         " could not connect to " + serviceConfigs.getUrl());
             }
+        } else if (requestObservers != null) {
+            for (int i = 0; i < requestObservers.length; i++) {
+                reopenStream(i);
+            }
+        }
+    }
+
+    /**
+     * Open a client stream used to publish events. The stub is bound to the channel pool, so consecutive streams
+     * are opened on different channels of the pool. When the stream breaks it is reopened in the background.
+     */
+    private FlowControlledRequestObserver<Message, ?> openStream(int index) {
+        if (serviceConfigs.isDefaultService()) {
+            FlowControlledRequestObserver<Message, Empty> requestObserver = new FlowControlledRequestObserver<>(
+                    eventServiceResponseObserver, outboundBufferSize, overflowPolicy, siddhiAppName, streamID,
+                    () -> scheduleReopen(index));
+            if (nativeCodec != null) {
+                ((EventServiceGrpc.EventServiceStub) asyncStub).consumeNative(requestObserver);
+            } else if (columnarEncoder != null) {
+                ((EventServiceGrpc.EventServiceStub) asyncStub).consumeColumnar(requestObserver);
+            } else if (batchBuilder != null) {
+                ((EventServiceGrpc.EventServiceStub) asyncStub).consumeBatch(requestObserver);
+            } else {
+                ((EventServiceGrpc.EventServiceStub) asyncStub).consume(requestObserver);
+            }
+            return requestObserver;
+        }
+        FlowControlledRequestObserver<Message, Object> requestObserver = new FlowControlledRequestObserver<>(
+                responseObserver, outboundBufferSize, overflowPolicy, siddhiAppName, streamID,
+                () -> scheduleReopen(index));
+        try {
+            rpcMethod.invoke(asyncStub, requestObserver);
+        } catch (IllegalAccessException | InvocationTargetException e) { //throws from 'invoke'
+            throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Invalid method name " +
+                    "provided in the url, provided method name: '" + serviceConfigs.getMethodName() +
+                    "', expected one of these methods: " + getRpcMethodList(serviceConfigs, siddhiAppName,
+                    streamID), e);
+        }
+        return requestObserver;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FlowControlledRequestObserver<Message, ?>[] newRequestObservers(int size) {
+        return (FlowControlledRequestObserver<Message, ?>[]) new FlowControlledRequestObserver<?, ?>[size];
+    }
+
+    /**
+     * Schedule the broken stream at the given index to be reopened after a jittered exponential backoff, or as soon
+     * as the channel regains its connection if that happens earlier. The backoff starts over once a stream gets
+     * connected. Events published in the meantime are held in the outbound buffer of the broken stream.
+     */
+    private void scheduleReopen(int index) {
+        synchronized (streamLock) {
+            if (requestObservers == null || reconnectScheduled[index] || !requestObservers[index].isFailed()) {
+                return;
+            }
+            if (requestObservers[index].hasBecomeReady()) {
+                reconnectBackoffMillis[index] = reconnectInitialBackoffMillis;
+            }
+            long backoff = reconnectBackoffMillis[index];
+            long delay = (long) (backoff * (1 + RECONNECT_BACKOFF_JITTER *
+                    ThreadLocalRandom.current().nextDouble(-1, 1)));
+            reconnectBackoffMillis[index] = Math.min((long) (backoff * RECONNECT_BACKOFF_MULTIPLIER),
+                    reconnectMaxBackoffMillis);
+            reconnectScheduled[index] = true;
+            AtomicBoolean reopened = new AtomicBoolean();
+            Runnable reopen = () -> {
+                if (reopened.compareAndSet(false, true)) {
+                    reopenStream(index);
+                }
+            };
+            if (logger.isDebugEnabled()) {
+                logger.debug(siddhiAppName + ":" + streamID + ": Reopening gRPC stream to " +
+                        serviceConfigs.getUrl() + " in " + delay + " ms");
+            }
+            siddhiAppContext.getScheduledExecutorService().schedule(reopen, delay, TimeUnit.MILLISECONDS);
+            channel.notifyWhenReady(() -> siddhiAppContext.getScheduledExecutorService().execute(reopen),
+                    reopened);
         }
     }
 
+    /**
+     * Replace the stream at the given index if it is broken, handing the events it buffered over to the new one.
+     */
+    private void reopenStream(int index) {
+        synchronized (streamLock) {
+            if (requestObservers == null || channel == null || channel.isShutdown()) {
+                return;
+            }
+            reconnectScheduled[index] = false;
+            FlowControlledRequestObserver<Message, ?> failedObserver = requestObservers[index];
+            if (!failedObserver.isFailed()) {
+                return;
+            }
+            FlowControlledRequestObserver<Message, ?> requestObserver = openStream(index);
+            failedObserver.transferTo(requestObserver);
+            requestObservers[index] = requestObserver;
+        }
+        scheduleSpillDrain(0);
+    }
+
+    /**
+     * Send the request through the next stream. When the sink has a spill buffer, the request is spilled instead if
+     * the stream cannot take it without applying the overflow policy, or if earlier requests are still spilled, so
+     * that publishing neither blocks nor reorders requests.
+     */
+    private void send(Message request) throws ConnectionUnavailableException {
+        if (spillBuffer == null) {
+            nextRequestObserver().send(request);
+            return;
+        }
+        synchronized (spillLock) {
+            FlowControlledRequestObserver<Message, ?> requestObserver = nextRequestObserver();
+            if (spillBuffer.isEmpty() && requestObserver.isAccepting()) {
+                requestObserver.send(request);
+                return;
+            }
+            spill(request.toByteArray());
+        }
+        scheduleSpillDrain(0);
+    }
+
+    private void spill(byte[] request) throws ConnectionUnavailableException {
+        try {
+            while (!spillBuffer.append(request)) {
+                if (overflowPolicy != FlowControlledRequestObserver.OverflowPolicy.DROP_OLDEST ||
+                        spillBuffer.poll() == null) {
+                    throw new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": Spill buffer " +
+                            "is full with " + spillBuffer.size() + " requests while the gRPC server at " +
+                            serviceConfigs.getUrl() + " is not consuming requests");
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug(siddhiAppName + ":" + streamID + ": Spill buffer is full. Dropping the oldest " +
+                            "spilled request");
+                }
+            }
+        } catch (IOException e) {
+            throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Error while spilling a " +
+                    "request to " + serviceConfigs.getUrl() + ". " + e.getMessage(), e);
+        }
+    }
+
+    private void scheduleSpillDrain(long delay) {
+        if (spillBuffer == null || spillBuffer.isEmpty() || !spillDrainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        siddhiAppContext.getScheduledExecutorService().schedule(this::drainSpill, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Send the spilled requests in order for as long as the streams take them. If a stream fails the drain starts
+     * again when it is reopened, and if a stream is only busy the drain is retried shortly.
+     */
+    private void drainSpill() {
+        boolean busy = false;
+        try {
+            while (true) {
+                synchronized (spillLock) {
+                    if (requestObservers == null) {
+                        return;
+                    }
+                    FlowControlledRequestObserver<Message, ?> requestObserver = nextRequestObserver();
+                    if (!requestObserver.isAccepting()) {
+                        busy = !requestObserver.isFailed();
+                        return;
+                    }
+                    byte[] request = spillBuffer.poll();
+                    if (request == null) {
+                        return;
+                    }
+                    try {
+                        requestObserver.send(parseSpilledRequest(request));
+                    } catch (InvalidProtocolBufferException e) {
+                        logger.error(siddhiAppName + ":" + streamID + ": Dropping a corrupted spilled request. " +
+                                e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (ConnectionUnavailableException | RuntimeException e) {
+            logger.error(siddhiAppName + ":" + streamID + ": Error while sending spilled requests to " +
+                    serviceConfigs.getUrl() + ". " + e.getMessage(), e);
+        } finally {
+            spillDrainScheduled.set(false);
+            if (busy) {
+                scheduleSpillDrain(SPILL_DRAIN_RETRY_MILLIS);
+            } else if (hasAcceptingStream()) {
+                scheduleSpillDrain(0);
+            }
+        }
+    }
+
+    private Message parseSpilledRequest(byte[] request) throws InvalidProtocolBufferException {
+        if (nativeCodec != null) {
+            return NativeEvents.parseFrom(request);
+        } else if (columnarEncoder != null) {
+            return ColumnarBatch.parseFrom(request);
+        }
+        return batchBuilder != null ? EventBatch.parseFrom(request) : Event.parseFrom(request);
+    }
+
+    private boolean hasAcceptingStream() {
+        FlowControlledRequestObserver<Message, ?>[] observers = requestObservers;
+        if (observers != null) {
+            for (FlowControlledRequestObserver<Message, ?> requestObserver : observers) {
+                if (requestObserver.isAccepting()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pick the stream for the next request, either in turn or the one with the fewest buffered requests.
+     */
+    private FlowControlledRequestObserver<Message, ?> nextRequestObserver() {
+        if (requestObservers.length == 1) {
+            return requestObservers[0];
+        }
+        int start = Math.floorMod(nextRequestObserver.getAndIncrement(), requestObservers.length);
+        if (channelConfigs.getChannelPoolStrategy() == ChannelPool.Strategy.ROUND_ROBIN) {
+            return requestObservers[start];
+        }
+        FlowControlledRequestObserver<Message, ?> selected = requestObservers[start];
+        for (int i = 1; i < requestObservers.length && selected.getBufferedRequestCount() > 0; i++) {
+            FlowControlledRequestObserver<Message, ?> candidate =
+                    requestObservers[(start + i) % requestObservers.length];
+            if (candidate.getBufferedRequestCount() < selected.getBufferedRequestCount()) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
     /**
      * Called after all publishing is done, or when {@link ConnectionUnavailableException} is thrown
      * Implementation of this method should contain the steps needed to disconnect from the sink.
      */
     @Override
     public void disconnect() {
+        if (batchBuilder != null || columnarEncoder != null) {
+            try {
+                flushBatch();
+            } catch (ConnectionUnavailableException e) {
+                logger.error(siddhiAppName + ": " + streamID + ": Error in flushing the pending batch. " +
+                        e.getMessage(), e);
+            }
+        }
         try {
-            if (requestObserver != null) {
-                requestObserver.onCompleted();
+            synchronized (streamLock) {
+                if (requestObservers != null) {
+                    for (FlowControlledRequestObserver<Message, ?> requestObserver : requestObservers) {
+                        requestObserver.complete();
+                    }
+                    requestObservers = null;
+                }
             }
             if (channel != null) {
-                if (channelTerminationWaitingTimeInMillis > 0L) {
-                    channel.shutdown().awaitTermination(channelTerminationWaitingTimeInMillis, TimeUnit.MILLISECONDS);
-                } else {
-                    channel.shutdown();
-                }
+                GrpcChannelManager.getInstance().releaseChannel(channelConfigs, channel,
+                        channelTerminationWaitingTimeInMillis);
             }
             channel = null;
         } catch (InterruptedException e) {
@@ -428,15 +1075,254 @@ public class GrpcSink extends AbstractGrpcSink {
         }
     }
 
+    @Override
+    public void destroy() {
+        super.destroy();
+        if (spillBuffer != null) {
+            spillBuffer.close();
+        }
+    }
+
+    /**
+     * Add the event to the current batch and send the batch once it is full. The first event of a batch schedules
+     * a flush after the linger time so that a partially filled batch is not held back indefinitely. If the full
+     * batch cannot be sent, the event is left to the on.error handling of the sink while the earlier events stay in
+     * the batch.
+     */
+    private void addToBatch(Event event) throws ConnectionUnavailableException {
+        batchLock.lock();
+        try {
+            batchBuilder.addEvents(event);
+            int eventBytes = CodedOutputStream.computeMessageSize(EventBatch.EVENTS_FIELD_NUMBER, event);
+            batchBytes += eventBytes;
+            if (batchBuilder.getEventsCount() >= batchSize || batchBytes >= batchMaxBytes) {
+                try {
+                    flushBatch();
+                } catch (ConnectionUnavailableException e) {
+                    batchBuilder.removeEvents(batchBuilder.getEventsCount() - 1);
+                    batchBytes -= eventBytes;
+                    if (lingerFuture == null && batchBuilder.getEventsCount() > 0) {
+                        scheduleLingerFlush();
+                    }
+                    throw e;
+                }
+            } else if (lingerFuture == null) {
+                scheduleLingerFlush();
+            }
+        } finally {
+            batchLock.unlock();
+        }
+    }
+
+    /**
+     * Add the events of the passThrough mapper as rows of the current columnar batch, and send the batch once it
+     * is full. The events of a chunk are added together, so a chunk goes out in one batch unless it reaches
+     * batch.max.bytes. If a full batch cannot be sent, the unsent rows of the payload are left to the on.error
+     * handling of the sink while the rows of earlier payloads stay in the batch.
+     */
+    private void addToColumnarBatch(Object payload) throws ConnectionUnavailableException {
+        batchLock.lock();
+        int firstRow = columnarEncoder.getRowCount();
+        try {
+            if (payload instanceof io.siddhi.core.event.Event[]) {
+                for (io.siddhi.core.event.Event event : (io.siddhi.core.event.Event[]) payload) {
+                    columnarEncoder.add(event);
+                    if (columnarEncoder.getEstimatedBytes() >= batchMaxBytes) {
+                        flushBatch();
+                        firstRow = 0;
+                    }
+                }
+            } else if (payload instanceof io.siddhi.core.event.Event) {
+                columnarEncoder.add((io.siddhi.core.event.Event) payload);
+            } else {
+                throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": " + GrpcConstants.FORMAT +
+                        " '" + GrpcConstants.FORMAT_COLUMNAR + "' requires the events of the passThrough mapper " +
+                        "but received " + payload.getClass().getName());
+            }
+            if (columnarEncoder.getRowCount() >= batchSize ||
+                    columnarEncoder.getEstimatedBytes() >= batchMaxBytes) {
+                flushBatch();
+            } else if (lingerFuture == null && columnarEncoder.getRowCount() > 0) {
+                scheduleLingerFlush();
+            }
+        } catch (ConnectionUnavailableException e) {
+            columnarEncoder.truncate(firstRow);
+            if (lingerFuture == null && columnarEncoder.getRowCount() > 0) {
+                scheduleLingerFlush();
+            }
+            throw e;
+        } finally {
+            batchLock.unlock();
+        }
+    }
+
+    private void scheduleLingerFlush() {
+        if (batchLingerTimeInMillis > 0) {
+            lingerFuture = siddhiAppContext.getScheduledExecutorService().schedule(this::lingerFlush,
+                    batchLingerTimeInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Send the batch once its linger time elapses. This runs on the scheduler shared by the Siddhi app, so it does
+     * not wait for the batch or for a stream: while a publishing thread holds the batch, or no stream can take the
+     * batch right away, the flush is tried again after the linger time. A batch the sink fails to send is kept,
+     * and the sink is reconnected through its retry handling.
+     */
+    private void lingerFlush() {
+        if (!batchLock.tryLock()) {
+            siddhiAppContext.getScheduledExecutorService().schedule(this::lingerFlush, batchLingerTimeInMillis,
+                    TimeUnit.MILLISECONDS);
+            return;
+        }
+        ConnectionUnavailableException failure = null;
+        try {
+            lingerFuture = null;
+            int eventCount = getBatchEventCount();
+            if (eventCount == 0 || requestObservers == null) {
+                return;
+            }
+            FlowControlledRequestObserver<Message, ?> requestObserver = spillBuffer == null ?
+                    nextRequestObserver() : null;
+            if (requestObserver != null && !requestObserver.isAccepting()) {
+                scheduleLingerFlush();
+                return;
+            }
+            try {
+                if (requestObserver != null) {
+                    requestObserver.send(buildBatch());
+                } else {
+                    send(buildBatch());
+                }
+                clearBatch();
+            } catch (ConnectionUnavailableException e) {
+                failure = new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": Error while " +
+                        "sending batch of " + eventCount + " events, which is kept to be sent again. " +
+                        e.getMessage(), e);
+                scheduleLingerFlush();
+            }
+        } finally {
+            batchLock.unlock();
+        }
+        if (failure != null) {
+            logger.error(failure.getMessage(), failure);
+            setConnected(false);
+            connectWithRetry();
+        }
+    }
+
+    /**
+     * Send the current batch. The batch is cleared only once it is sent, so the events of a batch that could not be
+     * sent are sent with the next flush.
+     */
+    private void flushBatch() throws ConnectionUnavailableException {
+        batchLock.lock();
+        try {
+            if (lingerFuture != null) {
+                lingerFuture.cancel(false);
+                lingerFuture = null;
+            }
+            int eventCount = getBatchEventCount();
+            if (eventCount == 0 || requestObservers == null) {
+                return;
+            }
+            try {
+                send(buildBatch());
+            } catch (ConnectionUnavailableException e) {
+                throw new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": Error while sending " +
+                        "batch of " + eventCount + " events. " + e.getMessage(), e);
+            }
+            clearBatch();
+        } finally {
+            batchLock.unlock();
+        }
+    }
+
+    private int getBatchEventCount() {
+        return columnarEncoder != null ? columnarEncoder.getRowCount() : batchBuilder.getEventsCount();
+    }
+
+    private Message buildBatch() {
+        return columnarEncoder != null ? columnarEncoder.build(getStaticHeaders()) : batchBuilder.build();
+    }
+
+    private void clearBatch() {
+        if (columnarEncoder != null) {
+            columnarEncoder.clear();
+        } else {
+            batchBuilder.clear();
+            batchBytes = 0;
+        }
+    }
+
+    /**
+     * Returns the headers sent once with each columnar batch or native stream, which are the static headers option
+     * along with the sequence name.
+     */
+    private Map<String, String> getStaticHeaders() {
+        if (headersMap == null && serviceConfigs.getSequenceName() != null) {
+            return Collections.singletonMap(GrpcConstants.SEQUENCE_HEADER_KEY, serviceConfigs.getSequenceName());
+        }
+        return headersMap;
+    }
+
+    /**
+     * Returns the metadata opening each native stream, which describes the attributes of the events along with the
+     * static headers.
+     */
+    private Metadata getNativeMetadata() {
+        Metadata metadata = new Metadata();
+        metadata.put(Metadata.Key.of(GrpcConstants.NATIVE_SCHEMA, Metadata.ASCII_STRING_MARSHALLER),
+                NativeEventCodec.getSchema(streamDefinition));
+        Map<String, String> headers = getStaticHeaders();
+        if (headers != null) {
+            headers.forEach((key, value) -> metadata.put(Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER),
+                    value));
+        }
+        return metadata;
+    }
+
+    /**
+     * Bind the unary rpc method to the stub so that it can be called for each event without reflection. The handle
+     * takes the request and the response observer.
+     */
+    private MethodHandle bindRpcMethod(Method rpcMethod, AbstractStub stub) {
+        try {
+            return MethodHandles.publicLookup().unreflect(rpcMethod).bindTo(stub)
+                    .asType(MethodType.methodType(void.class, Object.class, StreamObserver.class));
+        } catch (IllegalAccessException e) {
+            throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Invalid method name " +
+                    "provided in the url, provided method name: '" + serviceConfigs.getMethodName() +
+                    "', expected one of these methods: " + getRpcMethodList(serviceConfigs, siddhiAppName, streamID)
+                    , e);
+        }
+    }
+
+    /**
+     * Set the message compression, the static metadata and the metadata opening native streams on a new stub.
+     */
+    private <S extends AbstractStub<S>> S prepareStub(S stub) {
+        stub = applyCompression(stub);
+        if (metadataOption != null && metadataOption.isStatic()) {
+            stub = attachMetaDataToStub(stub);
+        }
+        if (nativeCodec != null) {
+            stub = stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(getNativeMetadata()));
+        }
+        return stub;
+    }
+
     /**
-     * Create Stub object in using reflection.
+     * Create Stub object in using reflection, prepared by {@link #prepareStub}. The type of the stub is only known
+     * at runtime.
      */
-    private AbstractStub createStub(ServiceConfigs serviceConfigs) {
+    @SuppressWarnings("unchecked")
+    private AbstractStub<?> createStub(ServiceConfigs serviceConfigs) {
         try {
             Class serviceClass = Class.forName(serviceConfigs.getFullyQualifiedServiceName() + GrpcConstants
                     .GRPC_PROTOCOL_NAME_UPPERCAMELCASE);
             Method newStub = serviceClass.getDeclaredMethod(GrpcConstants.NEW_STUB_NAME, Channel.class);
-            return (AbstractStub) newStub.invoke(serviceClass, this.channel);
+            return prepareStub((AbstractStub) newStub.invoke(serviceClass, this.channel));
         } catch (ClassNotFoundException e) {
             throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Invalid service name " +
                     "provided in the url, provided service name: '" + serviceConfigs
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.siddhi.core.exception.ConnectionUnavailableException;
+import io.siddhi.core.util.statistics.EventBufferHolder;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bound on the number of calls and request bytes a sink has in flight, that is calls which were sent but have not
+ * completed yet. A call takes a slot through {@link #acquire} before it is sent and gives it back through
+ * {@link #release} once it completes. A limit of 0 or less means no limit.
+ * <p>
+ * The window is an {@link EventBufferHolder} of the calls in flight so that it can be reported as a Siddhi metric.
+ */
+public class InflightWindow implements EventBufferHolder {
+    private final int maxRequests;
+    private final long maxBytes;
+    private final Policy policy;
+    private final String siddhiAppName;
+    private final String streamID;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private volatile int requests;
+    private volatile long bytes;
+
+    public InflightWindow(int maxRequests, long maxBytes, Policy policy, String siddhiAppName, String streamID) {
+        this.maxRequests = maxRequests;
+        this.maxBytes = maxBytes;
+        this.policy = policy;
+        this.siddhiAppName = siddhiAppName;
+        this.streamID = streamID;
+    }
+
+    /**
+     * Take a slot for a call with a request of the given size. A request larger than the byte limit is let through
+     * when nothing else is in flight, so that it does not wait forever.
+     *
+     * @throws ConnectionUnavailableException if the window is full with fail.fast policy, or if the thread is
+     *                                        interrupted while waiting with block policy
+     */
+    public void acquire(long size) throws ConnectionUnavailableException {
+        lock.lock();
+        try {
+            while (isFull(size)) {
+                if (policy == Policy.FAIL_FAST) {
+                    throw new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": " + requests +
+                            " calls with " + bytes + " bytes of requests are in flight, which is the limit of " +
+                            "the sink. The gRPC server is not responding fast enough");
+                }
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": Interrupted " +
+                            "while waiting for calls in flight to complete", e);
+                }
+            }
+            requests++;
+            bytes += size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long size) {
+        lock.lock();
+        try {
+            requests--;
+            bytes -= size;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isBounded() {
+        return maxRequests > 0 || maxBytes > 0;
+    }
+
+    public long getInflightBytes() {
+        return bytes;
+    }
+
+    @Override
+    public long getBufferedEvents() {
+        return requests;
+    }
+
+    @Override
+    public boolean containsBufferedEvents() {
+        return requests > 0;
+    }
+
+    private boolean isFull(long size) {
+        if (requests == 0) {
+            return false;
+        }
+        return (maxRequests > 0 && requests >= maxRequests) || (maxBytes > 0 && bytes + size > maxBytes);
+    }
+
+    /**
+     * Action taken when a call is made while the window is full.
+     */
+    public enum Policy {
+        BLOCK, FAIL_FAST;
+
+        public static Policy fromString(String policy, String siddhiAppName, String streamID) {
+            switch (policy.toLowerCase()) {
+                case GrpcConstants.MAX_INFLIGHT_POLICY_BLOCK:
+                    return BLOCK;
+                case GrpcConstants.MAX_INFLIGHT_POLICY_FAIL_FAST:
+                    return FAIL_FAST;
+                default:
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                            GrpcConstants.MAX_INFLIGHT_POLICY + " '" + policy + "'. Expected one of " +
+                            GrpcConstants.MAX_INFLIGHT_POLICY_BLOCK + " or " +
+                            GrpcConstants.MAX_INFLIGHT_POLICY_FAIL_FAST);
+            }
+        }
+    }
+}
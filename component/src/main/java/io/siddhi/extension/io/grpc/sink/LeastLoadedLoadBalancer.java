@@ -0,0 +1,291 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load balancer which picks the less loaded of two randomly chosen ready backends (power of two choices), where the
+ * load of a backend is the number of calls in progress on it. A backend that fails the configured number of
+ * consecutive calls is ejected from the picks for the ejection time multiplied by the number of times it has been
+ * ejected in a row. Backends are never all ejected at once.
+ */
+public class LeastLoadedLoadBalancer extends LoadBalancer {
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+    private final Helper helper;
+    private final Map<List<SocketAddress>, Backend> backends = new HashMap<>();
+    private OutlierEjectionConfig outlierEjectionConfig = new OutlierEjectionConfig(0, 0);
+    private SynchronizationContext.ScheduledHandle ejectionTimer;
+    private Status lastError = Status.UNAVAILABLE.withDescription("No backend is available");
+
+    public LeastLoadedLoadBalancer(Helper helper) {
+        this.helper = helper;
+    }
+
+    @Override
+    public void handleResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+        if (resolvedAddresses.getLoadBalancingPolicyConfig() instanceof OutlierEjectionConfig) {
+            outlierEjectionConfig = (OutlierEjectionConfig) resolvedAddresses.getLoadBalancingPolicyConfig();
+        }
+        Set<List<SocketAddress>> resolvedKeys = new HashSet<>();
+        for (EquivalentAddressGroup addressGroup : resolvedAddresses.getAddresses()) {
+            List<SocketAddress> key = addressGroup.getAddresses();
+            resolvedKeys.add(key);
+            Backend backend = backends.get(key);
+            if (backend == null) {
+                Subchannel subchannel = helper.createSubchannel(CreateSubchannelArgs.newBuilder()
+                        .setAddresses(addressGroup).build());
+                Backend newBackend = new Backend(subchannel);
+                subchannel.start(stateInfo -> processSubchannelState(newBackend, stateInfo));
+                backends.put(key, newBackend);
+                subchannel.requestConnection();
+            } else {
+                backend.subchannel.updateAddresses(Collections.singletonList(addressGroup));
+            }
+        }
+        Iterator<Map.Entry<List<SocketAddress>, Backend>> iterator = backends.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<List<SocketAddress>, Backend> entry = iterator.next();
+            if (!resolvedKeys.contains(entry.getKey())) {
+                entry.getValue().removed = true;
+                entry.getValue().subchannel.shutdown();
+                iterator.remove();
+            }
+        }
+        updateBalancingState();
+    }
+
+    @Override
+    public void handleNameResolutionError(Status error) {
+        lastError = error;
+        if (backends.isEmpty()) {
+            helper.updateBalancingState(ConnectivityState.TRANSIENT_FAILURE, new ErrorPicker(error));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        for (Backend backend : backends.values()) {
+            backend.removed = true;
+            backend.subchannel.shutdown();
+        }
+        backends.clear();
+        if (ejectionTimer != null) {
+            ejectionTimer.cancel();
+        }
+    }
+
+    private void processSubchannelState(Backend backend, ConnectivityStateInfo stateInfo) {
+        if (backend.removed || stateInfo.getState() == ConnectivityState.SHUTDOWN) {
+            return;
+        }
+        if (stateInfo.getState() == ConnectivityState.IDLE) {
+            backend.subchannel.requestConnection();
+        } else if (stateInfo.getState() == ConnectivityState.TRANSIENT_FAILURE) {
+            lastError = stateInfo.getStatus();
+        }
+        backend.state = stateInfo.getState();
+        updateBalancingState();
+    }
+
+    /**
+     * Publish a new picker built from the ready backends which are not ejected. Must run in the synchronization
+     * context of the channel.
+     */
+    private void updateBalancingState() {
+        List<Backend> readyBackends = new ArrayList<>();
+        List<Backend> healthyBackends = new ArrayList<>();
+        boolean connecting = false;
+        long now = System.nanoTime();
+        long nextEjectionExpiry = Long.MAX_VALUE;
+        for (Backend backend : backends.values()) {
+            if (backend.state == ConnectivityState.READY) {
+                readyBackends.add(backend);
+                if (backend.isEjected(now)) {
+                    nextEjectionExpiry = Math.min(nextEjectionExpiry, backend.ejectedUntilNanos - now);
+                } else {
+                    healthyBackends.add(backend);
+                }
+            } else if (backend.state == ConnectivityState.CONNECTING || backend.state == ConnectivityState.IDLE) {
+                connecting = true;
+            }
+        }
+        if (ejectionTimer != null) {
+            ejectionTimer.cancel();
+            ejectionTimer = null;
+        }
+        if (!readyBackends.isEmpty()) {
+            if (nextEjectionExpiry != Long.MAX_VALUE) {
+                ejectionTimer = helper.getSynchronizationContext().schedule(this::updateBalancingState,
+                        nextEjectionExpiry, TimeUnit.NANOSECONDS, helper.getScheduledExecutorService());
+            }
+            helper.updateBalancingState(ConnectivityState.READY, new LeastLoadedPicker(
+                    healthyBackends.isEmpty() ? readyBackends : healthyBackends));
+        } else if (connecting) {
+            helper.updateBalancingState(ConnectivityState.CONNECTING, new ErrorPicker(null));
+        } else {
+            helper.updateBalancingState(ConnectivityState.TRANSIENT_FAILURE, new ErrorPicker(lastError));
+        }
+    }
+
+    private void recordResult(Backend backend, Status status) {
+        if (status.isOk()) {
+            backend.consecutiveFailures.set(0);
+            if (!backend.isEjected(System.nanoTime())) {
+                backend.ejectionMultiplier = 0;
+            }
+            return;
+        }
+        if (outlierEjectionConfig.consecutiveFailures <= 0 || !isBackendFailure(status.getCode())) {
+            return;
+        }
+        if (backend.consecutiveFailures.incrementAndGet() >= outlierEjectionConfig.consecutiveFailures) {
+            backend.consecutiveFailures.set(0);
+            helper.getSynchronizationContext().execute(() -> eject(backend));
+        }
+    }
+
+    private void eject(Backend backend) {
+        long now = System.nanoTime();
+        if (backend.removed || backend.isEjected(now)) {
+            return;
+        }
+        backend.ejectionMultiplier = Math.min(backend.ejectionMultiplier + 1, MAX_EJECTION_MULTIPLIER);
+        backend.ejectedUntilNanos = now + TimeUnit.MILLISECONDS.toNanos(
+                outlierEjectionConfig.baseEjectionTimeMillis * backend.ejectionMultiplier);
+        updateBalancingState();
+    }
+
+    private static boolean isBackendFailure(Status.Code code) {
+        switch (code) {
+            case UNAVAILABLE:
+            case INTERNAL:
+            case UNKNOWN:
+            case DEADLINE_EXCEEDED:
+            case DATA_LOSS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Outlier ejection settings of the policy. Ejection is disabled when consecutiveFailures is not positive.
+     */
+    static class OutlierEjectionConfig {
+        private final int consecutiveFailures;
+        private final long baseEjectionTimeMillis;
+
+        OutlierEjectionConfig(int consecutiveFailures, long baseEjectionTimeMillis) {
+            this.consecutiveFailures = consecutiveFailures;
+            this.baseEjectionTimeMillis = baseEjectionTimeMillis;
+        }
+    }
+
+    private class Backend {
+        private final Subchannel subchannel;
+        private final AtomicInteger callsInProgress = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final ClientStreamTracer.Factory streamTracerFactory;
+        private volatile ConnectivityState state = ConnectivityState.IDLE;
+        private volatile long ejectedUntilNanos;
+        private volatile int ejectionMultiplier;
+        private boolean removed;
+
+        private Backend(Subchannel subchannel) {
+            this.subchannel = subchannel;
+            this.streamTracerFactory = new ClientStreamTracer.Factory() {
+                @Override
+                public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info,
+                                                                Metadata headers) {
+                    callsInProgress.incrementAndGet();
+                    return new ClientStreamTracer() {
+                        @Override
+                        public void streamClosed(Status status) {
+                            callsInProgress.decrementAndGet();
+                            recordResult(Backend.this, status);
+                        }
+                    };
+                }
+            };
+        }
+
+        private boolean isEjected(long now) {
+            return ejectedUntilNanos != 0 && ejectedUntilNanos - now > 0;
+        }
+    }
+
+    private static class LeastLoadedPicker extends SubchannelPicker {
+        private final List<Backend> backends;
+
+        private LeastLoadedPicker(List<Backend> backends) {
+            this.backends = backends;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            Backend backend = backends.get(0);
+            if (backends.size() > 1) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int first = random.nextInt(backends.size());
+                int second = random.nextInt(backends.size() - 1);
+                if (second >= first) {
+                    second++;
+                }
+                Backend firstBackend = backends.get(first);
+                Backend secondBackend = backends.get(second);
+                backend = firstBackend.callsInProgress.get() <= secondBackend.callsInProgress.get() ?
+                        firstBackend : secondBackend;
+            }
+            return PickResult.withSubchannel(backend.subchannel, backend.streamTracerFactory);
+        }
+    }
+
+    private static class ErrorPicker extends SubchannelPicker {
+        private final Status error;
+
+        private ErrorPicker(Status error) {
+            this.error = error;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            return error == null ? PickResult.withNoResult() : PickResult.withError(error);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+
+import java.util.Map;
+
+/**
+ * {@link LoadBalancerProvider} of the {@code least_loaded} policy implemented by {@link LeastLoadedLoadBalancer}.
+ * The policy accepts the outlier ejection settings {@code consecutiveFailures} and {@code baseEjectionTimeMillis}.
+ */
+public class LeastLoadedLoadBalancerProvider extends LoadBalancerProvider {
+    public static final String CONSECUTIVE_FAILURES = "consecutiveFailures";
+    public static final String BASE_EJECTION_TIME_MILLIS = "baseEjectionTimeMillis";
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return GrpcConstants.LB_POLICY_LEAST_LOADED;
+    }
+
+    @Override
+    public LoadBalancer newLoadBalancer(LoadBalancer.Helper helper) {
+        return new LeastLoadedLoadBalancer(helper);
+    }
+
+    @Override
+    public NameResolver.ConfigOrError parseLoadBalancingPolicyConfig(Map<String, ?> rawConfig) {
+        try {
+            int consecutiveFailures = Integer.parseInt(GrpcConstants
+                    .OUTLIER_EJECTION_CONSECUTIVE_FAILURES_DEFAULT);
+            long baseEjectionTimeMillis = Long.parseLong(GrpcConstants.OUTLIER_EJECTION_TIME_MILLIS_DEFAULT);
+            if (rawConfig.get(CONSECUTIVE_FAILURES) != null) {
+                consecutiveFailures = ((Number) rawConfig.get(CONSECUTIVE_FAILURES)).intValue();
+            }
+            if (rawConfig.get(BASE_EJECTION_TIME_MILLIS) != null) {
+                baseEjectionTimeMillis = ((Number) rawConfig.get(BASE_EJECTION_TIME_MILLIS)).longValue();
+            }
+            return NameResolver.ConfigOrError.fromConfig(new LeastLoadedLoadBalancer.OutlierEjectionConfig(
+                    consecutiveFailures, baseEjectionTimeMillis));
+        } catch (ClassCastException e) {
+            return NameResolver.ConfigOrError.fromError(Status.INVALID_ARGUMENT.withDescription("Invalid " +
+                    GrpcConstants.LB_POLICY_LEAST_LOADED + " config " + rawConfig).withCause(e));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.grpc.Attributes;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.Status;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link NameResolverProvider} for targets of the form {@code siddhi-grpc:///host1:port1,host2:port2}, used when a
+ * publisher.url lists several endpoints. Each endpoint is resolved into its own address group so that the load
+ * balancing policy of the channel treats every endpoint as a separate backend.
+ */
+public class MultiEndpointNameResolverProvider extends NameResolverProvider {
+
+    public static String getTarget(List<String> endpoints) {
+        return GrpcConstants.MULTI_ENDPOINT_SCHEME + ":///" + String.join(GrpcConstants.COMMA_STRING, endpoints);
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    protected int priority() {
+        return 5;
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return GrpcConstants.MULTI_ENDPOINT_SCHEME;
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!GrpcConstants.MULTI_ENDPOINT_SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        String path = targetUri.getPath();
+        if (path == null || path.length() < 2) {
+            return null;
+        }
+        return new MultiEndpointNameResolver(Arrays.asList(path.substring(1).split(GrpcConstants.COMMA_STRING)),
+                args);
+    }
+
+    private static class MultiEndpointNameResolver extends NameResolver {
+        private final List<String> endpoints;
+        private final Args args;
+        private Listener2 listener;
+        private boolean resolving;
+        private boolean shutdown;
+
+        private MultiEndpointNameResolver(List<String> endpoints, Args args) {
+            this.endpoints = endpoints;
+            this.args = args;
+        }
+
+        @Override
+        public String getServiceAuthority() {
+            return endpoints.get(0);
+        }
+
+        @Override
+        public void start(Listener2 listener) {
+            this.listener = listener;
+            resolve();
+        }
+
+        @Override
+        public void refresh() {
+            resolve();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        private void resolve() {
+            if (resolving || shutdown) {
+                return;
+            }
+            resolving = true;
+            Executor executor = args.getOffloadExecutor() != null ? args.getOffloadExecutor() : Runnable::run;
+            executor.execute(() -> {
+                List<EquivalentAddressGroup> addressGroups = new ArrayList<>();
+                UnknownHostException lastError = null;
+                for (String endpoint : endpoints) {
+                    try {
+                        addressGroups.add(resolveEndpoint(endpoint));
+                    } catch (UnknownHostException e) {
+                        lastError = e;
+                    }
+                }
+                UnknownHostException error = lastError;
+                args.getSynchronizationContext().execute(() -> {
+                    resolving = false;
+                    if (shutdown) {
+                        return;
+                    }
+                    if (addressGroups.isEmpty()) {
+                        listener.onError(Status.UNAVAILABLE.withDescription("Unable to resolve any of the " +
+                                "endpoints " + endpoints).withCause(error));
+                    } else {
+                        listener.onResult(ResolutionResult.newBuilder().setAddresses(addressGroups).build());
+                    }
+                });
+            });
+        }
+
+        /**
+         * Resolve all addresses of the endpoint's host. The endpoint itself is kept as the authority of the group
+         * so that TLS verifies each server against its own host name.
+         */
+        private static EquivalentAddressGroup resolveEndpoint(String endpoint) throws UnknownHostException {
+            int portSeparator = endpoint.lastIndexOf(':');
+            String host = endpoint.substring(0, portSeparator);
+            if (host.startsWith("[") && host.endsWith("]")) {
+                host = host.substring(1, host.length() - 1);
+            }
+            int port = Integer.parseInt(endpoint.substring(portSeparator + 1));
+            List<SocketAddress> addresses = new ArrayList<>();
+            for (InetAddress address : InetAddress.getAllByName(host)) {
+                addresses.add(new InetSocketAddress(address, port));
+            }
+            return new EquivalentAddressGroup(addresses, Attributes.newBuilder()
+                    .set(EquivalentAddressGroup.ATTR_AUTHORITY_OVERRIDE, endpoint).build());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.siddhi.core.exception.ConnectionUnavailableException;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffer releasing the responses of a grpc-call sink in the order their requests were sent, while the calls
+ * themselves complete in any order. Each request takes a {@link Ticket} with the next sequence number of its lane
+ * before it is sent, and the response is handed back with {@link #complete} once the call completes. A response
+ * is delivered only after the responses of all earlier requests of the same lane.
+ * <p>
+ * There is one lane for all requests, or one per partition key. The buffer holds at most {@code capacity} requests
+ * which were sent but not delivered yet, across all lanes. Once it is full sending waits for the oldest response.
+ */
+public class ReorderBuffer {
+    private static final Logger logger = LogManager.getLogger(ReorderBuffer.class);
+    private static final Runnable NO_DELIVERY = () -> { };
+    private final int capacity;
+    private final String siddhiAppName;
+    private final String streamID;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Map<Object, Lane> lanes = new HashMap<>();
+    private int pending;
+
+    public ReorderBuffer(int capacity, String siddhiAppName, String streamID) {
+        this.capacity = capacity;
+        this.siddhiAppName = siddhiAppName;
+        this.streamID = streamID;
+    }
+
+    /**
+     * Take the next sequence number of the lane of the given partition key, waiting while the buffer is full.
+     *
+     * @param partitionKey the key of the lane, or null when requests are ordered globally
+     * @throws ConnectionUnavailableException if the thread is interrupted while waiting
+     */
+    public Ticket register(Object partitionKey) throws ConnectionUnavailableException {
+        lock.lock();
+        try {
+            while (pending >= capacity) {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ConnectionUnavailableException(siddhiAppName + ":" + streamID + ": Interrupted " +
+                            "while waiting for earlier responses to be delivered", e);
+                }
+            }
+            pending++;
+            Lane lane = lanes.computeIfAbsent(partitionKey, Lane::new);
+            return new Ticket(lane, lane.nextSequence++);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hand back the delivery of the response of a ticket. The delivery runs on the calling thread if it is next in
+     * its lane, together with any later deliveries it was holding up. Otherwise it is kept until its turn comes and
+     * run by the thread completing the ticket before it.
+     *
+     * @param delivery the delivery of the response, or null if the call did not produce one
+     */
+    public void complete(Ticket ticket, Runnable delivery) {
+        Lane lane = ticket.lane;
+        lock.lock();
+        try {
+            lane.completed.put(ticket.sequence, delivery == null ? NO_DELIVERY : delivery);
+            if (lane.draining) {
+                return;
+            }
+            lane.draining = true;
+        } finally {
+            lock.unlock();
+        }
+        drain(lane);
+    }
+
+    /**
+     * Give up the turn of a ticket whose request was never sent.
+     */
+    public void skip(Ticket ticket) {
+        complete(ticket, null);
+    }
+
+    /**
+     * Run the deliveries of the lane while the next one in sequence is available. Only one thread drains a lane at
+     * a time, so the deliveries of a lane never overlap or overtake each other.
+     */
+    private void drain(Lane lane) {
+        while (true) {
+            Runnable delivery;
+            lock.lock();
+            try {
+                delivery = lane.completed.remove(lane.nextRelease);
+                if (delivery == null) {
+                    lane.draining = false;
+                    if (lane.nextRelease == lane.nextSequence) {
+                        lanes.remove(lane.partitionKey);
+                    }
+                    return;
+                }
+                lane.nextRelease++;
+                pending--;
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                delivery.run();
+            } catch (RuntimeException e) {
+                logger.error(siddhiAppName + ":" + streamID + ": Error while delivering a response. " +
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Position of a request in its lane.
+     */
+    public static class Ticket {
+        private final Lane lane;
+        private final long sequence;
+
+        private Ticket(Lane lane, long sequence) {
+            this.lane = lane;
+            this.sequence = sequence;
+        }
+    }
+
+    private static class Lane {
+        private final Object partitionKey;
+        private final Map<Long, Runnable> completed = new HashMap<>();
+        private long nextSequence;
+        private long nextRelease;
+        private boolean draining;
+
+        private Lane(Object partitionKey) {
+            this.partitionKey = partitionKey;
+        }
+    }
+
+    /**
+     * Order in which the responses of a sink are delivered.
+     */
+    public enum Ordering {
+        NONE, REQUEST, KEY;
+
+        public static Ordering fromString(String ordering, String siddhiAppName, String streamID) {
+            switch (ordering.toLowerCase()) {
+                case GrpcConstants.ORDERING_NONE:
+                    return NONE;
+                case GrpcConstants.ORDERING_REQUEST:
+                    return REQUEST;
+                case GrpcConstants.ORDERING_KEY:
+                    return KEY;
+                default:
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                            GrpcConstants.ORDERING + " '" + ordering + "'. Expected one of " +
+                            GrpcConstants.ORDERING_NONE + ", " + GrpcConstants.ORDERING_REQUEST + " or " +
+                            GrpcConstants.ORDERING_KEY);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads which deliver the responses of a grpc-call sink to its grpc-call-response source, so that the Siddhi
+ * queries consuming the responses do not run on the event loop threads of the gRPC channel.
+ * <p>
+ * Without partitioning the threads share one bounded queue. With partitioning each thread is a lane with its own
+ * bounded queue, and all responses of the same partition key go through the same lane in the order the calls
+ * completed. When a queue is full the thread completing the call waits for space, which slows down reading from
+ * the channel instead of letting the queue grow.
+ */
+public class ResponseDispatcher {
+    private final ThreadPoolExecutor[] lanes;
+
+    public ResponseDispatcher(int threads, int bufferSize, boolean partitioned, String siddhiAppName,
+                              String streamID) {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("grpc-call-response-" +
+                siddhiAppName + "-" + streamID + "-%d").setDaemon(true).build();
+        this.lanes = new ThreadPoolExecutor[partitioned ? threads : 1];
+        for (int i = 0; i < lanes.length; i++) {
+            int laneThreads = partitioned ? 1 : threads;
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(laneThreads, laneThreads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(bufferSize), threadFactory);
+            lane.setRejectedExecutionHandler((r, executor) -> {
+                if (executor.isShutdown()) {
+                    return;
+                }
+                try {
+                    executor.getQueue().put(r);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Interrupted while " +
+                            "waiting to deliver a response. " + e.getMessage(), e);
+                }
+            });
+            lanes[i] = lane;
+        }
+    }
+
+    /**
+     * Get the executor delivering the responses of calls with the given partition key. The key is ignored when
+     * the dispatcher is not partitioned.
+     */
+    public Executor getExecutor(Object partitionKey) {
+        if (lanes.length == 1) {
+            return lanes[0];
+        }
+        return lanes[Math.floorMod(partitionKey == null ? 0 : partitionKey.hashCode(), lanes.length)];
+    }
+
+    /**
+     * Stop the threads once the responses already queued are delivered.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.sink;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * First in first out queue of serialized requests kept in memory mapped segment files, used by the sink to hold
+ * requests while the server cannot take them. Records are appended to the last segment and read from the first one,
+ * and a segment file is deleted once all of its records are read.
+ * <p>
+ * Each segment starts with a header holding the write and read positions, followed by length prefixed records. The
+ * header is updated with every append and read, so the records which were not read are recovered when the buffer
+ * is opened again on the same directory, even after the process was killed. How often the segments are forced to
+ * the disk is decided by the {@link SyncPolicy}.
+ */
+public class SpillBuffer {
+    private static final Logger logger = LogManager.getLogger(SpillBuffer.class);
+    private static final int WRITE_POSITION_OFFSET = 0;
+    private static final int READ_POSITION_OFFSET = 4;
+    private static final int HEADER_SIZE = 8;
+    private static final int LENGTH_SIZE = 4;
+    private final Path directory;
+    private final long maxBytes;
+    private final int segmentBytes;
+    private final SyncPolicy syncPolicy;
+    private final String siddhiAppName;
+    private final String streamID;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private long nextSegmentId;
+    private long allocatedBytes;
+    private long recordCount;
+
+    public SpillBuffer(Path directory, long maxBytes, int segmentBytes, SyncPolicy syncPolicy,
+                       String siddhiAppName, String streamID) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.segmentBytes = segmentBytes;
+        this.syncPolicy = syncPolicy;
+        this.siddhiAppName = siddhiAppName;
+        this.streamID = streamID;
+        try {
+            Files.createDirectories(directory);
+            lockChannel = FileChannel.open(directory.resolve(GrpcConstants.SPILL_LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            lock = tryLock(lockChannel);
+            if (lock == null) {
+                lockChannel.close();
+                throw new SiddhiAppCreationException(siddhiAppName + ":" + streamID + ": " +
+                        GrpcConstants.SPILL_DIRECTORY + " '" + directory + "' is already used by another sink");
+            }
+            recover();
+        } catch (IOException e) {
+            throw new SiddhiAppCreationException(siddhiAppName + ":" + streamID + ": Could not open the spill " +
+                    "buffer in '" + directory + "'. " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Append the record to the end of the buffer.
+     *
+     * @return false if the record does not fit within the maximum size of the buffer
+     * @throws IOException if a new segment file could not be created
+     */
+    public synchronized boolean append(byte[] record) throws IOException {
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.remaining() < LENGTH_SIZE + record.length) {
+            int capacity = Math.max(segmentBytes, HEADER_SIZE + LENGTH_SIZE + record.length);
+            if (allocatedBytes + capacity > maxBytes) {
+                return false;
+            }
+            if (segment != null && syncPolicy != SyncPolicy.NONE) {
+                segment.buffer.force();
+            }
+            segment = createSegment(capacity);
+        }
+        segment.write(record);
+        recordCount++;
+        if (syncPolicy == SyncPolicy.ALWAYS) {
+            segment.buffer.force();
+        }
+        return true;
+    }
+
+    /**
+     * Remove and return the oldest record, or return null if the buffer is empty.
+     */
+    public synchronized byte[] poll() {
+        while (!segments.isEmpty()) {
+            Segment segment = segments.peekFirst();
+            if (segment.hasUnreadRecords()) {
+                recordCount--;
+                return segment.read();
+            }
+            if (segments.size() == 1) {
+                return null;
+            }
+            segments.pollFirst();
+            delete(segment);
+        }
+        return null;
+    }
+
+    public synchronized boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    /**
+     * Force the segments to the disk and release the directory. Records which were not read are kept in the
+     * segment files and recovered by the next buffer opened on the directory.
+     */
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+        segments.clear();
+        try {
+            lock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            logger.error(siddhiAppName + ":" + streamID + ": Error while releasing the spill buffer in '" +
+                    directory + "'. " + e.getMessage(), e);
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                "*" + GrpcConstants.SPILL_SEGMENT_SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long id;
+            try {
+                id = Long.parseLong(name.substring(0, name.length() - GrpcConstants.SPILL_SEGMENT_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            nextSegmentId = Math.max(nextSegmentId, id + 1);
+            Segment segment = openSegment(file, Files.size(file));
+            if (segment == null) {
+                logger.warn(siddhiAppName + ":" + streamID + ": Deleting corrupted spill segment '" + file + "'");
+                Files.deleteIfExists(file);
+            } else if (!segment.hasUnreadRecords()) {
+                delete(segment);
+            } else {
+                segments.add(segment);
+                allocatedBytes += segment.buffer.capacity();
+                recordCount += segment.countUnreadRecords();
+            }
+        }
+        if (recordCount > 0) {
+            logger.info(siddhiAppName + ":" + streamID + ": Recovered " + recordCount + " spilled requests from '" +
+                    directory + "'");
+        }
+    }
+
+    private Segment createSegment(int capacity) throws IOException {
+        Path file = directory.resolve(String.format("%020d", nextSegmentId++) + GrpcConstants.SPILL_SEGMENT_SUFFIX);
+        Segment segment = openSegment(file, capacity);
+        segment.buffer.putInt(WRITE_POSITION_OFFSET, HEADER_SIZE);
+        segment.buffer.putInt(READ_POSITION_OFFSET, HEADER_SIZE);
+        segments.add(segment);
+        allocatedBytes += capacity;
+        return segment;
+    }
+
+    /**
+     * Map the segment file, returning null if its header is not valid.
+     */
+    private Segment openSegment(Path file, long capacity) throws IOException {
+        if (capacity < HEADER_SIZE || capacity > Integer.MAX_VALUE) {
+            return null;
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        Segment segment = new Segment(file, buffer);
+        int writePosition = buffer.getInt(WRITE_POSITION_OFFSET);
+        int readPosition = buffer.getInt(READ_POSITION_OFFSET);
+        if (writePosition == 0 && readPosition == 0) {
+            return segment;
+        }
+        if (writePosition < HEADER_SIZE || writePosition > capacity || readPosition < HEADER_SIZE ||
+                readPosition > writePosition) {
+            return null;
+        }
+        return segment;
+    }
+
+    private void delete(Segment segment) {
+        allocatedBytes -= segment.buffer.capacity();
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            logger.error(siddhiAppName + ":" + streamID + ": Could not delete the spill segment '" + segment.file +
+                    "'. " + e.getMessage(), e);
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    /**
+     * When the segments are forced to the disk. With {@code none} the operating system writes them out in its own
+     * time, so spilled requests survive a crash of the process but not of the host.
+     */
+    public enum SyncPolicy {
+        NONE, SEGMENT, ALWAYS;
+
+        public static SyncPolicy fromString(String policy, String siddhiAppName, String streamID) {
+            switch (policy.toLowerCase()) {
+                case GrpcConstants.SPILL_SYNC_POLICY_NONE:
+                    return NONE;
+                case GrpcConstants.SPILL_SYNC_POLICY_SEGMENT:
+                    return SEGMENT;
+                case GrpcConstants.SPILL_SYNC_POLICY_ALWAYS:
+                    return ALWAYS;
+                default:
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                            GrpcConstants.SPILL_SYNC_POLICY + " '" + policy + "'. Expected one of " +
+                            GrpcConstants.SPILL_SYNC_POLICY_NONE + ", " + GrpcConstants.SPILL_SYNC_POLICY_SEGMENT +
+                            " or " + GrpcConstants.SPILL_SYNC_POLICY_ALWAYS);
+            }
+        }
+    }
+
+    private static class Segment {
+        private final Path file;
+        private final MappedByteBuffer buffer;
+
+        private Segment(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - buffer.getInt(WRITE_POSITION_OFFSET);
+        }
+
+        private boolean hasUnreadRecords() {
+            return buffer.getInt(READ_POSITION_OFFSET) < buffer.getInt(WRITE_POSITION_OFFSET);
+        }
+
+        /**
+         * Count the records which were not read, cutting the segment short at the first record which does not fit
+         * within the write position.
+         */
+        private long countUnreadRecords() {
+            long count = 0;
+            int position = buffer.getInt(READ_POSITION_OFFSET);
+            int writePosition = buffer.getInt(WRITE_POSITION_OFFSET);
+            while (position < writePosition) {
+                int length = writePosition - position >= LENGTH_SIZE ? buffer.getInt(position) : -1;
+                if (length < 0 || length > writePosition - position - LENGTH_SIZE) {
+                    buffer.putInt(WRITE_POSITION_OFFSET, position);
+                    break;
+                }
+                position += LENGTH_SIZE + length;
+                count++;
+            }
+            return count;
+        }
+
+        private void write(byte[] record) {
+            int position = buffer.getInt(WRITE_POSITION_OFFSET);
+            buffer.putInt(position, record.length);
+            buffer.position(position + LENGTH_SIZE);
+            buffer.put(record);
+            buffer.putInt(WRITE_POSITION_OFFSET, position + LENGTH_SIZE + record.length);
+        }
+
+        private byte[] read() {
+            int position = buffer.getInt(READ_POSITION_OFFSET);
+            byte[] record = new byte[buffer.getInt(position)];
+            buffer.position(position + LENGTH_SIZE);
+            buffer.get(record);
+            buffer.putInt(READ_POSITION_OFFSET, position + LENGTH_SIZE + record.length);
+            return record;
+        }
+    }
+}
@@ -18,15 +18,20 @@
 package io.siddhi.extension.io.grpc.source;
 
 import com.google.protobuf.GeneratedMessageV3;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
 import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.event.Event;
 import io.siddhi.core.stream.ServiceDeploymentInfo;
 import io.siddhi.core.stream.input.source.Source;
 import io.siddhi.core.stream.input.source.SourceEventListener;
+import io.siddhi.core.util.SiddhiConstants;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.core.util.transport.OptionHolder;
+import io.siddhi.extension.io.grpc.util.GrpcByteBufAllocators;
 import io.siddhi.extension.io.grpc.util.GrpcConstants;
 import io.siddhi.extension.io.grpc.util.GrpcServerConfigs;
+import io.siddhi.query.api.definition.StreamDefinition;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 
 import java.lang.reflect.Field;
@@ -79,6 +84,9 @@ public abstract class AbstractGrpcSource extends Source {
             requestClass = getRequestClass();
         }
         initSource(optionHolder, requestedTransportPropertyNames);
+        if (grpcServerConfigs.getAllocatorConfig() != null) {
+            GrpcByteBufAllocators.registerMetrics(siddhiAppContext, getMetricName(), this::getByteBufAllocator);
+        }
         this.serviceDeploymentInfo = new ServiceDeploymentInfo(grpcServerConfigs.getServiceConfigs().getPort(),
                 grpcServerConfigs.getServiceConfigs().getTruststoreFilePath() != null ||
                         grpcServerConfigs.getServiceConfigs().getKeystoreFilePath() != null);
@@ -113,12 +121,35 @@ public abstract class AbstractGrpcSource extends Source {
 
     public abstract void initSource(OptionHolder optionHolder, String[] requestedTransportPropertyNames);
 
+    /**
+     * Returns the pooled allocator of the server of the source. Sources of the default service share the server of
+     * their port, which is built by the first of them.
+     */
+    private PooledByteBufAllocator getByteBufAllocator() {
+        ServiceServer server = grpcServerConfigs.getServiceConfigs().isDefaultService() ?
+                GrpcServerManager.getInstance().getServer(grpcServerConfigs.getServiceConfigs().getPort()) :
+                serviceServer;
+        return server == null ? null : server.getByteBufAllocator();
+    }
+
+    /**
+     * Returns the prefix of the names of the metrics of the source, named like the size metrics of streams.
+     */
+    private String getMetricName() {
+        return siddhiAppContext.getSiddhiContext().getStatisticsConfiguration().getMetricPrefix() +
+                SiddhiConstants.METRIC_DELIMITER + SiddhiConstants.METRIC_INFIX_SIDDHI_APPS +
+                SiddhiConstants.METRIC_DELIMITER + siddhiAppName + SiddhiConstants.METRIC_DELIMITER +
+                SiddhiConstants.METRIC_INFIX_SIDDHI + SiddhiConstants.METRIC_DELIMITER +
+                SiddhiConstants.METRIC_INFIX_SOURCES + SiddhiConstants.METRIC_DELIMITER + streamID +
+                SiddhiConstants.METRIC_DELIMITER + getType() + SiddhiConstants.METRIC_DELIMITER;
+    }
+
     /**
      * Returns the list of classes which this source can output.
      */
     @Override
     public Class[] getOutputEventClasses() {
-        return new Class[]{String.class, GeneratedMessageV3.class};
+        return new Class[]{String.class, GeneratedMessageV3.class, byte[].class, Event[].class};
     }
 
     /**
@@ -138,5 +169,9 @@ public abstract class AbstractGrpcSource extends Source {
         return streamID;
     }
 
+    public StreamDefinition getStreamDefinition() {
+        return sourceEventListener.getStreamDefinition();
+    }
+
     public abstract void logError(String message);
 }
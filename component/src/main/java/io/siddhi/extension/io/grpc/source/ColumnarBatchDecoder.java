@@ -0,0 +1,165 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.source;
+
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.definition.StreamDefinition;
+import org.wso2.grpc.Column;
+import org.wso2.grpc.ColumnarBatch;
+import org.wso2.grpc.LongColumn;
+import org.wso2.grpc.StringColumn;
+
+import java.util.List;
+
+/**
+ * Decoder of {@link ColumnarBatch} messages into the rows of Siddhi events, which the passThrough mapper injects
+ * without any conversion. The columns are matched with the attributes of the stream definition of the source by
+ * their position.
+ */
+public class ColumnarBatchDecoder {
+
+    private ColumnarBatchDecoder() {
+    }
+
+    /**
+     * @throws SiddhiAppRuntimeException if the batch does not have a column of the matching type for each
+     *                                   attribute, or a column does not have a value for each row
+     */
+    public static Event[] decode(ColumnarBatch batch, StreamDefinition streamDefinition) {
+        List<Attribute> attributes = streamDefinition.getAttributeList();
+        if (batch.getColumnsCount() != attributes.size()) {
+            throw new SiddhiAppRuntimeException("Columnar batch has " + batch.getColumnsCount() + " columns " +
+                    "while the stream '" + streamDefinition.getId() + "' has " + attributes.size() + " attributes");
+        }
+        int rowCount = batch.getRowCount();
+        long[] timestamps = decodeLongs(batch.getTimestamps(), rowCount, "timestamps");
+        Event[] events = new Event[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            events[row] = new Event(timestamps[row], new Object[attributes.size()]);
+        }
+        for (int i = 0; i < attributes.size(); i++) {
+            Attribute attribute = attributes.get(i);
+            Column column = batch.getColumns(i);
+            if (!isColumnOf(column, attribute.getType())) {
+                throw new SiddhiAppRuntimeException("Columnar batch has a column of " + column.getValuesTypeCase() +
+                        " for the attribute '" + attribute.getName() + "' of type " + attribute.getType());
+            }
+            int valueCount = rowCount - column.getNullRowsCount();
+            Object[] values = decodeValues(column, attribute, valueCount);
+            int nullIndex = 0;
+            int valueIndex = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (nullIndex < column.getNullRowsCount() && column.getNullRows(nullIndex) == row) {
+                    nullIndex++;
+                } else if (valueIndex < valueCount) {
+                    events[row].getData()[i] = values[valueIndex++];
+                }
+            }
+            if (nullIndex != column.getNullRowsCount()) {
+                throw new SiddhiAppRuntimeException("Columnar batch has invalid null rows for the attribute '" +
+                        attribute.getName() + "'");
+            }
+        }
+        return events;
+    }
+
+    private static boolean isColumnOf(Column column, Attribute.Type type) {
+        switch (type) {
+            case INT:
+            case LONG:
+                return column.hasLongValues();
+            case FLOAT:
+            case DOUBLE:
+                return column.hasDoubleValues();
+            case BOOL:
+                return column.hasBoolValues();
+            case STRING:
+                return column.hasStringValues();
+            default:
+                return false;
+        }
+    }
+
+    private static Object[] decodeValues(Column column, Attribute attribute, int valueCount) {
+        Object[] values = new Object[valueCount];
+        switch (attribute.getType()) {
+            case INT:
+            case LONG:
+                long[] longValues = decodeLongs(column.getLongValues(), valueCount, attribute.getName());
+                for (int i = 0; i < valueCount; i++) {
+                    values[i] = attribute.getType() == Attribute.Type.INT ? (Object) (int) longValues[i] :
+                            (Object) longValues[i];
+                }
+                break;
+            case FLOAT:
+            case DOUBLE:
+                checkValueCount(column.getDoubleValues().getValuesCount(), valueCount, attribute.getName());
+                for (int i = 0; i < valueCount; i++) {
+                    double value = column.getDoubleValues().getValues(i);
+                    values[i] = attribute.getType() == Attribute.Type.FLOAT ? (Object) (float) value :
+                            (Object) value;
+                }
+                break;
+            case BOOL:
+                checkValueCount(column.getBoolValues().getValuesCount(), valueCount, attribute.getName());
+                for (int i = 0; i < valueCount; i++) {
+                    values[i] = column.getBoolValues().getValues(i);
+                }
+                break;
+            default:
+                StringColumn stringColumn = column.getStringValues();
+                if (stringColumn.getDictionaryIndexesCount() == 0) {
+                    checkValueCount(stringColumn.getValuesCount(), valueCount, attribute.getName());
+                    for (int i = 0; i < valueCount; i++) {
+                        values[i] = stringColumn.getValues(i);
+                    }
+                } else {
+                    checkValueCount(stringColumn.getDictionaryIndexesCount(), valueCount, attribute.getName());
+                    for (int i = 0; i < valueCount; i++) {
+                        int index = stringColumn.getDictionaryIndexes(i);
+                        if (index >= stringColumn.getValuesCount()) {
+                            throw new SiddhiAppRuntimeException("Columnar batch has an invalid dictionary index " +
+                                    index + " for the attribute '" + attribute.getName() + "'");
+                        }
+                        values[i] = stringColumn.getValues(index);
+                    }
+                }
+        }
+        return values;
+    }
+
+    private static long[] decodeLongs(LongColumn column, int valueCount, String name) {
+        checkValueCount(column.getValuesCount(), valueCount, name);
+        long[] values = new long[valueCount];
+        long previous = 0;
+        for (int i = 0; i < valueCount; i++) {
+            values[i] = column.getDelta() ? previous + column.getValues(i) : column.getValues(i);
+            previous = values[i];
+        }
+        return values;
+    }
+
+    private static void checkValueCount(int count, int expectedCount, String name) {
+        if (count != expectedCount) {
+            throw new SiddhiAppRuntimeException("Columnar batch has " + count + " values for '" + name + "' " +
+                    "while " + expectedCount + " are expected");
+        }
+    }
+}
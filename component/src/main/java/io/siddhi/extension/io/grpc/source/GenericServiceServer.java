@@ -33,6 +33,7 @@ import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
 import io.siddhi.core.stream.input.source.Source;
 import io.siddhi.extension.io.grpc.util.GenericService;
+import io.siddhi.extension.io.grpc.util.GrpcCompressionCodecs;
 import io.siddhi.extension.io.grpc.util.GrpcConstants;
 import io.siddhi.extension.io.grpc.util.GrpcServerConfigs;
 import io.siddhi.extension.io.grpc.util.SourceServerInterceptor;
@@ -107,7 +108,11 @@ public class GenericServiceServer extends ServiceServer {
     }
 
     protected void setServerPropertiesToBuilder(String siddhiAppName, String streamID) {
-        serverBuilder = NettyServerBuilder.forPort(grpcServerConfigs.getServiceConfigs().getPort());
+        serverBuilder = NettyServerBuilder.forPort(grpcServerConfigs.getServiceConfigs().getPort())
+                .compressorRegistry(GrpcCompressionCodecs.getCompressorRegistry())
+                .decompressorRegistry(GrpcCompressionCodecs.getDecompressorRegistry());
+        setEventLoopGroupsToBuilder(serverBuilder, grpcServerConfigs);
+        setByteBufAllocatorToBuilder(serverBuilder, grpcServerConfigs);
         if (grpcServerConfigs.getServiceConfigs().getKeystoreFilePath() != null) {
             try {
                 SslContextBuilder sslContextBuilder = getSslContextBuilder(grpcServerConfigs.getServiceConfigs()
@@ -224,7 +229,7 @@ public class GenericServiceServer extends ServiceServer {
                         try {
                             executorService.execute(new GrpcWorkerThread(relevantSource, requestObject,
                                     transportPropertyMap, metaDataMap.get()));
-                            ((GrpcServiceSource) relevantSource).putStreamObserver(messageId, responseObserver);
+                            ((GrpcServiceSource) relevantSource).putGenericStreamObserver(messageId, responseObserver);
                             ((GrpcServiceSource) relevantSource).scheduleServiceTimeout(messageId);
                         } catch (SiddhiAppRuntimeException e) {
                             logger.error(siddhiAppName + ": " + streamID + ": Dropping request. " + e.getMessage());
@@ -234,6 +239,55 @@ public class GenericServiceServer extends ServiceServer {
                         }
 
                     }
+
+                    @Override
+                    public StreamObserver<Any> handleNonEmptyResponseStream(StreamObserver<Any> responseObserver) {
+                        handlePause(logger);
+                        Map<String, String> metaData = metaDataMap.get();
+                        metaDataMap.remove();
+                        ServiceResponseStream<Any> responseStream = new ServiceResponseStream<>(responseObserver);
+                        return new StreamObserver<Any>() {
+                            @Override
+                            public void onNext(Any request) {
+                                handlePause(logger);
+                                Object requestObject;
+                                try {
+                                    requestObject = requestClass.getDeclaredMethod(GrpcConstants.
+                                            PARSE_FROM_METHOD_NAME, ByteString.class).invoke(requestClass, request.
+                                            toByteString());
+                                } catch (NoSuchMethodException | IllegalAccessException |
+                                        InvocationTargetException e) {
+                                    throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " +
+                                            "Invalid method name provided in the url, provided method name: " +
+                                            grpcServerConfigs.getServiceConfigs().getMethodName() + ", Expected " +
+                                            "one of these these methods: " + getRpcMethodList(grpcServerConfigs.
+                                            getServiceConfigs(), siddhiAppName, streamID), e);
+                                }
+                                String messageId = ((GrpcServiceSource) relevantSource)
+                                        .putGenericStreamRequest(responseStream);
+                                Map<String, String> transportPropertyMap = new HashMap<>();
+                                transportPropertyMap.put(GrpcConstants.MESSAGE_ID, messageId);
+                                try {
+                                    executorService.execute(new GrpcWorkerThread(relevantSource, requestObject,
+                                            transportPropertyMap, metaData));
+                                } catch (SiddhiAppRuntimeException e) {
+                                    logger.error(siddhiAppName + ": " + streamID + ": Dropping request. " +
+                                            e.getMessage());
+                                    responseStream.fail(Status.DATA_LOSS);
+                                }
+                            }
+
+                            @Override
+                            public void onError(Throwable t) {
+                                responseStream.cancel();
+                            }
+
+                            @Override
+                            public void onCompleted() {
+                                responseStream.completeRequests();
+                            }
+                        };
+                    }
                 }, serverInterceptor)).build();
     }
 
@@ -283,6 +337,9 @@ public class GenericServiceServer extends ServiceServer {
             }
         } catch (InterruptedException e) {
             throw new SiddhiAppRuntimeException(siddhiAppName + ": " + streamID + ": " + e.getMessage(), e);
+        } finally {
+            releaseEventLoopGroups();
+            releaseByteBufAllocator();
         }
     }
 
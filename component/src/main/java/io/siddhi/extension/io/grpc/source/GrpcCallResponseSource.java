@@ -33,10 +33,15 @@ import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.core.util.transport.OptionHolder;
 import io.siddhi.extension.io.grpc.util.GrpcConstants;
 import io.siddhi.extension.io.grpc.util.GrpcSourceRegistry;
+import io.siddhi.extension.io.grpc.util.GrpcUtils;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.definition.StreamDefinition;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.grpc.Event;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
@@ -108,32 +113,52 @@ public class GrpcCallResponseSource extends Source {
         return null;
     }
 
-    public void onResponse(Event response, Map<String, String> siddhiRequestEventData) {
-        handlePause();
-        sourceEventListener.onEvent(response.getPayload(), getTransportProperties(response.getHeadersMap(),
-                siddhiRequestEventData));
+    /**
+     * Resolve the requested transport properties to the positions of the attributes with the same names in the
+     * stream of the grpc-call sink, or -1 for properties which are not attributes of that stream. The sink captures
+     * only these attributes of each request and passes them back along with the response.
+     */
+    public int[] getRequestAttributeIndexes(StreamDefinition requestStreamDefinition) {
+        int[] indexes = new int[requestedTransportPropertyNames.length];
+        List<Attribute> attributes = requestStreamDefinition.getAttributeList();
+        for (int i = 0; i < requestedTransportPropertyNames.length; i++) {
+            indexes[i] = -1;
+            for (int j = 0; j < attributes.size(); j++) {
+                if (attributes.get(j).getName().equals(requestedTransportPropertyNames[i])) {
+                    indexes[i] = j;
+                    break;
+                }
+            }
+        }
+        return indexes;
     }
-    public void onResponse(Object response, Map<String, String> siddhiRequestEventData) {
+
+    /**
+     * @param requestData the values of the request attributes resolved by {@link #getRequestAttributeIndexes},
+     *                    in the order of the requested transport properties
+     */
+    public void onResponse(Event response, Object[] requestData) {
         handlePause();
-        sourceEventListener.onEvent(response, getTransportProperties(siddhiRequestEventData));
+        sourceEventListener.onEvent(GrpcUtils.getPayload(response), getTransportProperties(response.getHeadersMap(),
+                requestData));
     }
 
-    private String[] getTransportProperties(Map<String, String> headersMap,
-                                            Map<String, String> siddhiRequestEventData) {
-        siddhiRequestEventData.putAll(headersMap);
-        String[] transportProperties = new String[requestedTransportPropertyNames.length];
-        for (int i = 0; i < requestedTransportPropertyNames.length; i++) {
-            if (siddhiRequestEventData.containsKey(requestedTransportPropertyNames[i])) {
-                transportProperties[i] = siddhiRequestEventData.get(requestedTransportPropertyNames[i]);
-            }
-        }
-        return transportProperties;
+    public void onResponse(Object response, Object[] requestData) {
+        handlePause();
+        sourceEventListener.onEvent(response, getTransportProperties(Collections.emptyMap(), requestData));
     }
-    private String[] getTransportProperties(Map<String, String> siddhiRequestEventData) {
+
+    /**
+     * Headers of the response take precedence over request attributes of the same name.
+     */
+    private String[] getTransportProperties(Map<String, String> headersMap, Object[] requestData) {
         String[] transportProperties = new String[requestedTransportPropertyNames.length];
         for (int i = 0; i < requestedTransportPropertyNames.length; i++) {
-            if (siddhiRequestEventData.containsKey(requestedTransportPropertyNames[i])) {
-                transportProperties[i] = siddhiRequestEventData.get(requestedTransportPropertyNames[i]);
+            String header = headersMap.get(requestedTransportPropertyNames[i]);
+            if (header != null) {
+                transportProperties[i] = header;
+            } else if (requestData[i] != null) {
+                transportProperties[i] = requestData[i].toString();
             }
         }
         return transportProperties;
@@ -147,7 +172,7 @@ public class GrpcCallResponseSource extends Source {
      */
     @Override
     public Class[] getOutputEventClasses() {
-        return new Class[]{String.class, GeneratedMessageV3.class};
+        return new Class[]{String.class, GeneratedMessageV3.class, byte[].class};
     }
 
     @Override
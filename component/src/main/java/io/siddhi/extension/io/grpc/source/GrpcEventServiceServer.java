@@ -18,28 +18,38 @@
 package io.siddhi.extension.io.grpc.source;
 
 import com.google.protobuf.Empty;
+import io.grpc.MethodDescriptor;
 import io.grpc.Server;
 import io.grpc.ServerInterceptors;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 import io.grpc.netty.shaded.io.netty.handler.ssl.ClientAuth;
 import io.grpc.netty.shaded.io.netty.handler.ssl.SslContextBuilder;
+import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
 import io.siddhi.core.config.SiddhiAppContext;
 import io.siddhi.core.exception.ConnectionUnavailableException;
 import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
 import io.siddhi.core.stream.input.source.Source;
+import io.siddhi.extension.io.grpc.util.GrpcCompressionCodecs;
 import io.siddhi.extension.io.grpc.util.GrpcConstants;
 import io.siddhi.extension.io.grpc.util.GrpcServerConfigs;
+import io.siddhi.extension.io.grpc.util.GrpcUtils;
+import io.siddhi.extension.io.grpc.util.NativeEventCodec;
 import io.siddhi.extension.io.grpc.util.SourceServerInterceptor;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.wso2.grpc.ColumnarBatch;
 import org.wso2.grpc.Event;
+import org.wso2.grpc.EventBatch;
 import org.wso2.grpc.EventServiceGrpc;
+import org.wso2.grpc.NativeEvents;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -54,6 +64,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -90,7 +101,11 @@ public class GrpcEventServiceServer extends ServiceServer {
 
     @Override
     protected void setServerPropertiesToBuilder(String siddhiAppName, String streamID) {
-        serverBuilder = NettyServerBuilder.forPort(grpcServerConfigs.getServiceConfigs().getPort());
+        serverBuilder = NettyServerBuilder.forPort(grpcServerConfigs.getServiceConfigs().getPort())
+                .compressorRegistry(GrpcCompressionCodecs.getCompressorRegistry())
+                .decompressorRegistry(GrpcCompressionCodecs.getDecompressorRegistry());
+        setEventLoopGroupsToBuilder(serverBuilder, grpcServerConfigs);
+        setByteBufAllocatorToBuilder(serverBuilder, grpcServerConfigs);
         if (grpcServerConfigs.getServiceConfigs().getKeystoreFilePath() != null) {
             try {
                 SslContextBuilder sslContextBuilder = getSslContextBuilder(grpcServerConfigs.getServiceConfigs()
@@ -121,102 +136,408 @@ public class GrpcEventServiceServer extends ServiceServer {
 
     @Override
     protected void addServicesAndBuildServer(String siddhiAppName, String streamID) {
-        this.server = serverBuilder.addService(ServerInterceptors.intercept(
-                new EventServiceGrpc.EventServiceImplBase() {
+        ServerServiceDefinition eventService = new EventServiceGrpc.EventServiceImplBase() {
+            @Override
+            public StreamObserver<EventBatch> consumeBatch(StreamObserver<Empty> responseObserver) {
+                handlePause(logger);
+                Map<String, String> metaData = metaDataMap.get();
+                metaDataMap.remove();
+                return new StreamObserver<EventBatch>() {
+                    private boolean closed;
+
                     @Override
-                    public StreamObserver<Event> consume(StreamObserver<Empty> responseObserver) {
+                    public void onNext(EventBatch batch) {
+                        if (closed) {
+                            return;
+                        }
                         handlePause(logger);
-                        return new StreamObserver<Event>() {
-                            @Override
-                            public void onNext(Event request) {
-                                if (request.getPayload() == null) {
-                                    logger.error(siddhiAppName + ":" + streamID + ": Dropping request " +
-                                            "due to missing payload ");
-                                    responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
-
-                                } else if (!request.getHeadersMap().containsKey(GrpcConstants.STREAM_ID)) {
-                                    logger.error(siddhiAppName + ":" + streamID + ": Dropping request " +
-                                            "due to missing stream.id ");
-                                    responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
-                                } else if (!subscribersForConsume.containsKey(request.getHeadersMap().get(GrpcConstants
-                                        .STREAM_ID))) {
-                                    logger.error(siddhiAppName + ":" + streamID + ": Dropping request " +
-                                            "because requested stream with stream.id " + request.getHeadersMap()
-                                            .get("streamID") + " not subcribed to the gRPC server on port " +
-                                            grpcServerConfigs.getServiceConfigs().getPort());
-                                    responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
-                                } else {
-
-                                    try {
-                                        GrpcSource relevantSource = subscribersForConsume.get(request.getHeadersMap()
-                                                .get(GrpcConstants.STREAM_ID));
-                                        executorService.execute(new GrpcWorkerThread(relevantSource,
-                                                request.getPayload(), request.getHeadersMap(), metaDataMap.get()));
-                                        responseObserver.onNext(Empty.getDefaultInstance());
-                                        responseObserver.onCompleted();
-                                    } catch (SiddhiAppRuntimeException e) {
-                                        logger.error(siddhiAppName + ":" + streamID + ": Dropping " +
-                                                "request. " + e.getMessage());
-                                        responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
-                                    } finally {
-                                        metaDataMap.remove();
-                                    }
+                        GrpcSource relevantSource = null;
+                        for (Event request : batch.getEventsList()) {
+                            GrpcSource source = getConsumeSubscriber(request, siddhiAppName, streamID);
+                            if (source == null || (relevantSource != null && relevantSource != source)) {
+                                if (source != null) {
+                                    logger.error(siddhiAppName + ":" + streamID + ": Dropping batch " +
+                                            "because it contains events for more than one stream.id");
                                 }
+                                close(Status.DATA_LOSS);
+                                return;
                             }
+                            relevantSource = source;
+                        }
+                        if (relevantSource == null) {
+                            return;
+                        }
+                        GrpcSource batchSource = relevantSource;
+                        try {
+                            executorService.execute(() -> {
+                                for (Event request : batch.getEventsList()) {
+                                    new GrpcWorkerThread(batchSource, GrpcUtils.getPayload(request),
+                                            request.getHeadersMap(), metaData).run();
+                                }
+                            });
+                        } catch (RejectedExecutionException e) {
+                            logger.error(siddhiAppName + ":" + streamID + ": Dropping batch of " +
+                                    batch.getEventsCount() + " events. " + e.getMessage());
+                            close(Status.RESOURCE_EXHAUSTED);
+                        }
+                    }
 
-                            @Override
-                            public void onError(Throwable t) {
+                    private void close(Status status) {
+                        closed = true;
+                        responseObserver.onError(new StatusRuntimeException(status));
+                    }
 
-                            }
+                    @Override
+                    public void onError(Throwable t) {
 
-                            @Override
-                            public void onCompleted() {
+                    }
 
-                            }
-                        };
+                    @Override
+                    public void onCompleted() {
+                        if (!closed) {
+                            responseObserver.onNext(Empty.getDefaultInstance());
+                            responseObserver.onCompleted();
+                        }
                     }
+                };
+            }
+
+            @Override
+            public StreamObserver<ColumnarBatch> consumeColumnar(StreamObserver<Empty> responseObserver) {
+                handlePause(logger);
+                Map<String, String> metaData = metaDataMap.get();
+                metaDataMap.remove();
+                return new StreamObserver<ColumnarBatch>() {
+                    private boolean closed;
 
                     @Override
-                    public void process(Event request,
-                                        StreamObserver<Event> responseObserver) {
+                    public void onNext(ColumnarBatch batch) {
+                        if (closed) {
+                            return;
+                        }
                         handlePause(logger);
-                        if (request.getPayload() == null) {
-                            logger.error(siddhiAppName + ":" + streamID + ": Dropping request due to " +
-                                    "missing payload ");
-                            responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
-                        } else if (!request.getHeadersMap().containsKey(GrpcConstants.STREAM_ID)) {
-                            logger.error(siddhiAppName + ":" + streamID + ": Dropping request due to " +
-                                    "missing stream.id ");
-                            responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
-                        } else if (!subscribersForProcess.containsKey(request.getHeadersMap().get(GrpcConstants
-                                .STREAM_ID))) {
-                            logger.error(siddhiAppName + ":" + streamID + ": Dropping request because " +
-                                    "requested stream with stream.id " + request.getHeadersMap().get(GrpcConstants
-                                    .STREAM_ID) + " not subcribed to the gRPC server on port " +
-                                    grpcServerConfigs.getServiceConfigs().getPort());
-                            responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
-                        } else {
-                            String messageId = UUID.randomUUID().toString();
-                            Map<String, String> transportPropertyMap = new HashMap<>();
-                            transportPropertyMap.put(GrpcConstants.MESSAGE_ID, messageId);
-                            transportPropertyMap.putAll(request.getHeadersMap());
-                            try {
-                                GrpcServiceSource relevantSource = subscribersForProcess.get(request.getHeadersMap()
-                                        .get(GrpcConstants.STREAM_ID));
-                                executorService.execute(new GrpcWorkerThread(relevantSource,
-                                        request.getPayload(), transportPropertyMap, metaDataMap.get()));
-                                relevantSource.putStreamObserver(messageId, responseObserver);
-                                relevantSource.scheduleServiceTimeout(messageId);
-                            } catch (SiddhiAppRuntimeException e) {
-                                logger.error(siddhiAppName + ":" + streamID + ": Dropping request. "
-                                        + e.getMessage(), e);
-                                responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
-                            } finally {
-                                metaDataMap.remove();
-                            }
+                        String requestedStreamId = batch.getHeadersMap().get(GrpcConstants.STREAM_ID);
+                        GrpcSource relevantSource = requestedStreamId == null ? null :
+                                subscribersForConsume.get(requestedStreamId);
+                        if (relevantSource == null) {
+                            logger.error(siddhiAppName + ":" + streamID + ": Dropping columnar batch because " +
+                                    "requested stream with stream.id " + requestedStreamId + " not subcribed to " +
+                                    "the gRPC server on port " + grpcServerConfigs.getServiceConfigs().getPort());
+                            close(Status.DATA_LOSS);
+                            return;
+                        }
+                        try {
+                            executorService.execute(new GrpcWorkerThread(relevantSource, batch,
+                                    batch.getHeadersMap(), metaData));
+                        } catch (RejectedExecutionException e) {
+                            logger.error(siddhiAppName + ":" + streamID + ": Dropping columnar batch of " +
+                                    batch.getRowCount() + " events. " + e.getMessage());
+                            close(Status.RESOURCE_EXHAUSTED);
+                        }
+                    }
+
+                    private void close(Status status) {
+                        closed = true;
+                        responseObserver.onError(new StatusRuntimeException(status));
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        if (!closed) {
+                            responseObserver.onNext(Empty.getDefaultInstance());
+                            responseObserver.onCompleted();
                         }
                     }
-                }, serverInterceptor)).build();
+                };
+            }
+
+            @Override
+            public StreamObserver<NativeEvents> consumeNative(StreamObserver<Empty> responseObserver) {
+                return GrpcEventServiceServer.this.consumeNative(responseObserver, siddhiAppName, streamID);
+            }
+        }.bindService();
+        this.server = serverBuilder.addService(ServerInterceptors.intercept(withLazyEvents(eventService,
+                siddhiAppName, streamID), serverInterceptor)).build();
+    }
+
+    /**
+     * Bind consume, process and processStream to requests read as {@link LazyEvent}s by {@link LazyEventMarshaller},
+     * keeping the generated binding of the other methods.
+     */
+    private ServerServiceDefinition withLazyEvents(ServerServiceDefinition eventService, String siddhiAppName,
+                                                   String streamID) {
+        MethodDescriptor<Event, Empty> consumeMethod = EventServiceGrpc.getConsumeMethod();
+        MethodDescriptor<Event, Event> processMethod = EventServiceGrpc.getProcessMethod();
+        MethodDescriptor<Event, Event> processStreamMethod = EventServiceGrpc.getProcessStreamMethod();
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(EventServiceGrpc.SERVICE_NAME);
+        for (ServerMethodDefinition<?, ?> method : eventService.getMethods()) {
+            String methodName = method.getMethodDescriptor().getFullMethodName();
+            if (methodName.equals(consumeMethod.getFullMethodName())) {
+                builder.addMethod(consumeMethod.toBuilder(LazyEventMarshaller.INSTANCE,
+                        consumeMethod.getResponseMarshaller()).build(), ServerCalls.asyncClientStreamingCall(
+                        responseObserver -> consume(responseObserver, siddhiAppName, streamID)));
+            } else if (methodName.equals(processMethod.getFullMethodName())) {
+                builder.addMethod(processMethod.toBuilder(LazyEventMarshaller.INSTANCE,
+                        processMethod.getResponseMarshaller()).build(), ServerCalls.asyncUnaryCall(
+                        (request, responseObserver) -> process(request, responseObserver, siddhiAppName, streamID)));
+            } else if (methodName.equals(processStreamMethod.getFullMethodName())) {
+                builder.addMethod(processStreamMethod.toBuilder(LazyEventMarshaller.INSTANCE,
+                        processStreamMethod.getResponseMarshaller()).build(), ServerCalls.asyncBidiStreamingCall(
+                        responseObserver -> processStream(responseObserver, siddhiAppName, streamID)));
+            } else {
+                builder.addMethod(method);
+            }
+        }
+        return builder.build();
+    }
+
+    private StreamObserver<LazyEvent> consume(StreamObserver<Empty> responseObserver, String siddhiAppName,
+                                              String streamID) {
+        handlePause(logger);
+        Map<String, String> metaData = metaDataMap.get();
+        metaDataMap.remove();
+        return new StreamObserver<LazyEvent>() {
+            private boolean closed;
+
+            @Override
+            public void onNext(LazyEvent request) {
+                if (closed) {
+                    return;
+                }
+                handlePause(logger);
+                String requestedStreamId = request.getHeader(GrpcConstants.STREAM_ID);
+                if (requestedStreamId == null) {
+                    logger.error(siddhiAppName + ":" + streamID + ": Dropping request " +
+                            "due to missing stream.id ");
+                    close(Status.DATA_LOSS);
+                } else if (!subscribersForConsume.containsKey(requestedStreamId)) {
+                    logger.error(siddhiAppName + ":" + streamID + ": Dropping request " +
+                            "because requested stream with stream.id " + requestedStreamId +
+                            " not subcribed to the gRPC server on port " +
+                            grpcServerConfigs.getServiceConfigs().getPort());
+                    close(Status.DATA_LOSS);
+                } else {
+
+                    try {
+                        GrpcSource relevantSource = subscribersForConsume.get(requestedStreamId);
+                        executorService.execute(new GrpcWorkerThread(relevantSource, request,
+                                request.getHeadersMap(), metaData));
+                    } catch (SiddhiAppRuntimeException e) {
+                        logger.error(siddhiAppName + ":" + streamID + ": Dropping " +
+                                "request. " + e.getMessage());
+                        close(Status.DATA_LOSS);
+                    } catch (RejectedExecutionException e) {
+                        logger.error(siddhiAppName + ":" + streamID + ": Dropping " +
+                                "request. " + e.getMessage());
+                        close(Status.RESOURCE_EXHAUSTED);
+                    }
+                }
+            }
+
+            private void close(Status status) {
+                closed = true;
+                responseObserver.onError(new StatusRuntimeException(status));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!closed) {
+                    responseObserver.onNext(Empty.getDefaultInstance());
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+
+    /**
+     * Open a native stream, matching the schema sent by the sink with the stream definition of the source once for
+     * all the events of the stream. The stream is rejected if the schemas do not match.
+     */
+    private StreamObserver<NativeEvents> consumeNative(StreamObserver<Empty> responseObserver, String siddhiAppName,
+                                                       String streamID) {
+        handlePause(logger);
+        Map<String, String> metaData = metaDataMap.get();
+        metaDataMap.remove();
+        String requestedStreamId = metaData.get(GrpcConstants.STREAM_ID);
+        String schema = metaData.get(GrpcConstants.NATIVE_SCHEMA);
+        GrpcSource relevantSource = requestedStreamId == null ? null : subscribersForConsume.get(requestedStreamId);
+        NativeEventCodec nativeCodec = null;
+        Status status = null;
+        if (relevantSource == null) {
+            logger.error(siddhiAppName + ":" + streamID + ": Rejecting native stream because requested stream " +
+                    "with stream.id " + requestedStreamId + " not subcribed to the gRPC server on port " +
+                    grpcServerConfigs.getServiceConfigs().getPort());
+            status = Status.DATA_LOSS;
+        } else if (schema == null) {
+            logger.error(siddhiAppName + ":" + streamID + ": Rejecting native stream due to missing " +
+                    GrpcConstants.NATIVE_SCHEMA);
+            status = Status.INVALID_ARGUMENT;
+        } else {
+            try {
+                nativeCodec = NativeEventCodec.forReceiver(schema, relevantSource.getStreamDefinition());
+            } catch (SiddhiAppRuntimeException e) {
+                logger.error(siddhiAppName + ":" + streamID + ": Rejecting native stream. " + e.getMessage());
+                status = Status.FAILED_PRECONDITION.withDescription(e.getMessage());
+            }
+        }
+        if (status != null) {
+            responseObserver.onError(new StatusRuntimeException(status));
+        }
+        NativeEventCodec streamCodec = nativeCodec;
+        return new StreamObserver<NativeEvents>() {
+            private boolean closed = streamCodec == null;
+
+            @Override
+            public void onNext(NativeEvents request) {
+                if (closed) {
+                    return;
+                }
+                handlePause(logger);
+                try {
+                    executorService.execute(new GrpcWorkerThread(relevantSource, request, streamCodec, metaData));
+                } catch (RejectedExecutionException e) {
+                    logger.error(siddhiAppName + ":" + streamID + ": Dropping " + request.getRowCount() +
+                            " native events. " + e.getMessage());
+                    close(Status.RESOURCE_EXHAUSTED);
+                }
+            }
+
+            private void close(Status status) {
+                closed = true;
+                responseObserver.onError(new StatusRuntimeException(status));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!closed) {
+                    responseObserver.onNext(Empty.getDefaultInstance());
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+
+    private void process(LazyEvent request, StreamObserver<Event> responseObserver, String siddhiAppName,
+                         String streamID) {
+        handlePause(logger);
+        String requestedStreamId = request.getHeader(GrpcConstants.STREAM_ID);
+        if (requestedStreamId == null) {
+            logger.error(siddhiAppName + ":" + streamID + ": Dropping request due to " +
+                    "missing stream.id ");
+            responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
+        } else if (!subscribersForProcess.containsKey(requestedStreamId)) {
+            logger.error(siddhiAppName + ":" + streamID + ": Dropping request because " +
+                    "requested stream with stream.id " + requestedStreamId + " not subcribed to the gRPC server " +
+                    "on port " + grpcServerConfigs.getServiceConfigs().getPort());
+            responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
+        } else {
+            String messageId = UUID.randomUUID().toString();
+            Map<String, String> transportPropertyMap = new HashMap<>();
+            transportPropertyMap.put(GrpcConstants.MESSAGE_ID, messageId);
+            transportPropertyMap.putAll(request.getHeadersMap());
+            try {
+                GrpcServiceSource relevantSource = subscribersForProcess.get(requestedStreamId);
+                executorService.execute(new GrpcWorkerThread(relevantSource, request, transportPropertyMap,
+                        metaDataMap.get()));
+                relevantSource.putStreamObserver(messageId, responseObserver);
+                relevantSource.scheduleServiceTimeout(messageId);
+            } catch (SiddhiAppRuntimeException e) {
+                logger.error(siddhiAppName + ":" + streamID + ": Dropping request. "
+                        + e.getMessage(), e);
+                responseObserver.onError(new StatusRuntimeException(Status.DATA_LOSS));
+            } finally {
+                metaDataMap.remove();
+            }
+        }
+    }
+
+    /**
+     * Serve requests of the grpc-service sources on a bidirectional stream, answering each of them with the response
+     * published for it, or with an event having the DEADLINE_EXCEEDED status header if there is none within the
+     * service.timeout of the source. Responses carry the message.id header of their request so that the client can
+     * correlate them.
+     */
+    private StreamObserver<LazyEvent> processStream(StreamObserver<Event> responseObserver, String siddhiAppName,
+                                                    String streamID) {
+        handlePause(logger);
+        Map<String, String> metaData = metaDataMap.get();
+        metaDataMap.remove();
+        ServiceResponseStream<Event> responseStream = new ServiceResponseStream<>(responseObserver);
+        return new StreamObserver<LazyEvent>() {
+            @Override
+            public void onNext(LazyEvent request) {
+                handlePause(logger);
+                String requestedStreamId = request.getHeader(GrpcConstants.STREAM_ID);
+                GrpcServiceSource relevantSource = requestedStreamId == null ? null :
+                        subscribersForProcess.get(requestedStreamId);
+                if (relevantSource == null) {
+                    logger.error(siddhiAppName + ":" + streamID + ": Dropping request because requested stream " +
+                            "with stream.id " + requestedStreamId + " not subcribed to the gRPC server on port " +
+                            grpcServerConfigs.getServiceConfigs().getPort());
+                    responseStream.fail(Status.DATA_LOSS);
+                    return;
+                }
+                Map<String, String> transportPropertyMap = new HashMap<>(request.getHeadersMap());
+                String messageId = relevantSource.putStreamRequest(responseStream,
+                        transportPropertyMap.get(GrpcConstants.MESSAGE_ID));
+                transportPropertyMap.put(GrpcConstants.MESSAGE_ID, messageId);
+                try {
+                    executorService.execute(new GrpcWorkerThread(relevantSource, request, transportPropertyMap,
+                            metaData));
+                } catch (RejectedExecutionException e) {
+                    logger.error(siddhiAppName + ":" + streamID + ": Dropping request. " + e.getMessage());
+                    responseStream.fail(Status.RESOURCE_EXHAUSTED);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                responseStream.cancel();
+            }
+
+            @Override
+            public void onCompleted() {
+                responseStream.completeRequests();
+            }
+        };
+    }
+
+    /**
+     * Validate a request received through consume or consumeBatch and return the source subscribed for its
+     * stream.id, or null if the request has to be dropped.
+     */
+    private GrpcSource getConsumeSubscriber(Event request, String siddhiAppName, String streamID) {
+        if (request.getPayload() == null) {
+            logger.error(siddhiAppName + ":" + streamID + ": Dropping request due to missing payload ");
+            return null;
+        }
+        String requestedStreamId = request.getHeadersMap().get(GrpcConstants.STREAM_ID);
+        if (requestedStreamId == null) {
+            logger.error(siddhiAppName + ":" + streamID + ": Dropping request due to missing stream.id ");
+            return null;
+        }
+        GrpcSource relevantSource = subscribersForConsume.get(requestedStreamId);
+        if (relevantSource == null) {
+            logger.error(siddhiAppName + ":" + streamID + ": Dropping request because requested stream with " +
+                    "stream.id " + requestedStreamId + " not subcribed to the gRPC server on port " +
+                    grpcServerConfigs.getServiceConfigs().getPort());
+        }
+        return relevantSource;
     }
 
     @Override
@@ -272,6 +593,9 @@ public class GrpcEventServiceServer extends ServiceServer {
         } catch (InterruptedException e) {
             throw new SiddhiAppRuntimeException(siddhiAppName + ": " + streamID + ": " + e.getMessage(),
                     e);
+        } finally {
+            releaseEventLoopGroups();
+            releaseByteBufAllocator();
         }
     }
 
@@ -324,24 +648,26 @@ public class GrpcEventServiceServer extends ServiceServer {
             if (source instanceof GrpcSource) {
                 subscribersForConsume.putIfAbsent(streamID, (GrpcSource) source);
             }
-        } else if (methodName.equalsIgnoreCase(GrpcConstants.DEFAULT_METHOD_NAME_WITH_RESPONSE)) {
+        } else if (methodName.equalsIgnoreCase(GrpcConstants.DEFAULT_METHOD_NAME_WITH_RESPONSE) ||
+                methodName.equalsIgnoreCase(GrpcConstants.DEFAULT_STREAMING_METHOD_NAME_WITH_RESPONSE)) {
             if (source instanceof GrpcServiceSource) {
                 subscribersForProcess.putIfAbsent(streamID, (GrpcServiceSource) source);
             }
         } else {
             throw new SiddhiAppValidationException(siddhiAppContext.getName() + ": " + streamID + ": method name " +
-                    "should be either process or consume but given as " + methodName);
+                    "should be either process, processStream or consume but given as " + methodName);
         }
     }
 
     public void unsubscribe(String streamID, String methodName, SiddhiAppContext siddhiAppContext) {
         if (methodName.equalsIgnoreCase(GrpcConstants.DEFAULT_METHOD_NAME_WITHOUT_RESPONSE)) {
             subscribersForConsume.remove(streamID);
-        } else if (methodName.equalsIgnoreCase(GrpcConstants.DEFAULT_METHOD_NAME_WITH_RESPONSE)) {
+        } else if (methodName.equalsIgnoreCase(GrpcConstants.DEFAULT_METHOD_NAME_WITH_RESPONSE) ||
+                methodName.equalsIgnoreCase(GrpcConstants.DEFAULT_STREAMING_METHOD_NAME_WITH_RESPONSE)) {
             subscribersForProcess.remove(streamID);
         } else {
             throw new SiddhiAppValidationException(siddhiAppContext.getName() + ": " + streamID + ": method name " +
-                    "should be either process or consume but given as " + methodName);
+                    "should be either process, processStream or consume but given as " + methodName);
         }
     }
 
@@ -21,6 +21,7 @@ import com.google.protobuf.AbstractMessageLite;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.MethodDescriptor;
 import io.grpc.Server;
 import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
@@ -36,6 +37,7 @@ import io.siddhi.core.util.transport.OptionHolder;
 import io.siddhi.extension.io.grpc.util.GenericService;
 import io.siddhi.extension.io.grpc.util.GrpcConstants;
 import io.siddhi.extension.io.grpc.util.GrpcSourceRegistry;
+import io.siddhi.extension.io.grpc.util.GrpcUtils;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -46,8 +48,14 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
 
@@ -64,7 +72,13 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                 "definition that uses in examples [here](https://github.com/siddhi-io/siddhi-io-grpc/tree/master/" +
                 "component/src/main/resources/sample.proto). This accepts grpc message class Event as defined in the" +
                 " EventService proto. This uses `grpc-service-response` sink to send reponses back in the same Event" +
-                " message format.",
+                " message format. Clients can also send requests and receive responses on one long-lived stream " +
+                "through the bidirectional `processStream` method of EventService, which any grpc-service source of " +
+                "the server serves. Each response then carries the `message.id` header of its request, or the " +
+                "message.id given by the source if the request has none, and a request without a response within " +
+                "service.timeout is answered with an Event having the `status` header `DEADLINE_EXCEEDED`. A user " +
+                "defined method may be bidirectional streaming as well, in which case responses are sent in the " +
+                "order they are published and a request without a response within service.timeout is not answered.",
         parameters = {
                 @Parameter(
                         name = "receiver.url",
@@ -75,12 +89,62 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                                 "For example:\n" +
                                 "grpc://0.0.0.0:9763/org.wso2.grpc.EventService/consume",
                         type = {DataType.STRING}),
+                @Parameter(
+                        name = "transport",
+                        description = "The Netty transport of the server, 'nio' or 'epoll'. 'epoll' uses the " +
+                                "native transport of Linux, which makes fewer system calls than 'nio'. When this, " +
+                                "boss.threads or worker.threads is given, the server runs on event loop groups " +
+                                "shared by all gRPC servers and channels of the JVM with the same transport and " +
+                                "number of threads. Otherwise the gRPC default is used.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "nio"),
+                @Parameter(
+                        name = "boss.threads",
+                        description = "The number of threads of the shared event loop group accepting the " +
+                                "connections of the server.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1"),
+                @Parameter(
+                        name = "worker.threads",
+                        description = "The number of threads of the shared event loop group serving the " +
+                                "connections of the server. 0 uses twice the number of processor cores.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "0"),
+                @Parameter(
+                        name = "allocator.direct.arenas",
+                        description = "The number of direct memory arenas of the pooled buffer allocator of the " +
+                                "server. When this, 'allocator.chunk.size' or 'allocator.thread.local.cache' is " +
+                                "given the server allocates from a pooled direct allocator shared by all gRPC " +
+                                "servers and channels of the JVM with the same allocator options, and reports the " +
+                                "direct memory reserved by the allocator and held by live buffers as the " +
+                                "`direct.memory.used` and `direct.memory.pinned` metrics when statistics are " +
+                                "enabled. Otherwise the gRPC default allocator is used.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "twice the number of processor cores"),
+                @Parameter(
+                        name = "allocator.chunk.size",
+                        description = "The size in bytes of the chunks the arenas of the allocator reserve, a " +
+                                "power of two between the page size of 8192 and 134217728.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "16777216"),
+                @Parameter(
+                        name = "allocator.thread.local.cache",
+                        description = "Whether the threads of the allocator keep released buffers in thread local " +
+                                "caches for reuse. Without the caches buffers go back to their arenas when released.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "true"),
                 @Parameter(
                         name = "max.inbound.message.size",
                         description = "Sets the maximum message size in bytes allowed to be received on the server.",
                         type = {DataType.INT},
                         optional = true,
-                        defaultValue = "4194304"),
+                        defaultValue = "16777216"),
                 @Parameter(
                         name = "max.inbound.metadata.size",
                         description = "Sets the maximum size of metadata in bytes allowed to be received.",
@@ -91,7 +155,8 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                         name = "service.timeout",
                         description = "The period of time in milliseconds to wait for siddhi to respond to a " +
                                 "request received. After this time period of receiving a request it will be closed " +
-                                "with an error message.",
+                                "with an error message. Requests received on a bidirectional stream time out " +
+                                "without closing the stream.",
                         type = {DataType.INT},
                         optional = true,
                         defaultValue = "10000"),
@@ -279,6 +344,9 @@ public class GrpcServiceSource extends AbstractGrpcSource {
     protected Server server;
     private Map<String, StreamObserver<Event>> streamObserverMap = Collections.synchronizedMap(new HashMap<>());
     private Map<String, StreamObserver<Any>> genericStreamObserverMap = Collections.synchronizedMap(new HashMap<>());
+    private Map<String, StreamRequest<?>> streamRequestMap = new ConcurrentHashMap<>();
+    private Queue<StreamRequest<?>> streamRequestQueue = new ConcurrentLinkedQueue<>();
+    private AtomicLong streamMessageIdGenerator = new AtomicLong();
     private String sourceId;
     private long serviceTimeout;
     private Timer timer;
@@ -293,6 +361,8 @@ public class GrpcServiceSource extends AbstractGrpcSource {
         this.serviceTimeout = Long.parseLong(optionHolder.getOrCreateOption(GrpcConstants.SERVICE_TIMEOUT,
                 GrpcConstants.SERVICE_TIMEOUT_DEFAULT).getValue());
         this.timer = new Timer();
+        timer.schedule(new StreamRequestTimeoutChecker(), GrpcConstants.STREAM_REQUEST_TIMEOUT_CHECK_INTERVAL,
+                GrpcConstants.STREAM_REQUEST_TIMEOUT_CHECK_INTERVAL);
         GrpcSourceRegistry.getInstance().putGrpcServiceSource(sourceId, this);
         if (grpcServerConfigs.getServiceConfigs().isDefaultService()) {
             GrpcServerManager.getInstance().registerSource(grpcServerConfigs, this, GrpcConstants
@@ -300,6 +370,7 @@ public class GrpcServiceSource extends AbstractGrpcSource {
         } else {
             GenericService.setServiceName(grpcServerConfigs.getServiceConfigs().getServiceName());
             GenericService.setNonEmptyResponseMethodName(grpcServerConfigs.getServiceConfigs().getMethodName());
+            GenericService.setNonEmptyResponseMethodType(getMethodType());
             serviceServer = new GenericServiceServer(grpcServerConfigs, this, requestClass,
                     siddhiAppName, streamID);
         }
@@ -332,47 +403,115 @@ public class GrpcServiceSource extends AbstractGrpcSource {
         }
     }
 
+    /**
+     * Returns the type of the method of the generic service given in the url, which is either unary or
+     * bidirectional streaming.
+     */
+    private MethodDescriptor.MethodType getMethodType() {
+        String methodName = grpcServerConfigs.getServiceConfigs().getMethodName();
+        MethodDescriptor.MethodType methodType;
+        try {
+            methodType = ((MethodDescriptor) Class.forName(grpcServerConfigs.getServiceConfigs()
+                    .getFullyQualifiedServiceName() + GrpcConstants.GRPC_PROTOCOL_NAME_UPPERCAMELCASE)
+                    .getDeclaredMethod(GrpcConstants.GETTER + methodName.substring(0, 1).toUpperCase() +
+                            methodName.substring(1) + GrpcConstants.METHOD_NAME).invoke(null)).getType();
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException |
+                InvocationTargetException e) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid method name " +
+                    "provided in the url, provided method name: " + methodName + ", Expected one of these these " +
+                    "methods: " + getRpcMethodList(grpcServerConfigs.getServiceConfigs(), siddhiAppName, streamID),
+                    e);
+        }
+        if (methodType != MethodDescriptor.MethodType.UNARY &&
+                methodType != MethodDescriptor.MethodType.BIDI_STREAMING) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": grpc-service source " +
+                    "supports unary and bidirectional streaming methods but the method '" + methodName + "' is " +
+                    methodType);
+        }
+        return methodType;
+    }
+
     public void handleCallback(String messageId, Object responsePayload) {
-        if (grpcServerConfigs.getServiceConfigs().isDefaultService()) {
+        StreamRequest<?> streamRequest = streamRequestMap.remove(messageId);
+        if (streamRequest != null) {
+            streamRequest.respond(responsePayload);
+        } else if (grpcServerConfigs.getServiceConfigs().isDefaultService()) {
             StreamObserver<Event> streamObserver = streamObserverMap.remove(messageId);
             if (streamObserver != null) {
-                Event.Builder responseBuilder = Event.newBuilder();
-                responseBuilder.setPayload((String) responsePayload);
-                Event response = responseBuilder.build();
+                Event response = GrpcUtils.setPayload(Event.newBuilder(), responsePayload).build();
                 streamObserver.onNext(response);
                 streamObserver.onCompleted();
             }
         } else {
             StreamObserver<Any> genericStreamObserver = genericStreamObserverMap.remove(messageId);
             if (genericStreamObserver != null) {
-                try {
-                    Method toByteString = AbstractMessageLite.class.getDeclaredMethod(GrpcConstants.TO_BYTE_STRING);
-                    ByteString responseByteString = (ByteString) toByteString.invoke(responsePayload);
-                    Any response = Any.parseFrom(responseByteString);
-                    genericStreamObserver.onNext(response);
-                    genericStreamObserver.onCompleted();
-                } catch (NoSuchMethodException | IllegalAccessException | InvalidProtocolBufferException |
-                        InvocationTargetException e) {
-                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid method" +
-                            " name provided in the url, provided method name: " + grpcServerConfigs.
-                            getServiceConfigs().getMethodName() + ", Expected one of these these methods: " +
-                            getRpcMethodList(grpcServerConfigs.getServiceConfigs(), siddhiAppName, streamID),
-                            e);
-                }
+                genericStreamObserver.onNext(toAny(responsePayload));
+                genericStreamObserver.onCompleted();
             }
         }
     }
 
-    public void putStreamObserver(String messageID, StreamObserver streamObserver) {
-        if (grpcServerConfigs.getServiceConfigs().isDefaultService()) {
-            streamObserverMap.put(messageID, streamObserver);
-        } else {
-            genericStreamObserverMap.put(messageID, streamObserver);
+    private Any toAny(Object responsePayload) {
+        try {
+            Method toByteString = AbstractMessageLite.class.getDeclaredMethod(GrpcConstants.TO_BYTE_STRING);
+            ByteString responseByteString = (ByteString) toByteString.invoke(responsePayload);
+            return Any.parseFrom(responseByteString);
+        } catch (NoSuchMethodException | IllegalAccessException | InvalidProtocolBufferException |
+                InvocationTargetException e) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid method" +
+                    " name provided in the url, provided method name: " + grpcServerConfigs.
+                    getServiceConfigs().getMethodName() + ", Expected one of these these methods: " +
+                    getRpcMethodList(grpcServerConfigs.getServiceConfigs(), siddhiAppName, streamID),
+                    e);
         }
     }
 
+    public void putStreamObserver(String messageID, StreamObserver<Event> streamObserver) {
+        streamObserverMap.put(messageID, streamObserver);
+    }
+
+    public void putGenericStreamObserver(String messageID, StreamObserver<Any> streamObserver) {
+        genericStreamObserverMap.put(messageID, streamObserver);
+    }
+
+    /**
+     * Register a request received on a bidirectional stream of the default service, whose response is written to
+     * the given stream, and return the message id of the request. The response is correlated with the request by
+     * the given id, or by the message id if the request does not have one.
+     */
+    public String putStreamRequest(ServiceResponseStream<Event> responseStream, String correlationId) {
+        String messageId = Long.toString(streamMessageIdGenerator.incrementAndGet());
+        String responseMessageId = correlationId == null ? messageId : correlationId;
+        putStreamRequest(new StreamRequest<>(messageId, responseStream,
+                responsePayload -> GrpcUtils.setPayload(Event.newBuilder(), responsePayload)
+                        .putHeaders(GrpcConstants.MESSAGE_ID, responseMessageId).build(),
+                () -> Event.newBuilder()
+                        .putHeaders(GrpcConstants.MESSAGE_ID, responseMessageId)
+                        .putHeaders(GrpcConstants.STATUS, Status.Code.DEADLINE_EXCEEDED.name()).build(),
+                siddhiAppContext.getTimestampGenerator().currentTime()));
+        return messageId;
+    }
+
+    /**
+     * Register a request received on a bidirectional stream of a generic service, whose response is written to
+     * the given stream, and return the message id of the request.
+     */
+    public String putGenericStreamRequest(ServiceResponseStream<Any> responseStream) {
+        String messageId = Long.toString(streamMessageIdGenerator.incrementAndGet());
+        putStreamRequest(new StreamRequest<>(messageId, responseStream, this::toAny, null,
+                siddhiAppContext.getTimestampGenerator().currentTime()));
+        return messageId;
+    }
+
+    private void putStreamRequest(StreamRequest<?> streamRequest) {
+        streamRequest.responseStream.requestReceived();
+        streamRequestMap.put(streamRequest.messageId, streamRequest);
+        streamRequestQueue.add(streamRequest);
+    }
+
     @Override
     public void destroy() {
+        timer.cancel();
         GrpcSourceRegistry.getInstance().removeGrpcServiceSource(sourceId);
     }
 
@@ -410,10 +549,78 @@ public class GrpcServiceSource extends AbstractGrpcSource {
                             e.getMessage(), e);
                 }
             }
-            StreamObserver streamObserver = streamObserverMap.remove(messageId);
+            StreamObserver<Event> streamObserver = streamObserverMap.remove(messageId);
             if (streamObserver != null) {
                 streamObserver.onError(new io.grpc.StatusRuntimeException(Status.DEADLINE_EXCEEDED));
             }
         }
     }
+
+    /**
+     * Request received on a bidirectional stream, waiting for its response.
+     *
+     * @param <T> the type of the responses of the stream
+     */
+    private static class StreamRequest<T> {
+        private final String messageId;
+        private final ServiceResponseStream<T> responseStream;
+        private final Function<Object, T> responseBuilder;
+        private final Supplier<T> timeoutResponseBuilder;
+        private final long receivedTime;
+
+        /**
+         * @param responseBuilder        builds the response to write from the payload published for the request
+         * @param timeoutResponseBuilder builds the response to write when the request times out, or null if
+         *                               nothing is written for a timed out request
+         */
+        StreamRequest(String messageId, ServiceResponseStream<T> responseStream,
+                      Function<Object, T> responseBuilder, Supplier<T> timeoutResponseBuilder, long receivedTime) {
+            this.messageId = messageId;
+            this.responseStream = responseStream;
+            this.responseBuilder = responseBuilder;
+            this.timeoutResponseBuilder = timeoutResponseBuilder;
+            this.receivedTime = receivedTime;
+        }
+
+        void respond(Object responsePayload) {
+            responseStream.respond(responseBuilder.apply(responsePayload));
+        }
+
+        /**
+         * Answer the timed out request, and return whether a response was written for it.
+         */
+        boolean timeOut() {
+            if (timeoutResponseBuilder == null) {
+                responseStream.dropResponse();
+                return false;
+            }
+            responseStream.respond(timeoutResponseBuilder.get());
+            return true;
+        }
+    }
+
+    /**
+     * Times out the requests received on bidirectional streams in the order they are received. A timed out request
+     * of the default service is answered with an event having the DEADLINE_EXCEEDED status header, so that the
+     * stream carries on with the other requests, while there is no response to a timed out request of a generic
+     * service.
+     */
+    class StreamRequestTimeoutChecker extends TimerTask {
+
+        @Override
+        public void run() {
+            long timedOutTime = siddhiAppContext.getTimestampGenerator().currentTime() - serviceTimeout;
+            StreamRequest<?> streamRequest;
+            while ((streamRequest = streamRequestQueue.peek()) != null && streamRequest.receivedTime <= timedOutTime) {
+                streamRequestQueue.poll();
+                if (!streamRequestMap.remove(streamRequest.messageId, streamRequest)) {
+                    continue;
+                }
+                if (!streamRequest.timeOut() && logger.isDebugEnabled()) {
+                    logger.debug(siddhiAppName + ":" + streamID + ": No response to the request with " +
+                            "message.id " + streamRequest.messageId + " within " + serviceTimeout + " ms");
+                }
+            }
+        }
+    }
 }
@@ -47,7 +47,13 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                 "EventService.proto). In the default mode this source will use EventService `consume` method. Please" +
                 " find the custom protobuf definition that uses in examples [here](https://github.com/siddhi-io/" +
                 "siddhi-io-grpc/tree/master/component/src/main/resources/sample.proto). This method will receive" +
-                " requests and injects them into stream through a mapper.",
+                " requests and injects them into stream through a mapper. Events of the default service sent " +
+                "with a `binary_payload` rather than a text `payload` are handed to the mapper as a byte[]. " +
+                "Columnar batches sent through `consumeColumnar` are decoded into events matching the stream " +
+                "attributes by position, and have to be received with the passThrough mapper. Native streams " +
+                "sent through `consumeNative` by grpc sinks with `format = 'native'` are matched with the stream " +
+                "definition by attribute name when they are opened, and their events are injected through the " +
+                "passThrough mapper without any conversion.",
         parameters = {
                 @Parameter(
                         name = "receiver.url",
@@ -58,12 +64,62 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.getRpcMethodList;
                                 "For example:\n" +
                                 "grpc://0.0.0.0:9763/org.wso2.grpc.EventService/consume",
                         type = {DataType.STRING}),
+                @Parameter(
+                        name = "transport",
+                        description = "The Netty transport of the server, 'nio' or 'epoll'. 'epoll' uses the " +
+                                "native transport of Linux, which makes fewer system calls than 'nio'. When this, " +
+                                "boss.threads or worker.threads is given, the server runs on event loop groups " +
+                                "shared by all gRPC servers and channels of the JVM with the same transport and " +
+                                "number of threads. Otherwise the gRPC default is used.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "nio"),
+                @Parameter(
+                        name = "boss.threads",
+                        description = "The number of threads of the shared event loop group accepting the " +
+                                "connections of the server.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1"),
+                @Parameter(
+                        name = "worker.threads",
+                        description = "The number of threads of the shared event loop group serving the " +
+                                "connections of the server. 0 uses twice the number of processor cores.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "0"),
+                @Parameter(
+                        name = "allocator.direct.arenas",
+                        description = "The number of direct memory arenas of the pooled buffer allocator of the " +
+                                "server. When this, 'allocator.chunk.size' or 'allocator.thread.local.cache' is " +
+                                "given the server allocates from a pooled direct allocator shared by all gRPC " +
+                                "servers and channels of the JVM with the same allocator options, and reports the " +
+                                "direct memory reserved by the allocator and held by live buffers as the " +
+                                "`direct.memory.used` and `direct.memory.pinned` metrics when statistics are " +
+                                "enabled. Otherwise the gRPC default allocator is used.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "twice the number of processor cores"),
+                @Parameter(
+                        name = "allocator.chunk.size",
+                        description = "The size in bytes of the chunks the arenas of the allocator reserve, a " +
+                                "power of two between the page size of 8192 and 134217728.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "16777216"),
+                @Parameter(
+                        name = "allocator.thread.local.cache",
+                        description = "Whether the threads of the allocator keep released buffers in thread local " +
+                                "caches for reuse. Without the caches buffers go back to their arenas when released.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "true"),
                 @Parameter(
                         name = "max.inbound.message.size",
                         description = "Sets the maximum message size in bytes allowed to be received on the server.",
                         type = {DataType.INT},
                         optional = true,
-                        defaultValue = "4194304"),
+                        defaultValue = "16777216"),
                 @Parameter(
                         name = "max.inbound.metadata.size",
                         description = "Sets the maximum size of metadata in bytes allowed to be received.",
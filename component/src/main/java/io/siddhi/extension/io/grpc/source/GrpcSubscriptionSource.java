@@ -0,0 +1,549 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.source;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContext;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.MetadataUtils;
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.exception.ConnectionUnavailableException;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.stream.ServiceDeploymentInfo;
+import io.siddhi.core.stream.input.source.Source;
+import io.siddhi.core.stream.input.source.SourceEventListener;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.core.util.transport.OptionHolder;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.extension.io.grpc.util.GrpcUtils;
+import io.siddhi.extension.io.grpc.util.KeyValueTemplate;
+import io.siddhi.extension.io.grpc.util.ServiceConfigs;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.grpc.Event;
+import org.wso2.grpc.EventServiceGrpc;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GrpcSubscriptionSource} Subscribes to the events of a remote gRPC server as a client, instead of
+ * listening for the events pushed by clients.
+ */
+@Extension(name = "grpc-subscription", namespace = "source",
+        description = "This extension connects to a remote gRPC server as a client and ingests the events the " +
+                "server streams back through the server-streaming `subscribe` method of `EventService`. Please " +
+                "find the proto definition [here](https://github.com/siddhi-io/siddhi-io-grpc/tree/master/" +
+                "component/src/main/resources/EventService.proto). The subscription is opened with an Event " +
+                "carrying the given headers, and no inbound port needs to be opened. The source asks the server " +
+                "for at most `request.size` events ahead of the ones it has injected, and stops asking while it is " +
+                "paused. Each event of the server carries its position in the stream in the `offset` header. When " +
+                "the stream is broken or ended by the server the source subscribes again with the `offset` header " +
+                "of the last event it injected, so that the server resumes after that event. The last offset is " +
+                "kept in the state of the Siddhi app, so that a restored app resumes from it as well.",
+        parameters = {
+                @Parameter(
+                        name = "publisher.url",
+                        description = "The url of the subscription in the following format. " +
+                                "`grpc://<host>:<port>/org.wso2.grpc.EventService/subscribe` or " +
+                                "`grpc://<host>:<port>/org.wso2.grpc.EventService/subscribe/<sequenceName>`, where " +
+                                "the sequence name is sent in the `sequence` header.",
+                        type = {DataType.STRING}),
+                @Parameter(
+                        name = "headers",
+                        description = "Headers of the subscription request in format " +
+                                "`\"'<key>:<value>','<key>:<value>'\"`, which tell the server the events to stream.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "metadata",
+                        description = "Metadata of the subscription call in format " +
+                                "`\"'<key>:<value>','<key>:<value>'\"`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "request.size",
+                        description = "The number of events the server may send ahead of the events injected by " +
+                                "the source. The source asks for another event each time it injects one.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "100"),
+                @Parameter(
+                        name = "start.offset",
+                        description = "The offset of the event after which the first subscription starts. By " +
+                                "default the server decides where a new subscription starts.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "stream.reconnect.initial.backoff.ms",
+                        description = "The time in milliseconds to wait before subscribing again after the stream " +
+                                "was broken by an error. The wait grows exponentially with each failed attempt and " +
+                                "is randomized by 20% so that sources do not reconnect in lockstep. It starts over " +
+                                "once an event is received.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "100"),
+                @Parameter(
+                        name = "stream.reconnect.max.backoff.ms",
+                        description = "The maximum time in milliseconds to wait between attempts to subscribe " +
+                                "again.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "30000"),
+                @Parameter(
+                        name = "truststore.file",
+                        description = "the file path of truststore. If this is provided then server authentication " +
+                                "is enabled",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "truststore.password",
+                        description = "the password of truststore. If this is provided then the integrity of the " +
+                                "keystore is checked",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "truststore.algorithm",
+                        description = "the encryption algorithm to be used for server authentication",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "tls.store.type",
+                        description = "TLS store type",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "keystore.file",
+                        description = "the file path of keystore. If this is provided then client authentication " +
+                                "is enabled",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "keystore.password",
+                        description = "the password of keystore",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "keystore.algorithm",
+                        description = "the encryption algorithm to be used for client authentication",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "-"),
+                @Parameter(
+                        name = "enable.ssl",
+                        description = "to enable ssl. If set to true and truststore.file is not given then it will " +
+                                "be set to default carbon jks by default",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "FALSE"),
+                @Parameter(
+                        name = "mutual.auth.enabled",
+                        description = "to enable mutual authentication. If set to true and truststore.file or " +
+                                "keystore.file is not given then it will be set to default carbon jks by default",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "FALSE"),
+        },
+        examples = {
+                @Example(syntax = "" +
+                        "@source(type='grpc-subscription',\n" +
+                        "       publisher.url='grpc://134.23.43.35:8080/org.wso2.grpc.EventService/subscribe',\n" +
+                        "       headers=\"'stream.id:StockStream'\", request.size='500',\n" +
+                        "       @map(type='json', @attributes(offset='trp:offset', symbol='symbol', " +
+                        "price='price')))\n" +
+                        "define stream FooStream (offset string, symbol string, price double);",
+                        description = "Here the source subscribes to the StockStream events of the gRPC server at " +
+                                "134.23.43.35:8080, letting the server send up to 500 events ahead of the ones " +
+                                "injected into FooStream. The offset of each event is injected through the " +
+                                "transport property offset."
+                )
+        }
+)
+public class GrpcSubscriptionSource extends Source<GrpcSubscriptionSource.SubscriptionState> {
+    private static final Logger logger = LogManager.getLogger(GrpcSubscriptionSource.class);
+    private static final double RECONNECT_BACKOFF_MULTIPLIER = 1.6;
+    private static final double RECONNECT_BACKOFF_JITTER = 0.2;
+    private SiddhiAppContext siddhiAppContext;
+    private String siddhiAppName;
+    private String streamID;
+    private SourceEventListener sourceEventListener;
+    private String[] requestedTransportPropertyNames;
+    private ServiceConfigs serviceConfigs;
+    private NettyChannelBuilder channelBuilder;
+    private Map<String, String> headersMap;
+    private KeyValueTemplate metadataTemplate;
+    private int requestSize;
+    private long reconnectInitialBackoffMillis;
+    private long reconnectMaxBackoffMillis;
+    private long reconnectBackoffMillis;
+    private final Object subscriptionLock = new Object();
+    private ManagedChannel channel;
+    private EventServiceGrpc.EventServiceStub stub;
+    private SubscriptionObserver subscriptionObserver;
+    private SubscriptionState subscriptionState;
+    private boolean paused;
+    private int deferredRequests;
+
+    @Override
+    protected ServiceDeploymentInfo exposeServiceDeploymentInfo() {
+        return null;
+    }
+
+    /**
+     * The initialization method for {@link Source}, will be called before other methods. It used to validate
+     * all configurations and to get initial values.
+     * @param sourceEventListener After receiving events, the source should trigger onEvent() of this listener.
+     *                            Listener will then pass on the events to the appropriate mappers for processing .
+     * @param optionHolder        Option holder containing static configuration related to the {@link Source}
+     * @param configReader        ConfigReader is used to read the {@link Source} related system configuration.
+     * @param siddhiAppContext    the context of the {@link io.siddhi.query.api.SiddhiApp} used to get Siddhi
+     */
+    @Override
+    public StateFactory<SubscriptionState> init(SourceEventListener sourceEventListener, OptionHolder optionHolder,
+                                                String[] requestedTransportPropertyNames,
+                                                ConfigReader configReader, SiddhiAppContext siddhiAppContext) {
+        this.siddhiAppContext = siddhiAppContext;
+        this.siddhiAppName = siddhiAppContext.getName();
+        this.streamID = sourceEventListener.getStreamDefinition().getId();
+        this.sourceEventListener = sourceEventListener;
+        this.requestedTransportPropertyNames = requestedTransportPropertyNames.clone();
+        // the source is the client of the subscription, so the stores are read like those of the sinks
+        this.serviceConfigs = new ServiceConfigs(optionHolder, siddhiAppContext, streamID, configReader, false);
+        if (!serviceConfigs.isDefaultService() || !GrpcConstants.DEFAULT_SUBSCRIBE_METHOD_NAME.equals(
+                serviceConfigs.getMethodName())) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": grpc-subscription source " +
+                    "subscribes through " + GrpcConstants.DEFAULT_FULLY_QUALIFIED_SERVICE_NAME + "/" +
+                    GrpcConstants.DEFAULT_SUBSCRIBE_METHOD_NAME + " but the provided url is " +
+                    serviceConfigs.getUrl());
+        }
+        if (serviceConfigs.getEndpoints().size() > 1) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": publisher.url of " +
+                    "grpc-subscription source should contain a single host and port but the provided url is " +
+                    serviceConfigs.getUrl());
+        }
+        this.headersMap = new HashMap<>();
+        if (optionHolder.isOptionExists(GrpcConstants.HEADERS)) {
+            headersMap.putAll(getStaticTemplate(optionHolder, GrpcConstants.HEADERS).toMap(null));
+        }
+        if (serviceConfigs.getSequenceName() != null) {
+            headersMap.put(GrpcConstants.SEQUENCE_HEADER_KEY, serviceConfigs.getSequenceName());
+        }
+        if (optionHolder.isOptionExists(GrpcConstants.METADATA)) {
+            this.metadataTemplate = getStaticTemplate(optionHolder, GrpcConstants.METADATA);
+        }
+        this.requestSize = Integer.parseInt(optionHolder.getOrCreateOption(GrpcConstants.SUBSCRIPTION_REQUEST_SIZE,
+                GrpcConstants.SUBSCRIPTION_REQUEST_SIZE_DEFAULT).getValue());
+        if (requestSize < 1) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                    GrpcConstants.SUBSCRIPTION_REQUEST_SIZE + " should be at least 1 but given " + requestSize);
+        }
+        this.reconnectInitialBackoffMillis = Long.parseLong(optionHolder.getOrCreateOption(
+                GrpcConstants.STREAM_RECONNECT_INITIAL_BACKOFF_MILLIS,
+                GrpcConstants.STREAM_RECONNECT_INITIAL_BACKOFF_MILLIS_DEFAULT).getValue());
+        this.reconnectMaxBackoffMillis = Long.parseLong(optionHolder.getOrCreateOption(
+                GrpcConstants.STREAM_RECONNECT_MAX_BACKOFF_MILLIS,
+                GrpcConstants.STREAM_RECONNECT_MAX_BACKOFF_MILLIS_DEFAULT).getValue());
+        if (reconnectInitialBackoffMillis <= 0 || reconnectMaxBackoffMillis < reconnectInitialBackoffMillis) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                    GrpcConstants.STREAM_RECONNECT_INITIAL_BACKOFF_MILLIS + " should be positive and not greater " +
+                    "than " + GrpcConstants.STREAM_RECONNECT_MAX_BACKOFF_MILLIS);
+        }
+        String startOffset = optionHolder.isOptionExists(GrpcConstants.SUBSCRIPTION_START_OFFSET) ?
+                optionHolder.validateAndGetOption(GrpcConstants.SUBSCRIPTION_START_OFFSET).getValue() : null;
+
+        channelBuilder = NettyChannelBuilder.forTarget(serviceConfigs.getHostPort());
+        SslContext sslContext = GrpcUtils.createClientSslContext(serviceConfigs, siddhiAppName, streamID);
+        if (sslContext != null) {
+            channelBuilder.sslContext(sslContext);
+        } else {
+            channelBuilder.usePlaintext();
+        }
+        return () -> new SubscriptionState(startOffset);
+    }
+
+    private KeyValueTemplate getStaticTemplate(OptionHolder optionHolder, String optionName) {
+        KeyValueTemplate template = new KeyValueTemplate(optionHolder.validateAndGetOption(optionName),
+                sourceEventListener.getStreamDefinition(), siddhiAppName, streamID);
+        if (!template.isStatic()) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " + optionName + " of " +
+                    "grpc-subscription source should not refer to attributes");
+        }
+        return template;
+    }
+
+    /**
+     * Returns the list of classes which this source can output.
+     *
+     * @return Array of classes that will be output by the source.
+     * Null or empty array if it can produce any type of class.
+     */
+    @Override
+    public Class[] getOutputEventClasses() {
+        return new Class[]{String.class, byte[].class};
+    }
+
+    @Override
+    public void connect(ConnectionCallback connectionCallback, SubscriptionState state)
+            throws ConnectionUnavailableException {
+        synchronized (subscriptionLock) {
+            this.subscriptionState = state;
+            this.reconnectBackoffMillis = reconnectInitialBackoffMillis;
+            this.channel = channelBuilder.build();
+            EventServiceGrpc.EventServiceStub eventServiceStub = EventServiceGrpc.newStub(channel);
+            if (metadataTemplate != null) {
+                eventServiceStub = eventServiceStub.withInterceptors(
+                        MetadataUtils.newAttachHeadersInterceptor(metadataTemplate.toMetadata(null)));
+            }
+            this.stub = eventServiceStub;
+            subscribe();
+        }
+    }
+
+    /**
+     * Open the subscription, resuming after the last offset injected if any.
+     */
+    private void subscribe() {
+        synchronized (subscriptionLock) {
+            if (channel == null) {
+                return;
+            }
+            Event.Builder request = Event.newBuilder().putAllHeaders(headersMap);
+            String lastOffset = subscriptionState.lastOffset;
+            if (lastOffset != null) {
+                request.putHeaders(GrpcConstants.SUBSCRIPTION_OFFSET, lastOffset);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug(siddhiAppName + ":" + streamID + ": Subscribing to " + serviceConfigs.getUrl() +
+                        (lastOffset == null ? "" : " after offset " + lastOffset));
+            }
+            subscriptionObserver = new SubscriptionObserver();
+            deferredRequests = 0;
+            stub.subscribe(request.build(), subscriptionObserver);
+        }
+    }
+
+    /**
+     * Replace the failed or ended subscription after a jittered exponential backoff, unless the source has been
+     * disconnected meanwhile.
+     */
+    private void scheduleResubscribe(SubscriptionObserver failedObserver) {
+        long delay;
+        synchronized (subscriptionLock) {
+            long backoff = reconnectBackoffMillis;
+            delay = (long) (backoff * (1 + RECONNECT_BACKOFF_JITTER * ThreadLocalRandom.current().nextDouble(-1,
+                    1)));
+            reconnectBackoffMillis = Math.min((long) (backoff * RECONNECT_BACKOFF_MULTIPLIER),
+                    reconnectMaxBackoffMillis);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug(siddhiAppName + ":" + streamID + ": Subscribing again to " + serviceConfigs.getUrl() +
+                    " in " + delay + " ms");
+        }
+        siddhiAppContext.getScheduledExecutorService().schedule(() -> {
+            synchronized (subscriptionLock) {
+                if (subscriptionObserver == failedObserver) {
+                    subscribe();
+                }
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * This method can be called when it is needed to disconnect from the end point.
+     */
+    @Override
+    public void disconnect() {
+        SubscriptionObserver currentObserver;
+        ManagedChannel currentChannel;
+        // the call is cancelled and the channel is shut down outside the lock, which the observers of the call take
+        synchronized (subscriptionLock) {
+            currentObserver = subscriptionObserver;
+            currentChannel = channel;
+            subscriptionObserver = null;
+            channel = null;
+        }
+        if (currentObserver != null) {
+            currentObserver.cancel();
+        }
+        if (currentChannel != null) {
+            currentChannel.shutdown();
+            try {
+                if (!currentChannel.awaitTermination(5, TimeUnit.SECONDS)) {
+                    currentChannel.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                currentChannel.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Called at the end to clean all the resources consumed by the {@link Source}.
+     */
+    @Override
+    public void destroy() {
+
+    }
+
+    /**
+     * Called to pause event consumption. The server is not asked for more events until the source is resumed.
+     */
+    @Override
+    public void pause() {
+        synchronized (subscriptionLock) {
+            paused = true;
+        }
+    }
+
+    /**
+     * Called to resume event consumption.
+     */
+    @Override
+    public void resume() {
+        synchronized (subscriptionLock) {
+            paused = false;
+            if (subscriptionObserver != null && deferredRequests > 0) {
+                subscriptionObserver.request(deferredRequests);
+            }
+            deferredRequests = 0;
+        }
+    }
+
+    /**
+     * Observer of one subscription call. The observers of the calls replaced by a new subscription ignore what is
+     * left of their calls.
+     */
+    private class SubscriptionObserver implements ClientResponseObserver<Event, Event> {
+        private ClientCallStreamObserver<Event> requestStream;
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<Event> requestStream) {
+            this.requestStream = requestStream;
+            requestStream.disableAutoRequestWithInitial(requestSize);
+        }
+
+        @Override
+        public void onNext(Event event) {
+            String offset = event.getHeadersMap().get(GrpcConstants.SUBSCRIPTION_OFFSET);
+            try {
+                sourceEventListener.onEvent(GrpcUtils.getPayload(event), GrpcUtils.extractHeaders(
+                        event.getHeadersMap(), Collections.emptyMap(), requestedTransportPropertyNames));
+            } catch (SiddhiAppRuntimeException e) {
+                logger.error(siddhiAppName + ":" + streamID + ": Dropping event" + (offset == null ? "" :
+                        " with offset " + offset) + ". " + e.getMessage());
+            }
+            synchronized (subscriptionLock) {
+                if (subscriptionObserver != this) {
+                    return;
+                }
+                if (offset != null) {
+                    subscriptionState.lastOffset = offset;
+                }
+                reconnectBackoffMillis = reconnectInitialBackoffMillis;
+                if (paused) {
+                    deferredRequests++;
+                } else {
+                    requestStream.request(1);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (subscriptionLock) {
+                if (subscriptionObserver != this) {
+                    return;
+                }
+            }
+            logger.error(siddhiAppName + ":" + streamID + ": Subscription to " + serviceConfigs.getUrl() +
+                    " failed with " + Status.fromThrowable(t));
+            scheduleResubscribe(this);
+        }
+
+        @Override
+        public void onCompleted() {
+            synchronized (subscriptionLock) {
+                if (subscriptionObserver != this) {
+                    return;
+                }
+            }
+            logger.info(siddhiAppName + ":" + streamID + ": Subscription to " + serviceConfigs.getUrl() +
+                    " ended by the server");
+            scheduleResubscribe(this);
+        }
+
+        void request(int count) {
+            requestStream.request(count);
+        }
+
+        void cancel() {
+            requestStream.cancel("Source disconnected", null);
+        }
+    }
+
+    /**
+     * State of the subscription, which holds the offset of the last event injected.
+     */
+    public static class SubscriptionState extends State {
+        private volatile String lastOffset;
+
+        SubscriptionState(String lastOffset) {
+            this.lastOffset = lastOffset;
+        }
+
+        @Override
+        public boolean canDestroy() {
+            return false;
+        }
+
+        @Override
+        public Map<String, Object> snapshot() {
+            Map<String, Object> state = new HashMap<>();
+            state.put(GrpcConstants.SUBSCRIPTION_OFFSET, lastOffset);
+            return state;
+        }
+
+        @Override
+        public void restore(Map<String, Object> state) {
+            lastOffset = (String) state.get(GrpcConstants.SUBSCRIPTION_OFFSET);
+        }
+    }
+}
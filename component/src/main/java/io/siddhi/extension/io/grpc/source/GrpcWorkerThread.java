@@ -18,6 +18,9 @@
 package io.siddhi.extension.io.grpc.source;
 
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.extension.io.grpc.util.NativeEventCodec;
+import org.wso2.grpc.ColumnarBatch;
+import org.wso2.grpc.NativeEvents;
 
 import java.util.Map;
 
@@ -29,6 +32,10 @@ import static io.siddhi.extension.io.grpc.util.GrpcUtils.extractHeaders;
 public class GrpcWorkerThread implements Runnable {
     private AbstractGrpcSource relevantSource;
     private Object payload;
+    private LazyEvent event;
+    private ColumnarBatch columnarBatch;
+    private NativeEvents nativeEvents;
+    private NativeEventCodec nativeCodec;
     private Map<String, String> headers;
     private Map<String, String> metaData;
 
@@ -48,12 +55,56 @@ public class GrpcWorkerThread implements Runnable {
         this.metaData = metaData;
     }
 
+    /**
+     * Hand over a request read as a {@link LazyEvent}, whose payload is decoded on the worker thread.
+     */
+    public GrpcWorkerThread(AbstractGrpcSource relevantSource, LazyEvent event, Map<String, String> headers,
+                            Map<String, String> metaData) {
+        this.relevantSource = relevantSource;
+        this.event = event;
+        this.headers = headers;
+        this.metaData = metaData;
+    }
+
+    /**
+     * Hand over a columnar batch, whose rows are decoded into events on the worker thread.
+     */
+    public GrpcWorkerThread(AbstractGrpcSource relevantSource, ColumnarBatch columnarBatch,
+                            Map<String, String> headers, Map<String, String> metaData) {
+        this.relevantSource = relevantSource;
+        this.columnarBatch = columnarBatch;
+        this.headers = headers;
+        this.metaData = metaData;
+    }
+
+    /**
+     * Hand over the rows of a native stream, which are decoded into events on the worker thread with the codec
+     * negotiated when the stream was opened.
+     */
+    public GrpcWorkerThread(AbstractGrpcSource relevantSource, NativeEvents nativeEvents, NativeEventCodec nativeCodec,
+                            Map<String, String> metaData) {
+        this.relevantSource = relevantSource;
+        this.nativeEvents = nativeEvents;
+        this.nativeCodec = nativeCodec;
+        this.metaData = metaData;
+    }
+
     @Override
     public void run() {
         try {
             String[] headersArray = extractHeaders(headers, metaData, relevantSource
                     .getRequestedTransportPropertyNames());
-            relevantSource.handleInjection(payload, headersArray);
+            if (columnarBatch != null) {
+                relevantSource.handleInjection(ColumnarBatchDecoder.decode(columnarBatch,
+                        relevantSource.getStreamDefinition()), headersArray);
+                return;
+            }
+            if (nativeEvents != null) {
+                relevantSource.handleInjection(nativeCodec.decode(nativeEvents), headersArray);
+                return;
+            }
+            relevantSource.handleInjection(event == null ? payload : event.hasBinaryPayload() ?
+                    event.getBinaryPayload() : event.getPayload(), headersArray);
         } catch (SiddhiAppRuntimeException e) {
             relevantSource.logError("Dropping request. " + e.getMessage());
         }
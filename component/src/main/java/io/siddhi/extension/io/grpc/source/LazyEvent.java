@@ -0,0 +1,224 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.source;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * View of an encoded {@link org.wso2.grpc.Event} which reads its fields straight from the received bytes. Parsing
+ * only records where the payload and each header are, so looking up a header compares bytes without decoding the
+ * other headers, and the payload is decoded into a String only when the mapper asks for it. Built by
+ * {@link LazyEventMarshaller}.
+ */
+public class LazyEvent {
+    // tags of the length delimited fields, the field number shifted left by 3 ORed with the wire type 2
+    private static final int PAYLOAD_TAG = 1 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int HEADERS_TAG = 2 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int BINARY_PAYLOAD_TAG = 3 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int MAP_KEY_TAG = 1 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int MAP_VALUE_TAG = 2 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+    private int payloadOffset;
+    private int payloadLength;
+    private boolean binaryPayload;
+    private int[] headerPositions = new int[0];
+    private int numHeaders;
+    private String payload;
+    private Map<String, String> headersMap;
+
+    /**
+     * Index the fields of an encoded Event. Fields other than the payload and the headers are skipped.
+     *
+     * @throws IOException if the bytes are not a valid encoding of an Event
+     */
+    public LazyEvent(byte[] buffer, int offset, int length) throws IOException {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        CodedInputStream input = CodedInputStream.newInstance(buffer, offset, length);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (tag == PAYLOAD_TAG || tag == BINARY_PAYLOAD_TAG) {
+                // payload and binary_payload are a oneof, so the last of them wins
+                binaryPayload = tag == BINARY_PAYLOAD_TAG;
+                payloadLength = input.readRawVarint32();
+                payloadOffset = offset + input.getTotalBytesRead();
+                input.skipRawBytes(payloadLength);
+            } else if (tag == HEADERS_TAG) {
+                int entryLimit = input.pushLimit(input.readRawVarint32());
+                indexHeader(input);
+                input.popLimit(entryLimit);
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Record the key and value positions of a header map entry. A missing key or value is empty, as in protobuf.
+     */
+    private void indexHeader(CodedInputStream input) throws IOException {
+        int keyOffset = 0;
+        int keyLength = 0;
+        int valueOffset = 0;
+        int valueLength = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (tag == MAP_KEY_TAG) {
+                keyLength = input.readRawVarint32();
+                keyOffset = offset + input.getTotalBytesRead();
+                input.skipRawBytes(keyLength);
+            } else if (tag == MAP_VALUE_TAG) {
+                valueLength = input.readRawVarint32();
+                valueOffset = offset + input.getTotalBytesRead();
+                input.skipRawBytes(valueLength);
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+        if (headerPositions.length < (numHeaders + 1) * 4) {
+            headerPositions = Arrays.copyOf(headerPositions, Math.max(8, headerPositions.length * 2));
+        }
+        int position = numHeaders * 4;
+        headerPositions[position] = keyOffset;
+        headerPositions[position + 1] = keyLength;
+        headerPositions[position + 2] = valueOffset;
+        headerPositions[position + 3] = valueLength;
+        numHeaders++;
+    }
+
+    /**
+     * Returns whether the payload was sent in the binary_payload field rather than as text.
+     */
+    public boolean hasBinaryPayload() {
+        return binaryPayload;
+    }
+
+    /**
+     * Returns the binary payload as the byte[] a binary mapper takes.
+     */
+    public byte[] getBinaryPayload() {
+        return Arrays.copyOfRange(buffer, payloadOffset, payloadOffset + payloadLength);
+    }
+
+    /**
+     * Returns the text payload, decoding it on the first call.
+     */
+    public String getPayload() {
+        if (payload == null) {
+            payload = new String(buffer, payloadOffset, payloadLength, StandardCharsets.UTF_8);
+        }
+        return payload;
+    }
+
+    /**
+     * Returns the encoded text or binary payload as a slice of the received bytes, without copying them.
+     */
+    public ByteString getPayloadBytes() {
+        return UnsafeByteOperations.unsafeWrap(buffer, payloadOffset, payloadLength);
+    }
+
+    /**
+     * Returns the value of a header, or null if the event does not have it. The header is found by comparing the
+     * encoded key with the received bytes. As in a protobuf map, the last entry of a repeated key wins.
+     */
+    public String getHeader(String key) {
+        byte[] encodedKey = key.getBytes(StandardCharsets.UTF_8);
+        for (int i = numHeaders - 1; i >= 0; i--) {
+            int position = i * 4;
+            if (headerPositions[position + 1] == encodedKey.length && regionMatches(headerPositions[position],
+                    encodedKey)) {
+                return new String(buffer, headerPositions[position + 2], headerPositions[position + 3],
+                        StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private boolean regionMatches(int keyOffset, byte[] encodedKey) {
+        for (int i = 0; i < encodedKey.length; i++) {
+            if (buffer[keyOffset + i] != encodedKey[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the headers as a map whose lookups go through {@link #getHeader(String)}. All headers are decoded
+     * only when the map is iterated.
+     */
+    public Map<String, String> getHeadersMap() {
+        return new AbstractMap<String, String>() {
+            @Override
+            public String get(Object key) {
+                return key instanceof String ? getHeader((String) key) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return get(key) != null;
+            }
+
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                return decodeHeaders().entrySet();
+            }
+        };
+    }
+
+    private Map<String, String> decodeHeaders() {
+        if (headersMap == null) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 0; i < numHeaders; i++) {
+                int position = i * 4;
+                headers.put(new String(buffer, headerPositions[position], headerPositions[position + 1],
+                        StandardCharsets.UTF_8), new String(buffer, headerPositions[position + 2],
+                        headerPositions[position + 3], StandardCharsets.UTF_8));
+            }
+            headersMap = headers;
+        }
+        return headersMap;
+    }
+
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    int getLength() {
+        return length;
+    }
+}
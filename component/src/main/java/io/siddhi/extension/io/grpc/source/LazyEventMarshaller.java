@@ -0,0 +1,100 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.source;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Marshaller reading the Event requests of the default EventService as {@link LazyEvent}s. A frame of known
+ * length is read into an array of exactly its size with a single copy, and the event is indexed in place rather
+ * than parsed into protobuf objects.
+ */
+public class LazyEventMarshaller implements MethodDescriptor.Marshaller<LazyEvent> {
+    public static final LazyEventMarshaller INSTANCE = new LazyEventMarshaller();
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private LazyEventMarshaller() {
+    }
+
+    @Override
+    public InputStream stream(LazyEvent value) {
+        return new EventInputStream(value.getBuffer(), value.getOffset(), value.getLength());
+    }
+
+    @Override
+    public LazyEvent parse(InputStream stream) {
+        try {
+            byte[] buffer;
+            int length;
+            if (stream instanceof KnownLength) {
+                buffer = new byte[stream.available()];
+                length = readFully(stream, buffer);
+            } else {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
+                length = 0;
+                int read;
+                while ((read = stream.read(buffer, length, buffer.length - length)) != -1) {
+                    length += read;
+                    if (length == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                }
+            }
+            return new LazyEvent(buffer, 0, length);
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e)
+                    .asRuntimeException();
+        }
+    }
+
+    private static int readFully(InputStream stream, byte[] buffer) throws IOException {
+        int length = 0;
+        int read;
+        while (length < buffer.length && (read = stream.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+        }
+        return length;
+    }
+
+    /**
+     * Stream of the bytes of an event which writes them straight to the transport when drained.
+     */
+    private static class EventInputStream extends ByteArrayInputStream implements Drainable, KnownLength {
+
+        private EventInputStream(byte[] buffer, int offset, int length) {
+            super(buffer, offset, length);
+        }
+
+        @Override
+        public synchronized int drainTo(OutputStream target) throws IOException {
+            int length = count - pos;
+            target.write(buf, pos, length);
+            pos = count;
+            return length;
+        }
+    }
+}
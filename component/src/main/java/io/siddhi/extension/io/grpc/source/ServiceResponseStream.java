@@ -0,0 +1,99 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.source;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Response side of a bidirectional streaming call served by a grpc-service source. The responses published by
+ * grpc-service-response sinks for the requests of the call are written to the one stream in the order they are
+ * published, and the stream is completed once the client has completed its requests and each of them has been
+ * answered or has timed out.
+ *
+ * @param <T> the type of the responses
+ */
+public class ServiceResponseStream<T> {
+    private final StreamObserver<T> responseObserver;
+    private int pendingResponses;
+    private boolean requestsCompleted;
+    private boolean closed;
+
+    public ServiceResponseStream(StreamObserver<T> responseObserver) {
+        this.responseObserver = responseObserver;
+    }
+
+    synchronized void requestReceived() {
+        pendingResponses++;
+    }
+
+    /**
+     * Write the response to a request of the stream, or drop it if the stream is already closed.
+     */
+    synchronized void respond(T response) {
+        if (!closed) {
+            responseObserver.onNext(response);
+        }
+        responseDone();
+    }
+
+    /**
+     * Give up the response to a request of the stream without writing anything.
+     */
+    synchronized void dropResponse() {
+        responseDone();
+    }
+
+    private void responseDone() {
+        pendingResponses--;
+        completeIfDone();
+    }
+
+    /**
+     * Called when the client has completed its requests.
+     */
+    public synchronized void completeRequests() {
+        requestsCompleted = true;
+        completeIfDone();
+    }
+
+    private void completeIfDone() {
+        if (requestsCompleted && pendingResponses == 0 && !closed) {
+            closed = true;
+            responseObserver.onCompleted();
+        }
+    }
+
+    /**
+     * Called when the client has cancelled the call, after which pending responses are dropped.
+     */
+    public synchronized void cancel() {
+        closed = true;
+    }
+
+    /**
+     * Close the stream with the given status, dropping the pending responses.
+     */
+    public synchronized void fail(Status status) {
+        if (!closed) {
+            closed = true;
+            responseObserver.onError(new StatusRuntimeException(status));
+        }
+    }
+}
@@ -17,8 +17,16 @@
  */
 package io.siddhi.extension.io.grpc.source;
 
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
+import io.grpc.netty.shaded.io.netty.channel.ChannelOption;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
 import io.grpc.netty.shaded.io.netty.handler.ssl.SslContextBuilder;
 import io.siddhi.core.stream.input.source.Source;
+import io.siddhi.extension.io.grpc.util.GrpcByteBufAllocators;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.extension.io.grpc.util.GrpcEventLoopGroups;
+import io.siddhi.extension.io.grpc.util.GrpcServerConfigs;
 import org.apache.logging.log4j.Logger;
 
 import java.security.KeyStoreException;
@@ -37,6 +45,10 @@ public abstract class ServiceServer {
     protected ReentrantLock lock;
     protected Condition condition;
 
+    private EventLoopGroup bossEventLoopGroup;
+    private EventLoopGroup workerEventLoopGroup;
+    private volatile PooledByteBufAllocator byteBufAllocator;
+
     protected abstract void setServerPropertiesToBuilder(String siddhiAppName, String streamID);
     protected abstract void addServicesAndBuildServer(String siddhiAppName, String streamID);
     protected abstract void connectServer(Logger logger, Source.ConnectionCallback connectionCallback,
@@ -54,6 +66,58 @@ public abstract class ServiceServer {
             throws NoSuchAlgorithmException, KeyStoreException, CertificateException;
 
 
+    /**
+     * Make the server use the shared event loop groups of the configured transport, if one is configured. The
+     * groups are held until {@link #releaseEventLoopGroups()}.
+     */
+    protected void setEventLoopGroupsToBuilder(NettyServerBuilder serverBuilder, GrpcServerConfigs serverConfigs) {
+        if (serverConfigs.getTransport() == null) {
+            return;
+        }
+        bossEventLoopGroup = GrpcEventLoopGroups.getInstance().acquire(serverConfigs.getTransport(),
+                GrpcConstants.EVENT_LOOP_ROLE_BOSS, serverConfigs.getBossThreads());
+        workerEventLoopGroup = GrpcEventLoopGroups.getInstance().acquire(serverConfigs.getTransport(),
+                GrpcConstants.EVENT_LOOP_ROLE_WORKER, serverConfigs.getWorkerThreads());
+        serverBuilder.bossEventLoopGroup(bossEventLoopGroup).workerEventLoopGroup(workerEventLoopGroup)
+                .channelType(serverConfigs.getTransport().getServerChannelType());
+    }
+
+    protected void releaseEventLoopGroups() {
+        if (bossEventLoopGroup != null) {
+            GrpcEventLoopGroups.getInstance().release(bossEventLoopGroup);
+            GrpcEventLoopGroups.getInstance().release(workerEventLoopGroup);
+            bossEventLoopGroup = null;
+            workerEventLoopGroup = null;
+        }
+    }
+
+    /**
+     * Make the server and its connections allocate from the shared pooled allocator of the configured allocator
+     * options, if any. The allocator is held until {@link #releaseByteBufAllocator()}.
+     */
+    protected void setByteBufAllocatorToBuilder(NettyServerBuilder serverBuilder, GrpcServerConfigs serverConfigs) {
+        if (serverConfigs.getAllocatorConfig() == null) {
+            return;
+        }
+        byteBufAllocator = GrpcByteBufAllocators.getInstance().acquire(serverConfigs.getAllocatorConfig());
+        serverBuilder.withOption(ChannelOption.ALLOCATOR, byteBufAllocator)
+                .withChildOption(ChannelOption.ALLOCATOR, byteBufAllocator);
+    }
+
+    protected void releaseByteBufAllocator() {
+        if (byteBufAllocator != null) {
+            GrpcByteBufAllocators.getInstance().release(byteBufAllocator);
+            byteBufAllocator = null;
+        }
+    }
+
+    /**
+     * Returns the pooled allocator of the server, or null if it uses the gRPC default allocator.
+     */
+    public PooledByteBufAllocator getByteBufAllocator() {
+        return byteBufAllocator;
+    }
+
     /**
      * Pause the execution.
      */
@@ -21,10 +21,12 @@ import com.google.protobuf.Any;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.Empty;
 import io.grpc.MethodDescriptor;
+import io.grpc.ServerCallHandler;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.ServiceDescriptor;
 
 import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
 import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
 import static io.grpc.stub.ServerCalls.asyncUnaryCall;
 import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
@@ -37,6 +39,7 @@ import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
 public class GenericService {
     private static volatile String serviceName = "";
     private static volatile String nonEmptyResponseMethodName = "nonEmptyResponse";
+    private static volatile MethodDescriptor.MethodType nonEmptyResponseMethodType = MethodDescriptor.MethodType.UNARY;
     private static volatile String emptyResponseMethodName = "emptyResponse";
     private static volatile String clientStreamMethodName = "clientStreaming";
     private static volatile MethodDescriptor<Any, Empty> emptyResponseHandle;
@@ -51,6 +54,10 @@ public class GenericService {
         GenericService.nonEmptyResponseMethodName = nonEmptyResponseMethodName;
     }
 
+    public static void setNonEmptyResponseMethodType(MethodDescriptor.MethodType nonEmptyResponseMethodType) {
+        GenericService.nonEmptyResponseMethodType = nonEmptyResponseMethodType;
+    }
+
     public static void setEmptyResponseMethodName(String emptyResponseMethodName) {
         GenericService.emptyResponseMethodName = emptyResponseMethodName;
     }
@@ -107,14 +114,16 @@ public class GenericService {
             Any> getHandleNonEmptyResponse() {
         io.grpc.MethodDescriptor<Any, Any> responseMethod;
         if ((responseMethod = GenericService.nonEmptyResponseHandle) == null ||
-                !(responseMethod.getFullMethodName().equals(serviceName + "/" + nonEmptyResponseMethodName))) {
+                !(responseMethod.getFullMethodName().equals(serviceName + "/" + nonEmptyResponseMethodName)) ||
+                responseMethod.getType() != nonEmptyResponseMethodType) {
             synchronized (GenericService.class) {
                 nonEmptyResponseHandle = null;
                 if ((responseMethod = GenericService.nonEmptyResponseHandle) == null ||
-                        !(responseMethod.getFullMethodName().equals(serviceName + "/" + nonEmptyResponseMethodName))) {
+                        !(responseMethod.getFullMethodName().equals(serviceName + "/" + nonEmptyResponseMethodName)) ||
+                        responseMethod.getType() != nonEmptyResponseMethodType) {
                     GenericService.nonEmptyResponseHandle = responseMethod =
                             io.grpc.MethodDescriptor.<Any, Any>newBuilder()
-                                    .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+                                    .setType(nonEmptyResponseMethodType)
                                     .setFullMethodName(generateFullMethodName(
                                             serviceName, nonEmptyResponseMethodName))
                                     .setSampledToLocalTracing(true)
@@ -229,6 +238,9 @@ public class GenericService {
         public io.grpc.stub.StreamObserver<Req> invoke(
                 io.grpc.stub.StreamObserver<Resp> responseObserver) {
             switch (methodId) {
+                case GrpcConstants.NON_EMPTY_METHOD_ID:
+                    return (io.grpc.stub.StreamObserver<Req>) serviceImpl.handleNonEmptyResponseStream(
+                            (io.grpc.stub.StreamObserver<Any>) responseObserver);
                 case GrpcConstants.CLIENT_STREAM_METHOD_ID:
                     return (io.grpc.stub.StreamObserver<Req>) serviceImpl.clientStream(
                             (io.grpc.stub.StreamObserver<Empty>) responseObserver);
@@ -251,6 +263,11 @@ public class GenericService {
             asyncUnimplementedUnaryCall(getHandleNonEmptyResponse(), responseObserver);
         }
 
+        public io.grpc.stub.StreamObserver<Any> handleNonEmptyResponseStream(
+                io.grpc.stub.StreamObserver<Any> responseObserver) {
+            return asyncUnimplementedStreamingCall(getHandleNonEmptyResponse(), responseObserver);
+        }
+
         public io.grpc.stub.StreamObserver<Any> clientStream(
                 io.grpc.stub.StreamObserver<Empty> responseObserver) {
             return asyncUnimplementedStreamingCall(getClientStreamMethod(), responseObserver);
@@ -258,18 +275,18 @@ public class GenericService {
 
         @Override
         public final ServerServiceDefinition bindService() {
-
+            MethodHandlers<Any, Any> nonEmptyResponseHandlers = new MethodHandlers<>(this,
+                    GrpcConstants.NON_EMPTY_METHOD_ID);
+            ServerCallHandler<Any, Any> nonEmptyResponseCallHandler = getHandleNonEmptyResponse().getType() ==
+                    MethodDescriptor.MethodType.BIDI_STREAMING ? asyncBidiStreamingCall(nonEmptyResponseHandlers) :
+                    asyncUnaryCall(nonEmptyResponseHandlers);
             return ServerServiceDefinition.builder(getServiceDescriptor())
                     .addMethod(
                             getEmptyResponseHandle(),
                             asyncUnaryCall(
                                     new MethodHandlers<
                                             Any, Empty>(this, GrpcConstants.EMPTY_METHOD_ID)))
-                    .addMethod(
-                            getHandleNonEmptyResponse(),
-                            asyncUnaryCall(
-                                    new MethodHandlers<
-                                            Any, Any>(this, GrpcConstants.NON_EMPTY_METHOD_ID)))
+                    .addMethod(getHandleNonEmptyResponse(), nonEmptyResponseCallHandler)
                     .addMethod(getClientStreamMethod(),
                             asyncClientStreamingCall(
                                     new GenericService.MethodHandlers<
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.util;
+
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.util.statistics.BufferedEventsTracker;
+import io.siddhi.core.util.statistics.EventBufferHolder;
+import io.siddhi.core.util.transport.OptionHolder;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Class to manage the pooled direct buffer allocators shared by all grpc servers and channels of the JVM which ask
+ * for the same allocator configuration. An allocator is dropped once the last server or channel using it releases
+ * it, and its memory is reclaimed when the buffers still referring to it are garbage collected.
+ */
+public class GrpcByteBufAllocators {
+    private static final int MAX_ORDER_LIMIT = 14;
+    private static GrpcByteBufAllocators instance = new GrpcByteBufAllocators();
+    private final Map<AllocatorConfig, SharedAllocator> allocatorMap = new HashMap<>();
+
+    public static GrpcByteBufAllocators getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the allocator of the given configuration, creating it if no server or channel is using one.
+     */
+    public synchronized PooledByteBufAllocator acquire(AllocatorConfig config) {
+        SharedAllocator sharedAllocator = allocatorMap.get(config);
+        if (sharedAllocator == null) {
+            sharedAllocator = new SharedAllocator(config.createAllocator());
+            allocatorMap.put(config, sharedAllocator);
+        }
+        sharedAllocator.referenceCount++;
+        return sharedAllocator.allocator;
+    }
+
+    /**
+     * Release an allocator acquired through {@link #acquire}.
+     */
+    public synchronized void release(PooledByteBufAllocator allocator) {
+        Iterator<SharedAllocator> iterator = allocatorMap.values().iterator();
+        while (iterator.hasNext()) {
+            SharedAllocator sharedAllocator = iterator.next();
+            if (sharedAllocator.allocator == allocator) {
+                if (--sharedAllocator.referenceCount == 0) {
+                    iterator.remove();
+                }
+                return;
+            }
+        }
+    }
+
+    public synchronized int getNumAllocators() {
+        return allocatorMap.size();
+    }
+
+    /**
+     * Report the direct memory reserved by the allocator of a server or channel and the part of it held by live
+     * buffers as the {@code direct.memory.used} and {@code direct.memory.pinned} gauges. The allocator is looked up
+     * on each report since a server may be built after its source registers the metrics. As allocators are shared,
+     * servers and channels with the same allocator configuration report the same values.
+     *
+     * @param metricName the prefix of the metric names, ending with the metric delimiter
+     * @param allocator  the allocator in use, or null while there is none
+     */
+    public static void registerMetrics(SiddhiAppContext siddhiAppContext, String metricName,
+                                       Supplier<PooledByteBufAllocator> allocator) {
+        if (siddhiAppContext.getStatisticsManager() == null) {
+            return;
+        }
+        BufferedEventsTracker tracker = siddhiAppContext.getSiddhiContext().getStatisticsConfiguration()
+                .getFactory().createBufferSizeTracker(siddhiAppContext.getStatisticsManager());
+        tracker.registerEventBufferHolder(new MemoryGauge(allocator, pooledAllocator -> pooledAllocator.metric()
+                .usedDirectMemory()), metricName + GrpcConstants.METRIC_DIRECT_MEMORY_USED);
+        tracker.registerEventBufferHolder(new MemoryGauge(allocator, PooledByteBufAllocator::pinnedDirectMemory),
+                metricName + GrpcConstants.METRIC_DIRECT_MEMORY_PINNED);
+    }
+
+    /**
+     * Configuration of a pooled direct buffer allocator.
+     */
+    public static class AllocatorConfig {
+        private final int directArenas;
+        private final int pageSize;
+        private final int maxOrder;
+        private final boolean threadLocalCache;
+
+        private AllocatorConfig(int directArenas, int pageSize, int maxOrder, boolean threadLocalCache) {
+            this.directArenas = directArenas;
+            this.pageSize = pageSize;
+            this.maxOrder = maxOrder;
+            this.threadLocalCache = threadLocalCache;
+        }
+
+        /**
+         * Read the allocator options of a source or sink.
+         *
+         * @return the configuration, or null if none of the allocator options is given and the gRPC default
+         * allocator should be used
+         */
+        public static AllocatorConfig fromOptions(OptionHolder optionHolder, String siddhiAppName, String streamID) {
+            if (!optionHolder.isOptionExists(GrpcConstants.ALLOCATOR_DIRECT_ARENAS) &&
+                    !optionHolder.isOptionExists(GrpcConstants.ALLOCATOR_CHUNK_SIZE) &&
+                    !optionHolder.isOptionExists(GrpcConstants.ALLOCATOR_THREAD_LOCAL_CACHE)) {
+                return null;
+            }
+            int pageSize = PooledByteBufAllocator.defaultPageSize();
+            int directArenas = PooledByteBufAllocator.defaultNumDirectArena();
+            if (optionHolder.isOptionExists(GrpcConstants.ALLOCATOR_DIRECT_ARENAS)) {
+                directArenas = Integer.parseInt(optionHolder.validateAndGetOption(
+                        GrpcConstants.ALLOCATOR_DIRECT_ARENAS).getValue());
+                if (directArenas < 1) {
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                            GrpcConstants.ALLOCATOR_DIRECT_ARENAS + " should be at least 1 but given " +
+                            directArenas);
+                }
+            }
+            int maxOrder = PooledByteBufAllocator.defaultMaxOrder();
+            if (optionHolder.isOptionExists(GrpcConstants.ALLOCATOR_CHUNK_SIZE)) {
+                int chunkSize = Integer.parseInt(optionHolder.validateAndGetOption(
+                        GrpcConstants.ALLOCATOR_CHUNK_SIZE).getValue());
+                maxOrder = Integer.numberOfTrailingZeros(chunkSize) - Integer.numberOfTrailingZeros(pageSize);
+                if (Integer.bitCount(chunkSize) != 1 || maxOrder < 0 || maxOrder > MAX_ORDER_LIMIT) {
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                            GrpcConstants.ALLOCATOR_CHUNK_SIZE + " should be a power of two between the page size " +
+                            pageSize + " and " + ((long) pageSize << MAX_ORDER_LIMIT) + " but given " + chunkSize);
+                }
+            }
+            boolean threadLocalCache = Boolean.parseBoolean(optionHolder.getOrCreateOption(
+                    GrpcConstants.ALLOCATOR_THREAD_LOCAL_CACHE, GrpcConstants.ALLOCATOR_THREAD_LOCAL_CACHE_DEFAULT)
+                    .getValue());
+            return new AllocatorConfig(directArenas, pageSize, maxOrder, threadLocalCache);
+        }
+
+        /**
+         * Create a direct allocator. Without thread local caches every buffer goes back to its arena when released,
+         * so the reported memory does not include buffers parked in the caches of the event loop threads.
+         */
+        private PooledByteBufAllocator createAllocator() {
+            if (threadLocalCache) {
+                return new PooledByteBufAllocator(true, PooledByteBufAllocator.defaultNumHeapArena(), directArenas,
+                        pageSize, maxOrder, PooledByteBufAllocator.defaultSmallCacheSize(),
+                        PooledByteBufAllocator.defaultNormalCacheSize(),
+                        PooledByteBufAllocator.defaultUseCacheForAllThreads());
+            }
+            return new PooledByteBufAllocator(true, PooledByteBufAllocator.defaultNumHeapArena(), directArenas,
+                    pageSize, maxOrder, 0, 0, false);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof AllocatorConfig)) {
+                return false;
+            }
+            AllocatorConfig other = (AllocatorConfig) obj;
+            return directArenas == other.directArenas && pageSize == other.pageSize && maxOrder == other.maxOrder &&
+                    threadLocalCache == other.threadLocalCache;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(directArenas, pageSize, maxOrder, threadLocalCache);
+        }
+    }
+
+    private static class MemoryGauge implements EventBufferHolder {
+        private final Supplier<PooledByteBufAllocator> allocator;
+        private final ToLongFunction<PooledByteBufAllocator> memory;
+
+        private MemoryGauge(Supplier<PooledByteBufAllocator> allocator,
+                            ToLongFunction<PooledByteBufAllocator> memory) {
+            this.allocator = allocator;
+            this.memory = memory;
+        }
+
+        @Override
+        public long getBufferedEvents() {
+            PooledByteBufAllocator pooledAllocator = allocator.get();
+            return pooledAllocator == null ? 0 : memory.applyAsLong(pooledAllocator);
+        }
+
+        @Override
+        public boolean containsBufferedEvents() {
+            return getBufferedEvents() > 0;
+        }
+    }
+
+    private static class SharedAllocator {
+        private final PooledByteBufAllocator allocator;
+        private int referenceCount;
+
+        private SharedAllocator(PooledByteBufAllocator allocator) {
+            this.allocator = allocator;
+        }
+    }
+}
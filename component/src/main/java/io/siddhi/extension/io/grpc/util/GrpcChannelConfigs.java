@@ -0,0 +1,500 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.util;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.siddhi.core.util.transport.Option;
+import io.siddhi.core.util.transport.OptionHolder;
+import io.siddhi.extension.io.grpc.sink.ChannelPool;
+import io.siddhi.extension.io.grpc.sink.LeastLoadedLoadBalancerProvider;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Configurations of a grpc client channel. Sinks with equal channel configurations share the same channel.
+ */
+public class GrpcChannelConfigs {
+    private ServiceConfigs serviceConfigs;
+    private long idleTimeoutMillis = -1L;
+    private long keepAliveTimeMillis = -1L;
+    private long keepAliveTimeoutMillis = -1L;
+    private Boolean keepAliveWithoutCalls;
+    private boolean enableRetry;
+    private int maxRetryAttempts = -1;
+    private long retryBufferSize = -1L;
+    private long perRpcBufferSize = -1L;
+    private int maxInboundMessageSize = -1;
+    private int maxInboundMetadataSize = -1;
+    private int channelPoolSize;
+    private ChannelPool.Strategy channelPoolStrategy;
+    private String loadBalancingPolicy;
+    private int outlierEjectionConsecutiveFailures;
+    private long outlierEjectionTimeMillis;
+    private Map<String, Object> methodConfig;
+    private GrpcEventLoopGroups.Transport transport;
+    private int workerThreads;
+    private GrpcByteBufAllocators.AllocatorConfig allocatorConfig;
+
+    public GrpcChannelConfigs(OptionHolder optionHolder, ServiceConfigs serviceConfigs, String siddhiAppName,
+                              String streamID) {
+        this.serviceConfigs = serviceConfigs;
+        if (optionHolder.isOptionExists(GrpcConstants.IDLE_TIMEOUT_MILLIS)) {
+            idleTimeoutMillis = Long.parseLong(optionHolder.validateAndGetOption(
+                    GrpcConstants.IDLE_TIMEOUT_MILLIS).getValue());
+        }
+        if (optionHolder.isOptionExists(GrpcConstants.KEEP_ALIVE_TIME_MILLIS)) {
+            keepAliveTimeMillis = Long.parseLong(optionHolder.validateAndGetOption(
+                    GrpcConstants.KEEP_ALIVE_TIME_MILLIS).getValue());
+        }
+        if (optionHolder.isOptionExists(GrpcConstants.KEEP_ALIVE_TIMEOUT_MILLIS)) {
+            keepAliveTimeoutMillis = Long.parseLong(optionHolder.validateAndGetOption(
+                    GrpcConstants.KEEP_ALIVE_TIMEOUT_MILLIS).getValue());
+        }
+        if (optionHolder.isOptionExists(GrpcConstants.KEEP_ALIVE_WITHOUT_CALLS)) {
+            keepAliveWithoutCalls = Boolean.parseBoolean(optionHolder.validateAndGetOption(
+                    GrpcConstants.KEEP_ALIVE_WITHOUT_CALLS).getValue());
+        }
+        methodConfig = createMethodConfig(optionHolder, siddhiAppName, streamID);
+        enableRetry = Boolean.parseBoolean(optionHolder.getOrCreateOption(GrpcConstants.ENABLE_RETRY,
+                GrpcConstants.ENABLE_RETRY_DEFAULT).getValue()) || methodConfig != null;
+        if (enableRetry) {
+            if (optionHolder.isOptionExists(GrpcConstants.MAX_RETRY_ATTEMPTS)) {
+                maxRetryAttempts = Integer.parseInt(optionHolder.validateAndGetOption(
+                        GrpcConstants.MAX_RETRY_ATTEMPTS).getValue());
+            }
+            if (optionHolder.isOptionExists(GrpcConstants.RETRY_BUFFER_SIZE)) {
+                retryBufferSize = Long.parseLong(optionHolder.validateAndGetOption(
+                        GrpcConstants.RETRY_BUFFER_SIZE).getValue());
+            }
+            if (optionHolder.isOptionExists(GrpcConstants.PER_RPC_BUFFER_SIZE)) {
+                perRpcBufferSize = Long.parseLong(optionHolder.validateAndGetOption(
+                        GrpcConstants.PER_RPC_BUFFER_SIZE).getValue());
+            }
+        }
+        if (optionHolder.isOptionExists(GrpcConstants.MAX_INBOUND_MESSAGE_SIZE)) {
+            maxInboundMessageSize = Integer.parseInt(optionHolder.validateAndGetOption(
+                    GrpcConstants.MAX_INBOUND_MESSAGE_SIZE).getValue());
+        }
+        if (optionHolder.isOptionExists(GrpcConstants.MAX_INBOUND_METADATA_SIZE)) {
+            maxInboundMetadataSize = Integer.parseInt(optionHolder.validateAndGetOption(
+                    GrpcConstants.MAX_INBOUND_METADATA_SIZE).getValue());
+        }
+        channelPoolSize = Integer.parseInt(optionHolder.getOrCreateOption(GrpcConstants.CHANNEL_POOL_SIZE,
+                GrpcConstants.CHANNEL_POOL_SIZE_DEFAULT).getValue());
+        if (channelPoolSize < 1) {
+            throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": " +
+                    GrpcConstants.CHANNEL_POOL_SIZE + " should be at least 1 but given " + channelPoolSize);
+        }
+        channelPoolStrategy = ChannelPool.Strategy.fromString(optionHolder.getOrCreateOption(
+                GrpcConstants.CHANNEL_POOL_STRATEGY, GrpcConstants.CHANNEL_POOL_STRATEGY_ROUND_ROBIN).getValue(),
+                siddhiAppName, streamID);
+        if (optionHolder.isOptionExists(GrpcConstants.LB_POLICY)) {
+            loadBalancingPolicy = optionHolder.validateAndGetOption(GrpcConstants.LB_POLICY).getValue();
+            if (!loadBalancingPolicy.equals(GrpcConstants.LB_POLICY_PICK_FIRST) &&
+                    !loadBalancingPolicy.equals(GrpcConstants.LB_POLICY_ROUND_ROBIN) &&
+                    !loadBalancingPolicy.equals(GrpcConstants.LB_POLICY_LEAST_LOADED)) {
+                throw new SiddhiAppValidationException(siddhiAppName + ": " + streamID + ": Invalid " +
+                        GrpcConstants.LB_POLICY + " '" + loadBalancingPolicy + "'. Expected one of " +
+                        GrpcConstants.LB_POLICY_PICK_FIRST + ", " + GrpcConstants.LB_POLICY_ROUND_ROBIN + " or " +
+                        GrpcConstants.LB_POLICY_LEAST_LOADED);
+            }
+        } else if (serviceConfigs.getEndpoints().size() > 1) {
+            loadBalancingPolicy = GrpcConstants.LB_POLICY_ROUND_ROBIN;
+        }
+        if (optionHolder.isOptionExists(GrpcConstants.TRANSPORT) ||
+                optionHolder.isOptionExists(GrpcConstants.WORKER_THREADS)) {
+            transport = GrpcEventLoopGroups.Transport.fromString(optionHolder.getOrCreateOption(
+                    GrpcConstants.TRANSPORT, GrpcConstants.TRANSPORT_NIO).getValue(), siddhiAppName, streamID);
+            workerThreads = Integer.parseInt(optionHolder.getOrCreateOption(GrpcConstants.WORKER_THREADS,
+                    GrpcConstants.WORKER_THREADS_DEFAULT).getValue());
+            if (workerThreads < 0) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                        GrpcConstants.WORKER_THREADS + " should not be negative but given " + workerThreads);
+            }
+        }
+        allocatorConfig = GrpcByteBufAllocators.AllocatorConfig.fromOptions(optionHolder, siddhiAppName, streamID);
+        outlierEjectionConsecutiveFailures = Integer.parseInt(optionHolder.getOrCreateOption(
+                GrpcConstants.OUTLIER_EJECTION_CONSECUTIVE_FAILURES,
+                GrpcConstants.OUTLIER_EJECTION_CONSECUTIVE_FAILURES_DEFAULT).getValue());
+        outlierEjectionTimeMillis = Long.parseLong(optionHolder.getOrCreateOption(
+                GrpcConstants.OUTLIER_EJECTION_TIME_MILLIS, GrpcConstants.OUTLIER_EJECTION_TIME_MILLIS_DEFAULT)
+                .getValue());
+    }
+
+    public ServiceConfigs getServiceConfigs() {
+        return serviceConfigs;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getKeepAliveTimeMillis() {
+        return keepAliveTimeMillis;
+    }
+
+    public long getKeepAliveTimeoutMillis() {
+        return keepAliveTimeoutMillis;
+    }
+
+    public Boolean getKeepAliveWithoutCalls() {
+        return keepAliveWithoutCalls;
+    }
+
+    public boolean isEnableRetry() {
+        return enableRetry;
+    }
+
+    public int getMaxRetryAttempts() {
+        return maxRetryAttempts;
+    }
+
+    public long getRetryBufferSize() {
+        return retryBufferSize;
+    }
+
+    public long getPerRpcBufferSize() {
+        return perRpcBufferSize;
+    }
+
+    public int getMaxInboundMessageSize() {
+        return maxInboundMessageSize;
+    }
+
+    public int getMaxInboundMetadataSize() {
+        return maxInboundMetadataSize;
+    }
+
+    public int getChannelPoolSize() {
+        return channelPoolSize;
+    }
+
+    public ChannelPool.Strategy getChannelPoolStrategy() {
+        return channelPoolStrategy;
+    }
+
+    public String getLoadBalancingPolicy() {
+        return loadBalancingPolicy;
+    }
+
+    /**
+     * Returns the transport of the shared event loop group the channel should use, or null if the channel should
+     * use the gRPC default.
+     */
+    public GrpcEventLoopGroups.Transport getTransport() {
+        return transport;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * Returns the configuration of the shared pooled allocator the channel should use, or null if the channel
+     * should use the gRPC default.
+     */
+    public GrpcByteBufAllocators.AllocatorConfig getAllocatorConfig() {
+        return allocatorConfig;
+    }
+
+    /**
+     * Returns the default service config of the channel in the JSON-like form accepted by
+     * {@code ManagedChannelBuilder.defaultServiceConfig}, or null if the channel should use the gRPC defaults.
+     */
+    public Map<String, ?> getDefaultServiceConfig() {
+        if (loadBalancingPolicy == null && methodConfig == null) {
+            return null;
+        }
+        Map<String, Object> serviceConfig = new HashMap<>();
+        if (loadBalancingPolicy != null) {
+            Map<String, Object> policyConfig = new HashMap<>();
+            if (loadBalancingPolicy.equals(GrpcConstants.LB_POLICY_LEAST_LOADED)) {
+                policyConfig.put(LeastLoadedLoadBalancerProvider.CONSECUTIVE_FAILURES,
+                        (double) outlierEjectionConsecutiveFailures);
+                policyConfig.put(LeastLoadedLoadBalancerProvider.BASE_EJECTION_TIME_MILLIS,
+                        (double) outlierEjectionTimeMillis);
+            }
+            serviceConfig.put("loadBalancingConfig", Collections.singletonList(Collections.singletonMap(
+                    loadBalancingPolicy, policyConfig)));
+        }
+        if (methodConfig != null) {
+            serviceConfig.put("methodConfig", Collections.singletonList(methodConfig));
+        }
+        return serviceConfig;
+    }
+
+    /**
+     * Create the method config of the service config from the retry.policy or hedging.policy option, or return null
+     * if neither is given. Each policy is a list of 'key:value' pairs like the headers option.
+     */
+    private Map<String, Object> createMethodConfig(OptionHolder optionHolder, String siddhiAppName,
+                                                   String streamID) {
+        boolean retry = optionHolder.isOptionExists(GrpcConstants.RETRY_POLICY);
+        boolean hedging = optionHolder.isOptionExists(GrpcConstants.HEDGING_POLICY);
+        if (!retry && !hedging) {
+            return null;
+        }
+        if (retry && hedging) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Only one of " +
+                    GrpcConstants.RETRY_POLICY + " and " + GrpcConstants.HEDGING_POLICY + " can be given");
+        }
+        Map<String, Object> config = new HashMap<>();
+        config.put("name", Collections.singletonList(getMethodName(siddhiAppName, streamID)));
+        if (retry) {
+            Map<String, String> policy = getPolicy(optionHolder, GrpcConstants.RETRY_POLICY, siddhiAppName,
+                    streamID, GrpcConstants.POLICY_MAX_ATTEMPTS, GrpcConstants.POLICY_INITIAL_BACKOFF_MILLIS,
+                    GrpcConstants.POLICY_MAX_BACKOFF_MILLIS, GrpcConstants.POLICY_BACKOFF_MULTIPLIER,
+                    GrpcConstants.POLICY_RETRYABLE_STATUS_CODES);
+            Map<String, Object> retryPolicy = new HashMap<>();
+            retryPolicy.put("maxAttempts", getMaxAttempts(policy, GrpcConstants.RETRY_POLICY, siddhiAppName,
+                    streamID));
+            retryPolicy.put("initialBackoff", toDuration(getPositive(policy, GrpcConstants.RETRY_POLICY,
+                    GrpcConstants.POLICY_INITIAL_BACKOFF_MILLIS, GrpcConstants.POLICY_INITIAL_BACKOFF_MILLIS_DEFAULT,
+                    siddhiAppName, streamID)));
+            retryPolicy.put("maxBackoff", toDuration(getPositive(policy, GrpcConstants.RETRY_POLICY,
+                    GrpcConstants.POLICY_MAX_BACKOFF_MILLIS, GrpcConstants.POLICY_MAX_BACKOFF_MILLIS_DEFAULT,
+                    siddhiAppName, streamID)));
+            retryPolicy.put("backoffMultiplier", getPositive(policy, GrpcConstants.RETRY_POLICY,
+                    GrpcConstants.POLICY_BACKOFF_MULTIPLIER, GrpcConstants.POLICY_BACKOFF_MULTIPLIER_DEFAULT,
+                    siddhiAppName, streamID));
+            List<String> retryableStatusCodes = getStatusCodes(policy.getOrDefault(
+                    GrpcConstants.POLICY_RETRYABLE_STATUS_CODES,
+                    GrpcConstants.POLICY_RETRYABLE_STATUS_CODES_DEFAULT), siddhiAppName, streamID);
+            if (retryableStatusCodes.isEmpty()) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                        GrpcConstants.RETRY_POLICY + " requires at least one of the " +
+                        GrpcConstants.POLICY_RETRYABLE_STATUS_CODES);
+            }
+            retryPolicy.put("retryableStatusCodes", retryableStatusCodes);
+            config.put("retryPolicy", retryPolicy);
+        } else {
+            Map<String, String> policy = getPolicy(optionHolder, GrpcConstants.HEDGING_POLICY, siddhiAppName,
+                    streamID, GrpcConstants.POLICY_MAX_ATTEMPTS, GrpcConstants.POLICY_HEDGING_DELAY_MILLIS,
+                    GrpcConstants.POLICY_NON_FATAL_STATUS_CODES);
+            Map<String, Object> hedgingPolicy = new HashMap<>();
+            hedgingPolicy.put("maxAttempts", getMaxAttempts(policy, GrpcConstants.HEDGING_POLICY, siddhiAppName,
+                    streamID));
+            double hedgingDelay = getNumber(policy, GrpcConstants.HEDGING_POLICY,
+                    GrpcConstants.POLICY_HEDGING_DELAY_MILLIS, GrpcConstants.POLICY_HEDGING_DELAY_MILLIS_DEFAULT,
+                    siddhiAppName, streamID);
+            if (hedgingDelay < 0) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                        GrpcConstants.POLICY_HEDGING_DELAY_MILLIS + " of " + GrpcConstants.HEDGING_POLICY +
+                        " should not be negative but given " + hedgingDelay);
+            }
+            hedgingPolicy.put("hedgingDelay", toDuration(hedgingDelay));
+            hedgingPolicy.put("nonFatalStatusCodes", getStatusCodes(policy.getOrDefault(
+                    GrpcConstants.POLICY_NON_FATAL_STATUS_CODES, GrpcConstants.EMPTY_STRING), siddhiAppName,
+                    streamID));
+            config.put("hedgingPolicy", hedgingPolicy);
+        }
+        return config;
+    }
+
+    private static Map<String, String> getPolicy(OptionHolder optionHolder, String optionKey, String siddhiAppName,
+                                                 String streamID, String... supportedKeys) {
+        Option option = optionHolder.validateAndGetOption(optionKey);
+        if (!option.isStatic()) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " + optionKey +
+                    " should not refer to attributes of the stream");
+        }
+        Map<String, String> policy = new HashMap<>();
+        List<String> supported = Arrays.asList(supportedKeys);
+        for (String pair : option.getValue().split(GrpcConstants.COMMA_STRING)) {
+            pair = pair.replace(GrpcConstants.INVERTED_COMMA_STRING, GrpcConstants.EMPTY_STRING);
+            int separator = pair.indexOf(GrpcConstants.SEMI_COLON_STRING);
+            if (separator < 0) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " + optionKey +
+                        " entry '" + pair.trim() + "'. Expected 'key:value' pairs separated by commas");
+            }
+            String key = pair.substring(0, separator).trim();
+            if (!supported.contains(key)) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " + optionKey +
+                        " entry '" + key + "'. Expected one of " + supported);
+            }
+            policy.put(key, pair.substring(separator + 1).trim());
+        }
+        return policy;
+    }
+
+    private static double getMaxAttempts(Map<String, String> policy, String optionKey, String siddhiAppName,
+                                         String streamID) {
+        String value = policy.get(GrpcConstants.POLICY_MAX_ATTEMPTS);
+        if (value == null) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " + optionKey +
+                    " requires " + GrpcConstants.POLICY_MAX_ATTEMPTS);
+        }
+        int maxAttempts;
+        try {
+            maxAttempts = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                    GrpcConstants.POLICY_MAX_ATTEMPTS + " of " + optionKey + " should be an integer but given '" +
+                    value + "'");
+        }
+        if (maxAttempts < 2) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                    GrpcConstants.POLICY_MAX_ATTEMPTS + " of " + optionKey + " should be at least 2 but given " +
+                    maxAttempts);
+        }
+        return maxAttempts;
+    }
+
+    private static double getPositive(Map<String, String> policy, String optionKey, String key,
+                                      String defaultValue, String siddhiAppName, String streamID) {
+        double value = getNumber(policy, optionKey, key, defaultValue, siddhiAppName, streamID);
+        if (value <= 0) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " + key + " of " +
+                    optionKey + " should be greater than 0 but given " + value);
+        }
+        return value;
+    }
+
+    private static double getNumber(Map<String, String> policy, String optionKey, String key, String defaultValue,
+                                    String siddhiAppName, String streamID) {
+        String value = policy.getOrDefault(key, defaultValue);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " + key + " of " +
+                    optionKey + " should be a number but given '" + value + "'");
+        }
+    }
+
+    private static List<String> getStatusCodes(String value, String siddhiAppName, String streamID) {
+        List<String> statusCodes = new ArrayList<>();
+        for (String code : value.split(Pattern.quote(GrpcConstants.POLICY_STATUS_CODE_SEPARATOR))) {
+            code = code.trim().toUpperCase();
+            if (code.isEmpty()) {
+                continue;
+            }
+            try {
+                Status.Code.valueOf(code);
+            } catch (IllegalArgumentException e) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid status code '" +
+                        code + "'. Expected gRPC status code names such as UNAVAILABLE, separated by '" +
+                        GrpcConstants.POLICY_STATUS_CODE_SEPARATOR + "'");
+            }
+            statusCodes.add(code);
+        }
+        return statusCodes;
+    }
+
+    /**
+     * Durations of the service config are strings of seconds with an 's' suffix.
+     */
+    private static String toDuration(double millis) {
+        return BigDecimal.valueOf(millis).movePointLeft(3).stripTrailingZeros().toPlainString() + "s";
+    }
+
+    /**
+     * Resolve the name of the method in the service config. It is the name of the service and method in the proto
+     * definition, which can differ from the java names given in the url, so it is taken from the service
+     * descriptor of the generated stub. The whole default service is named, since its sinks call several of its
+     * methods.
+     */
+    private Map<String, String> getMethodName(String siddhiAppName, String streamID) {
+        ServiceDescriptor serviceDescriptor;
+        try {
+            serviceDescriptor = (ServiceDescriptor) Class.forName(serviceConfigs.getFullyQualifiedServiceName() +
+                    GrpcConstants.GRPC_PROTOCOL_NAME_UPPERCAMELCASE).getMethod("getServiceDescriptor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid service name " +
+                    "provided in the url, provided service name: '" + serviceConfigs.getFullyQualifiedServiceName() +
+                    "'. " + e.getMessage(), e);
+        }
+        Map<String, String> name = new HashMap<>();
+        name.put("service", serviceDescriptor.getName());
+        if (!serviceConfigs.isDefaultService()) {
+            for (MethodDescriptor<?, ?> method : serviceDescriptor.getMethods()) {
+                if (method.getBareMethodName() != null &&
+                        method.getBareMethodName().equalsIgnoreCase(serviceConfigs.getMethodName())) {
+                    name.put("method", method.getBareMethodName());
+                    break;
+                }
+            }
+        }
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+
+        if (!GrpcChannelConfigs.class.isAssignableFrom(obj.getClass())) {
+            return false;
+        }
+
+        final GrpcChannelConfigs other = (GrpcChannelConfigs) obj;
+        ServiceConfigs otherServiceConfigs = other.getServiceConfigs();
+        return new EqualsBuilder().append(serviceConfigs.getHostPort(), otherServiceConfigs.getHostPort())
+                .append(serviceConfigs.getTruststoreFilePath(), otherServiceConfigs.getTruststoreFilePath())
+                .append(serviceConfigs.getTruststorePassword(), otherServiceConfigs.getTruststorePassword())
+                .append(serviceConfigs.getTruststoreAlgorithm(), otherServiceConfigs.getTruststoreAlgorithm())
+                .append(serviceConfigs.getKeystoreFilePath(), otherServiceConfigs.getKeystoreFilePath())
+                .append(serviceConfigs.getKeystorePassword(), otherServiceConfigs.getKeystorePassword())
+                .append(serviceConfigs.getKeystoreAlgorithm(), otherServiceConfigs.getKeystoreAlgorithm())
+                .append(serviceConfigs.getTlsStoreType(), otherServiceConfigs.getTlsStoreType())
+                .append(idleTimeoutMillis, other.idleTimeoutMillis)
+                .append(keepAliveTimeMillis, other.keepAliveTimeMillis)
+                .append(keepAliveTimeoutMillis, other.keepAliveTimeoutMillis)
+                .append(keepAliveWithoutCalls, other.keepAliveWithoutCalls)
+                .append(enableRetry, other.enableRetry).append(maxRetryAttempts, other.maxRetryAttempts)
+                .append(retryBufferSize, other.retryBufferSize).append(perRpcBufferSize, other.perRpcBufferSize)
+                .append(maxInboundMessageSize, other.maxInboundMessageSize)
+                .append(maxInboundMetadataSize, other.maxInboundMetadataSize)
+                .append(channelPoolSize, other.channelPoolSize).append(channelPoolStrategy, other.channelPoolStrategy)
+                .append(loadBalancingPolicy, other.loadBalancingPolicy)
+                .append(outlierEjectionConsecutiveFailures, other.outlierEjectionConsecutiveFailures)
+                .append(outlierEjectionTimeMillis, other.outlierEjectionTimeMillis)
+                .append(methodConfig, other.methodConfig)
+                .append(transport, other.transport).append(workerThreads, other.workerThreads)
+                .append(allocatorConfig, other.allocatorConfig)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(7, 37).append(serviceConfigs.getHostPort())
+                .append(serviceConfigs.getTruststoreFilePath()).append(serviceConfigs.getTruststorePassword())
+                .append(serviceConfigs.getTruststoreAlgorithm()).append(serviceConfigs.getKeystoreFilePath())
+                .append(serviceConfigs.getKeystorePassword()).append(serviceConfigs.getKeystoreAlgorithm())
+                .append(serviceConfigs.getTlsStoreType()).append(idleTimeoutMillis).append(keepAliveTimeMillis)
+                .append(keepAliveTimeoutMillis).append(keepAliveWithoutCalls).append(enableRetry)
+                .append(maxRetryAttempts).append(retryBufferSize).append(perRpcBufferSize)
+                .append(maxInboundMessageSize).append(maxInboundMetadataSize).append(channelPoolSize)
+                .append(channelPoolStrategy).append(loadBalancingPolicy).append(outlierEjectionConsecutiveFailures)
+                .append(outlierEjectionTimeMillis).append(methodConfig).append(transport).append(workerThreads)
+                .append(allocatorConfig)
+                .toHashCode();
+    }
+}
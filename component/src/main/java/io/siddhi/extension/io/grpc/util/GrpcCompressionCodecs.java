@@ -0,0 +1,140 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.util;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.github.luben.zstd.util.Native;
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.iq80.snappy.SnappyFramedInputStream;
+import org.iq80.snappy.SnappyFramedOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Message compression codecs supported by the gRPC sinks and sources in addition to the gzip codec of gRPC. The
+ * registries returned here are set on every channel and server so that all of them advertise and accept the same
+ * encodings.
+ */
+public class GrpcCompressionCodecs {
+    private static final Logger logger = LogManager.getLogger(GrpcCompressionCodecs.class);
+    private static final CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+    private static final DecompressorRegistry decompressorRegistry;
+    private static final boolean zstdAvailable = isZstdAvailable();
+
+    static {
+        compressorRegistry.register(Codec.Identity.NONE);
+        compressorRegistry.register(new Codec.Gzip());
+        compressorRegistry.register(new SnappyCodec());
+        DecompressorRegistry registry = DecompressorRegistry.getDefaultInstance().with(new SnappyCodec(), true);
+        if (zstdAvailable) {
+            compressorRegistry.register(new ZstdCodec());
+            registry = registry.with(new ZstdCodec(), true);
+        }
+        decompressorRegistry = registry;
+    }
+
+    public static CompressorRegistry getCompressorRegistry() {
+        return compressorRegistry;
+    }
+
+    public static DecompressorRegistry getDecompressorRegistry() {
+        return decompressorRegistry;
+    }
+
+    /**
+     * Validate the value of the compression option and return the message encoding to be used by stubs, or null if
+     * messages are not to be compressed.
+     */
+    public static String getMessageEncoding(String compression, String siddhiAppName, String streamID) {
+        switch (compression.toLowerCase()) {
+            case GrpcConstants.COMPRESSION_NONE:
+                return null;
+            case GrpcConstants.COMPRESSION_GZIP:
+            case GrpcConstants.COMPRESSION_SNAPPY:
+                return compression.toLowerCase();
+            case GrpcConstants.COMPRESSION_ZSTD:
+                if (!zstdAvailable) {
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": " +
+                            GrpcConstants.COMPRESSION + " '" + compression + "' is not supported on this platform " +
+                            "since the zstd native library could not be loaded");
+                }
+                return GrpcConstants.COMPRESSION_ZSTD;
+            default:
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                        GrpcConstants.COMPRESSION + " '" + compression + "'. Expected one of " +
+                        GrpcConstants.COMPRESSION_NONE + ", " + GrpcConstants.COMPRESSION_GZIP + ", " +
+                        GrpcConstants.COMPRESSION_SNAPPY + " or " + GrpcConstants.COMPRESSION_ZSTD);
+        }
+    }
+
+    private static boolean isZstdAvailable() {
+        try {
+            Native.load();
+            return true;
+        } catch (LinkageError e) {
+            logger.warn("zstd compression is disabled since the zstd native library could not be loaded. " +
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Codec writing messages in the snappy framing format.
+     */
+    private static class SnappyCodec implements Codec {
+        @Override
+        public String getMessageEncoding() {
+            return GrpcConstants.COMPRESSION_SNAPPY;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream os) throws IOException {
+            return new SnappyFramedOutputStream(os);
+        }
+
+        @Override
+        public InputStream decompress(InputStream is) throws IOException {
+            return new SnappyFramedInputStream(is, true);
+        }
+    }
+
+    private static class ZstdCodec implements Codec {
+        @Override
+        public String getMessageEncoding() {
+            return GrpcConstants.COMPRESSION_ZSTD;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream os) throws IOException {
+            return new ZstdOutputStream(os);
+        }
+
+        @Override
+        public InputStream decompress(InputStream is) throws IOException {
+            return new ZstdInputStream(is);
+        }
+    }
+}
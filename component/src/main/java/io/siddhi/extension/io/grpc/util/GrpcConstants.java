@@ -28,6 +28,7 @@ public class GrpcConstants {
     public static final String SINK_ID = "sink.id";
     public static final String STREAM_ID = "stream.id";
     public static final String DEFAULT_METHOD_NAME_WITH_RESPONSE = "process";
+    public static final String DEFAULT_STREAMING_METHOD_NAME_WITH_RESPONSE = "processStream";
     public static final String DEFAULT_METHOD_NAME_WITHOUT_RESPONSE = "consume";
     public static final String EMPTY_STRING = "";
     public static final String COMMA_STRING = ",";
@@ -92,8 +93,149 @@ public class GrpcConstants {
     public static final String ENABLE_RETRY_DEFAULT = "false";
     public static final String SERVER_SHUTDOWN_WAITING_TIME = "server.shutdown.waiting.time";
 
+    //Retry and hedging policy properties
+    public static final String RETRY_POLICY = "retry.policy";
+    public static final String HEDGING_POLICY = "hedging.policy";
+    public static final String POLICY_MAX_ATTEMPTS = "max.attempts";
+    public static final String POLICY_INITIAL_BACKOFF_MILLIS = "initial.backoff";
+    public static final String POLICY_INITIAL_BACKOFF_MILLIS_DEFAULT = "100";
+    public static final String POLICY_MAX_BACKOFF_MILLIS = "max.backoff";
+    public static final String POLICY_MAX_BACKOFF_MILLIS_DEFAULT = "1000";
+    public static final String POLICY_BACKOFF_MULTIPLIER = "backoff.multiplier";
+    public static final String POLICY_BACKOFF_MULTIPLIER_DEFAULT = "2";
+    public static final String POLICY_RETRYABLE_STATUS_CODES = "retryable.status.codes";
+    public static final String POLICY_RETRYABLE_STATUS_CODES_DEFAULT = "UNAVAILABLE";
+    public static final String POLICY_HEDGING_DELAY_MILLIS = "hedging.delay";
+    public static final String POLICY_HEDGING_DELAY_MILLIS_DEFAULT = "0";
+    public static final String POLICY_NON_FATAL_STATUS_CODES = "non.fatal.status.codes";
+    public static final String POLICY_STATUS_CODE_SEPARATOR = "|";
+
+    //Event loop properties
+    public static final String TRANSPORT = "transport";
+    public static final String TRANSPORT_NIO = "nio";
+    public static final String TRANSPORT_EPOLL = "epoll";
+    public static final String WORKER_THREADS = "worker.threads";
+    public static final String WORKER_THREADS_DEFAULT = "0";
+    public static final String BOSS_THREADS = "boss.threads";
+    public static final String BOSS_THREADS_DEFAULT = "1";
+    public static final String EVENT_LOOP_ROLE_BOSS = "boss";
+    public static final String EVENT_LOOP_ROLE_WORKER = "worker";
+
+    //Allocator properties
+    public static final String ALLOCATOR_DIRECT_ARENAS = "allocator.direct.arenas";
+    public static final String ALLOCATOR_CHUNK_SIZE = "allocator.chunk.size";
+    public static final String ALLOCATOR_THREAD_LOCAL_CACHE = "allocator.thread.local.cache";
+    public static final String ALLOCATOR_THREAD_LOCAL_CACHE_DEFAULT = "true";
+
+    //Batching properties
+    public static final String BATCH_SIZE = "batch.size";
+    public static final String BATCH_SIZE_DEFAULT = "1";
+    public static final String BATCH_LINGER_MILLIS = "batch.linger.ms";
+    public static final String BATCH_LINGER_MILLIS_DEFAULT = "10";
+    public static final String BATCH_MAX_BYTES = "batch.max.bytes";
+    public static final String BATCH_MAX_BYTES_DEFAULT = "1048576";
+
+    //Payload format properties
+    public static final String FORMAT = "format";
+    public static final String FORMAT_EVENT = "event";
+    public static final String FORMAT_COLUMNAR = "columnar";
+    public static final String FORMAT_NATIVE = "native";
+    public static final String NATIVE_SCHEMA = "siddhi.schema";
+
+    //Flow control properties
+    public static final String OUTBOUND_BUFFER_SIZE = "outbound.buffer.size";
+    public static final String OUTBOUND_BUFFER_SIZE_DEFAULT = "1024";
+    public static final String OUTBOUND_BUFFER_POLICY = "outbound.buffer.policy";
+    public static final String OUTBOUND_BUFFER_POLICY_BLOCK = "block";
+    public static final String OUTBOUND_BUFFER_POLICY_DROP_OLDEST = "drop.oldest";
+    public static final String OUTBOUND_BUFFER_POLICY_FAIL_FAST = "fail.fast";
+
+    //Compression properties
+    public static final String COMPRESSION = "compression";
+    public static final String COMPRESSION_NONE = "none";
+    public static final String COMPRESSION_GZIP = "gzip";
+    public static final String COMPRESSION_SNAPPY = "snappy";
+    public static final String COMPRESSION_ZSTD = "zstd";
+
+    //Stream reconnection properties
+    public static final String STREAM_RECONNECT_INITIAL_BACKOFF_MILLIS = "stream.reconnect.initial.backoff.ms";
+    public static final String STREAM_RECONNECT_INITIAL_BACKOFF_MILLIS_DEFAULT = "100";
+    public static final String STREAM_RECONNECT_MAX_BACKOFF_MILLIS = "stream.reconnect.max.backoff.ms";
+    public static final String STREAM_RECONNECT_MAX_BACKOFF_MILLIS_DEFAULT = "30000";
+
+    //Subscription properties
+    public static final String DEFAULT_SUBSCRIBE_METHOD_NAME = "subscribe";
+    public static final String SUBSCRIPTION_REQUEST_SIZE = "request.size";
+    public static final String SUBSCRIPTION_REQUEST_SIZE_DEFAULT = "100";
+    public static final String SUBSCRIPTION_START_OFFSET = "start.offset";
+    public static final String SUBSCRIPTION_OFFSET = "offset";
+
+    //In-flight window properties
+    public static final String MAX_INFLIGHT_REQUESTS = "max.inflight.requests";
+    public static final String MAX_INFLIGHT_REQUESTS_DEFAULT = "0";
+    public static final String MAX_INFLIGHT_BYTES = "max.inflight.bytes";
+    public static final String MAX_INFLIGHT_BYTES_DEFAULT = "0";
+    public static final String MAX_INFLIGHT_POLICY = "max.inflight.policy";
+    public static final String MAX_INFLIGHT_POLICY_BLOCK = "block";
+    public static final String MAX_INFLIGHT_POLICY_FAIL_FAST = "fail.fast";
+    public static final String METRIC_INFLIGHT_REQUESTS = "inflight.requests";
+    public static final String METRIC_INFLIGHT_BYTES = "inflight.bytes";
+    public static final String METRIC_DIRECT_MEMORY_USED = "direct.memory.used";
+    public static final String METRIC_DIRECT_MEMORY_PINNED = "direct.memory.pinned";
+
+    //Response dispatch properties
+    public static final String RESPONSE_THREADPOOL_SIZE = "response.threadpool.size";
+    public static final String RESPONSE_THREADPOOL_SIZE_DEFAULT = "1";
+    public static final String RESPONSE_THREADPOOL_BUFFER_SIZE = "response.threadpool.buffer.size";
+    public static final String RESPONSE_THREADPOOL_BUFFER_SIZE_DEFAULT = "1024";
+    public static final String RESPONSE_PARTITION_KEY = "response.partition.key";
+
+    //Response ordering properties
+    public static final String ORDERING = "ordering";
+    public static final String ORDERING_NONE = "none";
+    public static final String ORDERING_REQUEST = "request";
+    public static final String ORDERING_KEY = "key";
+    public static final String ORDERING_BUFFER_SIZE = "ordering.buffer.size";
+    public static final String ORDERING_BUFFER_SIZE_DEFAULT = "1024";
+
+    //Call deadline properties
+    public static final String CALL_DEADLINE_MILLIS = "call.deadline";
+
+    //Spill buffer properties
+    public static final String SPILL_DIRECTORY = "spill.directory";
+    public static final String SPILL_MAX_BYTES = "spill.max.bytes";
+    public static final String SPILL_MAX_BYTES_DEFAULT = "1073741824";
+    public static final String SPILL_SEGMENT_BYTES = "spill.segment.bytes";
+    public static final String SPILL_SEGMENT_BYTES_DEFAULT = "16777216";
+    public static final String SPILL_SYNC_POLICY = "spill.sync.policy";
+    public static final String SPILL_SYNC_POLICY_NONE = "none";
+    public static final String SPILL_SYNC_POLICY_SEGMENT = "segment";
+    public static final String SPILL_SYNC_POLICY_ALWAYS = "always";
+    public static final String SPILL_SEGMENT_SUFFIX = ".spill";
+    public static final String SPILL_LOCK_FILE = ".lock";
+
+    //Channel pool properties
+    public static final String CHANNEL_POOL_SIZE = "channel.pool.size";
+    public static final String CHANNEL_POOL_SIZE_DEFAULT = "1";
+    public static final String CHANNEL_POOL_STRATEGY = "channel.pool.strategy";
+    public static final String CHANNEL_POOL_STRATEGY_ROUND_ROBIN = "round.robin";
+    public static final String CHANNEL_POOL_STRATEGY_LEAST_OUTSTANDING = "least.outstanding";
+
+    //Load balancing properties
+    public static final String MULTI_ENDPOINT_SCHEME = "siddhi-grpc";
+    public static final String LB_POLICY = "lb.policy";
+    public static final String LB_POLICY_PICK_FIRST = "pick_first";
+    public static final String LB_POLICY_ROUND_ROBIN = "round_robin";
+    public static final String LB_POLICY_LEAST_LOADED = "least_loaded";
+    public static final String OUTLIER_EJECTION_CONSECUTIVE_FAILURES = "outlier.ejection.consecutive.failures";
+    public static final String OUTLIER_EJECTION_CONSECUTIVE_FAILURES_DEFAULT = "5";
+    public static final String OUTLIER_EJECTION_TIME_MILLIS = "outlier.ejection.time.ms";
+    public static final String OUTLIER_EJECTION_TIME_MILLIS_DEFAULT = "30000";
+
     public static final String SERVICE_TIMEOUT = "service.timeout";
     public static final String SERVICE_TIMEOUT_DEFAULT = "10000";
+    public static final String STATUS = "status";
+    public static final long STREAM_REQUEST_TIMEOUT_CHECK_INTERVAL = 100;
 
     public static final String STUB = "Stub";
     public static final String FUTURE_STUB = "FutureStub";
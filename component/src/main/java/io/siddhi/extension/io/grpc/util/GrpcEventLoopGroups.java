@@ -0,0 +1,182 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.util;
+
+import io.grpc.netty.shaded.io.netty.channel.Channel;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.ServerChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class to manage the Netty event loop groups shared by all grpc servers and channels of the JVM which ask for the
+ * same transport and number of threads. A group is shut down once the last server or channel using it releases it.
+ */
+public class GrpcEventLoopGroups {
+    private static GrpcEventLoopGroups instance = new GrpcEventLoopGroups();
+    private final Map<Key, SharedGroup> groupMap = new HashMap<>();
+
+    public static GrpcEventLoopGroups getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the event loop group with the given transport, role and number of threads, creating it if no server or
+     * channel is using one.
+     *
+     * @param role    'boss' for the groups accepting server connections, 'worker' for the groups serving them
+     * @param threads the number of threads, or 0 for the Netty default of twice the number of cores
+     */
+    public synchronized EventLoopGroup acquire(Transport transport, String role, int threads) {
+        Key key = new Key(transport, role, threads);
+        SharedGroup sharedGroup = groupMap.get(key);
+        if (sharedGroup == null) {
+            sharedGroup = new SharedGroup(transport.createGroup(threads, "grpc-" + transport.name().toLowerCase() +
+                    "-" + role));
+            groupMap.put(key, sharedGroup);
+        }
+        sharedGroup.referenceCount++;
+        return sharedGroup.group;
+    }
+
+    /**
+     * Release a group acquired through {@link #acquire}. The group is shut down gracefully when no other server or
+     * channel is using it.
+     */
+    public synchronized void release(EventLoopGroup group) {
+        Iterator<SharedGroup> iterator = groupMap.values().iterator();
+        while (iterator.hasNext()) {
+            SharedGroup sharedGroup = iterator.next();
+            if (sharedGroup.group == group) {
+                if (--sharedGroup.referenceCount == 0) {
+                    iterator.remove();
+                    group.shutdownGracefully();
+                }
+                return;
+            }
+        }
+    }
+
+    public synchronized int getNumGroups() {
+        return groupMap.size();
+    }
+
+    /**
+     * Netty transport of the servers and channels.
+     */
+    public enum Transport {
+        NIO(NioSocketChannel.class, NioServerSocketChannel.class),
+        EPOLL(EpollSocketChannel.class, EpollServerSocketChannel.class);
+
+        private final Class<? extends Channel> channelType;
+        private final Class<? extends ServerChannel> serverChannelType;
+
+        Transport(Class<? extends Channel> channelType, Class<? extends ServerChannel> serverChannelType) {
+            this.channelType = channelType;
+            this.serverChannelType = serverChannelType;
+        }
+
+        public Class<? extends Channel> getChannelType() {
+            return channelType;
+        }
+
+        public Class<? extends ServerChannel> getServerChannelType() {
+            return serverChannelType;
+        }
+
+        private EventLoopGroup createGroup(int threads, String poolName) {
+            DefaultThreadFactory threadFactory = new DefaultThreadFactory(poolName, true);
+            return this == EPOLL ? new EpollEventLoopGroup(threads, threadFactory) :
+                    new NioEventLoopGroup(threads, threadFactory);
+        }
+
+        /**
+         * @throws SiddhiAppCreationException if epoll is asked for on a platform where the native transport
+         *                                    cannot be loaded
+         */
+        public static Transport fromString(String transport, String siddhiAppName, String streamID) {
+            switch (transport.toLowerCase()) {
+                case GrpcConstants.TRANSPORT_NIO:
+                    return NIO;
+                case GrpcConstants.TRANSPORT_EPOLL:
+                    if (!Epoll.isAvailable()) {
+                        Throwable cause = Epoll.unavailabilityCause();
+                        while (cause.getCause() != null) {
+                            cause = cause.getCause();
+                        }
+                        throw new SiddhiAppCreationException(siddhiAppName + ":" + streamID + ": " +
+                                GrpcConstants.TRANSPORT + " '" + GrpcConstants.TRANSPORT_EPOLL + "' is not " +
+                                "available on this platform. " + cause, Epoll.unavailabilityCause());
+                    }
+                    return EPOLL;
+                default:
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                            GrpcConstants.TRANSPORT + " '" + transport + "'. Expected one of " +
+                            GrpcConstants.TRANSPORT_NIO + " or " + GrpcConstants.TRANSPORT_EPOLL);
+            }
+        }
+    }
+
+    private static class Key {
+        private final Transport transport;
+        private final String role;
+        private final int threads;
+
+        private Key(Transport transport, String role, int threads) {
+            this.transport = transport;
+            this.role = role;
+            this.threads = threads;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return transport == other.transport && role.equals(other.role) && threads == other.threads;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(transport, role, threads);
+        }
+    }
+
+    private static class SharedGroup {
+        private final EventLoopGroup group;
+        private int referenceCount;
+
+        private SharedGroup(EventLoopGroup group) {
+            this.group = group;
+        }
+    }
+}
@@ -20,6 +20,7 @@ package io.siddhi.extension.io.grpc.util;
 import io.siddhi.core.config.SiddhiAppContext;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.transport.OptionHolder;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -33,6 +34,10 @@ public class GrpcServerConfigs {
     private long serverShutdownWaitingTimeInMillis = -1L;
     private int threadPoolSize;
     private int threadPoolBufferSize;
+    private GrpcEventLoopGroups.Transport transport;
+    private int bossThreads;
+    private int workerThreads;
+    private GrpcByteBufAllocators.AllocatorConfig allocatorConfig;
 
     public GrpcServerConfigs(OptionHolder optionHolder, SiddhiAppContext siddhiAppContext, String streamID ,
                              ConfigReader configReader, boolean isSource) {
@@ -54,6 +59,24 @@ public class GrpcServerConfigs {
                 GrpcConstants.THREADPOOL_SIZE_DEFAULT).getValue());
         this.threadPoolBufferSize = Integer.parseInt(optionHolder.getOrCreateOption(GrpcConstants
                         .THREADPOOL_BUFFER_SIZE, GrpcConstants.THREADPOOL_BUFFER_SIZE_DEFAULT).getValue());
+        if (optionHolder.isOptionExists(GrpcConstants.TRANSPORT) ||
+                optionHolder.isOptionExists(GrpcConstants.BOSS_THREADS) ||
+                optionHolder.isOptionExists(GrpcConstants.WORKER_THREADS)) {
+            this.transport = GrpcEventLoopGroups.Transport.fromString(optionHolder.getOrCreateOption(
+                    GrpcConstants.TRANSPORT, GrpcConstants.TRANSPORT_NIO).getValue(), siddhiAppContext.getName(),
+                    streamID);
+            this.bossThreads = Integer.parseInt(optionHolder.getOrCreateOption(GrpcConstants.BOSS_THREADS,
+                    GrpcConstants.BOSS_THREADS_DEFAULT).getValue());
+            this.workerThreads = Integer.parseInt(optionHolder.getOrCreateOption(GrpcConstants.WORKER_THREADS,
+                    GrpcConstants.WORKER_THREADS_DEFAULT).getValue());
+            if (bossThreads < 1 || workerThreads < 0) {
+                throw new SiddhiAppValidationException(siddhiAppContext.getName() + ":" + streamID + ": " +
+                        GrpcConstants.BOSS_THREADS + " should be at least 1 and " + GrpcConstants.WORKER_THREADS +
+                        " should not be negative but given " + bossThreads + " and " + workerThreads);
+            }
+        }
+        this.allocatorConfig = GrpcByteBufAllocators.AllocatorConfig.fromOptions(optionHolder,
+                siddhiAppContext.getName(), streamID);
     }
 
     public ServiceConfigs getServiceConfigs() {
@@ -80,6 +103,30 @@ public class GrpcServerConfigs {
         return threadPoolBufferSize;
     }
 
+    /**
+     * Returns the transport of the shared event loop groups the server should use, or null if the server should
+     * use the gRPC default.
+     */
+    public GrpcEventLoopGroups.Transport getTransport() {
+        return transport;
+    }
+
+    public int getBossThreads() {
+        return bossThreads;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * Returns the configuration of the shared pooled allocator the server should use, or null if the server should use
+     * the gRPC default.
+     */
+    public GrpcByteBufAllocators.AllocatorConfig getAllocatorConfig() {
+        return allocatorConfig;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == null) {
@@ -95,6 +142,8 @@ public class GrpcServerConfigs {
                 .append(this.maxInboundMessageSize, other.maxInboundMessageSize).append(this.maxInboundMetadataSize,
                         other.maxInboundMetadataSize).append(this.serverShutdownWaitingTimeInMillis,
                         other.serverShutdownWaitingTimeInMillis).append(this.threadPoolSize, other.threadPoolSize)
+                .append(this.transport, other.transport).append(this.bossThreads, other.bossThreads)
+                .append(this.workerThreads, other.workerThreads).append(this.allocatorConfig, other.allocatorConfig)
                 .isEquals();
     }
 
@@ -102,6 +151,7 @@ public class GrpcServerConfigs {
     public int hashCode() {
         return new HashCodeBuilder(3, 29).appendSuper(this.serviceConfigs.hashCode()).append(maxInboundMessageSize)
                 .append(maxInboundMetadataSize).append(serverShutdownWaitingTimeInMillis).append(threadPoolSize)
+                .append(transport).append(bossThreads).append(workerThreads).append(allocatorConfig)
                 .toHashCode();
     }
 }
@@ -17,16 +17,33 @@
  */
 package io.siddhi.extension.io.grpc.util;
 
+import com.google.protobuf.UnsafeByteOperations;
+import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContext;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContextBuilder;
+import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.grpc.Event;
 
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.CertificateException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
 
 /**
  * Class to hold the static util methods needed.
@@ -84,6 +101,32 @@ public class GrpcUtils {
         return rpcMethodNameList;
     }
 
+    /**
+     * Set the payload produced by a mapper on an event. The byte[] and ByteBuffer of binary mappers go to the
+     * binary_payload field as they are, without being copied, as mappers hand over a new payload for each event.
+     * Any other payload is sent as text.
+     */
+    public static Event.Builder setPayload(Event.Builder eventBuilder, Object payload) {
+        if (payload instanceof byte[]) {
+            return eventBuilder.setBinaryPayload(UnsafeByteOperations.unsafeWrap((byte[]) payload));
+        } else if (payload instanceof ByteBuffer) {
+            return eventBuilder.setBinaryPayload(UnsafeByteOperations.unsafeWrap(((ByteBuffer) payload)
+                    .duplicate()));
+        }
+        return eventBuilder.setPayload(payload.toString());
+    }
+
+    /**
+     * Returns the payload of an event to hand to a mapper, a byte[] if the event has a binary payload and the
+     * text payload otherwise.
+     */
+    public static Object getPayload(Event event) {
+        if (event.getPayloadTypeCase() == Event.PayloadTypeCase.BINARY_PAYLOAD) {
+            return event.getBinaryPayload().toByteArray();
+        }
+        return event.getPayload();
+    }
+
     /**
      * Replace the env variable with the real value.
      */
@@ -107,4 +150,71 @@ public class GrpcUtils {
         matcher.appendTail(sb);
         return sb.toString();
     }
+
+    /**
+     * Returns the SSL context of a client channel to the service, trusting the truststore and authenticating with
+     * the keystore of the service configs, or null if the channel is plaintext.
+     */
+    public static SslContext createClientSslContext(ServiceConfigs serviceConfigs, String siddhiAppName,
+                                                    String streamID) {
+        if (serviceConfigs.getTruststoreFilePath() == null && serviceConfigs.getKeystoreFilePath() == null) {
+            return null;
+        }
+        SslContextBuilder sslContextBuilder = GrpcSslContexts.forClient();
+        if (serviceConfigs.getTruststoreFilePath() != null) {
+            sslContextBuilder.trustManager(getTrustManagerFactory(serviceConfigs.getTruststoreFilePath(),
+                    serviceConfigs.getTruststorePassword(), serviceConfigs.getTruststoreAlgorithm(),
+                    serviceConfigs.getTlsStoreType(), siddhiAppName, streamID));
+        }
+        if (serviceConfigs.getKeystoreFilePath() != null) {
+            sslContextBuilder.keyManager(getKeyManagerFactory(serviceConfigs.getKeystoreFilePath(),
+                    serviceConfigs.getKeystorePassword(), serviceConfigs.getKeystoreAlgorithm(),
+                    serviceConfigs.getTlsStoreType(), siddhiAppName, streamID));
+        }
+        try {
+            return sslContextBuilder.build();
+        } catch (SSLException e) {
+            throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": Error while " +
+                    "creating gRPC channel. " + e.getMessage(), e);
+        }
+    }
+
+    private static TrustManagerFactory getTrustManagerFactory(String filePath, String password, String algorithm,
+                                                              String storeType, String siddhiAppName,
+                                                              String streamID) {
+        char[] passphrase = password.toCharArray();
+        try {
+            KeyStore keyStore = KeyStore.getInstance(storeType);
+            try (FileInputStream fis = new FileInputStream(filePath)) {
+                keyStore.load(fis, passphrase);
+            } catch (IOException e) {
+                throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": " + e.getMessage(), e);
+            }
+            TrustManagerFactory tmf = TrustManagerFactory.getInstance(algorithm);
+            tmf.init(keyStore);
+            return tmf;
+        } catch (CertificateException | NoSuchAlgorithmException | KeyStoreException e) {
+           throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": Error while reading truststore " +
+                   e.getMessage(), e);
+        }
+    }
+
+    private static KeyManagerFactory getKeyManagerFactory(String filePath, String password, String algorithm,
+                                                          String storeType, String siddhiAppName, String streamID) {
+        try {
+            KeyStore keyStore = KeyStore.getInstance(storeType);
+            char[] passphrase = password.toCharArray();
+            try (FileInputStream fis = new FileInputStream(filePath)) {
+                keyStore.load(fis, passphrase);
+            } catch (IOException e) {
+                throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": " + e.getMessage(), e);
+            }
+            KeyManagerFactory kmf = KeyManagerFactory.getInstance(algorithm);
+            kmf.init(keyStore, passphrase);
+            return kmf;
+        } catch (CertificateException | UnrecoverableKeyException | NoSuchAlgorithmException | KeyStoreException e) {
+            throw new SiddhiAppCreationException(siddhiAppName + ": " + streamID + ": Error while reading keystore " +
+                    e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.util;
+
+import io.grpc.Metadata;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.util.transport.Option;
+import io.siddhi.query.api.definition.StreamDefinition;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Compiled form of the headers and metadata options, which are lists of 'key:value' pairs whose keys and values may
+ * refer to attributes of the stream. The option is parsed once, so that only the attribute values are substituted
+ * for each event. When the pairs themselves come from attributes, as in {@code headers='{{headers}}'}, the pairs are
+ * parsed for each event instead.
+ * <p>
+ * The layout of a dynamic option is found by evaluating it for an event whose attribute values are markers holding
+ * the attribute index, since {@link Option} does not expose its template.
+ */
+public class KeyValueTemplate {
+    private static final char MARKER = '\u0000';
+    private static final char PAIR_SEPARATOR = GrpcConstants.COMMA_STRING.charAt(0);
+    private static final char KEY_VALUE_SEPARATOR = GrpcConstants.SEMI_COLON_STRING.charAt(0);
+    private static final char QUOTE = GrpcConstants.INVERTED_COMMA_STRING.charAt(0);
+    private final String siddhiAppName;
+    private final String streamID;
+    private final String optionKey;
+    private final boolean isStatic;
+    private Part[] keys;
+    private Part[] values;
+    private List<Metadata.Key<String>> metadataKeys;
+    private Part unparsed;
+
+    public KeyValueTemplate(Option option, StreamDefinition streamDefinition, String siddhiAppName,
+                            String streamID) {
+        this.siddhiAppName = siddhiAppName;
+        this.streamID = streamID;
+        this.optionKey = option.getKey();
+        this.isStatic = option.isStatic();
+        String template;
+        if (isStatic) {
+            template = option.getValue();
+        } else {
+            Object[] markers = new Object[streamDefinition.getAttributeList().size()];
+            for (int i = 0; i < markers.length; i++) {
+                markers[i] = MARKER + Integer.toString(i) + MARKER;
+            }
+            template = option.getValue(new Event(0, markers));
+        }
+        String[] pairs = stripQuotes(template).split(GrpcConstants.COMMA_STRING);
+        for (String pair : pairs) {
+            if (pair.indexOf(KEY_VALUE_SEPARATOR) < 0) {
+                if (isStatic) {
+                    throw new SiddhiAppValidationException(siddhiAppName + ":" + streamID + ": Invalid " +
+                            optionKey + " entry '" + pair + "'. Expected 'key:value' pairs separated by commas");
+                }
+                this.unparsed = Part.parse(template);
+                return;
+            }
+        }
+        this.keys = new Part[pairs.length];
+        this.values = new Part[pairs.length];
+        this.metadataKeys = new ArrayList<>(pairs.length);
+        for (int i = 0; i < pairs.length; i++) {
+            int separator = pairs[i].indexOf(KEY_VALUE_SEPARATOR);
+            keys[i] = Part.parse(pairs[i].substring(0, separator));
+            values[i] = Part.parse(pairs[i].substring(separator + 1));
+            metadataKeys.add(keys[i].isLiteral() ?
+                    Metadata.Key.of(keys[i].literals[0], Metadata.ASCII_STRING_MARSHALLER) : null);
+        }
+    }
+
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    /**
+     * Pass each pair of the option for the given event data to the consumer. The data is not used if the option
+     * is static.
+     */
+    public void forEach(Object[] data, BiConsumer<String, String> consumer) {
+        if (unparsed == null) {
+            for (int i = 0; i < keys.length; i++) {
+                consumer.accept(keys[i].build(data), values[i].build(data));
+            }
+            return;
+        }
+        String pairs = stripQuotes(unparsed.build(data));
+        int start = 0;
+        while (start <= pairs.length()) {
+            int end = pairs.indexOf(PAIR_SEPARATOR, start);
+            if (end < 0) {
+                end = pairs.length();
+            }
+            int separator = pairs.indexOf(KEY_VALUE_SEPARATOR, start);
+            if (separator < 0 || separator > end) {
+                throw new SiddhiAppRuntimeException(siddhiAppName + ":" + streamID + ": Invalid " + optionKey +
+                        " entry '" + pairs.substring(start, end) + "'. Expected 'key:value' pairs separated by " +
+                        "commas");
+            }
+            consumer.accept(pairs.substring(start, separator), pairs.substring(separator + 1, end));
+            start = end + 1;
+        }
+    }
+
+    public Map<String, String> toMap(Object[] data) {
+        Map<String, String> map = new LinkedHashMap<>();
+        forEach(data, map::put);
+        return map;
+    }
+
+    public Metadata toMetadata(Object[] data) {
+        Metadata metadata = new Metadata();
+        if (unparsed == null) {
+            for (int i = 0; i < keys.length; i++) {
+                Metadata.Key<String> key = metadataKeys.get(i);
+                if (key == null) {
+                    key = Metadata.Key.of(keys[i].build(data), Metadata.ASCII_STRING_MARSHALLER);
+                }
+                metadata.put(key, values[i].build(data));
+            }
+        } else {
+            forEach(data, (key, value) -> metadata.put(Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER),
+                    value));
+        }
+        return metadata;
+    }
+
+    private static String stripQuotes(String text) {
+        if (text.indexOf(QUOTE) < 0) {
+            return text;
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != QUOTE) {
+                builder.append(text.charAt(i));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Key or value of a pair, made of literal text with attribute values in between.
+     */
+    private static class Part {
+        private final String[] literals;
+        private final int[] attributeIndexes;
+
+        private Part(String[] literals, int[] attributeIndexes) {
+            this.literals = literals;
+            this.attributeIndexes = attributeIndexes;
+        }
+
+        private static Part parse(String text) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> attributeIndexes = new ArrayList<>();
+            int start = 0;
+            int markerStart;
+            while ((markerStart = text.indexOf(MARKER, start)) >= 0) {
+                int markerEnd = text.indexOf(MARKER, markerStart + 1);
+                literals.add(text.substring(start, markerStart));
+                attributeIndexes.add(Integer.parseInt(text.substring(markerStart + 1, markerEnd)));
+                start = markerEnd + 1;
+            }
+            literals.add(text.substring(start));
+            int[] indexes = new int[attributeIndexes.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = attributeIndexes.get(i);
+            }
+            return new Part(literals.toArray(new String[0]), indexes);
+        }
+
+        private boolean isLiteral() {
+            return attributeIndexes.length == 0;
+        }
+
+        private String build(Object[] data) {
+            if (attributeIndexes.length == 0) {
+                return literals[0];
+            }
+            if (attributeIndexes.length == 1 && literals[0].isEmpty() && literals[1].isEmpty()) {
+                return String.valueOf(data[attributeIndexes[0]]);
+            }
+            StringBuilder builder = new StringBuilder(literals[0]);
+            for (int i = 0; i < attributeIndexes.length; i++) {
+                builder.append(data[attributeIndexes[i]]).append(literals[i + 1]);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.util;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.definition.StreamDefinition;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.grpc.NativeEvents;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codec of the native row encoding used between Siddhi nodes, which carries Siddhi events without a mapper. The
+ * sender describes its attributes once per call in the siddhi.schema metadata, as comma separated name:type pairs
+ * in the order of its stream definition. Each row then holds the timestamp as the difference from the previous
+ * row, a bitmap of the null attributes, and the other attribute values in their protobuf wire encoding. The
+ * receiver matches the attributes with its own stream definition by name when the call starts.
+ */
+public class NativeEventCodec {
+    private static final String ATTRIBUTE_SEPARATOR = ",";
+    private static final String TYPE_SEPARATOR = ":";
+
+    private final Attribute.Type[] types;
+    private final int[] positions;
+    private final int attributeCount;
+    private final int bitmapBytes;
+
+    private NativeEventCodec(Attribute.Type[] types, int[] positions, int attributeCount) {
+        this.types = types;
+        this.positions = positions;
+        this.attributeCount = attributeCount;
+        this.bitmapBytes = (types.length + 7) / 8;
+    }
+
+    /**
+     * Create the codec encoding the events of a stream.
+     *
+     * @throws SiddhiAppValidationException if the stream has an attribute of type object, which cannot be encoded
+     */
+    public static NativeEventCodec forSender(StreamDefinition streamDefinition, String siddhiAppName) {
+        List<Attribute> attributes = streamDefinition.getAttributeList();
+        Attribute.Type[] types = new Attribute.Type[attributes.size()];
+        int[] positions = new int[types.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = attributes.get(i).getType();
+            positions[i] = i;
+            if (types[i] == Attribute.Type.OBJECT) {
+                throw new SiddhiAppValidationException(siddhiAppName + ":" + streamDefinition.getId() + ": " +
+                        GrpcConstants.FORMAT + " '" + GrpcConstants.FORMAT_NATIVE + "' does not support the " +
+                        "attribute '" + attributes.get(i).getName() + "' of type " + types[i]);
+            }
+        }
+        return new NativeEventCodec(types, positions, types.length);
+    }
+
+    /**
+     * Create the codec decoding the events sent with the given schema into events of a stream.
+     *
+     * @throws SiddhiAppRuntimeException if the schema does not have the same attribute names and types as the
+     *                                   stream
+     */
+    public static NativeEventCodec forReceiver(String schema, StreamDefinition streamDefinition) {
+        List<Attribute> attributes = streamDefinition.getAttributeList();
+        Map<String, Integer> attributePositions = new HashMap<>();
+        for (int i = 0; i < attributes.size(); i++) {
+            attributePositions.put(attributes.get(i).getName(), i);
+        }
+        String[] schemaAttributes = schema.isEmpty() ? new String[0] : schema.split(ATTRIBUTE_SEPARATOR);
+        Attribute.Type[] types = new Attribute.Type[schemaAttributes.length];
+        int[] positions = new int[types.length];
+        boolean matches = schemaAttributes.length == attributes.size();
+        for (int i = 0; i < types.length && matches; i++) {
+            String[] nameAndType = schemaAttributes[i].split(TYPE_SEPARATOR);
+            Integer position = nameAndType.length == 2 ? attributePositions.get(nameAndType[0]) : null;
+            matches = position != null && attributes.get(position).getType().name().equalsIgnoreCase(
+                    nameAndType[1]);
+            if (matches) {
+                types[i] = attributes.get(position).getType();
+                positions[i] = position;
+            }
+        }
+        if (!matches) {
+            throw new SiddhiAppRuntimeException("Schema '" + schema + "' of the sender does not match the " +
+                    "stream '" + streamDefinition.getId() + "' with schema '" + getSchema(streamDefinition) + "'");
+        }
+        return new NativeEventCodec(types, positions, attributes.size());
+    }
+
+    /**
+     * Returns the schema of a stream sent by the senders in the siddhi.schema metadata.
+     */
+    public static String getSchema(StreamDefinition streamDefinition) {
+        StringBuilder schema = new StringBuilder();
+        for (Attribute attribute : streamDefinition.getAttributeList()) {
+            if (schema.length() > 0) {
+                schema.append(ATTRIBUTE_SEPARATOR);
+            }
+            schema.append(attribute.getName()).append(TYPE_SEPARATOR).append(attribute.getType().name()
+                    .toLowerCase());
+        }
+        return schema.toString();
+    }
+
+    /**
+     * Encode the events of the passThrough mapper, either an event or the events of a chunk.
+     *
+     * @throws SiddhiAppRuntimeException if the payload is not an event
+     */
+    public NativeEvents encode(Object payload) {
+        Event[] events;
+        if (payload instanceof Event[]) {
+            events = (Event[]) payload;
+        } else if (payload instanceof Event) {
+            events = new Event[]{(Event) payload};
+        } else {
+            throw new SiddhiAppRuntimeException(GrpcConstants.FORMAT + " '" + GrpcConstants.FORMAT_NATIVE +
+                    "' requires the events of the passThrough mapper but received " + payload.getClass().getName());
+        }
+        ByteString.Output output = ByteString.newOutput();
+        CodedOutputStream codedOutput = CodedOutputStream.newInstance(output);
+        try {
+            long previousTimestamp = 0;
+            for (Event event : events) {
+                codedOutput.writeSInt64NoTag(event.getTimestamp() - previousTimestamp);
+                previousTimestamp = event.getTimestamp();
+                Object[] data = event.getData();
+                for (int offset = 0; offset < bitmapBytes; offset++) {
+                    int bitmap = 0;
+                    for (int bit = 0; bit < 8 && offset * 8 + bit < types.length; bit++) {
+                        if (data[offset * 8 + bit] == null) {
+                            bitmap |= 1 << bit;
+                        }
+                    }
+                    codedOutput.writeRawByte(bitmap);
+                }
+                for (int i = 0; i < types.length; i++) {
+                    if (data[i] != null) {
+                        writeValue(codedOutput, types[i], data[i]);
+                    }
+                }
+            }
+            codedOutput.flush();
+        } catch (IOException e) {
+            throw new SiddhiAppRuntimeException("Error while encoding " + events.length + " events. " +
+                    e.getMessage(), e);
+        }
+        return NativeEvents.newBuilder().setRowCount(events.length).setRows(output.toByteString()).build();
+    }
+
+    private static void writeValue(CodedOutputStream codedOutput, Attribute.Type type, Object value)
+            throws IOException {
+        switch (type) {
+            case INT:
+                codedOutput.writeSInt32NoTag(((Number) value).intValue());
+                break;
+            case LONG:
+                codedOutput.writeSInt64NoTag(((Number) value).longValue());
+                break;
+            case FLOAT:
+                codedOutput.writeFloatNoTag(((Number) value).floatValue());
+                break;
+            case DOUBLE:
+                codedOutput.writeDoubleNoTag(((Number) value).doubleValue());
+                break;
+            case BOOL:
+                codedOutput.writeBoolNoTag((Boolean) value);
+                break;
+            default:
+                codedOutput.writeStringNoTag(value.toString());
+        }
+    }
+
+    /**
+     * Decode the rows of a request into events of the stream of the receiver.
+     *
+     * @throws SiddhiAppRuntimeException if the rows are not a valid encoding of the events
+     */
+    public Event[] decode(NativeEvents request) {
+        Event[] events = new Event[request.getRowCount()];
+        CodedInputStream input = request.getRows().newCodedInput();
+        try {
+            long timestamp = 0;
+            int[] bitmap = new int[bitmapBytes];
+            for (int row = 0; row < events.length; row++) {
+                timestamp += input.readSInt64();
+                for (int offset = 0; offset < bitmapBytes; offset++) {
+                    bitmap[offset] = input.readRawByte();
+                }
+                Object[] data = new Object[attributeCount];
+                for (int i = 0; i < types.length; i++) {
+                    if ((bitmap[i / 8] & 1 << i % 8) == 0) {
+                        data[positions[i]] = readValue(input, types[i]);
+                    }
+                }
+                events[row] = new Event(timestamp, data);
+            }
+        } catch (IOException e) {
+            throw new SiddhiAppRuntimeException("Invalid native encoding of " + events.length + " events. " +
+                    e.getMessage(), e);
+        }
+        return events;
+    }
+
+    private static Object readValue(CodedInputStream input, Attribute.Type type) throws IOException {
+        switch (type) {
+            case INT:
+                return input.readSInt32();
+            case LONG:
+                return input.readSInt64();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BOOL:
+                return input.readBool();
+            default:
+                return input.readStringRequireUtf8();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -42,6 +43,7 @@ public class ServiceConfigs {
     private int port;
     private String methodName;
     private String hostPort;
+    private List<String> endpoints;
     private String sequenceName;
     private boolean isDefaultService = false;
     private String fullyQualifiedServiceName;
@@ -70,16 +72,50 @@ public class ServiceConfigs {
             throw new SiddhiAppValidationException(siddhiAppContext.getName() + ": " + streamID + ": The url must " +
                     "begin with \"" + GrpcConstants.GRPC_PROTOCOL_NAME + "\" for all grpc sinks");
         }
+        String urlWithoutProtocol = url.substring(4);
+        int pathStart = urlWithoutProtocol.indexOf('/', 3);
+        String authority = GrpcConstants.EMPTY_STRING;
+        if (urlWithoutProtocol.startsWith("://")) {
+            authority = pathStart == -1 ? urlWithoutProtocol.substring(3) : urlWithoutProtocol.substring(3,
+                    pathStart);
+        }
+        this.endpoints = Arrays.asList(authority.split(GrpcConstants.COMMA_STRING));
+        if (endpoints.size() > 1) {
+            if (isSource) {
+                throw new SiddhiAppValidationException(siddhiAppContext.getName() + ": " + streamID + ": " +
+                        "receiver.url should contain a single host and port but the provided url is " + url);
+            }
+            for (String endpoint : endpoints) {
+                try {
+                    if (endpoint.isEmpty() || new URL(GrpcConstants.DUMMY_PROTOCOL_NAME + "://" + endpoint)
+                            .getPort() == -1) {
+                        throw new SiddhiAppValidationException(siddhiAppContext.getName() + ": " + streamID +
+                                ": Each endpoint of publisher.url should be given as <host>:<port> but found '" +
+                                endpoint + "' in " + url);
+                    }
+                } catch (MalformedURLException e) {
+                    throw new SiddhiAppValidationException(siddhiAppContext.getName() + ": " + streamID +
+                            ": Error in URL format. Invalid endpoint '" + endpoint + "' in " + url, e);
+                }
+            }
+            urlWithoutProtocol = "://" + endpoints.get(0) + (pathStart == -1 ? "" : urlWithoutProtocol.substring(
+                    pathStart));
+        }
         URL aURL;
         try {
-            aURL = new URL(GrpcConstants.DUMMY_PROTOCOL_NAME + url.substring(4));
+            aURL = new URL(GrpcConstants.DUMMY_PROTOCOL_NAME + urlWithoutProtocol);
         } catch (MalformedURLException e) {
             throw new SiddhiAppValidationException(siddhiAppContext.getName() + ": " + streamID +
                     ": Error in URL format. Expected format is `grpc://0.0.0.0:9763/<serviceName>/<methodName>` but " +
                     "the provided url is " + url + ". ", e);
         }
         this.port = aURL.getPort();
-        this.hostPort = aURL.getAuthority();
+        if (endpoints.size() > 1) {
+            this.hostPort = authority;
+        } else {
+            this.hostPort = aURL.getAuthority();
+            this.endpoints = Collections.singletonList(hostPort);
+        }
         if (this.port == -1 || this.hostPort == null || aURL.getPath().equals("")) {
             throw new SiddhiAppValidationException(siddhiAppContext.getName() + ": " + streamID + ": URL not " +
                     "properly given. Expected format is `grpc://0.0.0.0:9763/<serviceName>/<methodName>` or " +
@@ -209,6 +245,14 @@ public class ServiceConfigs {
         return hostPort;
     }
 
+    /**
+     * Returns the host and port of each endpoint given in the url. There is more than one endpoint only when the
+     * publisher.url lists several comma separated endpoints.
+     */
+    public List<String> getEndpoints() {
+        return endpoints;
+    }
+
     public String getSequenceName() {
         return sequenceName;
     }
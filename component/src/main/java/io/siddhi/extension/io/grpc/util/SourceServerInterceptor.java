@@ -17,6 +17,7 @@
  */
 package io.siddhi.extension.io.grpc.util;
 
+import io.grpc.Codec;
 import io.grpc.Context;
 import io.grpc.Contexts;
 import io.grpc.Metadata;
@@ -33,10 +34,12 @@ import java.util.Map;
 import java.util.Set;
 
 /**
- * Server interceptor to receive headers.
+ * Server interceptor to receive headers. Responses are compressed with the same encoding as the request.
  */
 public class SourceServerInterceptor implements ServerInterceptor {
     private static final Logger logger = LogManager.getLogger(SourceServerInterceptor.class);
+    private static final Metadata.Key<String> MESSAGE_ENCODING_KEY = Metadata.Key.of("grpc-encoding",
+            Metadata.ASCII_STRING_MARSHALLER);
     private boolean isDefaultService;
 
     public SourceServerInterceptor(boolean isDefaultService) {
@@ -58,6 +61,11 @@ public class SourceServerInterceptor implements ServerInterceptor {
       } else {
           GenericServiceServer.metaDataMap.set(metaDataMap);
       }
+    String messageEncoding = metadata.get(MESSAGE_ENCODING_KEY);
+    if (messageEncoding != null && !Codec.Identity.NONE.getMessageEncoding().equals(messageEncoding) &&
+            GrpcCompressionCodecs.getCompressorRegistry().lookupCompressor(messageEncoding) != null) {
+      serverCall.setCompression(messageEncoding);
+    }
     return Contexts.interceptCall(Context.ROOT, serverCall, metadata, serverCallHandler);
   }
 }
@@ -0,0 +1,572 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+/**
+ * Protobuf type {@code eventservice.BoolColumn}
+ */
+public  final class BoolColumn extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:eventservice.BoolColumn)
+    BoolColumnOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use BoolColumn.newBuilder() to construct.
+  private BoolColumn(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private BoolColumn() {
+    values_ = emptyBooleanList();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private BoolColumn(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              values_ = newBooleanList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            values_.addBoolean(input.readBool());
+            break;
+          }
+          case 10: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              values_ = newBooleanList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              values_.addBoolean(input.readBool());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        values_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_BoolColumn_descriptor;
+  }
+
+  @Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_BoolColumn_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.wso2.grpc.BoolColumn.class, org.wso2.grpc.BoolColumn.Builder.class);
+  }
+
+  public static final int VALUES_FIELD_NUMBER = 1;
+  private com.google.protobuf.Internal.BooleanList values_;
+  /**
+   * <code>repeated bool values = 1;</code>
+   */
+  public java.util.List<Boolean>
+      getValuesList() {
+    return values_;
+  }
+  /**
+   * <code>repeated bool values = 1;</code>
+   */
+  public int getValuesCount() {
+    return values_.size();
+  }
+  /**
+   * <code>repeated bool values = 1;</code>
+   */
+  public boolean getValues(int index) {
+    return values_.getBoolean(index);
+  }
+  private int valuesMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getValuesList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(valuesMemoizedSerializedSize);
+    }
+    for (int i = 0; i < values_.size(); i++) {
+      output.writeBoolNoTag(values_.getBoolean(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      dataSize = 1 * getValuesList().size();
+      size += dataSize;
+      if (!getValuesList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      valuesMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.wso2.grpc.BoolColumn)) {
+      return super.equals(obj);
+    }
+    org.wso2.grpc.BoolColumn other = (org.wso2.grpc.BoolColumn) obj;
+
+    if (!getValuesList()
+        .equals(other.getValuesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getValuesCount() > 0) {
+      hash = (37 * hash) + VALUES_FIELD_NUMBER;
+      hash = (53 * hash) + getValuesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.wso2.grpc.BoolColumn parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.BoolColumn parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.BoolColumn parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.BoolColumn parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.wso2.grpc.BoolColumn prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventservice.BoolColumn}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventservice.BoolColumn)
+      org.wso2.grpc.BoolColumnOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_BoolColumn_descriptor;
+    }
+
+    @Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_BoolColumn_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.wso2.grpc.BoolColumn.class, org.wso2.grpc.BoolColumn.Builder.class);
+    }
+
+    // Construct using org.wso2.grpc.BoolColumn.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      values_ = emptyBooleanList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_BoolColumn_descriptor;
+    }
+
+    @Override
+    public org.wso2.grpc.BoolColumn getDefaultInstanceForType() {
+      return org.wso2.grpc.BoolColumn.getDefaultInstance();
+    }
+
+    @Override
+    public org.wso2.grpc.BoolColumn build() {
+      org.wso2.grpc.BoolColumn result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public org.wso2.grpc.BoolColumn buildPartial() {
+      org.wso2.grpc.BoolColumn result = new org.wso2.grpc.BoolColumn(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        values_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.values_ = values_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.wso2.grpc.BoolColumn) {
+        return mergeFrom((org.wso2.grpc.BoolColumn)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.wso2.grpc.BoolColumn other) {
+      if (other == org.wso2.grpc.BoolColumn.getDefaultInstance()) return this;
+      if (!other.values_.isEmpty()) {
+        if (values_.isEmpty()) {
+          values_ = other.values_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureValuesIsMutable();
+          values_.addAll(other.values_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.wso2.grpc.BoolColumn parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.wso2.grpc.BoolColumn) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.BooleanList values_ = emptyBooleanList();
+    private void ensureValuesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        values_ = mutableCopy(values_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     */
+    public java.util.List<Boolean>
+        getValuesList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(values_) : values_;
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     */
+    public int getValuesCount() {
+      return values_.size();
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     */
+    public boolean getValues(int index) {
+      return values_.getBoolean(index);
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     */
+    public Builder setValues(
+        int index, boolean value) {
+      ensureValuesIsMutable();
+      values_.setBoolean(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     */
+    public Builder addValues(boolean value) {
+      ensureValuesIsMutable();
+      values_.addBoolean(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     */
+    public Builder addAllValues(
+        Iterable<? extends Boolean> values) {
+      ensureValuesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, values_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     */
+    public Builder clearValues() {
+      values_ = emptyBooleanList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:eventservice.BoolColumn)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventservice.BoolColumn)
+  private static final org.wso2.grpc.BoolColumn DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.wso2.grpc.BoolColumn();
+  }
+
+  public static org.wso2.grpc.BoolColumn getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BoolColumn>
+      PARSER = new com.google.protobuf.AbstractParser<BoolColumn>() {
+    @Override
+    public BoolColumn parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new BoolColumn(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<BoolColumn> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<BoolColumn> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public org.wso2.grpc.BoolColumn getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,22 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+public interface BoolColumnOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventservice.BoolColumn)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated bool values = 1;</code>
+   */
+  java.util.List<Boolean> getValuesList();
+  /**
+   * <code>repeated bool values = 1;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated bool values = 1;</code>
+   */
+  boolean getValues(int index);
+}
@@ -0,0 +1,1500 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+/**
+ * Protobuf type {@code eventservice.Column}
+ */
+public  final class Column extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:eventservice.Column)
+    ColumnOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use Column.newBuilder() to construct.
+  private Column(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private Column() {
+    nullRows_ = emptyIntList();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private Column(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            org.wso2.grpc.LongColumn.Builder subBuilder = null;
+            if (valuesTypeCase_ == 1) {
+              subBuilder = ((org.wso2.grpc.LongColumn) valuesType_).toBuilder();
+            }
+            valuesType_ =
+                input.readMessage(org.wso2.grpc.LongColumn.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.wso2.grpc.LongColumn) valuesType_);
+              valuesType_ = subBuilder.buildPartial();
+            }
+            valuesTypeCase_ = 1;
+            break;
+          }
+          case 18: {
+            org.wso2.grpc.DoubleColumn.Builder subBuilder = null;
+            if (valuesTypeCase_ == 2) {
+              subBuilder = ((org.wso2.grpc.DoubleColumn) valuesType_).toBuilder();
+            }
+            valuesType_ =
+                input.readMessage(org.wso2.grpc.DoubleColumn.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.wso2.grpc.DoubleColumn) valuesType_);
+              valuesType_ = subBuilder.buildPartial();
+            }
+            valuesTypeCase_ = 2;
+            break;
+          }
+          case 26: {
+            org.wso2.grpc.BoolColumn.Builder subBuilder = null;
+            if (valuesTypeCase_ == 3) {
+              subBuilder = ((org.wso2.grpc.BoolColumn) valuesType_).toBuilder();
+            }
+            valuesType_ =
+                input.readMessage(org.wso2.grpc.BoolColumn.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.wso2.grpc.BoolColumn) valuesType_);
+              valuesType_ = subBuilder.buildPartial();
+            }
+            valuesTypeCase_ = 3;
+            break;
+          }
+          case 34: {
+            org.wso2.grpc.StringColumn.Builder subBuilder = null;
+            if (valuesTypeCase_ == 4) {
+              subBuilder = ((org.wso2.grpc.StringColumn) valuesType_).toBuilder();
+            }
+            valuesType_ =
+                input.readMessage(org.wso2.grpc.StringColumn.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.wso2.grpc.StringColumn) valuesType_);
+              valuesType_ = subBuilder.buildPartial();
+            }
+            valuesTypeCase_ = 4;
+            break;
+          }
+          case 40: {
+            if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+              nullRows_ = newIntList();
+              mutable_bitField0_ |= 0x00000010;
+            }
+            nullRows_.addInt(input.readUInt32());
+            break;
+          }
+          case 42: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000010) != 0) && input.getBytesUntilLimit() > 0) {
+              nullRows_ = newIntList();
+              mutable_bitField0_ |= 0x00000010;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              nullRows_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000010) != 0)) {
+        nullRows_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_Column_descriptor;
+  }
+
+  @Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_Column_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.wso2.grpc.Column.class, org.wso2.grpc.Column.Builder.class);
+  }
+
+  private int bitField0_;
+  private int valuesTypeCase_ = 0;
+  private Object valuesType_;
+  public enum ValuesTypeCase
+      implements com.google.protobuf.Internal.EnumLite {
+    LONG_VALUES(1),
+    DOUBLE_VALUES(2),
+    BOOL_VALUES(3),
+    STRING_VALUES(4),
+    VALUESTYPE_NOT_SET(0);
+    private final int value;
+    private ValuesTypeCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @Deprecated
+    public static ValuesTypeCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static ValuesTypeCase forNumber(int value) {
+      switch (value) {
+        case 1: return LONG_VALUES;
+        case 2: return DOUBLE_VALUES;
+        case 3: return BOOL_VALUES;
+        case 4: return STRING_VALUES;
+        case 0: return VALUESTYPE_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public ValuesTypeCase
+  getValuesTypeCase() {
+    return ValuesTypeCase.forNumber(
+        valuesTypeCase_);
+  }
+
+  public static final int LONG_VALUES_FIELD_NUMBER = 1;
+  /**
+   * <code>.eventservice.LongColumn long_values = 1;</code>
+   */
+  public boolean hasLongValues() {
+    return valuesTypeCase_ == 1;
+  }
+  /**
+   * <code>.eventservice.LongColumn long_values = 1;</code>
+   */
+  public org.wso2.grpc.LongColumn getLongValues() {
+    if (valuesTypeCase_ == 1) {
+       return (org.wso2.grpc.LongColumn) valuesType_;
+    }
+    return org.wso2.grpc.LongColumn.getDefaultInstance();
+  }
+  /**
+   * <code>.eventservice.LongColumn long_values = 1;</code>
+   */
+  public org.wso2.grpc.LongColumnOrBuilder getLongValuesOrBuilder() {
+    if (valuesTypeCase_ == 1) {
+       return (org.wso2.grpc.LongColumn) valuesType_;
+    }
+    return org.wso2.grpc.LongColumn.getDefaultInstance();
+  }
+
+  public static final int DOUBLE_VALUES_FIELD_NUMBER = 2;
+  /**
+   * <code>.eventservice.DoubleColumn double_values = 2;</code>
+   */
+  public boolean hasDoubleValues() {
+    return valuesTypeCase_ == 2;
+  }
+  /**
+   * <code>.eventservice.DoubleColumn double_values = 2;</code>
+   */
+  public org.wso2.grpc.DoubleColumn getDoubleValues() {
+    if (valuesTypeCase_ == 2) {
+       return (org.wso2.grpc.DoubleColumn) valuesType_;
+    }
+    return org.wso2.grpc.DoubleColumn.getDefaultInstance();
+  }
+  /**
+   * <code>.eventservice.DoubleColumn double_values = 2;</code>
+   */
+  public org.wso2.grpc.DoubleColumnOrBuilder getDoubleValuesOrBuilder() {
+    if (valuesTypeCase_ == 2) {
+       return (org.wso2.grpc.DoubleColumn) valuesType_;
+    }
+    return org.wso2.grpc.DoubleColumn.getDefaultInstance();
+  }
+
+  public static final int BOOL_VALUES_FIELD_NUMBER = 3;
+  /**
+   * <code>.eventservice.BoolColumn bool_values = 3;</code>
+   */
+  public boolean hasBoolValues() {
+    return valuesTypeCase_ == 3;
+  }
+  /**
+   * <code>.eventservice.BoolColumn bool_values = 3;</code>
+   */
+  public org.wso2.grpc.BoolColumn getBoolValues() {
+    if (valuesTypeCase_ == 3) {
+       return (org.wso2.grpc.BoolColumn) valuesType_;
+    }
+    return org.wso2.grpc.BoolColumn.getDefaultInstance();
+  }
+  /**
+   * <code>.eventservice.BoolColumn bool_values = 3;</code>
+   */
+  public org.wso2.grpc.BoolColumnOrBuilder getBoolValuesOrBuilder() {
+    if (valuesTypeCase_ == 3) {
+       return (org.wso2.grpc.BoolColumn) valuesType_;
+    }
+    return org.wso2.grpc.BoolColumn.getDefaultInstance();
+  }
+
+  public static final int STRING_VALUES_FIELD_NUMBER = 4;
+  /**
+   * <code>.eventservice.StringColumn string_values = 4;</code>
+   */
+  public boolean hasStringValues() {
+    return valuesTypeCase_ == 4;
+  }
+  /**
+   * <code>.eventservice.StringColumn string_values = 4;</code>
+   */
+  public org.wso2.grpc.StringColumn getStringValues() {
+    if (valuesTypeCase_ == 4) {
+       return (org.wso2.grpc.StringColumn) valuesType_;
+    }
+    return org.wso2.grpc.StringColumn.getDefaultInstance();
+  }
+  /**
+   * <code>.eventservice.StringColumn string_values = 4;</code>
+   */
+  public org.wso2.grpc.StringColumnOrBuilder getStringValuesOrBuilder() {
+    if (valuesTypeCase_ == 4) {
+       return (org.wso2.grpc.StringColumn) valuesType_;
+    }
+    return org.wso2.grpc.StringColumn.getDefaultInstance();
+  }
+
+  public static final int NULL_ROWS_FIELD_NUMBER = 5;
+  private com.google.protobuf.Internal.IntList nullRows_;
+  /**
+   * <pre>
+   * the rows whose value is null, which are left out of the values
+   * </pre>
+   *
+   * <code>repeated uint32 null_rows = 5;</code>
+   */
+  public java.util.List<Integer>
+      getNullRowsList() {
+    return nullRows_;
+  }
+  /**
+   * <pre>
+   * the rows whose value is null, which are left out of the values
+   * </pre>
+   *
+   * <code>repeated uint32 null_rows = 5;</code>
+   */
+  public int getNullRowsCount() {
+    return nullRows_.size();
+  }
+  /**
+   * <pre>
+   * the rows whose value is null, which are left out of the values
+   * </pre>
+   *
+   * <code>repeated uint32 null_rows = 5;</code>
+   */
+  public int getNullRows(int index) {
+    return nullRows_.getInt(index);
+  }
+  private int nullRowsMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (valuesTypeCase_ == 1) {
+      output.writeMessage(1, (org.wso2.grpc.LongColumn) valuesType_);
+    }
+    if (valuesTypeCase_ == 2) {
+      output.writeMessage(2, (org.wso2.grpc.DoubleColumn) valuesType_);
+    }
+    if (valuesTypeCase_ == 3) {
+      output.writeMessage(3, (org.wso2.grpc.BoolColumn) valuesType_);
+    }
+    if (valuesTypeCase_ == 4) {
+      output.writeMessage(4, (org.wso2.grpc.StringColumn) valuesType_);
+    }
+    if (getNullRowsList().size() > 0) {
+      output.writeUInt32NoTag(42);
+      output.writeUInt32NoTag(nullRowsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < nullRows_.size(); i++) {
+      output.writeUInt32NoTag(nullRows_.getInt(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (valuesTypeCase_ == 1) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, (org.wso2.grpc.LongColumn) valuesType_);
+    }
+    if (valuesTypeCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, (org.wso2.grpc.DoubleColumn) valuesType_);
+    }
+    if (valuesTypeCase_ == 3) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, (org.wso2.grpc.BoolColumn) valuesType_);
+    }
+    if (valuesTypeCase_ == 4) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, (org.wso2.grpc.StringColumn) valuesType_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < nullRows_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(nullRows_.getInt(i));
+      }
+      size += dataSize;
+      if (!getNullRowsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      nullRowsMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.wso2.grpc.Column)) {
+      return super.equals(obj);
+    }
+    org.wso2.grpc.Column other = (org.wso2.grpc.Column) obj;
+
+    if (!getNullRowsList()
+        .equals(other.getNullRowsList())) return false;
+    if (!getValuesTypeCase().equals(other.getValuesTypeCase())) return false;
+    switch (valuesTypeCase_) {
+      case 1:
+        if (!getLongValues()
+            .equals(other.getLongValues())) return false;
+        break;
+      case 2:
+        if (!getDoubleValues()
+            .equals(other.getDoubleValues())) return false;
+        break;
+      case 3:
+        if (!getBoolValues()
+            .equals(other.getBoolValues())) return false;
+        break;
+      case 4:
+        if (!getStringValues()
+            .equals(other.getStringValues())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getNullRowsCount() > 0) {
+      hash = (37 * hash) + NULL_ROWS_FIELD_NUMBER;
+      hash = (53 * hash) + getNullRowsList().hashCode();
+    }
+    switch (valuesTypeCase_) {
+      case 1:
+        hash = (37 * hash) + LONG_VALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getLongValues().hashCode();
+        break;
+      case 2:
+        hash = (37 * hash) + DOUBLE_VALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getDoubleValues().hashCode();
+        break;
+      case 3:
+        hash = (37 * hash) + BOOL_VALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getBoolValues().hashCode();
+        break;
+      case 4:
+        hash = (37 * hash) + STRING_VALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getStringValues().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.wso2.grpc.Column parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.Column parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.Column parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.Column parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.Column parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.Column parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.Column parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.Column parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.Column parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.Column parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.Column parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.Column parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.wso2.grpc.Column prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventservice.Column}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventservice.Column)
+      org.wso2.grpc.ColumnOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_Column_descriptor;
+    }
+
+    @Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_Column_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.wso2.grpc.Column.class, org.wso2.grpc.Column.Builder.class);
+    }
+
+    // Construct using org.wso2.grpc.Column.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      nullRows_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000010);
+      valuesTypeCase_ = 0;
+      valuesType_ = null;
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_Column_descriptor;
+    }
+
+    @Override
+    public org.wso2.grpc.Column getDefaultInstanceForType() {
+      return org.wso2.grpc.Column.getDefaultInstance();
+    }
+
+    @Override
+    public org.wso2.grpc.Column build() {
+      org.wso2.grpc.Column result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public org.wso2.grpc.Column buildPartial() {
+      org.wso2.grpc.Column result = new org.wso2.grpc.Column(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (valuesTypeCase_ == 1) {
+        if (longValuesBuilder_ == null) {
+          result.valuesType_ = valuesType_;
+        } else {
+          result.valuesType_ = longValuesBuilder_.build();
+        }
+      }
+      if (valuesTypeCase_ == 2) {
+        if (doubleValuesBuilder_ == null) {
+          result.valuesType_ = valuesType_;
+        } else {
+          result.valuesType_ = doubleValuesBuilder_.build();
+        }
+      }
+      if (valuesTypeCase_ == 3) {
+        if (boolValuesBuilder_ == null) {
+          result.valuesType_ = valuesType_;
+        } else {
+          result.valuesType_ = boolValuesBuilder_.build();
+        }
+      }
+      if (valuesTypeCase_ == 4) {
+        if (stringValuesBuilder_ == null) {
+          result.valuesType_ = valuesType_;
+        } else {
+          result.valuesType_ = stringValuesBuilder_.build();
+        }
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        nullRows_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000010);
+      }
+      result.nullRows_ = nullRows_;
+      result.bitField0_ = to_bitField0_;
+      result.valuesTypeCase_ = valuesTypeCase_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.wso2.grpc.Column) {
+        return mergeFrom((org.wso2.grpc.Column)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.wso2.grpc.Column other) {
+      if (other == org.wso2.grpc.Column.getDefaultInstance()) return this;
+      if (!other.nullRows_.isEmpty()) {
+        if (nullRows_.isEmpty()) {
+          nullRows_ = other.nullRows_;
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          ensureNullRowsIsMutable();
+          nullRows_.addAll(other.nullRows_);
+        }
+        onChanged();
+      }
+      switch (other.getValuesTypeCase()) {
+        case LONG_VALUES: {
+          mergeLongValues(other.getLongValues());
+          break;
+        }
+        case DOUBLE_VALUES: {
+          mergeDoubleValues(other.getDoubleValues());
+          break;
+        }
+        case BOOL_VALUES: {
+          mergeBoolValues(other.getBoolValues());
+          break;
+        }
+        case STRING_VALUES: {
+          mergeStringValues(other.getStringValues());
+          break;
+        }
+        case VALUESTYPE_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.wso2.grpc.Column parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.wso2.grpc.Column) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int valuesTypeCase_ = 0;
+    private Object valuesType_;
+    public ValuesTypeCase
+        getValuesTypeCase() {
+      return ValuesTypeCase.forNumber(
+          valuesTypeCase_);
+    }
+
+    public Builder clearValuesType() {
+      valuesTypeCase_ = 0;
+      valuesType_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.LongColumn, org.wso2.grpc.LongColumn.Builder, org.wso2.grpc.LongColumnOrBuilder> longValuesBuilder_;
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    public boolean hasLongValues() {
+      return valuesTypeCase_ == 1;
+    }
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    public org.wso2.grpc.LongColumn getLongValues() {
+      if (longValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 1) {
+          return (org.wso2.grpc.LongColumn) valuesType_;
+        }
+        return org.wso2.grpc.LongColumn.getDefaultInstance();
+      } else {
+        if (valuesTypeCase_ == 1) {
+          return longValuesBuilder_.getMessage();
+        }
+        return org.wso2.grpc.LongColumn.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    public Builder setLongValues(org.wso2.grpc.LongColumn value) {
+      if (longValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        valuesType_ = value;
+        onChanged();
+      } else {
+        longValuesBuilder_.setMessage(value);
+      }
+      valuesTypeCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    public Builder setLongValues(
+        org.wso2.grpc.LongColumn.Builder builderForValue) {
+      if (longValuesBuilder_ == null) {
+        valuesType_ = builderForValue.build();
+        onChanged();
+      } else {
+        longValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valuesTypeCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    public Builder mergeLongValues(org.wso2.grpc.LongColumn value) {
+      if (longValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 1 &&
+            valuesType_ != org.wso2.grpc.LongColumn.getDefaultInstance()) {
+          valuesType_ = org.wso2.grpc.LongColumn.newBuilder((org.wso2.grpc.LongColumn) valuesType_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          valuesType_ = value;
+        }
+        onChanged();
+      } else {
+        if (valuesTypeCase_ == 1) {
+          longValuesBuilder_.mergeFrom(value);
+        }
+        longValuesBuilder_.setMessage(value);
+      }
+      valuesTypeCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    public Builder clearLongValues() {
+      if (longValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 1) {
+          valuesTypeCase_ = 0;
+          valuesType_ = null;
+          onChanged();
+        }
+      } else {
+        if (valuesTypeCase_ == 1) {
+          valuesTypeCase_ = 0;
+          valuesType_ = null;
+        }
+        longValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    public org.wso2.grpc.LongColumn.Builder getLongValuesBuilder() {
+      return getLongValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    public org.wso2.grpc.LongColumnOrBuilder getLongValuesOrBuilder() {
+      if ((valuesTypeCase_ == 1) && (longValuesBuilder_ != null)) {
+        return longValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valuesTypeCase_ == 1) {
+          return (org.wso2.grpc.LongColumn) valuesType_;
+        }
+        return org.wso2.grpc.LongColumn.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventservice.LongColumn long_values = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.LongColumn, org.wso2.grpc.LongColumn.Builder, org.wso2.grpc.LongColumnOrBuilder> 
+        getLongValuesFieldBuilder() {
+      if (longValuesBuilder_ == null) {
+        if (!(valuesTypeCase_ == 1)) {
+          valuesType_ = org.wso2.grpc.LongColumn.getDefaultInstance();
+        }
+        longValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.wso2.grpc.LongColumn, org.wso2.grpc.LongColumn.Builder, org.wso2.grpc.LongColumnOrBuilder>(
+                (org.wso2.grpc.LongColumn) valuesType_,
+                getParentForChildren(),
+                isClean());
+        valuesType_ = null;
+      }
+      valuesTypeCase_ = 1;
+      onChanged();;
+      return longValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.DoubleColumn, org.wso2.grpc.DoubleColumn.Builder, org.wso2.grpc.DoubleColumnOrBuilder> doubleValuesBuilder_;
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    public boolean hasDoubleValues() {
+      return valuesTypeCase_ == 2;
+    }
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    public org.wso2.grpc.DoubleColumn getDoubleValues() {
+      if (doubleValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 2) {
+          return (org.wso2.grpc.DoubleColumn) valuesType_;
+        }
+        return org.wso2.grpc.DoubleColumn.getDefaultInstance();
+      } else {
+        if (valuesTypeCase_ == 2) {
+          return doubleValuesBuilder_.getMessage();
+        }
+        return org.wso2.grpc.DoubleColumn.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    public Builder setDoubleValues(org.wso2.grpc.DoubleColumn value) {
+      if (doubleValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        valuesType_ = value;
+        onChanged();
+      } else {
+        doubleValuesBuilder_.setMessage(value);
+      }
+      valuesTypeCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    public Builder setDoubleValues(
+        org.wso2.grpc.DoubleColumn.Builder builderForValue) {
+      if (doubleValuesBuilder_ == null) {
+        valuesType_ = builderForValue.build();
+        onChanged();
+      } else {
+        doubleValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valuesTypeCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    public Builder mergeDoubleValues(org.wso2.grpc.DoubleColumn value) {
+      if (doubleValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 2 &&
+            valuesType_ != org.wso2.grpc.DoubleColumn.getDefaultInstance()) {
+          valuesType_ = org.wso2.grpc.DoubleColumn.newBuilder((org.wso2.grpc.DoubleColumn) valuesType_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          valuesType_ = value;
+        }
+        onChanged();
+      } else {
+        if (valuesTypeCase_ == 2) {
+          doubleValuesBuilder_.mergeFrom(value);
+        }
+        doubleValuesBuilder_.setMessage(value);
+      }
+      valuesTypeCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    public Builder clearDoubleValues() {
+      if (doubleValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 2) {
+          valuesTypeCase_ = 0;
+          valuesType_ = null;
+          onChanged();
+        }
+      } else {
+        if (valuesTypeCase_ == 2) {
+          valuesTypeCase_ = 0;
+          valuesType_ = null;
+        }
+        doubleValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    public org.wso2.grpc.DoubleColumn.Builder getDoubleValuesBuilder() {
+      return getDoubleValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    public org.wso2.grpc.DoubleColumnOrBuilder getDoubleValuesOrBuilder() {
+      if ((valuesTypeCase_ == 2) && (doubleValuesBuilder_ != null)) {
+        return doubleValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valuesTypeCase_ == 2) {
+          return (org.wso2.grpc.DoubleColumn) valuesType_;
+        }
+        return org.wso2.grpc.DoubleColumn.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventservice.DoubleColumn double_values = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.DoubleColumn, org.wso2.grpc.DoubleColumn.Builder, org.wso2.grpc.DoubleColumnOrBuilder> 
+        getDoubleValuesFieldBuilder() {
+      if (doubleValuesBuilder_ == null) {
+        if (!(valuesTypeCase_ == 2)) {
+          valuesType_ = org.wso2.grpc.DoubleColumn.getDefaultInstance();
+        }
+        doubleValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.wso2.grpc.DoubleColumn, org.wso2.grpc.DoubleColumn.Builder, org.wso2.grpc.DoubleColumnOrBuilder>(
+                (org.wso2.grpc.DoubleColumn) valuesType_,
+                getParentForChildren(),
+                isClean());
+        valuesType_ = null;
+      }
+      valuesTypeCase_ = 2;
+      onChanged();;
+      return doubleValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.BoolColumn, org.wso2.grpc.BoolColumn.Builder, org.wso2.grpc.BoolColumnOrBuilder> boolValuesBuilder_;
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    public boolean hasBoolValues() {
+      return valuesTypeCase_ == 3;
+    }
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    public org.wso2.grpc.BoolColumn getBoolValues() {
+      if (boolValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 3) {
+          return (org.wso2.grpc.BoolColumn) valuesType_;
+        }
+        return org.wso2.grpc.BoolColumn.getDefaultInstance();
+      } else {
+        if (valuesTypeCase_ == 3) {
+          return boolValuesBuilder_.getMessage();
+        }
+        return org.wso2.grpc.BoolColumn.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    public Builder setBoolValues(org.wso2.grpc.BoolColumn value) {
+      if (boolValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        valuesType_ = value;
+        onChanged();
+      } else {
+        boolValuesBuilder_.setMessage(value);
+      }
+      valuesTypeCase_ = 3;
+      return this;
+    }
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    public Builder setBoolValues(
+        org.wso2.grpc.BoolColumn.Builder builderForValue) {
+      if (boolValuesBuilder_ == null) {
+        valuesType_ = builderForValue.build();
+        onChanged();
+      } else {
+        boolValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valuesTypeCase_ = 3;
+      return this;
+    }
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    public Builder mergeBoolValues(org.wso2.grpc.BoolColumn value) {
+      if (boolValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 3 &&
+            valuesType_ != org.wso2.grpc.BoolColumn.getDefaultInstance()) {
+          valuesType_ = org.wso2.grpc.BoolColumn.newBuilder((org.wso2.grpc.BoolColumn) valuesType_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          valuesType_ = value;
+        }
+        onChanged();
+      } else {
+        if (valuesTypeCase_ == 3) {
+          boolValuesBuilder_.mergeFrom(value);
+        }
+        boolValuesBuilder_.setMessage(value);
+      }
+      valuesTypeCase_ = 3;
+      return this;
+    }
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    public Builder clearBoolValues() {
+      if (boolValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 3) {
+          valuesTypeCase_ = 0;
+          valuesType_ = null;
+          onChanged();
+        }
+      } else {
+        if (valuesTypeCase_ == 3) {
+          valuesTypeCase_ = 0;
+          valuesType_ = null;
+        }
+        boolValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    public org.wso2.grpc.BoolColumn.Builder getBoolValuesBuilder() {
+      return getBoolValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    public org.wso2.grpc.BoolColumnOrBuilder getBoolValuesOrBuilder() {
+      if ((valuesTypeCase_ == 3) && (boolValuesBuilder_ != null)) {
+        return boolValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valuesTypeCase_ == 3) {
+          return (org.wso2.grpc.BoolColumn) valuesType_;
+        }
+        return org.wso2.grpc.BoolColumn.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventservice.BoolColumn bool_values = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.BoolColumn, org.wso2.grpc.BoolColumn.Builder, org.wso2.grpc.BoolColumnOrBuilder> 
+        getBoolValuesFieldBuilder() {
+      if (boolValuesBuilder_ == null) {
+        if (!(valuesTypeCase_ == 3)) {
+          valuesType_ = org.wso2.grpc.BoolColumn.getDefaultInstance();
+        }
+        boolValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.wso2.grpc.BoolColumn, org.wso2.grpc.BoolColumn.Builder, org.wso2.grpc.BoolColumnOrBuilder>(
+                (org.wso2.grpc.BoolColumn) valuesType_,
+                getParentForChildren(),
+                isClean());
+        valuesType_ = null;
+      }
+      valuesTypeCase_ = 3;
+      onChanged();;
+      return boolValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.StringColumn, org.wso2.grpc.StringColumn.Builder, org.wso2.grpc.StringColumnOrBuilder> stringValuesBuilder_;
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    public boolean hasStringValues() {
+      return valuesTypeCase_ == 4;
+    }
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    public org.wso2.grpc.StringColumn getStringValues() {
+      if (stringValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 4) {
+          return (org.wso2.grpc.StringColumn) valuesType_;
+        }
+        return org.wso2.grpc.StringColumn.getDefaultInstance();
+      } else {
+        if (valuesTypeCase_ == 4) {
+          return stringValuesBuilder_.getMessage();
+        }
+        return org.wso2.grpc.StringColumn.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    public Builder setStringValues(org.wso2.grpc.StringColumn value) {
+      if (stringValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        valuesType_ = value;
+        onChanged();
+      } else {
+        stringValuesBuilder_.setMessage(value);
+      }
+      valuesTypeCase_ = 4;
+      return this;
+    }
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    public Builder setStringValues(
+        org.wso2.grpc.StringColumn.Builder builderForValue) {
+      if (stringValuesBuilder_ == null) {
+        valuesType_ = builderForValue.build();
+        onChanged();
+      } else {
+        stringValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valuesTypeCase_ = 4;
+      return this;
+    }
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    public Builder mergeStringValues(org.wso2.grpc.StringColumn value) {
+      if (stringValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 4 &&
+            valuesType_ != org.wso2.grpc.StringColumn.getDefaultInstance()) {
+          valuesType_ = org.wso2.grpc.StringColumn.newBuilder((org.wso2.grpc.StringColumn) valuesType_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          valuesType_ = value;
+        }
+        onChanged();
+      } else {
+        if (valuesTypeCase_ == 4) {
+          stringValuesBuilder_.mergeFrom(value);
+        }
+        stringValuesBuilder_.setMessage(value);
+      }
+      valuesTypeCase_ = 4;
+      return this;
+    }
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    public Builder clearStringValues() {
+      if (stringValuesBuilder_ == null) {
+        if (valuesTypeCase_ == 4) {
+          valuesTypeCase_ = 0;
+          valuesType_ = null;
+          onChanged();
+        }
+      } else {
+        if (valuesTypeCase_ == 4) {
+          valuesTypeCase_ = 0;
+          valuesType_ = null;
+        }
+        stringValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    public org.wso2.grpc.StringColumn.Builder getStringValuesBuilder() {
+      return getStringValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    public org.wso2.grpc.StringColumnOrBuilder getStringValuesOrBuilder() {
+      if ((valuesTypeCase_ == 4) && (stringValuesBuilder_ != null)) {
+        return stringValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valuesTypeCase_ == 4) {
+          return (org.wso2.grpc.StringColumn) valuesType_;
+        }
+        return org.wso2.grpc.StringColumn.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventservice.StringColumn string_values = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.StringColumn, org.wso2.grpc.StringColumn.Builder, org.wso2.grpc.StringColumnOrBuilder> 
+        getStringValuesFieldBuilder() {
+      if (stringValuesBuilder_ == null) {
+        if (!(valuesTypeCase_ == 4)) {
+          valuesType_ = org.wso2.grpc.StringColumn.getDefaultInstance();
+        }
+        stringValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.wso2.grpc.StringColumn, org.wso2.grpc.StringColumn.Builder, org.wso2.grpc.StringColumnOrBuilder>(
+                (org.wso2.grpc.StringColumn) valuesType_,
+                getParentForChildren(),
+                isClean());
+        valuesType_ = null;
+      }
+      valuesTypeCase_ = 4;
+      onChanged();;
+      return stringValuesBuilder_;
+    }
+
+    private com.google.protobuf.Internal.IntList nullRows_ = emptyIntList();
+    private void ensureNullRowsIsMutable() {
+      if (!((bitField0_ & 0x00000010) != 0)) {
+        nullRows_ = mutableCopy(nullRows_);
+        bitField0_ |= 0x00000010;
+       }
+    }
+    /**
+     * <pre>
+     * the rows whose value is null, which are left out of the values
+     * </pre>
+     *
+     * <code>repeated uint32 null_rows = 5;</code>
+     */
+    public java.util.List<Integer>
+        getNullRowsList() {
+      return ((bitField0_ & 0x00000010) != 0) ?
+               java.util.Collections.unmodifiableList(nullRows_) : nullRows_;
+    }
+    /**
+     * <pre>
+     * the rows whose value is null, which are left out of the values
+     * </pre>
+     *
+     * <code>repeated uint32 null_rows = 5;</code>
+     */
+    public int getNullRowsCount() {
+      return nullRows_.size();
+    }
+    /**
+     * <pre>
+     * the rows whose value is null, which are left out of the values
+     * </pre>
+     *
+     * <code>repeated uint32 null_rows = 5;</code>
+     */
+    public int getNullRows(int index) {
+      return nullRows_.getInt(index);
+    }
+    /**
+     * <pre>
+     * the rows whose value is null, which are left out of the values
+     * </pre>
+     *
+     * <code>repeated uint32 null_rows = 5;</code>
+     */
+    public Builder setNullRows(
+        int index, int value) {
+      ensureNullRowsIsMutable();
+      nullRows_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the rows whose value is null, which are left out of the values
+     * </pre>
+     *
+     * <code>repeated uint32 null_rows = 5;</code>
+     */
+    public Builder addNullRows(int value) {
+      ensureNullRowsIsMutable();
+      nullRows_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the rows whose value is null, which are left out of the values
+     * </pre>
+     *
+     * <code>repeated uint32 null_rows = 5;</code>
+     */
+    public Builder addAllNullRows(
+        Iterable<? extends Integer> values) {
+      ensureNullRowsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, nullRows_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the rows whose value is null, which are left out of the values
+     * </pre>
+     *
+     * <code>repeated uint32 null_rows = 5;</code>
+     */
+    public Builder clearNullRows() {
+      nullRows_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000010);
+      onChanged();
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:eventservice.Column)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventservice.Column)
+  private static final org.wso2.grpc.Column DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.wso2.grpc.Column();
+  }
+
+  public static org.wso2.grpc.Column getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<Column>
+      PARSER = new com.google.protobuf.AbstractParser<Column>() {
+    @Override
+    public Column parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new Column(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<Column> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<Column> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public org.wso2.grpc.Column getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,88 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+public interface ColumnOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventservice.Column)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.eventservice.LongColumn long_values = 1;</code>
+   */
+  boolean hasLongValues();
+  /**
+   * <code>.eventservice.LongColumn long_values = 1;</code>
+   */
+  org.wso2.grpc.LongColumn getLongValues();
+  /**
+   * <code>.eventservice.LongColumn long_values = 1;</code>
+   */
+  org.wso2.grpc.LongColumnOrBuilder getLongValuesOrBuilder();
+
+  /**
+   * <code>.eventservice.DoubleColumn double_values = 2;</code>
+   */
+  boolean hasDoubleValues();
+  /**
+   * <code>.eventservice.DoubleColumn double_values = 2;</code>
+   */
+  org.wso2.grpc.DoubleColumn getDoubleValues();
+  /**
+   * <code>.eventservice.DoubleColumn double_values = 2;</code>
+   */
+  org.wso2.grpc.DoubleColumnOrBuilder getDoubleValuesOrBuilder();
+
+  /**
+   * <code>.eventservice.BoolColumn bool_values = 3;</code>
+   */
+  boolean hasBoolValues();
+  /**
+   * <code>.eventservice.BoolColumn bool_values = 3;</code>
+   */
+  org.wso2.grpc.BoolColumn getBoolValues();
+  /**
+   * <code>.eventservice.BoolColumn bool_values = 3;</code>
+   */
+  org.wso2.grpc.BoolColumnOrBuilder getBoolValuesOrBuilder();
+
+  /**
+   * <code>.eventservice.StringColumn string_values = 4;</code>
+   */
+  boolean hasStringValues();
+  /**
+   * <code>.eventservice.StringColumn string_values = 4;</code>
+   */
+  org.wso2.grpc.StringColumn getStringValues();
+  /**
+   * <code>.eventservice.StringColumn string_values = 4;</code>
+   */
+  org.wso2.grpc.StringColumnOrBuilder getStringValuesOrBuilder();
+
+  /**
+   * <pre>
+   * the rows whose value is null, which are left out of the values
+   * </pre>
+   *
+   * <code>repeated uint32 null_rows = 5;</code>
+   */
+  java.util.List<Integer> getNullRowsList();
+  /**
+   * <pre>
+   * the rows whose value is null, which are left out of the values
+   * </pre>
+   *
+   * <code>repeated uint32 null_rows = 5;</code>
+   */
+  int getNullRowsCount();
+  /**
+   * <pre>
+   * the rows whose value is null, which are left out of the values
+   * </pre>
+   *
+   * <code>repeated uint32 null_rows = 5;</code>
+   */
+  int getNullRows(int index);
+
+  public org.wso2.grpc.Column.ValuesTypeCase getValuesTypeCase();
+}
@@ -0,0 +1,1280 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+/**
+ * <pre>
+ * events of a stream laid out column by column, with one column per attribute in the order of the stream definition
+ * </pre>
+ *
+ * Protobuf type {@code eventservice.ColumnarBatch}
+ */
+public  final class ColumnarBatch extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:eventservice.ColumnarBatch)
+    ColumnarBatchOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ColumnarBatch.newBuilder() to construct.
+  private ColumnarBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ColumnarBatch() {
+    columns_ = java.util.Collections.emptyList();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ColumnarBatch(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            rowCount_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            org.wso2.grpc.LongColumn.Builder subBuilder = null;
+            if (timestamps_ != null) {
+              subBuilder = timestamps_.toBuilder();
+            }
+            timestamps_ = input.readMessage(org.wso2.grpc.LongColumn.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(timestamps_);
+              timestamps_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+              columns_ = new java.util.ArrayList<org.wso2.grpc.Column>();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            columns_.add(
+                input.readMessage(org.wso2.grpc.Column.parser(), extensionRegistry));
+            break;
+          }
+          case 34: {
+            if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+              headers_ = com.google.protobuf.MapField.newMapField(
+                  HeadersDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000008;
+            }
+            com.google.protobuf.MapEntry<String, String>
+            headers__ = input.readMessage(
+                HeadersDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            headers_.getMutableMap().put(
+                headers__.getKey(), headers__.getValue());
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000004) != 0)) {
+        columns_ = java.util.Collections.unmodifiableList(columns_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_ColumnarBatch_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 4:
+        return internalGetHeaders();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_ColumnarBatch_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.wso2.grpc.ColumnarBatch.class, org.wso2.grpc.ColumnarBatch.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int ROW_COUNT_FIELD_NUMBER = 1;
+  private int rowCount_;
+  /**
+   * <code>int32 row_count = 1;</code>
+   */
+  public int getRowCount() {
+    return rowCount_;
+  }
+
+  public static final int TIMESTAMPS_FIELD_NUMBER = 2;
+  private org.wso2.grpc.LongColumn timestamps_;
+  /**
+   * <code>.eventservice.LongColumn timestamps = 2;</code>
+   */
+  public boolean hasTimestamps() {
+    return timestamps_ != null;
+  }
+  /**
+   * <code>.eventservice.LongColumn timestamps = 2;</code>
+   */
+  public org.wso2.grpc.LongColumn getTimestamps() {
+    return timestamps_ == null ? org.wso2.grpc.LongColumn.getDefaultInstance() : timestamps_;
+  }
+  /**
+   * <code>.eventservice.LongColumn timestamps = 2;</code>
+   */
+  public org.wso2.grpc.LongColumnOrBuilder getTimestampsOrBuilder() {
+    return getTimestamps();
+  }
+
+  public static final int COLUMNS_FIELD_NUMBER = 3;
+  private java.util.List<org.wso2.grpc.Column> columns_;
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  public java.util.List<org.wso2.grpc.Column> getColumnsList() {
+    return columns_;
+  }
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  public java.util.List<? extends org.wso2.grpc.ColumnOrBuilder> 
+      getColumnsOrBuilderList() {
+    return columns_;
+  }
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  public int getColumnsCount() {
+    return columns_.size();
+  }
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  public org.wso2.grpc.Column getColumns(int index) {
+    return columns_.get(index);
+  }
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  public org.wso2.grpc.ColumnOrBuilder getColumnsOrBuilder(
+      int index) {
+    return columns_.get(index);
+  }
+
+  public static final int HEADERS_FIELD_NUMBER = 4;
+  private static final class HeadersDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        String, String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<String, String>newDefaultInstance(
+                org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_ColumnarBatch_HeadersEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      String, String> headers_;
+  private com.google.protobuf.MapField<String, String>
+  internalGetHeaders() {
+    if (headers_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          HeadersDefaultEntryHolder.defaultEntry);
+    }
+    return headers_;
+  }
+
+  public int getHeadersCount() {
+    return internalGetHeaders().getMap().size();
+  }
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+
+  public boolean containsHeaders(
+      String key) {
+    if (key == null) { throw new NullPointerException(); }
+    return internalGetHeaders().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getHeadersMap()} instead.
+   */
+  @Deprecated
+  public java.util.Map<String, String> getHeaders() {
+    return getHeadersMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+
+  public java.util.Map<String, String> getHeadersMap() {
+    return internalGetHeaders().getMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+
+  public String getHeadersOrDefault(
+      String key,
+      String defaultValue) {
+    if (key == null) { throw new NullPointerException(); }
+    java.util.Map<String, String> map =
+        internalGetHeaders().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+
+  public String getHeadersOrThrow(
+      String key) {
+    if (key == null) { throw new NullPointerException(); }
+    java.util.Map<String, String> map =
+        internalGetHeaders().getMap();
+    if (!map.containsKey(key)) {
+      throw new IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (rowCount_ != 0) {
+      output.writeInt32(1, rowCount_);
+    }
+    if (timestamps_ != null) {
+      output.writeMessage(2, getTimestamps());
+    }
+    for (int i = 0; i < columns_.size(); i++) {
+      output.writeMessage(3, columns_.get(i));
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeStringMapTo(
+        output,
+        internalGetHeaders(),
+        HeadersDefaultEntryHolder.defaultEntry,
+        4);
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (rowCount_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, rowCount_);
+    }
+    if (timestamps_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getTimestamps());
+    }
+    for (int i = 0; i < columns_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, columns_.get(i));
+    }
+    for (java.util.Map.Entry<String, String> entry
+         : internalGetHeaders().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<String, String>
+      headers__ = HeadersDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, headers__);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.wso2.grpc.ColumnarBatch)) {
+      return super.equals(obj);
+    }
+    org.wso2.grpc.ColumnarBatch other = (org.wso2.grpc.ColumnarBatch) obj;
+
+    if (getRowCount()
+        != other.getRowCount()) return false;
+    if (hasTimestamps() != other.hasTimestamps()) return false;
+    if (hasTimestamps()) {
+      if (!getTimestamps()
+          .equals(other.getTimestamps())) return false;
+    }
+    if (!getColumnsList()
+        .equals(other.getColumnsList())) return false;
+    if (!internalGetHeaders().equals(
+        other.internalGetHeaders())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ROW_COUNT_FIELD_NUMBER;
+    hash = (53 * hash) + getRowCount();
+    if (hasTimestamps()) {
+      hash = (37 * hash) + TIMESTAMPS_FIELD_NUMBER;
+      hash = (53 * hash) + getTimestamps().hashCode();
+    }
+    if (getColumnsCount() > 0) {
+      hash = (37 * hash) + COLUMNS_FIELD_NUMBER;
+      hash = (53 * hash) + getColumnsList().hashCode();
+    }
+    if (!internalGetHeaders().getMap().isEmpty()) {
+      hash = (37 * hash) + HEADERS_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetHeaders().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.wso2.grpc.ColumnarBatch parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.ColumnarBatch parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.wso2.grpc.ColumnarBatch prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * events of a stream laid out column by column, with one column per attribute in the order of the stream definition
+   * </pre>
+   *
+   * Protobuf type {@code eventservice.ColumnarBatch}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventservice.ColumnarBatch)
+      org.wso2.grpc.ColumnarBatchOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_ColumnarBatch_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetHeaders();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetMutableHeaders();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_ColumnarBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.wso2.grpc.ColumnarBatch.class, org.wso2.grpc.ColumnarBatch.Builder.class);
+    }
+
+    // Construct using org.wso2.grpc.ColumnarBatch.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getColumnsFieldBuilder();
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      rowCount_ = 0;
+
+      if (timestampsBuilder_ == null) {
+        timestamps_ = null;
+      } else {
+        timestamps_ = null;
+        timestampsBuilder_ = null;
+      }
+      if (columnsBuilder_ == null) {
+        columns_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+      } else {
+        columnsBuilder_.clear();
+      }
+      internalGetMutableHeaders().clear();
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_ColumnarBatch_descriptor;
+    }
+
+    @Override
+    public org.wso2.grpc.ColumnarBatch getDefaultInstanceForType() {
+      return org.wso2.grpc.ColumnarBatch.getDefaultInstance();
+    }
+
+    @Override
+    public org.wso2.grpc.ColumnarBatch build() {
+      org.wso2.grpc.ColumnarBatch result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public org.wso2.grpc.ColumnarBatch buildPartial() {
+      org.wso2.grpc.ColumnarBatch result = new org.wso2.grpc.ColumnarBatch(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.rowCount_ = rowCount_;
+      if (timestampsBuilder_ == null) {
+        result.timestamps_ = timestamps_;
+      } else {
+        result.timestamps_ = timestampsBuilder_.build();
+      }
+      if (columnsBuilder_ == null) {
+        if (((bitField0_ & 0x00000004) != 0)) {
+          columns_ = java.util.Collections.unmodifiableList(columns_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.columns_ = columns_;
+      } else {
+        result.columns_ = columnsBuilder_.build();
+      }
+      result.headers_ = internalGetHeaders();
+      result.headers_.makeImmutable();
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.wso2.grpc.ColumnarBatch) {
+        return mergeFrom((org.wso2.grpc.ColumnarBatch)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.wso2.grpc.ColumnarBatch other) {
+      if (other == org.wso2.grpc.ColumnarBatch.getDefaultInstance()) return this;
+      if (other.getRowCount() != 0) {
+        setRowCount(other.getRowCount());
+      }
+      if (other.hasTimestamps()) {
+        mergeTimestamps(other.getTimestamps());
+      }
+      if (columnsBuilder_ == null) {
+        if (!other.columns_.isEmpty()) {
+          if (columns_.isEmpty()) {
+            columns_ = other.columns_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureColumnsIsMutable();
+            columns_.addAll(other.columns_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.columns_.isEmpty()) {
+          if (columnsBuilder_.isEmpty()) {
+            columnsBuilder_.dispose();
+            columnsBuilder_ = null;
+            columns_ = other.columns_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+            columnsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getColumnsFieldBuilder() : null;
+          } else {
+            columnsBuilder_.addAllMessages(other.columns_);
+          }
+        }
+      }
+      internalGetMutableHeaders().mergeFrom(
+          other.internalGetHeaders());
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.wso2.grpc.ColumnarBatch parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.wso2.grpc.ColumnarBatch) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int rowCount_ ;
+    /**
+     * <code>int32 row_count = 1;</code>
+     */
+    public int getRowCount() {
+      return rowCount_;
+    }
+    /**
+     * <code>int32 row_count = 1;</code>
+     */
+    public Builder setRowCount(int value) {
+      
+      rowCount_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 row_count = 1;</code>
+     */
+    public Builder clearRowCount() {
+      
+      rowCount_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private org.wso2.grpc.LongColumn timestamps_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.LongColumn, org.wso2.grpc.LongColumn.Builder, org.wso2.grpc.LongColumnOrBuilder> timestampsBuilder_;
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    public boolean hasTimestamps() {
+      return timestampsBuilder_ != null || timestamps_ != null;
+    }
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    public org.wso2.grpc.LongColumn getTimestamps() {
+      if (timestampsBuilder_ == null) {
+        return timestamps_ == null ? org.wso2.grpc.LongColumn.getDefaultInstance() : timestamps_;
+      } else {
+        return timestampsBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    public Builder setTimestamps(org.wso2.grpc.LongColumn value) {
+      if (timestampsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        timestamps_ = value;
+        onChanged();
+      } else {
+        timestampsBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    public Builder setTimestamps(
+        org.wso2.grpc.LongColumn.Builder builderForValue) {
+      if (timestampsBuilder_ == null) {
+        timestamps_ = builderForValue.build();
+        onChanged();
+      } else {
+        timestampsBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    public Builder mergeTimestamps(org.wso2.grpc.LongColumn value) {
+      if (timestampsBuilder_ == null) {
+        if (timestamps_ != null) {
+          timestamps_ =
+            org.wso2.grpc.LongColumn.newBuilder(timestamps_).mergeFrom(value).buildPartial();
+        } else {
+          timestamps_ = value;
+        }
+        onChanged();
+      } else {
+        timestampsBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    public Builder clearTimestamps() {
+      if (timestampsBuilder_ == null) {
+        timestamps_ = null;
+        onChanged();
+      } else {
+        timestamps_ = null;
+        timestampsBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    public org.wso2.grpc.LongColumn.Builder getTimestampsBuilder() {
+      
+      onChanged();
+      return getTimestampsFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    public org.wso2.grpc.LongColumnOrBuilder getTimestampsOrBuilder() {
+      if (timestampsBuilder_ != null) {
+        return timestampsBuilder_.getMessageOrBuilder();
+      } else {
+        return timestamps_ == null ?
+            org.wso2.grpc.LongColumn.getDefaultInstance() : timestamps_;
+      }
+    }
+    /**
+     * <code>.eventservice.LongColumn timestamps = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.wso2.grpc.LongColumn, org.wso2.grpc.LongColumn.Builder, org.wso2.grpc.LongColumnOrBuilder> 
+        getTimestampsFieldBuilder() {
+      if (timestampsBuilder_ == null) {
+        timestampsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.wso2.grpc.LongColumn, org.wso2.grpc.LongColumn.Builder, org.wso2.grpc.LongColumnOrBuilder>(
+                getTimestamps(),
+                getParentForChildren(),
+                isClean());
+        timestamps_ = null;
+      }
+      return timestampsBuilder_;
+    }
+
+    private java.util.List<org.wso2.grpc.Column> columns_ =
+      java.util.Collections.emptyList();
+    private void ensureColumnsIsMutable() {
+      if (!((bitField0_ & 0x00000004) != 0)) {
+        columns_ = new java.util.ArrayList<org.wso2.grpc.Column>(columns_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.wso2.grpc.Column, org.wso2.grpc.Column.Builder, org.wso2.grpc.ColumnOrBuilder> columnsBuilder_;
+
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public java.util.List<org.wso2.grpc.Column> getColumnsList() {
+      if (columnsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(columns_);
+      } else {
+        return columnsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public int getColumnsCount() {
+      if (columnsBuilder_ == null) {
+        return columns_.size();
+      } else {
+        return columnsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public org.wso2.grpc.Column getColumns(int index) {
+      if (columnsBuilder_ == null) {
+        return columns_.get(index);
+      } else {
+        return columnsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder setColumns(
+        int index, org.wso2.grpc.Column value) {
+      if (columnsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureColumnsIsMutable();
+        columns_.set(index, value);
+        onChanged();
+      } else {
+        columnsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder setColumns(
+        int index, org.wso2.grpc.Column.Builder builderForValue) {
+      if (columnsBuilder_ == null) {
+        ensureColumnsIsMutable();
+        columns_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        columnsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder addColumns(org.wso2.grpc.Column value) {
+      if (columnsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureColumnsIsMutable();
+        columns_.add(value);
+        onChanged();
+      } else {
+        columnsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder addColumns(
+        int index, org.wso2.grpc.Column value) {
+      if (columnsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureColumnsIsMutable();
+        columns_.add(index, value);
+        onChanged();
+      } else {
+        columnsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder addColumns(
+        org.wso2.grpc.Column.Builder builderForValue) {
+      if (columnsBuilder_ == null) {
+        ensureColumnsIsMutable();
+        columns_.add(builderForValue.build());
+        onChanged();
+      } else {
+        columnsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder addColumns(
+        int index, org.wso2.grpc.Column.Builder builderForValue) {
+      if (columnsBuilder_ == null) {
+        ensureColumnsIsMutable();
+        columns_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        columnsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder addAllColumns(
+        Iterable<? extends org.wso2.grpc.Column> values) {
+      if (columnsBuilder_ == null) {
+        ensureColumnsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, columns_);
+        onChanged();
+      } else {
+        columnsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder clearColumns() {
+      if (columnsBuilder_ == null) {
+        columns_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+      } else {
+        columnsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public Builder removeColumns(int index) {
+      if (columnsBuilder_ == null) {
+        ensureColumnsIsMutable();
+        columns_.remove(index);
+        onChanged();
+      } else {
+        columnsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public org.wso2.grpc.Column.Builder getColumnsBuilder(
+        int index) {
+      return getColumnsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public org.wso2.grpc.ColumnOrBuilder getColumnsOrBuilder(
+        int index) {
+      if (columnsBuilder_ == null) {
+        return columns_.get(index);  } else {
+        return columnsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public java.util.List<? extends org.wso2.grpc.ColumnOrBuilder> 
+         getColumnsOrBuilderList() {
+      if (columnsBuilder_ != null) {
+        return columnsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(columns_);
+      }
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public org.wso2.grpc.Column.Builder addColumnsBuilder() {
+      return getColumnsFieldBuilder().addBuilder(
+          org.wso2.grpc.Column.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public org.wso2.grpc.Column.Builder addColumnsBuilder(
+        int index) {
+      return getColumnsFieldBuilder().addBuilder(
+          index, org.wso2.grpc.Column.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventservice.Column columns = 3;</code>
+     */
+    public java.util.List<org.wso2.grpc.Column.Builder> 
+         getColumnsBuilderList() {
+      return getColumnsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.wso2.grpc.Column, org.wso2.grpc.Column.Builder, org.wso2.grpc.ColumnOrBuilder> 
+        getColumnsFieldBuilder() {
+      if (columnsBuilder_ == null) {
+        columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.wso2.grpc.Column, org.wso2.grpc.Column.Builder, org.wso2.grpc.ColumnOrBuilder>(
+                columns_,
+                ((bitField0_ & 0x00000004) != 0),
+                getParentForChildren(),
+                isClean());
+        columns_ = null;
+      }
+      return columnsBuilder_;
+    }
+
+    private com.google.protobuf.MapField<
+        String, String> headers_;
+    private com.google.protobuf.MapField<String, String>
+    internalGetHeaders() {
+      if (headers_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            HeadersDefaultEntryHolder.defaultEntry);
+      }
+      return headers_;
+    }
+    private com.google.protobuf.MapField<String, String>
+    internalGetMutableHeaders() {
+      onChanged();;
+      if (headers_ == null) {
+        headers_ = com.google.protobuf.MapField.newMapField(
+            HeadersDefaultEntryHolder.defaultEntry);
+      }
+      if (!headers_.isMutable()) {
+        headers_ = headers_.copy();
+      }
+      return headers_;
+    }
+
+    public int getHeadersCount() {
+      return internalGetHeaders().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; headers = 4;</code>
+     */
+
+    public boolean containsHeaders(
+        String key) {
+      if (key == null) { throw new NullPointerException(); }
+      return internalGetHeaders().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getHeadersMap()} instead.
+     */
+    @Deprecated
+    public java.util.Map<String, String> getHeaders() {
+      return getHeadersMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; headers = 4;</code>
+     */
+
+    public java.util.Map<String, String> getHeadersMap() {
+      return internalGetHeaders().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; headers = 4;</code>
+     */
+
+    public String getHeadersOrDefault(
+        String key,
+        String defaultValue) {
+      if (key == null) { throw new NullPointerException(); }
+      java.util.Map<String, String> map =
+          internalGetHeaders().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; headers = 4;</code>
+     */
+
+    public String getHeadersOrThrow(
+        String key) {
+      if (key == null) { throw new NullPointerException(); }
+      java.util.Map<String, String> map =
+          internalGetHeaders().getMap();
+      if (!map.containsKey(key)) {
+        throw new IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearHeaders() {
+      internalGetMutableHeaders().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; headers = 4;</code>
+     */
+
+    public Builder removeHeaders(
+        String key) {
+      if (key == null) { throw new NullPointerException(); }
+      internalGetMutableHeaders().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @Deprecated
+    public java.util.Map<String, String>
+    getMutableHeaders() {
+      return internalGetMutableHeaders().getMutableMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; headers = 4;</code>
+     */
+    public Builder putHeaders(
+        String key,
+        String value) {
+      if (key == null) { throw new NullPointerException(); }
+      if (value == null) { throw new NullPointerException(); }
+      internalGetMutableHeaders().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; headers = 4;</code>
+     */
+
+    public Builder putAllHeaders(
+        java.util.Map<String, String> values) {
+      internalGetMutableHeaders().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:eventservice.ColumnarBatch)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventservice.ColumnarBatch)
+  private static final org.wso2.grpc.ColumnarBatch DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.wso2.grpc.ColumnarBatch();
+  }
+
+  public static org.wso2.grpc.ColumnarBatch getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ColumnarBatch>
+      PARSER = new com.google.protobuf.AbstractParser<ColumnarBatch>() {
+    @Override
+    public ColumnarBatch parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ColumnarBatch(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ColumnarBatch> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<ColumnarBatch> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public org.wso2.grpc.ColumnarBatch getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
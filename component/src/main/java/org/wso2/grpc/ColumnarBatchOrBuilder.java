@@ -0,0 +1,85 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+public interface ColumnarBatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventservice.ColumnarBatch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 row_count = 1;</code>
+   */
+  int getRowCount();
+
+  /**
+   * <code>.eventservice.LongColumn timestamps = 2;</code>
+   */
+  boolean hasTimestamps();
+  /**
+   * <code>.eventservice.LongColumn timestamps = 2;</code>
+   */
+  org.wso2.grpc.LongColumn getTimestamps();
+  /**
+   * <code>.eventservice.LongColumn timestamps = 2;</code>
+   */
+  org.wso2.grpc.LongColumnOrBuilder getTimestampsOrBuilder();
+
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  java.util.List<org.wso2.grpc.Column> 
+      getColumnsList();
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  org.wso2.grpc.Column getColumns(int index);
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  int getColumnsCount();
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  java.util.List<? extends org.wso2.grpc.ColumnOrBuilder> 
+      getColumnsOrBuilderList();
+  /**
+   * <code>repeated .eventservice.Column columns = 3;</code>
+   */
+  org.wso2.grpc.ColumnOrBuilder getColumnsOrBuilder(
+      int index);
+
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+  int getHeadersCount();
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+  boolean containsHeaders(
+      String key);
+  /**
+   * Use {@link #getHeadersMap()} instead.
+   */
+  @Deprecated
+  java.util.Map<String, String>
+  getHeaders();
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+  java.util.Map<String, String>
+  getHeadersMap();
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+
+  String getHeadersOrDefault(
+      String key,
+      String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; headers = 4;</code>
+   */
+
+  String getHeadersOrThrow(
+      String key);
+}
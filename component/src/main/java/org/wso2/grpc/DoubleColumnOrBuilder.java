@@ -0,0 +1,22 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+public interface DoubleColumnOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventservice.DoubleColumn)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated double values = 1;</code>
+   */
+  java.util.List<Double> getValuesList();
+  /**
+   * <code>repeated double values = 1;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated double values = 1;</code>
+   */
+  double getValues(int index);
+}
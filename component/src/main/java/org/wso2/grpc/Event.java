@@ -16,7 +16,6 @@ private static final long serialVersionUID = 0L;
     super(builder);
   }
   private Event() {
-    payload_ = "";
   }
 
   @Override
@@ -45,15 +44,15 @@ private static final long serialVersionUID = 0L;
             break;
           case 10: {
             String s = input.readStringRequireUtf8();
-
-            payload_ = s;
+            payloadTypeCase_ = 1;
+            payloadType_ = s;
             break;
           }
           case 18: {
-            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+            if (!((mutable_bitField0_ & 0x00000004) != 0)) {
               headers_ = com.google.protobuf.MapField.newMapField(
                   HeadersDefaultEntryHolder.defaultEntry);
-              mutable_bitField0_ |= 0x00000002;
+              mutable_bitField0_ |= 0x00000004;
             }
             com.google.protobuf.MapEntry<String, String>
             headers__ = input.readMessage(
@@ -62,6 +61,11 @@ private static final long serialVersionUID = 0L;
                 headers__.getKey(), headers__.getValue());
             break;
           }
+          case 26: {
+            payloadTypeCase_ = 3;
+            payloadType_ = input.readBytes();
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -99,28 +103,70 @@ private static final long serialVersionUID = 0L;
     }
   }
   @Override
-  protected FieldAccessorTable
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internalGetFieldAccessorTable() {
     return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_Event_fieldAccessorTable
         .ensureFieldAccessorsInitialized(
-            Event.class, Builder.class);
+            org.wso2.grpc.Event.class, org.wso2.grpc.Event.Builder.class);
   }
 
   private int bitField0_;
+  private int payloadTypeCase_ = 0;
+  private Object payloadType_;
+  public enum PayloadTypeCase
+      implements com.google.protobuf.Internal.EnumLite {
+    PAYLOAD(1),
+    BINARY_PAYLOAD(3),
+    PAYLOADTYPE_NOT_SET(0);
+    private final int value;
+    private PayloadTypeCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @Deprecated
+    public static PayloadTypeCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static PayloadTypeCase forNumber(int value) {
+      switch (value) {
+        case 1: return PAYLOAD;
+        case 3: return BINARY_PAYLOAD;
+        case 0: return PAYLOADTYPE_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public PayloadTypeCase
+  getPayloadTypeCase() {
+    return PayloadTypeCase.forNumber(
+        payloadTypeCase_);
+  }
+
   public static final int PAYLOAD_FIELD_NUMBER = 1;
-  private volatile Object payload_;
   /**
    * <code>string payload = 1;</code>
    */
   public String getPayload() {
-    Object ref = payload_;
+    Object ref = "";
+    if (payloadTypeCase_ == 1) {
+      ref = payloadType_;
+    }
     if (ref instanceof String) {
       return (String) ref;
     } else {
       com.google.protobuf.ByteString bs = 
           (com.google.protobuf.ByteString) ref;
       String s = bs.toStringUtf8();
-      payload_ = s;
+      if (payloadTypeCase_ == 1) {
+        payloadType_ = s;
+      }
       return s;
     }
   }
@@ -129,18 +175,34 @@ private static final long serialVersionUID = 0L;
    */
   public com.google.protobuf.ByteString
       getPayloadBytes() {
-    Object ref = payload_;
+    Object ref = "";
+    if (payloadTypeCase_ == 1) {
+      ref = payloadType_;
+    }
     if (ref instanceof String) {
       com.google.protobuf.ByteString b = 
           com.google.protobuf.ByteString.copyFromUtf8(
               (String) ref);
-      payload_ = b;
+      if (payloadTypeCase_ == 1) {
+        payloadType_ = b;
+      }
       return b;
     } else {
       return (com.google.protobuf.ByteString) ref;
     }
   }
 
+  public static final int BINARY_PAYLOAD_FIELD_NUMBER = 3;
+  /**
+   * <code>bytes binary_payload = 3;</code>
+   */
+  public com.google.protobuf.ByteString getBinaryPayload() {
+    if (payloadTypeCase_ == 3) {
+      return (com.google.protobuf.ByteString) payloadType_;
+    }
+    return com.google.protobuf.ByteString.EMPTY;
+  }
+
   public static final int HEADERS_FIELD_NUMBER = 2;
   private static final class HeadersDefaultEntryHolder {
     static final com.google.protobuf.MapEntry<
@@ -231,8 +293,8 @@ private static final long serialVersionUID = 0L;
   @Override
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
-    if (!getPayloadBytes().isEmpty()) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, payload_);
+    if (payloadTypeCase_ == 1) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, payloadType_);
     }
     com.google.protobuf.GeneratedMessageV3
       .serializeStringMapTo(
@@ -240,6 +302,10 @@ private static final long serialVersionUID = 0L;
         internalGetHeaders(),
         HeadersDefaultEntryHolder.defaultEntry,
         2);
+    if (payloadTypeCase_ == 3) {
+      output.writeBytes(
+          3, (com.google.protobuf.ByteString) payloadType_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -249,8 +315,8 @@ private static final long serialVersionUID = 0L;
     if (size != -1) return size;
 
     size = 0;
-    if (!getPayloadBytes().isEmpty()) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, payload_);
+    if (payloadTypeCase_ == 1) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, payloadType_);
     }
     for (java.util.Map.Entry<String, String> entry
          : internalGetHeaders().getMap().entrySet()) {
@@ -262,6 +328,11 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, headers__);
     }
+    if (payloadTypeCase_ == 3) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(
+            3, (com.google.protobuf.ByteString) payloadType_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -272,15 +343,26 @@ private static final long serialVersionUID = 0L;
     if (obj == this) {
      return true;
     }
-    if (!(obj instanceof Event)) {
+    if (!(obj instanceof org.wso2.grpc.Event)) {
       return super.equals(obj);
     }
-    Event other = (Event) obj;
+    org.wso2.grpc.Event other = (org.wso2.grpc.Event) obj;
 
-    if (!getPayload()
-        .equals(other.getPayload())) return false;
     if (!internalGetHeaders().equals(
         other.internalGetHeaders())) return false;
+    if (!getPayloadTypeCase().equals(other.getPayloadTypeCase())) return false;
+    switch (payloadTypeCase_) {
+      case 1:
+        if (!getPayload()
+            .equals(other.getPayload())) return false;
+        break;
+      case 3:
+        if (!getBinaryPayload()
+            .equals(other.getBinaryPayload())) return false;
+        break;
+      case 0:
+      default:
+    }
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -292,80 +374,90 @@ private static final long serialVersionUID = 0L;
     }
     int hash = 41;
     hash = (19 * hash) + getDescriptor().hashCode();
-    hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
-    hash = (53 * hash) + getPayload().hashCode();
     if (!internalGetHeaders().getMap().isEmpty()) {
       hash = (37 * hash) + HEADERS_FIELD_NUMBER;
       hash = (53 * hash) + internalGetHeaders().hashCode();
     }
+    switch (payloadTypeCase_) {
+      case 1:
+        hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
+        hash = (53 * hash) + getPayload().hashCode();
+        break;
+      case 3:
+        hash = (37 * hash) + BINARY_PAYLOAD_FIELD_NUMBER;
+        hash = (53 * hash) + getBinaryPayload().hashCode();
+        break;
+      case 0:
+      default:
+    }
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
   }
 
-  public static Event parseFrom(
+  public static org.wso2.grpc.Event parseFrom(
       java.nio.ByteBuffer data)
       throws com.google.protobuf.InvalidProtocolBufferException {
     return PARSER.parseFrom(data);
   }
-  public static Event parseFrom(
+  public static org.wso2.grpc.Event parseFrom(
       java.nio.ByteBuffer data,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     return PARSER.parseFrom(data, extensionRegistry);
   }
-  public static Event parseFrom(
+  public static org.wso2.grpc.Event parseFrom(
       com.google.protobuf.ByteString data)
       throws com.google.protobuf.InvalidProtocolBufferException {
     return PARSER.parseFrom(data);
   }
-  public static Event parseFrom(
+  public static org.wso2.grpc.Event parseFrom(
       com.google.protobuf.ByteString data,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     return PARSER.parseFrom(data, extensionRegistry);
   }
-  public static Event parseFrom(byte[] data)
+  public static org.wso2.grpc.Event parseFrom(byte[] data)
       throws com.google.protobuf.InvalidProtocolBufferException {
     return PARSER.parseFrom(data);
   }
-  public static Event parseFrom(
+  public static org.wso2.grpc.Event parseFrom(
       byte[] data,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws com.google.protobuf.InvalidProtocolBufferException {
     return PARSER.parseFrom(data, extensionRegistry);
   }
-  public static Event parseFrom(java.io.InputStream input)
+  public static org.wso2.grpc.Event parseFrom(java.io.InputStream input)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseWithIOException(PARSER, input);
   }
-  public static Event parseFrom(
+  public static org.wso2.grpc.Event parseFrom(
       java.io.InputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
-  public static Event parseDelimitedFrom(java.io.InputStream input)
+  public static org.wso2.grpc.Event parseDelimitedFrom(java.io.InputStream input)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseDelimitedWithIOException(PARSER, input);
   }
-  public static Event parseDelimitedFrom(
+  public static org.wso2.grpc.Event parseDelimitedFrom(
       java.io.InputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
   }
-  public static Event parseFrom(
+  public static org.wso2.grpc.Event parseFrom(
       com.google.protobuf.CodedInputStream input)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseWithIOException(PARSER, input);
   }
-  public static Event parseFrom(
+  public static org.wso2.grpc.Event parseFrom(
       com.google.protobuf.CodedInputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
       throws java.io.IOException {
@@ -378,7 +470,7 @@ private static final long serialVersionUID = 0L;
   public static Builder newBuilder() {
     return DEFAULT_INSTANCE.toBuilder();
   }
-  public static Builder newBuilder(Event prototype) {
+  public static Builder newBuilder(org.wso2.grpc.Event prototype) {
     return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
   }
   @Override
@@ -389,7 +481,7 @@ private static final long serialVersionUID = 0L;
 
   @Override
   protected Builder newBuilderForType(
-      BuilderParent parent) {
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
     Builder builder = new Builder(parent);
     return builder;
   }
@@ -428,11 +520,11 @@ private static final long serialVersionUID = 0L;
       }
     }
     @Override
-    protected FieldAccessorTable
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
       return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_Event_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              Event.class, Builder.class);
+              org.wso2.grpc.Event.class, org.wso2.grpc.Event.Builder.class);
     }
 
     // Construct using org.wso2.grpc.Event.newBuilder()
@@ -441,7 +533,7 @@ private static final long serialVersionUID = 0L;
     }
 
     private Builder(
-        BuilderParent parent) {
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
       super(parent);
       maybeForceBuilderInitialization();
     }
@@ -453,9 +545,9 @@ private static final long serialVersionUID = 0L;
     @Override
     public Builder clear() {
       super.clear();
-      payload_ = "";
-
       internalGetMutableHeaders().clear();
+      payloadTypeCase_ = 0;
+      payloadType_ = null;
       return this;
     }
 
@@ -466,13 +558,13 @@ private static final long serialVersionUID = 0L;
     }
 
     @Override
-    public Event getDefaultInstanceForType() {
-      return Event.getDefaultInstance();
+    public org.wso2.grpc.Event getDefaultInstanceForType() {
+      return org.wso2.grpc.Event.getDefaultInstance();
     }
 
     @Override
-    public Event build() {
-      Event result = buildPartial();
+    public org.wso2.grpc.Event build() {
+      org.wso2.grpc.Event result = buildPartial();
       if (!result.isInitialized()) {
         throw newUninitializedMessageException(result);
       }
@@ -480,14 +572,20 @@ private static final long serialVersionUID = 0L;
     }
 
     @Override
-    public Event buildPartial() {
-      Event result = new Event(this);
+    public org.wso2.grpc.Event buildPartial() {
+      org.wso2.grpc.Event result = new org.wso2.grpc.Event(this);
       int from_bitField0_ = bitField0_;
       int to_bitField0_ = 0;
-      result.payload_ = payload_;
+      if (payloadTypeCase_ == 1) {
+        result.payloadType_ = payloadType_;
+      }
+      if (payloadTypeCase_ == 3) {
+        result.payloadType_ = payloadType_;
+      }
       result.headers_ = internalGetHeaders();
       result.headers_.makeImmutable();
       result.bitField0_ = to_bitField0_;
+      result.payloadTypeCase_ = payloadTypeCase_;
       onBuilt();
       return result;
     }
@@ -526,22 +624,33 @@ private static final long serialVersionUID = 0L;
     }
     @Override
     public Builder mergeFrom(com.google.protobuf.Message other) {
-      if (other instanceof Event) {
-        return mergeFrom((Event)other);
+      if (other instanceof org.wso2.grpc.Event) {
+        return mergeFrom((org.wso2.grpc.Event)other);
       } else {
         super.mergeFrom(other);
         return this;
       }
     }
 
-    public Builder mergeFrom(Event other) {
-      if (other == Event.getDefaultInstance()) return this;
-      if (!other.getPayload().isEmpty()) {
-        payload_ = other.payload_;
-        onChanged();
-      }
+    public Builder mergeFrom(org.wso2.grpc.Event other) {
+      if (other == org.wso2.grpc.Event.getDefaultInstance()) return this;
       internalGetMutableHeaders().mergeFrom(
           other.internalGetHeaders());
+      switch (other.getPayloadTypeCase()) {
+        case PAYLOAD: {
+          payloadTypeCase_ = 1;
+          payloadType_ = other.payloadType_;
+          onChanged();
+          break;
+        }
+        case BINARY_PAYLOAD: {
+          setBinaryPayload(other.getBinaryPayload());
+          break;
+        }
+        case PAYLOADTYPE_NOT_SET: {
+          break;
+        }
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -557,11 +666,11 @@ private static final long serialVersionUID = 0L;
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      Event parsedMessage = null;
+      org.wso2.grpc.Event parsedMessage = null;
       try {
         parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        parsedMessage = (Event) e.getUnfinishedMessage();
+        parsedMessage = (org.wso2.grpc.Event) e.getUnfinishedMessage();
         throw e.unwrapIOException();
       } finally {
         if (parsedMessage != null) {
@@ -570,19 +679,38 @@ private static final long serialVersionUID = 0L;
       }
       return this;
     }
+    private int payloadTypeCase_ = 0;
+    private Object payloadType_;
+    public PayloadTypeCase
+        getPayloadTypeCase() {
+      return PayloadTypeCase.forNumber(
+          payloadTypeCase_);
+    }
+
+    public Builder clearPayloadType() {
+      payloadTypeCase_ = 0;
+      payloadType_ = null;
+      onChanged();
+      return this;
+    }
+
     private int bitField0_;
 
-    private Object payload_ = "";
     /**
      * <code>string payload = 1;</code>
      */
     public String getPayload() {
-      Object ref = payload_;
+      Object ref = "";
+      if (payloadTypeCase_ == 1) {
+        ref = payloadType_;
+      }
       if (!(ref instanceof String)) {
         com.google.protobuf.ByteString bs =
             (com.google.protobuf.ByteString) ref;
         String s = bs.toStringUtf8();
-        payload_ = s;
+        if (payloadTypeCase_ == 1) {
+          payloadType_ = s;
+        }
         return s;
       } else {
         return (String) ref;
@@ -593,12 +721,17 @@ private static final long serialVersionUID = 0L;
      */
     public com.google.protobuf.ByteString
         getPayloadBytes() {
-      Object ref = payload_;
+      Object ref = "";
+      if (payloadTypeCase_ == 1) {
+        ref = payloadType_;
+      }
       if (ref instanceof String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (String) ref);
-        payload_ = b;
+        if (payloadTypeCase_ == 1) {
+          payloadType_ = b;
+        }
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -612,8 +745,8 @@ private static final long serialVersionUID = 0L;
       if (value == null) {
     throw new NullPointerException();
   }
-  
-      payload_ = value;
+  payloadTypeCase_ = 1;
+      payloadType_ = value;
       onChanged();
       return this;
     }
@@ -621,9 +754,11 @@ private static final long serialVersionUID = 0L;
      * <code>string payload = 1;</code>
      */
     public Builder clearPayload() {
-      
-      payload_ = getDefaultInstance().getPayload();
-      onChanged();
+      if (payloadTypeCase_ == 1) {
+        payloadTypeCase_ = 0;
+        payloadType_ = null;
+        onChanged();
+      }
       return this;
     }
     /**
@@ -635,11 +770,44 @@ private static final long serialVersionUID = 0L;
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-      
-      payload_ = value;
+      payloadTypeCase_ = 1;
+      payloadType_ = value;
+      onChanged();
+      return this;
+    }
+
+    /**
+     * <code>bytes binary_payload = 3;</code>
+     */
+    public com.google.protobuf.ByteString getBinaryPayload() {
+      if (payloadTypeCase_ == 3) {
+        return (com.google.protobuf.ByteString) payloadType_;
+      }
+      return com.google.protobuf.ByteString.EMPTY;
+    }
+    /**
+     * <code>bytes binary_payload = 3;</code>
+     */
+    public Builder setBinaryPayload(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  payloadTypeCase_ = 3;
+      payloadType_ = value;
       onChanged();
       return this;
     }
+    /**
+     * <code>bytes binary_payload = 3;</code>
+     */
+    public Builder clearBinaryPayload() {
+      if (payloadTypeCase_ == 3) {
+        payloadTypeCase_ = 0;
+        payloadType_ = null;
+        onChanged();
+      }
+      return this;
+    }
 
     private com.google.protobuf.MapField<
         String, String> headers_;
@@ -780,12 +948,12 @@ private static final long serialVersionUID = 0L;
   }
 
   // @@protoc_insertion_point(class_scope:eventservice.Event)
-  private static final Event DEFAULT_INSTANCE;
+  private static final org.wso2.grpc.Event DEFAULT_INSTANCE;
   static {
-    DEFAULT_INSTANCE = new Event();
+    DEFAULT_INSTANCE = new org.wso2.grpc.Event();
   }
 
-  public static Event getDefaultInstance() {
+  public static org.wso2.grpc.Event getDefaultInstance() {
     return DEFAULT_INSTANCE;
   }
 
@@ -810,7 +978,7 @@ private static final long serialVersionUID = 0L;
   }
 
   @Override
-  public Event getDefaultInstanceForType() {
+  public org.wso2.grpc.Event getDefaultInstanceForType() {
     return DEFAULT_INSTANCE;
   }
 
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+public interface EventBatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventservice.EventBatch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .eventservice.Event events = 1;</code>
+   */
+  java.util.List<org.wso2.grpc.Event> 
+      getEventsList();
+  /**
+   * <code>repeated .eventservice.Event events = 1;</code>
+   */
+  org.wso2.grpc.Event getEvents(int index);
+  /**
+   * <code>repeated .eventservice.Event events = 1;</code>
+   */
+  int getEventsCount();
+  /**
+   * <code>repeated .eventservice.Event events = 1;</code>
+   */
+  java.util.List<? extends org.wso2.grpc.EventOrBuilder> 
+      getEventsOrBuilderList();
+  /**
+   * <code>repeated .eventservice.Event events = 1;</code>
+   */
+  org.wso2.grpc.EventOrBuilder getEventsOrBuilder(
+      int index);
+}
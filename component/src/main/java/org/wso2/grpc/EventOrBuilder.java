@@ -1,5 +1,5 @@
 // Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: EventService.io.siddhi.extension.io.grpc.proto
+// source: EventService.proto
 
 package org.wso2.grpc;
 
@@ -17,6 +17,11 @@ public interface EventOrBuilder extends
   com.google.protobuf.ByteString
       getPayloadBytes();
 
+  /**
+   * <code>bytes binary_payload = 3;</code>
+   */
+  com.google.protobuf.ByteString getBinaryPayload();
+
   /**
    * <code>map&lt;string, string&gt; headers = 2;</code>
    */
@@ -25,7 +30,7 @@ public interface EventOrBuilder extends
    * <code>map&lt;string, string&gt; headers = 2;</code>
    */
   boolean containsHeaders(
-          String key);
+      String key);
   /**
    * Use {@link #getHeadersMap()} instead.
    */
@@ -42,12 +47,14 @@ public interface EventOrBuilder extends
    */
 
   String getHeadersOrDefault(
-          String key,
-          String defaultValue);
+      String key,
+      String defaultValue);
   /**
    * <code>map&lt;string, string&gt; headers = 2;</code>
    */
 
   String getHeadersOrThrow(
-          String key);
+      String key);
+
+  public org.wso2.grpc.Event.PayloadTypeCase getPayloadTypeCase();
 }
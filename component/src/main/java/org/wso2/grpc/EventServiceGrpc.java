@@ -59,6 +59,70 @@ public final class EventServiceGrpc {
      return getProcessMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<org.wso2.grpc.Event,
+      org.wso2.grpc.Event> getProcessStreamMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "processStream",
+      requestType = org.wso2.grpc.Event.class,
+      responseType = org.wso2.grpc.Event.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<org.wso2.grpc.Event,
+      org.wso2.grpc.Event> getProcessStreamMethod() {
+    io.grpc.MethodDescriptor<org.wso2.grpc.Event, org.wso2.grpc.Event> getProcessStreamMethod;
+    if ((getProcessStreamMethod = EventServiceGrpc.getProcessStreamMethod) == null) {
+      synchronized (EventServiceGrpc.class) {
+        if ((getProcessStreamMethod = EventServiceGrpc.getProcessStreamMethod) == null) {
+          EventServiceGrpc.getProcessStreamMethod = getProcessStreamMethod = 
+              io.grpc.MethodDescriptor.<org.wso2.grpc.Event, org.wso2.grpc.Event>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "eventservice.EventService", "processStream"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.wso2.grpc.Event.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.wso2.grpc.Event.getDefaultInstance()))
+                  .setSchemaDescriptor(new EventServiceMethodDescriptorSupplier("processStream"))
+                  .build();
+          }
+        }
+     }
+     return getProcessStreamMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.wso2.grpc.Event,
+      org.wso2.grpc.Event> getSubscribeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "subscribe",
+      requestType = org.wso2.grpc.Event.class,
+      responseType = org.wso2.grpc.Event.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<org.wso2.grpc.Event,
+      org.wso2.grpc.Event> getSubscribeMethod() {
+    io.grpc.MethodDescriptor<org.wso2.grpc.Event, org.wso2.grpc.Event> getSubscribeMethod;
+    if ((getSubscribeMethod = EventServiceGrpc.getSubscribeMethod) == null) {
+      synchronized (EventServiceGrpc.class) {
+        if ((getSubscribeMethod = EventServiceGrpc.getSubscribeMethod) == null) {
+          EventServiceGrpc.getSubscribeMethod = getSubscribeMethod = 
+              io.grpc.MethodDescriptor.<org.wso2.grpc.Event, org.wso2.grpc.Event>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "eventservice.EventService", "subscribe"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.wso2.grpc.Event.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.wso2.grpc.Event.getDefaultInstance()))
+                  .setSchemaDescriptor(new EventServiceMethodDescriptorSupplier("subscribe"))
+                  .build();
+          }
+        }
+     }
+     return getSubscribeMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<org.wso2.grpc.Event,
       com.google.protobuf.Empty> getConsumeMethod;
 
@@ -91,6 +155,102 @@ public final class EventServiceGrpc {
      return getConsumeMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<org.wso2.grpc.EventBatch,
+      com.google.protobuf.Empty> getConsumeBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "consumeBatch",
+      requestType = org.wso2.grpc.EventBatch.class,
+      responseType = com.google.protobuf.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<org.wso2.grpc.EventBatch,
+      com.google.protobuf.Empty> getConsumeBatchMethod() {
+    io.grpc.MethodDescriptor<org.wso2.grpc.EventBatch, com.google.protobuf.Empty> getConsumeBatchMethod;
+    if ((getConsumeBatchMethod = EventServiceGrpc.getConsumeBatchMethod) == null) {
+      synchronized (EventServiceGrpc.class) {
+        if ((getConsumeBatchMethod = EventServiceGrpc.getConsumeBatchMethod) == null) {
+          EventServiceGrpc.getConsumeBatchMethod = getConsumeBatchMethod = 
+              io.grpc.MethodDescriptor.<org.wso2.grpc.EventBatch, com.google.protobuf.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "eventservice.EventService", "consumeBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.wso2.grpc.EventBatch.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.google.protobuf.Empty.getDefaultInstance()))
+                  .setSchemaDescriptor(new EventServiceMethodDescriptorSupplier("consumeBatch"))
+                  .build();
+          }
+        }
+     }
+     return getConsumeBatchMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.wso2.grpc.ColumnarBatch,
+      com.google.protobuf.Empty> getConsumeColumnarMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "consumeColumnar",
+      requestType = org.wso2.grpc.ColumnarBatch.class,
+      responseType = com.google.protobuf.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<org.wso2.grpc.ColumnarBatch,
+      com.google.protobuf.Empty> getConsumeColumnarMethod() {
+    io.grpc.MethodDescriptor<org.wso2.grpc.ColumnarBatch, com.google.protobuf.Empty> getConsumeColumnarMethod;
+    if ((getConsumeColumnarMethod = EventServiceGrpc.getConsumeColumnarMethod) == null) {
+      synchronized (EventServiceGrpc.class) {
+        if ((getConsumeColumnarMethod = EventServiceGrpc.getConsumeColumnarMethod) == null) {
+          EventServiceGrpc.getConsumeColumnarMethod = getConsumeColumnarMethod = 
+              io.grpc.MethodDescriptor.<org.wso2.grpc.ColumnarBatch, com.google.protobuf.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "eventservice.EventService", "consumeColumnar"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.wso2.grpc.ColumnarBatch.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.google.protobuf.Empty.getDefaultInstance()))
+                  .setSchemaDescriptor(new EventServiceMethodDescriptorSupplier("consumeColumnar"))
+                  .build();
+          }
+        }
+     }
+     return getConsumeColumnarMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.wso2.grpc.NativeEvents,
+      com.google.protobuf.Empty> getConsumeNativeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "consumeNative",
+      requestType = org.wso2.grpc.NativeEvents.class,
+      responseType = com.google.protobuf.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<org.wso2.grpc.NativeEvents,
+      com.google.protobuf.Empty> getConsumeNativeMethod() {
+    io.grpc.MethodDescriptor<org.wso2.grpc.NativeEvents, com.google.protobuf.Empty> getConsumeNativeMethod;
+    if ((getConsumeNativeMethod = EventServiceGrpc.getConsumeNativeMethod) == null) {
+      synchronized (EventServiceGrpc.class) {
+        if ((getConsumeNativeMethod = EventServiceGrpc.getConsumeNativeMethod) == null) {
+          EventServiceGrpc.getConsumeNativeMethod = getConsumeNativeMethod = 
+              io.grpc.MethodDescriptor.<org.wso2.grpc.NativeEvents, com.google.protobuf.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "eventservice.EventService", "consumeNative"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.wso2.grpc.NativeEvents.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.google.protobuf.Empty.getDefaultInstance()))
+                  .setSchemaDescriptor(new EventServiceMethodDescriptorSupplier("consumeNative"))
+                  .build();
+          }
+        }
+     }
+     return getConsumeNativeMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -125,6 +285,27 @@ public final class EventServiceGrpc {
       asyncUnimplementedUnaryCall(getProcessMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * requests and responses of grpc-service sources on one long-lived stream, correlated by the message.id header
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.grpc.Event> processStream(
+        io.grpc.stub.StreamObserver<org.wso2.grpc.Event> responseObserver) {
+      return asyncUnimplementedStreamingCall(getProcessStreamMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * events of the stream given by the headers of the request, resumed after the event with the offset header of
+     * the request if any. Each event carries its offset in the offset header
+     * </pre>
+     */
+    public void subscribe(org.wso2.grpc.Event request,
+        io.grpc.stub.StreamObserver<org.wso2.grpc.Event> responseObserver) {
+      asyncUnimplementedUnaryCall(getSubscribeMethod(), responseObserver);
+    }
+
     /**
      */
     public io.grpc.stub.StreamObserver<org.wso2.grpc.Event> consume(
@@ -132,6 +313,27 @@ public final class EventServiceGrpc {
       return asyncUnimplementedStreamingCall(getConsumeMethod(), responseObserver);
     }
 
+    /**
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.grpc.EventBatch> consumeBatch(
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      return asyncUnimplementedStreamingCall(getConsumeBatchMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.grpc.ColumnarBatch> consumeColumnar(
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      return asyncUnimplementedStreamingCall(getConsumeColumnarMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.grpc.NativeEvents> consumeNative(
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      return asyncUnimplementedStreamingCall(getConsumeNativeMethod(), responseObserver);
+    }
+
     @Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -141,6 +343,20 @@ public final class EventServiceGrpc {
                 org.wso2.grpc.Event,
                 org.wso2.grpc.Event>(
                   this, METHODID_PROCESS)))
+          .addMethod(
+            getProcessStreamMethod(),
+            asyncBidiStreamingCall(
+              new MethodHandlers<
+                org.wso2.grpc.Event,
+                org.wso2.grpc.Event>(
+                  this, METHODID_PROCESS_STREAM)))
+          .addMethod(
+            getSubscribeMethod(),
+            asyncServerStreamingCall(
+              new MethodHandlers<
+                org.wso2.grpc.Event,
+                org.wso2.grpc.Event>(
+                  this, METHODID_SUBSCRIBE)))
           .addMethod(
             getConsumeMethod(),
             asyncClientStreamingCall(
@@ -148,6 +364,27 @@ public final class EventServiceGrpc {
                 org.wso2.grpc.Event,
                 com.google.protobuf.Empty>(
                   this, METHODID_CONSUME)))
+          .addMethod(
+            getConsumeBatchMethod(),
+            asyncClientStreamingCall(
+              new MethodHandlers<
+                org.wso2.grpc.EventBatch,
+                com.google.protobuf.Empty>(
+                  this, METHODID_CONSUME_BATCH)))
+          .addMethod(
+            getConsumeColumnarMethod(),
+            asyncClientStreamingCall(
+              new MethodHandlers<
+                org.wso2.grpc.ColumnarBatch,
+                com.google.protobuf.Empty>(
+                  this, METHODID_CONSUME_COLUMNAR)))
+          .addMethod(
+            getConsumeNativeMethod(),
+            asyncClientStreamingCall(
+              new MethodHandlers<
+                org.wso2.grpc.NativeEvents,
+                com.google.protobuf.Empty>(
+                  this, METHODID_CONSUME_NATIVE)))
           .build();
     }
   }
@@ -178,6 +415,29 @@ public final class EventServiceGrpc {
           getChannel().newCall(getProcessMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     * <pre>
+     * requests and responses of grpc-service sources on one long-lived stream, correlated by the message.id header
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.grpc.Event> processStream(
+        io.grpc.stub.StreamObserver<org.wso2.grpc.Event> responseObserver) {
+      return asyncBidiStreamingCall(
+          getChannel().newCall(getProcessStreamMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * events of the stream given by the headers of the request, resumed after the event with the offset header of
+     * the request if any. Each event carries its offset in the offset header
+     * </pre>
+     */
+    public void subscribe(org.wso2.grpc.Event request,
+        io.grpc.stub.StreamObserver<org.wso2.grpc.Event> responseObserver) {
+      asyncServerStreamingCall(
+          getChannel().newCall(getSubscribeMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      */
     public io.grpc.stub.StreamObserver<org.wso2.grpc.Event> consume(
@@ -185,6 +445,30 @@ public final class EventServiceGrpc {
       return asyncClientStreamingCall(
           getChannel().newCall(getConsumeMethod(), getCallOptions()), responseObserver);
     }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.grpc.EventBatch> consumeBatch(
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      return asyncClientStreamingCall(
+          getChannel().newCall(getConsumeBatchMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.grpc.ColumnarBatch> consumeColumnar(
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      return asyncClientStreamingCall(
+          getChannel().newCall(getConsumeColumnarMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<org.wso2.grpc.NativeEvents> consumeNative(
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      return asyncClientStreamingCall(
+          getChannel().newCall(getConsumeNativeMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -211,6 +495,18 @@ public final class EventServiceGrpc {
       return blockingUnaryCall(
           getChannel(), getProcessMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * events of the stream given by the headers of the request, resumed after the event with the offset header of
+     * the request if any. Each event carries its offset in the offset header
+     * </pre>
+     */
+    public java.util.Iterator<org.wso2.grpc.Event> subscribe(
+        org.wso2.grpc.Event request) {
+      return blockingServerStreamingCall(
+          getChannel(), getSubscribeMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -241,7 +537,12 @@ public final class EventServiceGrpc {
   }
 
   private static final int METHODID_PROCESS = 0;
-  private static final int METHODID_CONSUME = 1;
+  private static final int METHODID_SUBSCRIBE = 1;
+  private static final int METHODID_PROCESS_STREAM = 2;
+  private static final int METHODID_CONSUME = 3;
+  private static final int METHODID_CONSUME_BATCH = 4;
+  private static final int METHODID_CONSUME_COLUMNAR = 5;
+  private static final int METHODID_CONSUME_NATIVE = 6;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -264,6 +565,10 @@ public final class EventServiceGrpc {
           serviceImpl.process((org.wso2.grpc.Event) request,
               (io.grpc.stub.StreamObserver<org.wso2.grpc.Event>) responseObserver);
           break;
+        case METHODID_SUBSCRIBE:
+          serviceImpl.subscribe((org.wso2.grpc.Event) request,
+              (io.grpc.stub.StreamObserver<org.wso2.grpc.Event>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -274,9 +579,21 @@ public final class EventServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_PROCESS_STREAM:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.processStream(
+              (io.grpc.stub.StreamObserver<org.wso2.grpc.Event>) responseObserver);
         case METHODID_CONSUME:
           return (io.grpc.stub.StreamObserver<Req>) serviceImpl.consume(
               (io.grpc.stub.StreamObserver<com.google.protobuf.Empty>) responseObserver);
+        case METHODID_CONSUME_BATCH:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.consumeBatch(
+              (io.grpc.stub.StreamObserver<com.google.protobuf.Empty>) responseObserver);
+        case METHODID_CONSUME_COLUMNAR:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.consumeColumnar(
+              (io.grpc.stub.StreamObserver<com.google.protobuf.Empty>) responseObserver);
+        case METHODID_CONSUME_NATIVE:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.consumeNative(
+              (io.grpc.stub.StreamObserver<com.google.protobuf.Empty>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -329,7 +646,12 @@ public final class EventServiceGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new EventServiceFileDescriptorSupplier())
               .addMethod(getProcessMethod())
+              .addMethod(getProcessStreamMethod())
+              .addMethod(getSubscribeMethod())
               .addMethod(getConsumeMethod())
+              .addMethod(getConsumeBatchMethod())
+              .addMethod(getConsumeColumnarMethod())
+              .addMethod(getConsumeNativeMethod())
               .build();
         }
       }
@@ -24,6 +24,51 @@ public final class EventServiceOuterClass {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_eventservice_Event_HeadersEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_EventBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_EventBatch_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_ColumnarBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_ColumnarBatch_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_ColumnarBatch_HeadersEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_ColumnarBatch_HeadersEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_Column_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_Column_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_LongColumn_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_LongColumn_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_DoubleColumn_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_DoubleColumn_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_BoolColumn_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_BoolColumn_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_StringColumn_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_StringColumn_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventservice_NativeEvents_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventservice_NativeEvents_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -34,14 +79,42 @@ public final class EventServiceOuterClass {
   static {
     String[] descriptorData = {
       "\n\022EventService.proto\022\014eventservice\032\033goog" +
-      "le/protobuf/empty.proto\"{\n\005Event\022\017\n\007payl" +
-      "oad\030\001 \001(\t\0221\n\007headers\030\002 \003(\0132 .eventservic" +
-      "e.Event.HeadersEntry\032.\n\014HeadersEntry\022\013\n\003" +
-      "key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\0012\201\001\n\014EventSe" +
-      "rvice\0225\n\007process\022\023.eventservice.Event\032\023." +
-      "eventservice.Event\"\000\022:\n\007consume\022\023.events" +
-      "ervice.Event\032\026.google.protobuf.Empty\"\000(\001" +
-      "B\021\n\rorg.wso2.grpcP\001b\006proto3"
+      "le/protobuf/empty.proto\"\247\001\n\005Event\022\021\n\007pay" +
+      "load\030\001 \001(\tH\000\022\030\n\016binary_payload\030\003 \001(\014H\000\0221" +
+      "\n\007headers\030\002 \003(\0132 .eventservice.Event.Hea" +
+      "dersEntry\032.\n\014HeadersEntry\022\013\n\003key\030\001 \001(\t\022\r" +
+      "\n\005value\030\002 \001(\t:\0028\001B\016\n\014payload_type\"1\n\nEve" +
+      "ntBatch\022#\n\006events\030\001 \003(\0132\023.eventservice.E" +
+      "vent\"\342\001\n\rColumnarBatch\022\021\n\trow_count\030\001 \001(" +
+      "\005\022,\n\ntimestamps\030\002 \001(\0132\030.eventservice.Lon" +
+      "gColumn\022%\n\007columns\030\003 \003(\0132\024.eventservice." +
+      "Column\0229\n\007headers\030\004 \003(\0132(.eventservice.C" +
+      "olumnarBatch.HeadersEntry\032.\n\014HeadersEntr" +
+      "y\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\366\001\n\006Co" +
+      "lumn\022/\n\013long_values\030\001 \001(\0132\030.eventservice" +
+      ".LongColumnH\000\0223\n\rdouble_values\030\002 \001(\0132\032.e" +
+      "ventservice.DoubleColumnH\000\022/\n\013bool_value" +
+      "s\030\003 \001(\0132\030.eventservice.BoolColumnH\000\0223\n\rs" +
+      "tring_values\030\004 \001(\0132\032.eventservice.String" +
+      "ColumnH\000\022\021\n\tnull_rows\030\005 \003(\rB\r\n\013values_ty" +
+      "pe\"+\n\nLongColumn\022\016\n\006values\030\001 \003(\022\022\r\n\005delt" +
+      "a\030\002 \001(\010\"\036\n\014DoubleColumn\022\016\n\006values\030\001 \003(\001\"" +
+      "\034\n\nBoolColumn\022\016\n\006values\030\001 \003(\010\":\n\014StringC" +
+      "olumn\022\016\n\006values\030\001 \003(\t\022\032\n\022dictionary_inde" +
+      "xes\030\002 \003(\r\"/\n\014NativeEvents\022\021\n\trow_count\030\001" +
+      " \001(\005\022\014\n\004rows\030\002 \001(\0142\330\003\n\014EventService\0225\n\007p" +
+      "rocess\022\023.eventservice.Event\032\023.eventservi" +
+      "ce.Event\"\000\022?\n\rprocessStream\022\023.eventservi" +
+      "ce.Event\032\023.eventservice.Event\"\000(\0010\001\0229\n\ts" +
+      "ubscribe\022\023.eventservice.Event\032\023.eventser" +
+      "vice.Event\"\0000\001\022:\n\007consume\022\023.eventservice" +
+      ".Event\032\026.google.protobuf.Empty\"\000(\001\022D\n\014co" +
+      "nsumeBatch\022\030.eventservice.EventBatch\032\026.g" +
+      "oogle.protobuf.Empty\"\000(\001\022J\n\017consumeColum" +
+      "nar\022\033.eventservice.ColumnarBatch\032\026.googl" +
+      "e.protobuf.Empty\"\000(\001\022G\n\rconsumeNative\022\032." +
+      "eventservice.NativeEvents\032\026.google.proto" +
+      "buf.Empty\"\000(\001B\021\n\rorg.wso2.grpcP\001b\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -61,13 +134,67 @@ public final class EventServiceOuterClass {
     internal_static_eventservice_Event_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventservice_Event_descriptor,
-        new String[] { "Payload", "Headers", });
+        new String[] { "Payload", "BinaryPayload", "Headers", "PayloadType", });
     internal_static_eventservice_Event_HeadersEntry_descriptor =
       internal_static_eventservice_Event_descriptor.getNestedTypes().get(0);
     internal_static_eventservice_Event_HeadersEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventservice_Event_HeadersEntry_descriptor,
         new String[] { "Key", "Value", });
+    internal_static_eventservice_EventBatch_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_eventservice_EventBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_EventBatch_descriptor,
+        new String[] { "Events", });
+    internal_static_eventservice_ColumnarBatch_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_eventservice_ColumnarBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_ColumnarBatch_descriptor,
+        new String[] { "RowCount", "Timestamps", "Columns", "Headers", });
+    internal_static_eventservice_ColumnarBatch_HeadersEntry_descriptor =
+      internal_static_eventservice_ColumnarBatch_descriptor.getNestedTypes().get(0);
+    internal_static_eventservice_ColumnarBatch_HeadersEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_ColumnarBatch_HeadersEntry_descriptor,
+        new String[] { "Key", "Value", });
+    internal_static_eventservice_Column_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_eventservice_Column_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_Column_descriptor,
+        new String[] { "LongValues", "DoubleValues", "BoolValues", "StringValues", "NullRows", "ValuesType", });
+    internal_static_eventservice_LongColumn_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_eventservice_LongColumn_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_LongColumn_descriptor,
+        new String[] { "Values", "Delta", });
+    internal_static_eventservice_DoubleColumn_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_eventservice_DoubleColumn_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_DoubleColumn_descriptor,
+        new String[] { "Values", });
+    internal_static_eventservice_BoolColumn_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_eventservice_BoolColumn_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_BoolColumn_descriptor,
+        new String[] { "Values", });
+    internal_static_eventservice_StringColumn_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_eventservice_StringColumn_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_StringColumn_descriptor,
+        new String[] { "Values", "DictionaryIndexes", });
+    internal_static_eventservice_NativeEvents_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_eventservice_NativeEvents_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventservice_NativeEvents_descriptor,
+        new String[] { "RowCount", "Rows", });
     com.google.protobuf.EmptyProto.getDescriptor();
   }
 
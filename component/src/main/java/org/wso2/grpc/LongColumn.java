@@ -0,0 +1,652 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+/**
+ * Protobuf type {@code eventservice.LongColumn}
+ */
+public  final class LongColumn extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:eventservice.LongColumn)
+    LongColumnOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use LongColumn.newBuilder() to construct.
+  private LongColumn(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private LongColumn() {
+    values_ = emptyLongList();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private LongColumn(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              values_ = newLongList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            values_.addLong(input.readSInt64());
+            break;
+          }
+          case 10: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              values_ = newLongList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              values_.addLong(input.readSInt64());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 16: {
+
+            delta_ = input.readBool();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        values_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_LongColumn_descriptor;
+  }
+
+  @Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_LongColumn_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.wso2.grpc.LongColumn.class, org.wso2.grpc.LongColumn.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int VALUES_FIELD_NUMBER = 1;
+  private com.google.protobuf.Internal.LongList values_;
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   */
+  public java.util.List<Long>
+      getValuesList() {
+    return values_;
+  }
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   */
+  public int getValuesCount() {
+    return values_.size();
+  }
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   */
+  public long getValues(int index) {
+    return values_.getLong(index);
+  }
+  private int valuesMemoizedSerializedSize = -1;
+
+  public static final int DELTA_FIELD_NUMBER = 2;
+  private boolean delta_;
+  /**
+   * <pre>
+   * each value is the difference from the value of the previous row
+   * </pre>
+   *
+   * <code>bool delta = 2;</code>
+   */
+  public boolean getDelta() {
+    return delta_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getValuesList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(valuesMemoizedSerializedSize);
+    }
+    for (int i = 0; i < values_.size(); i++) {
+      output.writeSInt64NoTag(values_.getLong(i));
+    }
+    if (delta_ != false) {
+      output.writeBool(2, delta_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < values_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeSInt64SizeNoTag(values_.getLong(i));
+      }
+      size += dataSize;
+      if (!getValuesList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      valuesMemoizedSerializedSize = dataSize;
+    }
+    if (delta_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(2, delta_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.wso2.grpc.LongColumn)) {
+      return super.equals(obj);
+    }
+    org.wso2.grpc.LongColumn other = (org.wso2.grpc.LongColumn) obj;
+
+    if (!getValuesList()
+        .equals(other.getValuesList())) return false;
+    if (getDelta()
+        != other.getDelta()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getValuesCount() > 0) {
+      hash = (37 * hash) + VALUES_FIELD_NUMBER;
+      hash = (53 * hash) + getValuesList().hashCode();
+    }
+    hash = (37 * hash) + DELTA_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getDelta());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.wso2.grpc.LongColumn parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.LongColumn parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.LongColumn parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.LongColumn parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.wso2.grpc.LongColumn prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventservice.LongColumn}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventservice.LongColumn)
+      org.wso2.grpc.LongColumnOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_LongColumn_descriptor;
+    }
+
+    @Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_LongColumn_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.wso2.grpc.LongColumn.class, org.wso2.grpc.LongColumn.Builder.class);
+    }
+
+    // Construct using org.wso2.grpc.LongColumn.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      values_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      delta_ = false;
+
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_LongColumn_descriptor;
+    }
+
+    @Override
+    public org.wso2.grpc.LongColumn getDefaultInstanceForType() {
+      return org.wso2.grpc.LongColumn.getDefaultInstance();
+    }
+
+    @Override
+    public org.wso2.grpc.LongColumn build() {
+      org.wso2.grpc.LongColumn result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public org.wso2.grpc.LongColumn buildPartial() {
+      org.wso2.grpc.LongColumn result = new org.wso2.grpc.LongColumn(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        values_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.values_ = values_;
+      result.delta_ = delta_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.wso2.grpc.LongColumn) {
+        return mergeFrom((org.wso2.grpc.LongColumn)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.wso2.grpc.LongColumn other) {
+      if (other == org.wso2.grpc.LongColumn.getDefaultInstance()) return this;
+      if (!other.values_.isEmpty()) {
+        if (values_.isEmpty()) {
+          values_ = other.values_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureValuesIsMutable();
+          values_.addAll(other.values_);
+        }
+        onChanged();
+      }
+      if (other.getDelta() != false) {
+        setDelta(other.getDelta());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.wso2.grpc.LongColumn parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.wso2.grpc.LongColumn) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.LongList values_ = emptyLongList();
+    private void ensureValuesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        values_ = mutableCopy(values_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated sint64 values = 1;</code>
+     */
+    public java.util.List<Long>
+        getValuesList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(values_) : values_;
+    }
+    /**
+     * <code>repeated sint64 values = 1;</code>
+     */
+    public int getValuesCount() {
+      return values_.size();
+    }
+    /**
+     * <code>repeated sint64 values = 1;</code>
+     */
+    public long getValues(int index) {
+      return values_.getLong(index);
+    }
+    /**
+     * <code>repeated sint64 values = 1;</code>
+     */
+    public Builder setValues(
+        int index, long value) {
+      ensureValuesIsMutable();
+      values_.setLong(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated sint64 values = 1;</code>
+     */
+    public Builder addValues(long value) {
+      ensureValuesIsMutable();
+      values_.addLong(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated sint64 values = 1;</code>
+     */
+    public Builder addAllValues(
+        Iterable<? extends Long> values) {
+      ensureValuesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, values_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated sint64 values = 1;</code>
+     */
+    public Builder clearValues() {
+      values_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+
+    private boolean delta_ ;
+    /**
+     * <pre>
+     * each value is the difference from the value of the previous row
+     * </pre>
+     *
+     * <code>bool delta = 2;</code>
+     */
+    public boolean getDelta() {
+      return delta_;
+    }
+    /**
+     * <pre>
+     * each value is the difference from the value of the previous row
+     * </pre>
+     *
+     * <code>bool delta = 2;</code>
+     */
+    public Builder setDelta(boolean value) {
+      
+      delta_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * each value is the difference from the value of the previous row
+     * </pre>
+     *
+     * <code>bool delta = 2;</code>
+     */
+    public Builder clearDelta() {
+      
+      delta_ = false;
+      onChanged();
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:eventservice.LongColumn)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventservice.LongColumn)
+  private static final org.wso2.grpc.LongColumn DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.wso2.grpc.LongColumn();
+  }
+
+  public static org.wso2.grpc.LongColumn getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<LongColumn>
+      PARSER = new com.google.protobuf.AbstractParser<LongColumn>() {
+    @Override
+    public LongColumn parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new LongColumn(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<LongColumn> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<LongColumn> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public org.wso2.grpc.LongColumn getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,31 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+public interface LongColumnOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventservice.LongColumn)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   */
+  java.util.List<Long> getValuesList();
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   */
+  long getValues(int index);
+
+  /**
+   * <pre>
+   * each value is the difference from the value of the previous row
+   * </pre>
+   *
+   * <code>bool delta = 2;</code>
+   */
+  boolean getDelta();
+}
@@ -0,0 +1,541 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+/**
+ * <pre>
+ * events of a stream in the native row encoding. The names and types of the attributes are sent once in the
+ * siddhi.schema metadata of the call, and each row holds the timestamp and the attribute values of an event
+ * </pre>
+ *
+ * Protobuf type {@code eventservice.NativeEvents}
+ */
+public  final class NativeEvents extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:eventservice.NativeEvents)
+    NativeEventsOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use NativeEvents.newBuilder() to construct.
+  private NativeEvents(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private NativeEvents() {
+    rows_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private NativeEvents(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            rowCount_ = input.readInt32();
+            break;
+          }
+          case 18: {
+
+            rows_ = input.readBytes();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_NativeEvents_descriptor;
+  }
+
+  @Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_NativeEvents_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.wso2.grpc.NativeEvents.class, org.wso2.grpc.NativeEvents.Builder.class);
+  }
+
+  public static final int ROW_COUNT_FIELD_NUMBER = 1;
+  private int rowCount_;
+  /**
+   * <code>int32 row_count = 1;</code>
+   */
+  public int getRowCount() {
+    return rowCount_;
+  }
+
+  public static final int ROWS_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString rows_;
+  /**
+   * <code>bytes rows = 2;</code>
+   */
+  public com.google.protobuf.ByteString getRows() {
+    return rows_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (rowCount_ != 0) {
+      output.writeInt32(1, rowCount_);
+    }
+    if (!rows_.isEmpty()) {
+      output.writeBytes(2, rows_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (rowCount_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, rowCount_);
+    }
+    if (!rows_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, rows_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.wso2.grpc.NativeEvents)) {
+      return super.equals(obj);
+    }
+    org.wso2.grpc.NativeEvents other = (org.wso2.grpc.NativeEvents) obj;
+
+    if (getRowCount()
+        != other.getRowCount()) return false;
+    if (!getRows()
+        .equals(other.getRows())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ROW_COUNT_FIELD_NUMBER;
+    hash = (53 * hash) + getRowCount();
+    hash = (37 * hash) + ROWS_FIELD_NUMBER;
+    hash = (53 * hash) + getRows().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.wso2.grpc.NativeEvents parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.NativeEvents parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.NativeEvents parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.NativeEvents parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.wso2.grpc.NativeEvents prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * events of a stream in the native row encoding. The names and types of the attributes are sent once in the
+   * siddhi.schema metadata of the call, and each row holds the timestamp and the attribute values of an event
+   * </pre>
+   *
+   * Protobuf type {@code eventservice.NativeEvents}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventservice.NativeEvents)
+      org.wso2.grpc.NativeEventsOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_NativeEvents_descriptor;
+    }
+
+    @Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_NativeEvents_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.wso2.grpc.NativeEvents.class, org.wso2.grpc.NativeEvents.Builder.class);
+    }
+
+    // Construct using org.wso2.grpc.NativeEvents.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      rowCount_ = 0;
+
+      rows_ = com.google.protobuf.ByteString.EMPTY;
+
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_NativeEvents_descriptor;
+    }
+
+    @Override
+    public org.wso2.grpc.NativeEvents getDefaultInstanceForType() {
+      return org.wso2.grpc.NativeEvents.getDefaultInstance();
+    }
+
+    @Override
+    public org.wso2.grpc.NativeEvents build() {
+      org.wso2.grpc.NativeEvents result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public org.wso2.grpc.NativeEvents buildPartial() {
+      org.wso2.grpc.NativeEvents result = new org.wso2.grpc.NativeEvents(this);
+      result.rowCount_ = rowCount_;
+      result.rows_ = rows_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.wso2.grpc.NativeEvents) {
+        return mergeFrom((org.wso2.grpc.NativeEvents)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.wso2.grpc.NativeEvents other) {
+      if (other == org.wso2.grpc.NativeEvents.getDefaultInstance()) return this;
+      if (other.getRowCount() != 0) {
+        setRowCount(other.getRowCount());
+      }
+      if (other.getRows() != com.google.protobuf.ByteString.EMPTY) {
+        setRows(other.getRows());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.wso2.grpc.NativeEvents parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.wso2.grpc.NativeEvents) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int rowCount_ ;
+    /**
+     * <code>int32 row_count = 1;</code>
+     */
+    public int getRowCount() {
+      return rowCount_;
+    }
+    /**
+     * <code>int32 row_count = 1;</code>
+     */
+    public Builder setRowCount(int value) {
+      
+      rowCount_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 row_count = 1;</code>
+     */
+    public Builder clearRowCount() {
+      
+      rowCount_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString rows_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes rows = 2;</code>
+     */
+    public com.google.protobuf.ByteString getRows() {
+      return rows_;
+    }
+    /**
+     * <code>bytes rows = 2;</code>
+     */
+    public Builder setRows(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      rows_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes rows = 2;</code>
+     */
+    public Builder clearRows() {
+      
+      rows_ = getDefaultInstance().getRows();
+      onChanged();
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:eventservice.NativeEvents)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventservice.NativeEvents)
+  private static final org.wso2.grpc.NativeEvents DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.wso2.grpc.NativeEvents();
+  }
+
+  public static org.wso2.grpc.NativeEvents getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NativeEvents>
+      PARSER = new com.google.protobuf.AbstractParser<NativeEvents>() {
+    @Override
+    public NativeEvents parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new NativeEvents(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<NativeEvents> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<NativeEvents> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public org.wso2.grpc.NativeEvents getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
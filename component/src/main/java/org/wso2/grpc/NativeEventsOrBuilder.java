@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+public interface NativeEventsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventservice.NativeEvents)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 row_count = 1;</code>
+   */
+  int getRowCount();
+
+  /**
+   * <code>bytes rows = 2;</code>
+   */
+  com.google.protobuf.ByteString getRows();
+}
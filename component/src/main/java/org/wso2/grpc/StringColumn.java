@@ -0,0 +1,785 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+/**
+ * Protobuf type {@code eventservice.StringColumn}
+ */
+public  final class StringColumn extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:eventservice.StringColumn)
+    StringColumnOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StringColumn.newBuilder() to construct.
+  private StringColumn(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StringColumn() {
+    values_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    dictionaryIndexes_ = emptyIntList();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private StringColumn(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              values_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            values_.add(s);
+            break;
+          }
+          case 16: {
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              dictionaryIndexes_ = newIntList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            dictionaryIndexes_.addInt(input.readUInt32());
+            break;
+          }
+          case 18: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+              dictionaryIndexes_ = newIntList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              dictionaryIndexes_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        values_ = values_.getUnmodifiableView();
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        dictionaryIndexes_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_StringColumn_descriptor;
+  }
+
+  @Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_StringColumn_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.wso2.grpc.StringColumn.class, org.wso2.grpc.StringColumn.Builder.class);
+  }
+
+  public static final int VALUES_FIELD_NUMBER = 1;
+  private com.google.protobuf.LazyStringList values_;
+  /**
+   * <code>repeated string values = 1;</code>
+   */
+  public com.google.protobuf.ProtocolStringList
+      getValuesList() {
+    return values_;
+  }
+  /**
+   * <code>repeated string values = 1;</code>
+   */
+  public int getValuesCount() {
+    return values_.size();
+  }
+  /**
+   * <code>repeated string values = 1;</code>
+   */
+  public String getValues(int index) {
+    return values_.get(index);
+  }
+  /**
+   * <code>repeated string values = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getValuesBytes(int index) {
+    return values_.getByteString(index);
+  }
+
+  public static final int DICTIONARY_INDEXES_FIELD_NUMBER = 2;
+  private com.google.protobuf.Internal.IntList dictionaryIndexes_;
+  /**
+   * <pre>
+   * when given the values are the distinct strings, and each row is the index of its value
+   * </pre>
+   *
+   * <code>repeated uint32 dictionary_indexes = 2;</code>
+   */
+  public java.util.List<Integer>
+      getDictionaryIndexesList() {
+    return dictionaryIndexes_;
+  }
+  /**
+   * <pre>
+   * when given the values are the distinct strings, and each row is the index of its value
+   * </pre>
+   *
+   * <code>repeated uint32 dictionary_indexes = 2;</code>
+   */
+  public int getDictionaryIndexesCount() {
+    return dictionaryIndexes_.size();
+  }
+  /**
+   * <pre>
+   * when given the values are the distinct strings, and each row is the index of its value
+   * </pre>
+   *
+   * <code>repeated uint32 dictionary_indexes = 2;</code>
+   */
+  public int getDictionaryIndexes(int index) {
+    return dictionaryIndexes_.getInt(index);
+  }
+  private int dictionaryIndexesMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    for (int i = 0; i < values_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, values_.getRaw(i));
+    }
+    if (getDictionaryIndexesList().size() > 0) {
+      output.writeUInt32NoTag(18);
+      output.writeUInt32NoTag(dictionaryIndexesMemoizedSerializedSize);
+    }
+    for (int i = 0; i < dictionaryIndexes_.size(); i++) {
+      output.writeUInt32NoTag(dictionaryIndexes_.getInt(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < values_.size(); i++) {
+        dataSize += computeStringSizeNoTag(values_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getValuesList().size();
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < dictionaryIndexes_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(dictionaryIndexes_.getInt(i));
+      }
+      size += dataSize;
+      if (!getDictionaryIndexesList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      dictionaryIndexesMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.wso2.grpc.StringColumn)) {
+      return super.equals(obj);
+    }
+    org.wso2.grpc.StringColumn other = (org.wso2.grpc.StringColumn) obj;
+
+    if (!getValuesList()
+        .equals(other.getValuesList())) return false;
+    if (!getDictionaryIndexesList()
+        .equals(other.getDictionaryIndexesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getValuesCount() > 0) {
+      hash = (37 * hash) + VALUES_FIELD_NUMBER;
+      hash = (53 * hash) + getValuesList().hashCode();
+    }
+    if (getDictionaryIndexesCount() > 0) {
+      hash = (37 * hash) + DICTIONARY_INDEXES_FIELD_NUMBER;
+      hash = (53 * hash) + getDictionaryIndexesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.wso2.grpc.StringColumn parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.StringColumn parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.StringColumn parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.wso2.grpc.StringColumn parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.wso2.grpc.StringColumn prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventservice.StringColumn}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventservice.StringColumn)
+      org.wso2.grpc.StringColumnOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_StringColumn_descriptor;
+    }
+
+    @Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_StringColumn_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.wso2.grpc.StringColumn.class, org.wso2.grpc.StringColumn.Builder.class);
+    }
+
+    // Construct using org.wso2.grpc.StringColumn.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      values_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      dictionaryIndexes_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.wso2.grpc.EventServiceOuterClass.internal_static_eventservice_StringColumn_descriptor;
+    }
+
+    @Override
+    public org.wso2.grpc.StringColumn getDefaultInstanceForType() {
+      return org.wso2.grpc.StringColumn.getDefaultInstance();
+    }
+
+    @Override
+    public org.wso2.grpc.StringColumn build() {
+      org.wso2.grpc.StringColumn result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public org.wso2.grpc.StringColumn buildPartial() {
+      org.wso2.grpc.StringColumn result = new org.wso2.grpc.StringColumn(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        values_ = values_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.values_ = values_;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        dictionaryIndexes_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.dictionaryIndexes_ = dictionaryIndexes_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.wso2.grpc.StringColumn) {
+        return mergeFrom((org.wso2.grpc.StringColumn)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.wso2.grpc.StringColumn other) {
+      if (other == org.wso2.grpc.StringColumn.getDefaultInstance()) return this;
+      if (!other.values_.isEmpty()) {
+        if (values_.isEmpty()) {
+          values_ = other.values_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureValuesIsMutable();
+          values_.addAll(other.values_);
+        }
+        onChanged();
+      }
+      if (!other.dictionaryIndexes_.isEmpty()) {
+        if (dictionaryIndexes_.isEmpty()) {
+          dictionaryIndexes_ = other.dictionaryIndexes_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureDictionaryIndexesIsMutable();
+          dictionaryIndexes_.addAll(other.dictionaryIndexes_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.wso2.grpc.StringColumn parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.wso2.grpc.StringColumn) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.LazyStringList values_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureValuesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        values_ = new com.google.protobuf.LazyStringArrayList(values_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getValuesList() {
+      return values_.getUnmodifiableView();
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public int getValuesCount() {
+      return values_.size();
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public String getValues(int index) {
+      return values_.get(index);
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValuesBytes(int index) {
+      return values_.getByteString(index);
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public Builder setValues(
+        int index, String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureValuesIsMutable();
+      values_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public Builder addValues(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureValuesIsMutable();
+      values_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public Builder addAllValues(
+        Iterable<String> values) {
+      ensureValuesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, values_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public Builder clearValues() {
+      values_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string values = 1;</code>
+     */
+    public Builder addValuesBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureValuesIsMutable();
+      values_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList dictionaryIndexes_ = emptyIntList();
+    private void ensureDictionaryIndexesIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        dictionaryIndexes_ = mutableCopy(dictionaryIndexes_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * when given the values are the distinct strings, and each row is the index of its value
+     * </pre>
+     *
+     * <code>repeated uint32 dictionary_indexes = 2;</code>
+     */
+    public java.util.List<Integer>
+        getDictionaryIndexesList() {
+      return ((bitField0_ & 0x00000002) != 0) ?
+               java.util.Collections.unmodifiableList(dictionaryIndexes_) : dictionaryIndexes_;
+    }
+    /**
+     * <pre>
+     * when given the values are the distinct strings, and each row is the index of its value
+     * </pre>
+     *
+     * <code>repeated uint32 dictionary_indexes = 2;</code>
+     */
+    public int getDictionaryIndexesCount() {
+      return dictionaryIndexes_.size();
+    }
+    /**
+     * <pre>
+     * when given the values are the distinct strings, and each row is the index of its value
+     * </pre>
+     *
+     * <code>repeated uint32 dictionary_indexes = 2;</code>
+     */
+    public int getDictionaryIndexes(int index) {
+      return dictionaryIndexes_.getInt(index);
+    }
+    /**
+     * <pre>
+     * when given the values are the distinct strings, and each row is the index of its value
+     * </pre>
+     *
+     * <code>repeated uint32 dictionary_indexes = 2;</code>
+     */
+    public Builder setDictionaryIndexes(
+        int index, int value) {
+      ensureDictionaryIndexesIsMutable();
+      dictionaryIndexes_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * when given the values are the distinct strings, and each row is the index of its value
+     * </pre>
+     *
+     * <code>repeated uint32 dictionary_indexes = 2;</code>
+     */
+    public Builder addDictionaryIndexes(int value) {
+      ensureDictionaryIndexesIsMutable();
+      dictionaryIndexes_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * when given the values are the distinct strings, and each row is the index of its value
+     * </pre>
+     *
+     * <code>repeated uint32 dictionary_indexes = 2;</code>
+     */
+    public Builder addAllDictionaryIndexes(
+        Iterable<? extends Integer> values) {
+      ensureDictionaryIndexesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, dictionaryIndexes_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * when given the values are the distinct strings, and each row is the index of its value
+     * </pre>
+     *
+     * <code>repeated uint32 dictionary_indexes = 2;</code>
+     */
+    public Builder clearDictionaryIndexes() {
+      dictionaryIndexes_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:eventservice.StringColumn)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventservice.StringColumn)
+  private static final org.wso2.grpc.StringColumn DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.wso2.grpc.StringColumn();
+  }
+
+  public static org.wso2.grpc.StringColumn getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StringColumn>
+      PARSER = new com.google.protobuf.AbstractParser<StringColumn>() {
+    @Override
+    public StringColumn parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new StringColumn(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StringColumn> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<StringColumn> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public org.wso2.grpc.StringColumn getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,53 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: EventService.proto
+
+package org.wso2.grpc;
+
+public interface StringColumnOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventservice.StringColumn)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated string values = 1;</code>
+   */
+  java.util.List<String>
+      getValuesList();
+  /**
+   * <code>repeated string values = 1;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated string values = 1;</code>
+   */
+  String getValues(int index);
+  /**
+   * <code>repeated string values = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getValuesBytes(int index);
+
+  /**
+   * <pre>
+   * when given the values are the distinct strings, and each row is the index of its value
+   * </pre>
+   *
+   * <code>repeated uint32 dictionary_indexes = 2;</code>
+   */
+  java.util.List<Integer> getDictionaryIndexesList();
+  /**
+   * <pre>
+   * when given the values are the distinct strings, and each row is the index of its value
+   * </pre>
+   *
+   * <code>repeated uint32 dictionary_indexes = 2;</code>
+   */
+  int getDictionaryIndexesCount();
+  /**
+   * <pre>
+   * when given the values are the distinct strings, and each row is the index of its value
+   * </pre>
+   *
+   * <code>repeated uint32 dictionary_indexes = 2;</code>
+   */
+  int getDictionaryIndexes(int index);
+}
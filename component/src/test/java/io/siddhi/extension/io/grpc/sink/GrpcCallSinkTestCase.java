@@ -17,14 +17,21 @@
  */
 package io.siddhi.extension.io.grpc.sink;
 
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.event.Event;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
 import io.siddhi.core.util.EventPrinter;
 import io.siddhi.extension.io.grpc.utils.TestAppender;
 import io.siddhi.extension.io.grpc.utils.TestServer;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Logger;
@@ -32,9 +39,16 @@ import org.testng.Assert;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
+import org.wso2.grpc.EventServiceGrpc;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 /**
  * Test cases for grpc-call-sink in default way.
@@ -108,6 +122,407 @@ public class GrpcCallSinkTestCase {
         logger.removeAppender(appender);
     }
 
+    @Test
+    public void testWithChannelPool() throws Exception {
+        logger.info("Test case to call process over a pool of channels");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        AtomicInteger responseCount = new AtomicInteger(0);
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8889/org.wso2.grpc.EventService/process', " +
+                "sink.id= 'pool', channel.pool.size = '3', channel.pool.strategy = 'least.outstanding', " +
+                "@map(type='json')) "
+                + "define stream FooStream (message String);";
+
+        String stream2 = "@source(type='grpc-call-response', sink.id= 'pool', @map(type='json')) " +
+                "define stream BarStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2 +
+                query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    responseCount.incrementAndGet();
+                    Assert.assertEquals((String) inEvent.getData()[0], "Hello from Server!");
+                }
+            }
+        });
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        for (int i = 0; i < 6; i++) {
+            fooStream.send(new Object[]{"Request " + i});
+        }
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(responseCount.get(), 6);
+    }
+
+    @Test
+    public void testWithInflightWindow() throws Exception {
+        logger.info("Test case to call process with a bounded number of calls in flight");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        AtomicInteger responseCount = new AtomicInteger(0);
+        String inStreamDefinition = "@app:statistics(reporter = 'console', interval = '60') "
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8889/org.wso2.grpc.EventService/process', " +
+                "sink.id= 'inflight', max.inflight.requests = '1', max.inflight.bytes = '1024', " +
+                "max.inflight.policy = 'block', @map(type='json')) "
+                + "define stream FooStream (message String);";
+
+        String stream2 = "@source(type='grpc-call-response', sink.id= 'inflight', @map(type='json')) " +
+                "define stream BarStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2 +
+                query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event inEvent : inEvents) {
+                    responseCount.incrementAndGet();
+                    Assert.assertEquals((String) inEvent.getData()[0], "Hello from Server!");
+                }
+            }
+        });
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        for (int i = 0; i < 6; i++) {
+            fooStream.send(new Object[]{"Request " + i});
+        }
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(responseCount.get(), 6);
+    }
+
+    @Test
+    public void testWithCallDeadline() throws Exception {
+        logger.info("Test case to cancel a call which does not complete within its deadline");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger rootLogger = (Logger) LogManager.getRootLogger();
+        rootLogger.setLevel(Level.DEBUG);
+        rootLogger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+        AtomicInteger responseCount = new AtomicInteger(0);
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8889/org.wso2.grpc.EventService/process', " +
+                "sink.id= 'deadline', headers = \"'delay:500'\", call.deadline = '{{deadline}}', " +
+                "@map(type='json', @payload('{{message}}'))) "
+                + "define stream FooStream (message String, deadline long);";
+
+        String stream2 = "@source(type='grpc-call-response', sink.id= 'deadline', @map(type='json')) " +
+                "define stream BarStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2 +
+                query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                responseCount.addAndGet(inEvents.length);
+            }
+        });
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1", 100L});
+        fooStream.send(new Object[]{"Request 2", 5000L});
+        Thread.sleep(1500);
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(responseCount.get(), 1);
+        Assert.assertTrue(((TestAppender) rootLogger.getAppenders().get("TestAppender")).getMessages()
+                .contains("did not complete within its deadline"));
+        rootLogger.removeAppender(appender);
+    }
+
+    @Test
+    public void testWithResponseDispatcher() throws Exception {
+        logger.info("Test case to deliver responses on the response threads partitioned by an attribute");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        AtomicInteger responseCount = new AtomicInteger(0);
+        AtomicInteger networkThreadCount = new AtomicInteger(0);
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8889/org.wso2.grpc.EventService/process', " +
+                "sink.id= 'dispatch', response.threadpool.size = '2', response.partition.key = 'message', " +
+                "@map(type='json')) "
+                + "define stream FooStream (message String);";
+
+        String stream2 = "@source(type='grpc-call-response', sink.id= 'dispatch', @map(type='json')) " +
+                "define stream BarStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2 +
+                query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (!Thread.currentThread().getName().startsWith("grpc-call-response-")) {
+                    networkThreadCount.incrementAndGet();
+                }
+                responseCount.addAndGet(inEvents.length);
+            }
+        });
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        for (int i = 0; i < 6; i++) {
+            fooStream.send(new Object[]{"Request " + i});
+        }
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(responseCount.get(), 6);
+        Assert.assertEquals(networkThreadCount.get(), 0);
+    }
+
+    @Test
+    public void testWithRequestOrdering() throws Exception {
+        logger.info("Test case to deliver responses in the order of the requests");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<String> requestMessages = Collections.synchronizedList(new ArrayList<>());
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8889/org.wso2.grpc.EventService/process', " +
+                "sink.id= 'ordering', headers = \"'delay:{{delay}}'\", ordering = 'request', " +
+                "response.threadpool.size = '4', @map(type='json')) "
+                + "define stream FooStream (message String, delay long);";
+
+        String stream2 = "@source(type='grpc-call-response', sink.id= 'ordering', " +
+                "@map(type='json', @attributes(requestMessage='trp:message', message='message'))) " +
+                "define stream BarStream (requestMessage String, message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2 +
+                query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    requestMessages.add((String) event.getData(0));
+                }
+            }
+        });
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1", 400L});
+        fooStream.send(new Object[]{"Request 2", 0L});
+        fooStream.send(new Object[]{"Request 3", 200L});
+        fooStream.send(new Object[]{"Request 4", 0L});
+        Thread.sleep(1500);
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(requestMessages, Arrays.asList("Request 1", "Request 2", "Request 3", "Request 4"));
+    }
+
+    @Test
+    public void testWithRetryPolicy() throws Exception {
+        logger.info("Test case to retry a call failed with a retryable status");
+        AtomicInteger attempts = new AtomicInteger();
+        Server policyServer = startPolicyServer((attempt, responseObserver) -> {
+            if (attempt == 1) {
+                responseObserver.onError(new StatusRuntimeException(Status.UNAVAILABLE));
+            } else {
+                respond(responseObserver, attempt);
+            }
+        }, attempts);
+        try {
+            List<String> responses = callWithPolicy("retry.policy = \"'max.attempts:3', 'initial.backoff:10'\"",
+                    1000);
+            Assert.assertEquals(responses, Collections.singletonList("Attempt 2"));
+            Assert.assertEquals(attempts.get(), 2);
+        } finally {
+            policyServer.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testWithHedgingPolicy() throws Exception {
+        logger.info("Test case to hedge a call whose first attempt is slow");
+        AtomicInteger attempts = new AtomicInteger();
+        Server policyServer = startPolicyServer((attempt, responseObserver) -> {
+            if (attempt == 1) {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            respond(responseObserver, attempt);
+        }, attempts);
+        try {
+            List<String> responses = callWithPolicy("hedging.policy = \"'max.attempts:2', 'hedging.delay:100'\"",
+                    1000);
+            Assert.assertEquals(responses, Collections.singletonList("Attempt 2"));
+            Assert.assertEquals(attempts.get(), 2);
+        } finally {
+            policyServer.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private Server startPolicyServer(BiConsumer<Integer, StreamObserver<org.wso2.grpc.Event>> handler,
+                                     AtomicInteger attempts) throws IOException {
+        return NettyServerBuilder.forPort(8897).addService(new EventServiceGrpc.EventServiceImplBase() {
+            @Override
+            public void process(org.wso2.grpc.Event request, StreamObserver<org.wso2.grpc.Event> responseObserver) {
+                handler.accept(attempts.incrementAndGet(), responseObserver);
+            }
+        }).build().start();
+    }
+
+    private static void respond(StreamObserver<org.wso2.grpc.Event> responseObserver, int attempt) {
+        responseObserver.onNext(org.wso2.grpc.Event.newBuilder()
+                .setPayload("{ \"message\": \"Attempt " + attempt + "\"}").build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Call process once through a grpc-call sink with the given policy and return the responses received within
+     * the given time.
+     */
+    private List<String> callWithPolicy(String policy, long waitingTime) throws InterruptedException {
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8897/org.wso2.grpc.EventService/process', " +
+                "sink.id= 'policy', " + policy + ", @map(type='json')) "
+                + "define stream FooStream (message String);";
+        String stream2 = "@source(type='grpc-call-response', sink.id= 'policy', @map(type='json')) " +
+                "define stream BarStream (message String);";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2);
+        List<String> responses = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("BarStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    responses.add((String) event.getData()[0]);
+                }
+            }
+        });
+        siddhiAppRuntime.start();
+        siddhiAppRuntime.getInputHandler("FooStream").send(new Object[]{"Request 1"});
+        Thread.sleep(waitingTime);
+        siddhiAppRuntime.shutdown();
+        return responses;
+    }
+
+    @Test
+    public void testWithInvalidRetryPolicy() {
+        logger.info("Test case to reject invalid retry and hedging policies");
+        assertInvalidPolicy("retry.policy = \"'max.attempts:3'\", hedging.policy = \"'max.attempts:3'\"",
+                "Only one of retry.policy and hedging.policy can be given");
+        assertInvalidPolicy("retry.policy = \"'max.attempts:1'\"",
+                "max.attempts of retry.policy should be at least 2");
+        assertInvalidPolicy("retry.policy = \"'max.attempts:3', 'retryable.status.codes:UNAVAILABLE|BUSY'\"",
+                "Invalid status code 'BUSY'");
+        assertInvalidPolicy("hedging.policy = \"'max.attempts:3', 'initial.backoff:10'\"",
+                "Invalid hedging.policy entry 'initial.backoff'");
+        assertInvalidPolicy("retry.policy = \"'max.attempts:three'\"",
+                "max.attempts of retry.policy should be an integer but given 'three'");
+        assertInvalidPolicy("retry.policy = \"'max.attempts:3', 'max.backoff:abc'\"",
+                "max.backoff of retry.policy should be a number but given 'abc'");
+        assertInvalidPolicy("hedging.policy = \"'max.attempts:3', 'hedging.delay:-1'\"",
+                "hedging.delay of hedging.policy should not be negative");
+    }
+
+    private void assertInvalidPolicy(String policy, String expectedMessage) {
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8889/org.wso2.grpc.EventService/process', " +
+                "sink.id= 'policy', " + policy + ", @map(type='json')) "
+                + "define stream FooStream (message String);";
+        String stream2 = "@source(type='grpc-call-response', sink.id= 'policy', @map(type='json')) " +
+                "define stream BarStream (message String);";
+        try {
+            siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2);
+            Assert.fail("Siddhi app with " + policy + " should not be created");
+        } catch (SiddhiAppValidationException e) {
+            Assert.assertTrue(e.getMessage().contains(expectedMessage), e.getMessage());
+        } finally {
+            siddhiManager.shutdown();
+        }
+    }
+
+    @Test
+    public void testWithMultipleEndpoints() throws Exception {
+        logger.info("Test case to call process on multiple endpoints one of which is unavailable");
+        Assert.assertEquals(sendToEndpoints("localhost:8889,localhost:8895", "round_robin", "multi1"), 6);
+    }
+
+    @Test
+    public void testWithLeastLoadedPolicy() throws Exception {
+        logger.info("Test case to call process on multiple endpoints with least loaded policy");
+        TestServer secondServer = new TestServer(8896);
+        secondServer.start();
+        try {
+            Assert.assertEquals(sendToEndpoints("localhost:8889,localhost:8896", "least_loaded", "multi2"), 6);
+        } finally {
+            secondServer.stop();
+        }
+    }
+
+    private int sendToEndpoints(String endpoints, String lbPolicy, String sinkID) throws Exception {
+        SiddhiManager siddhiManager = new SiddhiManager();
+        AtomicInteger responseCount = new AtomicInteger(0);
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://" + endpoints + "/org.wso2.grpc.EventService/process', " +
+                "sink.id= '" + sinkID + "', lb.policy = '" + lbPolicy + "', @map(type='json')) "
+                + "define stream FooStream (message String);";
+
+        String stream2 = "@source(type='grpc-call-response', sink.id= '" + sinkID + "', @map(type='json')) " +
+                "define stream BarStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2 +
+                query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                responseCount.addAndGet(inEvents.length);
+            }
+        });
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        for (int i = 0; i < 6; i++) {
+            fooStream.send(new Object[]{"Request " + i});
+        }
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+        return responseCount.get();
+    }
+
     @Test//(dependsOnMethods = "test1")
     public void testWithHeaders() throws Exception {
         logger.info("Test case to call process sending 2 requests");
@@ -243,6 +658,45 @@ public class GrpcCallSinkTestCase {
         logger.removeAppender(appender);
     }
 
+    @Test
+    public void testWithMixedMetaData() throws Exception {
+        logger.info("Test case to call process with metadata of static keys and attribute values");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8889/org.wso2.grpc.EventService/process', " +
+                "sink.id = '1', " +
+                "metadata=\"'Name:{{name}}','Region:eu:west','Key-{{key}}:x'\", " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String, name String, key String);";
+
+        String stream2 = "@source(type='grpc-call-response', sink.id= '1', @map(type='json')) " +
+                "define stream BarStream (message String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1", "Doe, John: Jr", "doe"});
+        fooStream.send(new Object[]{"Request 2", "nash", "nash"});
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+
+        String messages = ((TestAppender) logger.getAppenders().get("TestAppender")).getMessages();
+        Assert.assertTrue(messages.contains("Metadata received: name: Doe, John: Jr"));
+        Assert.assertTrue(messages.contains("Metadata received: name: nash"));
+        Assert.assertTrue(messages.contains("Metadata received: region: eu:west"));
+        Assert.assertTrue(messages.contains("Metadata received: key-doe: x"));
+        Assert.assertTrue(messages.contains("Metadata received: key-nash: x"));
+        logger.removeAppender(appender);
+    }
+
     @Test
     public void testOfEnrichingData() throws Exception {
         logger.info("Test case to call process sending 2 requests");
@@ -289,4 +743,43 @@ public class GrpcCallSinkTestCase {
         Thread.sleep(1000);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testOfEnrichingDataWithRequestedAttributes() throws Exception {
+        logger.info("Test case to enrich responses with a subset of the request attributes");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc-call', " +
+                "publisher.url = 'grpc://localhost:8889/org.wso2.grpc.EventService/process/mySeq', " +
+                "sink.id= '1', @map(type='json')) "
+                + "define stream FooStream (requestMessage String, name String, age int, city String);";
+
+        String stream2 = "@source(type='grpc-call-response', sequence='mySeq', sink.id= '1', " +
+                "@map(type='json', @attributes(message='message', city='trp:city', name='trp:name'))) " +
+                "define stream BarStream (message String, city String, name String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + stream2);
+        List<String> responses = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("BarStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                EventPrinter.print(events);
+                for (Event event : events) {
+                    responses.add(Arrays.toString(event.getData()));
+                }
+            }
+        });
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1", "John", 23, "Paris"});
+        fooStream.send(new Object[]{"Request 2", "Jane", 31, "Rome"});
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+
+        Assert.assertEquals(responses.size(), 2);
+        Assert.assertTrue(responses.contains("[Hello from Server!, Paris, John]"));
+        Assert.assertTrue(responses.contains("[Hello from Server!, Rome, Jane]"));
+    }
 }
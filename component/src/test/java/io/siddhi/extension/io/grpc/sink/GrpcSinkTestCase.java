@@ -19,7 +19,9 @@ package io.siddhi.extension.io.grpc.sink;
 
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
 import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
 import io.siddhi.core.util.persistence.InMemoryPersistenceStore;
 import io.siddhi.extension.io.grpc.utils.TestAppender;
 import io.siddhi.extension.io.grpc.utils.TestServer;
@@ -33,6 +35,10 @@ import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Test cases for grpc-sink in default way.
@@ -113,6 +119,187 @@ public class GrpcSinkTestCase {
         logger.removeAppender(appender);
     }
 
+    @Test
+    public void testCaseToCallConsumeInBatches() throws Exception {
+        log.info("Test case to call consume with batching enabled");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "batch.size = '2', batch.linger.ms = '100', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1"});
+        fooStream.send(new Object[]{"Request 2"});
+        fooStream.send(new Object[]{"Request 3"});
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+
+        Assert.assertTrue(((TestAppender) logger.getAppenders().
+                get("TestAppender")).getMessages().contains("Server consumeBatch hit with 2 events"));
+        Assert.assertTrue(((TestAppender) logger.getAppenders().
+                get("TestAppender")).getMessages().contains("Server consumeBatch hit with 1 events"));
+        Assert.assertTrue(((TestAppender) logger.getAppenders().
+                get("TestAppender")).getMessages().contains("Server consume hit with payload = " +
+                "[Request 3] and Headers = {{}}"));
+        logger.removeAppender(appender);
+    }
+
+    @Test
+    public void testCaseToCallConsumeWithBoundedOutboundBuffer() throws Exception {
+        log.info("Test case to call consume with a bounded outbound buffer");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "outbound.buffer.size = '16', outbound.buffer.policy = 'drop.oldest', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1"});
+        fooStream.send(new Object[]{"Request 2"});
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+
+        Assert.assertTrue(((TestAppender) logger.getAppenders().
+                get("TestAppender")).getMessages().contains("Server consume hit with payload = " +
+                "[Request 1] and Headers = {{}}"));
+        Assert.assertTrue(((TestAppender) logger.getAppenders().
+                get("TestAppender")).getMessages().contains("Server consume hit with payload = " +
+                "[Request 2] and Headers = {{}}"));
+        logger.removeAppender(appender);
+    }
+
+    @Test
+    public void testCaseToCallConsumeWithChannelPool() throws Exception {
+        log.info("Test case to call consume over a pool of channels");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "channel.pool.size = '2', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1"});
+        fooStream.send(new Object[]{"Request 2"});
+        fooStream.send(new Object[]{"Request 3"});
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+
+        for (int i = 1; i <= 3; i++) {
+            Assert.assertTrue(((TestAppender) logger.getAppenders().
+                    get("TestAppender")).getMessages().contains("Server consume hit with payload = " +
+                    "[Request " + i + "] and Headers = {{}}"));
+        }
+        logger.removeAppender(appender);
+    }
+
+    @Test
+    public void testCaseToShareChannelBetweenSinks() throws Exception {
+        log.info("Test case to share a channel between sinks publishing to the same server");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);"
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream BarStream (message String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        InputHandler barStream = siddhiAppRuntime.getInputHandler("BarStream");
+
+        siddhiAppRuntime.start();
+        Assert.assertEquals(GrpcChannelManager.getInstance().getNumChannels(), 1);
+        fooStream.send(new Object[]{"Request 1"});
+        barStream.send(new Object[]{"Request 2"});
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(GrpcChannelManager.getInstance().getNumChannels(), 0);
+
+        Assert.assertTrue(((TestAppender) logger.getAppenders().
+                get("TestAppender")).getMessages().contains("Server consume hit with payload = " +
+                "[Request 1] and Headers = {{}}"));
+        Assert.assertTrue(((TestAppender) logger.getAppenders().
+                get("TestAppender")).getMessages().contains("Server consume hit with payload = " +
+                "[Request 2] and Headers = {{}}"));
+        logger.removeAppender(appender);
+    }
+
+    @Test
+    public void testCaseWithInvalidOutboundBufferPolicy() throws Exception {
+        log.info("Test case to validate outbound buffer policy");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "outbound.buffer.policy = 'drop.newest', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);";
+
+        try {
+            siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+            Assert.fail();
+        } catch (SiddhiAppValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Invalid outbound.buffer.policy 'drop.newest'"));
+        }
+    }
+
+    @Test
+    public void testCaseWithInvalidCompression() throws Exception {
+        log.info("Test case to validate compression");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "compression = 'lz4', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);";
+
+        try {
+            siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+            Assert.fail();
+        } catch (SiddhiAppValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Invalid compression 'lz4'"));
+        }
+    }
+
     @Test
     public void testWithHeader() throws Exception {
         log.info("Test case to call consume with headers");
@@ -345,6 +532,51 @@ public class GrpcSinkTestCase {
         logger.removeAppender(appender);
     }
 
+    @Test
+    public void testCaseWithStaticHeadersAndMetaData() throws Exception {
+        log.info("Test case to send static headers and metadata whose values contain ':'");
+        List<Object[]> received = sendToSource("headers = \"'stream.id:BarStream','name:John'," +
+                        "'city:http://example.com:80'\", metadata = \"'region:us-east:1'\"",
+                "message string", new Object[]{"Request 1"});
+        Assert.assertEquals(received.size(), 1);
+        Assert.assertEquals(received.get(0), new Object[]{"Request 1", "John", "http://example.com:80", "us-east:1"});
+    }
+
+    @Test
+    public void testCaseWithAttributeHeaders() throws Exception {
+        log.info("Test case to send headers whose values are attributes containing ',', ':' and quotes");
+        List<Object[]> received = sendToSource("headers = \"'stream.id:BarStream','name:{{name}}'," +
+                        "'city:{{city}} city'\", metadata = \"'region:eu'\"",
+                "message string, name string, city string",
+                new Object[]{"Request 1", "Doe, John", "Paris: 'Rive Gauche'"},
+                new Object[]{"Request 2", "Jane", "Rome"});
+        Assert.assertEquals(received.size(), 2);
+        Assert.assertEquals(received.get(0), new Object[]{"Request 1", "Doe, John", "Paris: 'Rive Gauche' city",
+                "eu"});
+        Assert.assertEquals(received.get(1), new Object[]{"Request 2", "Jane", "Rome city", "eu"});
+    }
+
+    @Test
+    public void testCaseWithHeadersListFromAttribute() throws Exception {
+        log.info("Test case to send headers whose whole list is an attribute");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        List<Object[]> received = sendToSource("headers = '{{headers}}', metadata = \"'region:eu'\"",
+                "message string, headers string",
+                new Object[]{"Request 1", "'stream.id:BarStream','name:John','city:Paris:15'"},
+                new Object[]{"Request 2", ""},
+                new Object[]{"Request 3", "stream.id:BarStream,name:Jane,city:Rome"});
+        Assert.assertEquals(received.size(), 2);
+        Assert.assertEquals(received.get(0), new Object[]{"Request 1", "John", "Paris:15", "eu"});
+        Assert.assertEquals(received.get(1), new Object[]{"Request 3", "Jane", "Rome", "eu"});
+        Assert.assertTrue(((TestAppender) logger.getAppenders().get("TestAppender")).getMessages()
+                .contains("data=[Request 2, ], isExpired=false}] in the SiddhiApp"));
+        logger.removeAppender(appender);
+    }
+
     @Test
     public void testCaseFailingWithUnavailableServer() throws Exception {
         log.info("Test case to call consume");
@@ -376,6 +608,188 @@ public class GrpcSinkTestCase {
         logger.removeAppender(appender);
     }
 
+    @Test
+    public void testCaseToReopenBrokenStream() throws Exception {
+        log.info("Test case to reopen the client stream after the server restarts");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "stream.reconnect.initial.backoff.ms = '50', stream.reconnect.max.backoff.ms = '500', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1"});
+        Thread.sleep(500);
+        server.stop();
+        Thread.sleep(200);
+        fooStream.send(new Object[]{"Request 2"});
+        server.start();
+        Thread.sleep(3000);
+        fooStream.send(new Object[]{"Request 3"});
+        Thread.sleep(500);
+        siddhiAppRuntime.shutdown();
+
+        for (int i = 1; i <= 3; i++) {
+            Assert.assertTrue(((TestAppender) logger.getAppenders().
+                    get("TestAppender")).getMessages().contains("Server consume hit with payload = " +
+                    "[Request " + i + "] and Headers = {{}}"));
+        }
+        logger.removeAppender(appender);
+    }
+
+    @Test
+    public void testCaseToSendStreamToGrpcSource() throws Exception {
+        log.info("Test case to send events to a grpc source through one stream without reopening it");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String sourceDefinition = ""
+                + "@source(type='grpc', receiver.url = 'grpc://localhost:5004/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json')) " +
+                "define stream BarStream (message String);";
+        String sinkDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5004/org.wso2.grpc.EventService/consume', " +
+                "headers = \"'stream.id:BarStream'\", stream.reconnect.initial.backoff.ms = '50', " +
+                "@map(type='json')) " +
+                "define stream FooStream (message String);";
+
+        SiddhiAppRuntime sourceAppRuntime = siddhiManager.createSiddhiAppRuntime(sourceDefinition);
+        SiddhiAppRuntime sinkAppRuntime = siddhiManager.createSiddhiAppRuntime(sinkDefinition);
+        List<String> messages = new CopyOnWriteArrayList<>();
+        sourceAppRuntime.addCallback("BarStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                for (Event event : events) {
+                    messages.add((String) event.getData()[0]);
+                }
+            }
+        });
+        InputHandler fooStream = sinkAppRuntime.getInputHandler("FooStream");
+
+        sourceAppRuntime.start();
+        sinkAppRuntime.start();
+        for (int i = 1; i <= 10; i++) {
+            fooStream.send(new Object[]{"Request " + i});
+        }
+        for (int i = 11; i <= 20; i++) {
+            Thread.sleep(50);
+            fooStream.send(new Object[]{"Request " + i});
+        }
+        Thread.sleep(1000);
+        sinkAppRuntime.shutdown();
+        sourceAppRuntime.shutdown();
+
+        Assert.assertEquals(messages.size(), 20);
+        for (int i = 1; i <= 20; i++) {
+            Assert.assertTrue(messages.contains("Request " + i));
+        }
+        String logs = ((TestAppender) logger.getAppenders().get("TestAppender")).getMessages();
+        Assert.assertFalse(logs != null && logs.contains("Reopening gRPC stream"));
+        logger.removeAppender(appender);
+    }
+
+    @Test
+    public void testCaseToKeepBatchWhenSendFails() throws Exception {
+        log.info("Test case to keep the events of a batch that could not be sent while the server is down");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+        server.stop();
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "batch.size = '2', batch.linger.ms = '100', " +
+                "stream.reconnect.initial.backoff.ms = '50', stream.reconnect.max.backoff.ms = '500', " +
+                "outbound.buffer.size = '1', outbound.buffer.policy = 'fail.fast', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        // the first batch fills the outbound buffer, so sending the second batch fails
+        for (int i = 1; i <= 4; i++) {
+            fooStream.send(new Object[]{"Request " + i});
+        }
+        Thread.sleep(500);
+        server.start();
+        Thread.sleep(3000);
+        siddhiAppRuntime.shutdown();
+
+        String messages = ((TestAppender) logger.getAppenders().get("TestAppender")).getMessages();
+        int previousIndex = -1;
+        for (int i = 1; i <= 3; i++) {
+            int index = messages.indexOf("Server consume hit with payload = [Request " + i + "] and Headers = {{}}");
+            Assert.assertTrue(index > previousIndex, "Request " + i + " is missing or out of order");
+            previousIndex = index;
+        }
+        logger.removeAppender(appender);
+    }
+
+    @Test
+    public void testCaseToSpillWhileServerIsDown() throws Exception {
+        log.info("Test case to spill requests to the disk while the server is down and send them in order later");
+        TestAppender appender = new TestAppender("TestAppender", null);
+        final Logger logger = (Logger) LogManager.getRootLogger();
+        logger.setLevel(Level.ALL);
+        logger.addAppender(appender);
+        appender.start();
+        SiddhiManager siddhiManager = new SiddhiManager();
+        Path spillDirectory = Files.createTempDirectory("grpc-spill");
+
+        String inStreamDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5003/org.wso2.grpc.EventService/consume', " +
+                "stream.reconnect.initial.backoff.ms = '50', stream.reconnect.max.backoff.ms = '500', " +
+                "outbound.buffer.size = '2', spill.directory = '" + spillDirectory + "', " +
+                "spill.segment.bytes = '64', spill.sync.policy = 'always', " +
+                "@map(type='json', @payload('{{message}}'))) " +
+                "define stream FooStream (message String);";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+
+        siddhiAppRuntime.start();
+        fooStream.send(new Object[]{"Request 1"});
+        Thread.sleep(500);
+        server.stop();
+        Thread.sleep(200);
+        for (int i = 2; i <= 10; i++) {
+            fooStream.send(new Object[]{"Request " + i});
+        }
+        server.start();
+        Thread.sleep(3000);
+        fooStream.send(new Object[]{"Request 11"});
+        Thread.sleep(500);
+        siddhiAppRuntime.shutdown();
+
+        String messages = ((TestAppender) logger.getAppenders().get("TestAppender")).getMessages();
+        int previousIndex = -1;
+        for (int i = 1; i <= 11; i++) {
+            int index = messages.indexOf("Server consume hit with payload = [Request " + i + "] and Headers = {{}}");
+            Assert.assertTrue(index > previousIndex, "Request " + i + " is missing or out of order");
+            previousIndex = index;
+        }
+        logger.removeAppender(appender);
+    }
+
     @Test
     public void testCaseWithSiddhiAppShutdown() throws Exception {
         log.info("Test case to call consume with 2 requests");
@@ -420,4 +834,44 @@ public class GrpcSinkTestCase {
                 "and Headers = {{}}"));
         logger.removeAppender(appender);
     }
+
+    /**
+     * Send the events through a grpc sink with the given options to a grpc source which reads the name and city
+     * headers and the region metadata, and return the events received by the source.
+     */
+    private List<Object[]> sendToSource(String sinkOptions, String attributes, Object[]... events)
+            throws InterruptedException {
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String sourceDefinition = ""
+                + "@source(type='grpc', receiver.url = 'grpc://localhost:5004/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json', @attributes(message='message', name='trp:name', city='trp:city', " +
+                "region='trp:region'))) " +
+                "define stream BarStream (message string, name string, city string, region string);";
+        String sinkDefinition = ""
+                + "@sink(type='grpc', publisher.url = 'grpc://localhost:5004/org.wso2.grpc.EventService/consume', " +
+                sinkOptions + ", @map(type='json', @payload(\"{'message':'{{message}}'}\"))) " +
+                "define stream FooStream (" + attributes + ");";
+        SiddhiAppRuntime sourceAppRuntime = siddhiManager.createSiddhiAppRuntime(sourceDefinition);
+        SiddhiAppRuntime sinkAppRuntime = siddhiManager.createSiddhiAppRuntime(sinkDefinition);
+        List<Object[]> received = new CopyOnWriteArrayList<>();
+        sourceAppRuntime.addCallback("BarStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] inEvents) {
+                for (Event event : inEvents) {
+                    received.add(event.getData());
+                }
+            }
+        });
+        InputHandler fooStream = sinkAppRuntime.getInputHandler("FooStream");
+        sourceAppRuntime.start();
+        sinkAppRuntime.start();
+        for (Object[] event : events) {
+            fooStream.send(event);
+            Thread.sleep(100);
+        }
+        Thread.sleep(1000);
+        sinkAppRuntime.shutdown();
+        sourceAppRuntime.shutdown();
+        return received;
+    }
 }
@@ -21,6 +21,7 @@ import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.query.output.callback.QueryCallback;
@@ -41,6 +42,8 @@ import org.wso2.grpc.EventServiceGrpc;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -346,6 +349,82 @@ public class GrpcServiceSourceTestCase {
         channel.awaitTermination(30, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void testToCallProcessStream() throws Exception {
+        logger.info("Test case to call processStream");
+        logger.setLevel(Level.DEBUG);
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String stream1 = "@source(type='grpc-service', " +
+                "receiver.url = 'grpc://localhost:" + port + "/org.wso2.grpc.EventService/processStream', " +
+                "source.id='1', " +
+                "@map(type='json', @attributes(messageId='trp:message.id', message='message'))) " +
+                "define stream FooStream (messageId String, message String);";
+        String stream2 = "@sink(type='grpc-service-response', source.id='1', " +
+                "message.id='{{messageId}}', " +
+                "@map(type='json')) " +
+                "define stream BarStream (messageId String, message String);";
+        String stream3 = "@source(type='grpc-service', " +
+                "receiver.url = 'grpc://localhost:" + port + "/org.wso2.grpc.EventService/processStream', " +
+                "source.id='2', service.timeout = '500', " +
+                "@map(type='json', @attributes(messageId='trp:message.id', message='message'))) " +
+                "define stream UnansweredStream (messageId String, message String);";
+        String query = "@info(name = 'query') "
+                + "from FooStream "
+                + "select *  "
+                + "insert into BarStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream1 + stream2 + stream3 +
+                query);
+        siddhiAppRuntime.start();
+
+        Map<String, Event> responses = new ConcurrentHashMap<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        ManagedChannel channel = ManagedChannelBuilder.forTarget("localhost:" + port).usePlaintext().build();
+        StreamObserver<Event> requestObserver = EventServiceGrpc.newStub(channel).processStream(
+                new StreamObserver<Event>() {
+                    @Override
+                    public void onNext(Event response) {
+                        responses.put(response.getHeadersOrThrow("message.id"), response);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        logger.error("Error on processStream: " + t.getMessage());
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.countDown();
+                    }
+                });
+        String[] names = {"Benjamin Watson", "Cameron Brown", "Dana Scully"};
+        for (int i = 0; i < names.length; i++) {
+            requestObserver.onNext(Event.newBuilder()
+                    .setPayload("{ \"message\": \"" + names[i] + "\"}")
+                    .putHeaders("stream.id", "FooStream")
+                    .putHeaders("message.id", "request-" + i)
+                    .build());
+        }
+        requestObserver.onNext(Event.newBuilder()
+                .setPayload("{ \"message\": \"Fox Mulder\"}")
+                .putHeaders("stream.id", "UnansweredStream")
+                .putHeaders("message.id", "unanswered")
+                .build());
+        requestObserver.onCompleted();
+
+        Assert.assertTrue(completed.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(responses.size(), 4);
+        for (int i = 0; i < names.length; i++) {
+            Assert.assertTrue(responses.get("request-" + i).getPayload().contains(names[i]));
+            Assert.assertFalse(responses.get("request-" + i).containsHeaders("status"));
+        }
+        Assert.assertEquals(responses.get("unanswered").getHeadersOrThrow("status"), "DEADLINE_EXCEEDED");
+        siddhiAppRuntime.shutdown();
+        channel.shutdown();
+        channel.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
     @Test
     public void testWithHeaders() throws Exception {
         logger.info("Test case to call process");
@@ -17,29 +17,50 @@
  */
 package io.siddhi.extension.io.grpc.source;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.Empty;
+import com.google.protobuf.UnknownFieldSet;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
 import io.grpc.stub.MetadataUtils;
 import io.grpc.stub.StreamObserver;
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.output.StreamCallback;
 import io.siddhi.core.util.EventPrinter;
 import io.siddhi.extension.io.grpc.proto.MyServiceGrpc;
 import io.siddhi.extension.io.grpc.proto.Request;
 import io.siddhi.extension.io.grpc.proto.RequestWithMap;
 import io.siddhi.extension.io.grpc.proto.StreamServiceGrpc;
+import io.siddhi.extension.io.grpc.util.GrpcByteBufAllocators;
+import io.siddhi.extension.io.grpc.util.GrpcConstants;
+import io.siddhi.extension.io.grpc.util.GrpcEventLoopGroups;
+import io.siddhi.extension.io.grpc.util.NativeEventCodec;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.definition.StreamDefinition;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Logger;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.grpc.Event;
+import org.wso2.grpc.EventBatch;
 import org.wso2.grpc.EventServiceGrpc;
+import org.wso2.grpc.NativeEvents;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -123,6 +144,529 @@ public class GrpcSourceTestCase {
         channel.awaitTermination(1, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void basicSourceTestWithBatch() throws Exception {
+        logger.info("Test case to call consumeBatch");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        AtomicInteger batchEventCount = new AtomicInteger(0);
+
+        String stream2 = "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json')) " +
+                "define stream BarStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2 + query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (io.siddhi.core.event.Event inEvent : inEvents) {
+                    switch (batchEventCount.incrementAndGet()) {
+                        case 1:
+                            Assert.assertEquals((String) inEvent.getData()[0], "Benjamin Watson");
+                            break;
+                        case 2:
+                            Assert.assertEquals((String) inEvent.getData()[0], "Cameron Jordan");
+                            break;
+                        default:
+                            Assert.fail();
+                    }
+                }
+            }
+        });
+
+        EventBatch.Builder batchBuilder = EventBatch.newBuilder();
+        batchBuilder.addEvents(Event.newBuilder().setPayload("{ \"message\": \"Benjamin Watson\"}")
+                .putHeaders("stream.id", "BarStream"));
+        batchBuilder.addEvents(Event.newBuilder().setPayload("{ \"message\": \"Cameron Jordan\"}")
+                .putHeaders("stream.id", "BarStream"));
+        ManagedChannel channel = ManagedChannelBuilder.forTarget("localhost:" + port).usePlaintext().build();
+        EventServiceGrpc.EventServiceStub asyncStub = EventServiceGrpc.newStub(channel);
+
+        StreamObserver<Empty> responseObserver = new StreamObserver<Empty>() {
+            @Override
+            public void onNext(Empty event) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+
+        siddhiAppRuntime.start();
+        StreamObserver<EventBatch> requestObserver = asyncStub.consumeBatch(responseObserver);
+        requestObserver.onNext(batchBuilder.build());
+        Thread.sleep(10);
+        requestObserver.onCompleted();
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+        channel.shutdown();
+        channel.awaitTermination(1, TimeUnit.SECONDS);
+        Assert.assertEquals(batchEventCount.get(), 2);
+    }
+
+    @Test
+    public void basicSourceTestWithBinaryPayload() throws Exception {
+        logger.info("Test case to receive events with binary payloads");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+        String stream2 = "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json')) " +
+                "define stream BarStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2 + query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (io.siddhi.core.event.Event inEvent : inEvents) {
+                    messages.add((String) inEvent.getData()[0]);
+                }
+            }
+        });
+
+        Event request = Event.newBuilder()
+                .setBinaryPayload(ByteString.copyFromUtf8("{ \"message\": \"Benjamin Watson\"}"))
+                .putHeaders("stream.id", "BarStream")
+                .build();
+        EventBatch batch = EventBatch.newBuilder()
+                .addEvents(Event.newBuilder()
+                        .setBinaryPayload(ByteString.copyFromUtf8("{ \"message\": \"Cameron Jordan\"}"))
+                        .putHeaders("stream.id", "BarStream"))
+                .build();
+        ManagedChannel channel = ManagedChannelBuilder.forTarget("localhost:" + port).usePlaintext().build();
+        EventServiceGrpc.EventServiceStub asyncStub = EventServiceGrpc.newStub(channel);
+
+        StreamObserver<Empty> responseObserver = new StreamObserver<Empty>() {
+            @Override
+            public void onNext(Empty event) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+
+        siddhiAppRuntime.start();
+        StreamObserver<Event> requestObserver = asyncStub.consume(responseObserver);
+        requestObserver.onNext(request);
+        Thread.sleep(10);
+        requestObserver.onCompleted();
+        Thread.sleep(500);
+        StreamObserver<EventBatch> batchObserver = asyncStub.consumeBatch(responseObserver);
+        batchObserver.onNext(batch);
+        batchObserver.onCompleted();
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+        channel.shutdown();
+        channel.awaitTermination(1, TimeUnit.SECONDS);
+        Assert.assertEquals(messages, Arrays.asList("Benjamin Watson", "Cameron Jordan"));
+    }
+
+    @Test
+    public void basicSourceTestWithColumnarBatches() throws Exception {
+        logger.info("Test case to send and receive events in columnar batches");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<Object[]> rows = Collections.synchronizedList(new ArrayList<>());
+
+        String stream1 = "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', " +
+                "@map(type='passThrough')) " +
+                "define stream BarStream (name string, count int, time long, value double, active bool);";
+        String stream2 = "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', format = 'columnar', batch.size = '3', " +
+                "headers = \"'stream.id:BarStream'\", @map(type='passThrough')) " +
+                "define stream FooStream (name string, count int, time long, value double, active bool);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime sourceAppRuntime = siddhiManager.createSiddhiAppRuntime(stream1 + query);
+        SiddhiAppRuntime sinkAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2);
+        sourceAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (io.siddhi.core.event.Event inEvent : inEvents) {
+                    rows.add(inEvent.getData());
+                }
+            }
+        });
+
+        sourceAppRuntime.start();
+        sinkAppRuntime.start();
+        sinkAppRuntime.getInputHandler("FooStream").send(new Object[]{"sensor-1", 1, 1560000000000L, 21.5, true});
+        sinkAppRuntime.getInputHandler("FooStream").send(new Object[]{"sensor-1", 2, 1560000000010L, null, false});
+        sinkAppRuntime.getInputHandler("FooStream").send(new Object[]{"sensor-1", 3, 1560000000020L, 22.0, true});
+        sinkAppRuntime.getInputHandler("FooStream").send(new Object[]{null, 4, 1560000000030L, 22.5, true});
+        Thread.sleep(1000);
+        sinkAppRuntime.shutdown();
+        sourceAppRuntime.shutdown();
+        Assert.assertEquals(rows.size(), 4);
+        Assert.assertEquals(rows.get(0), new Object[]{"sensor-1", 1, 1560000000000L, 21.5, true});
+        Assert.assertEquals(rows.get(1), new Object[]{"sensor-1", 2, 1560000000010L, null, false});
+        Assert.assertEquals(rows.get(2), new Object[]{"sensor-1", 3, 1560000000020L, 22.0, true});
+        Assert.assertEquals(rows.get(3), new Object[]{null, 4, 1560000000030L, 22.5, true});
+    }
+
+    @Test
+    public void basicSourceTestWithNativeFormat() throws Exception {
+        logger.info("Test case to send and receive events in the native format");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<io.siddhi.core.event.Event> events = Collections.synchronizedList(new ArrayList<>());
+
+        String stream1 = "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume') " +
+                "define stream BarStream (count int, name string, value float, time long, active bool);";
+        String stream2 = "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', format = 'native', " +
+                "headers = \"'stream.id:BarStream'\") " +
+                "define stream FooStream (name string, count int, time long, value float, active bool);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime sourceAppRuntime = siddhiManager.createSiddhiAppRuntime(stream1 + query);
+        SiddhiAppRuntime sinkAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2);
+        sourceAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                events.addAll(Arrays.asList(inEvents));
+            }
+        });
+
+        sourceAppRuntime.start();
+        sinkAppRuntime.start();
+        sinkAppRuntime.getInputHandler("FooStream").send(1560000000000L,
+                new Object[]{"sensor-1", 1, 1560000000005L, 21.5f, true});
+        sinkAppRuntime.getInputHandler("FooStream").send(1560000000010L,
+                new Object[]{null, -2, 1560000000015L, null, false});
+        Thread.sleep(1000);
+        sinkAppRuntime.shutdown();
+        sourceAppRuntime.shutdown();
+        Assert.assertEquals(events.size(), 2);
+        // the rows of separate messages may be handed to the stream by different worker threads
+        events.sort(Comparator.comparingLong(io.siddhi.core.event.Event::getTimestamp));
+        Assert.assertEquals(events.get(0).getTimestamp(), 1560000000000L);
+        Assert.assertEquals(events.get(0).getData(), new Object[]{1, "sensor-1", 21.5f, 1560000000005L, true});
+        Assert.assertEquals(events.get(1).getTimestamp(), 1560000000010L);
+        Assert.assertEquals(events.get(1).getData(), new Object[]{-2, null, null, 1560000000015L, false});
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNativeStreamClosedOnceWhenWorkersAreBusy() throws Exception {
+        logger.info("Test case to close a native stream once when its events are rejected by the worker pool");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String stream1 = "@source(type='grpc', receiver.url = 'grpc://localhost:5005/org.wso2.grpc.EventService/" +
+                "consume', threadpool.size = '1', threadpool.buffer.size = '1') " +
+                "define stream BarStream (message string);";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream1);
+        siddhiAppRuntime.addCallback("BarStream", new StreamCallback() {
+            @Override
+            public void receive(io.siddhi.core.event.Event[] events) {
+                try {
+                    // keep the only worker busy so that the following messages fill the buffer and get rejected
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        siddhiAppRuntime.start();
+
+        StreamDefinition streamDefinition = StreamDefinition.id("BarStream")
+                .attribute("message", Attribute.Type.STRING);
+        NativeEventCodec codec = NativeEventCodec.forSender(streamDefinition, "test");
+        Metadata metadata = new Metadata();
+        metadata.put(Metadata.Key.of(GrpcConstants.STREAM_ID, Metadata.ASCII_STRING_MARSHALLER), "BarStream");
+        metadata.put(Metadata.Key.of(GrpcConstants.NATIVE_SCHEMA, Metadata.ASCII_STRING_MARSHALLER),
+                NativeEventCodec.getSchema(streamDefinition));
+        // call the registered handler directly, as the transport may drop the messages of a call closed by the
+        // server before they reach the service
+        ServerCallHandler<NativeEvents, Empty> handler = null;
+        for (ServerServiceDefinition service : GrpcServerManager.getInstance().getServer(5005)
+                .server.getServices()) {
+            ServerMethodDefinition<?, ?> method = service.getMethod(
+                    EventServiceGrpc.getConsumeNativeMethod().getFullMethodName());
+            if (method != null) {
+                handler = (ServerCallHandler<NativeEvents, Empty>) method.getServerCallHandler();
+            }
+        }
+        Assert.assertNotNull(handler);
+        List<Status> closeStatuses = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger responses = new AtomicInteger();
+        ServerCall<NativeEvents, Empty> call = new ServerCall<NativeEvents, Empty>() {
+            @Override
+            public void request(int numMessages) {
+            }
+
+            @Override
+            public void sendHeaders(Metadata headers) {
+            }
+
+            @Override
+            public void sendMessage(Empty message) {
+                responses.incrementAndGet();
+            }
+
+            @Override
+            public void close(Status status, Metadata trailers) {
+                closeStatuses.add(status);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public MethodDescriptor<NativeEvents, Empty> getMethodDescriptor() {
+                return EventServiceGrpc.getConsumeNativeMethod();
+            }
+        };
+        ServerCall.Listener<NativeEvents> listener = handler.startCall(call, metadata);
+        for (int i = 0; i < 5; i++) {
+            listener.onMessage(codec.encode(new io.siddhi.core.event.Event(System.currentTimeMillis(),
+                    new Object[]{"Event " + i})));
+        }
+        listener.onHalfClose();
+        Thread.sleep(2500);
+        siddhiAppRuntime.shutdown();
+
+        Assert.assertEquals(closeStatuses.size(), 1);
+        Assert.assertEquals(closeStatuses.get(0).getCode(), Status.Code.RESOURCE_EXHAUSTED);
+        Assert.assertEquals(responses.get(), 0);
+    }
+
+    @Test
+    public void basicSourceTestWithSinkStream() throws Exception {
+        logger.info("Test case to receive several events sent by a grpc sink through one stream");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+        String stream1 = "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json')) " +
+                "define stream BarStream (message String);";
+        String stream2 = "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', headers = \"'stream.id:BarStream'\", " +
+                "@map(type='json')) " +
+                "define stream FooStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime sourceAppRuntime = siddhiManager.createSiddhiAppRuntime(stream1 + query);
+        SiddhiAppRuntime sinkAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2);
+        sourceAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (io.siddhi.core.event.Event inEvent : inEvents) {
+                    messages.add((String) inEvent.getData()[0]);
+                }
+            }
+        });
+
+        sourceAppRuntime.start();
+        sinkAppRuntime.start();
+        for (int i = 0; i < 20; i++) {
+            sinkAppRuntime.getInputHandler("FooStream").send(new Object[]{"Event " + i});
+        }
+        Thread.sleep(1000);
+        sinkAppRuntime.shutdown();
+        sourceAppRuntime.shutdown();
+        Assert.assertEquals(messages.size(), 20);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertTrue(messages.contains("Event " + i));
+        }
+    }
+
+    @Test
+    public void basicSourceTestWithCompression() throws Exception {
+        logger.info("Test case to receive events compressed by grpc sinks");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+        String stream1 = "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json')) " +
+                "define stream BarStream (message String);";
+        String stream2 = "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', compression = 'gzip', headers = \"'stream.id:BarStream'\", " +
+                "@map(type='json')) " +
+                "define stream GzipStream (message String);" +
+                "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', compression = 'snappy', headers = \"'stream.id:BarStream'\", " +
+                "@map(type='json')) " +
+                "define stream SnappyStream (message String);" +
+                "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', compression = 'zstd', headers = \"'stream.id:BarStream'\", " +
+                "@map(type='json')) " +
+                "define stream ZstdStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime sourceAppRuntime = siddhiManager.createSiddhiAppRuntime(stream1 + query);
+        SiddhiAppRuntime sinkAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2);
+        sourceAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (io.siddhi.core.event.Event inEvent : inEvents) {
+                    messages.add((String) inEvent.getData()[0]);
+                }
+            }
+        });
+
+        sourceAppRuntime.start();
+        sinkAppRuntime.start();
+        sinkAppRuntime.getInputHandler("GzipStream").send(new Object[]{"Benjamin Watson"});
+        sinkAppRuntime.getInputHandler("SnappyStream").send(new Object[]{"Cameron Jordan"});
+        sinkAppRuntime.getInputHandler("ZstdStream").send(new Object[]{"Drew Brees"});
+        Thread.sleep(1000);
+        sinkAppRuntime.shutdown();
+        sourceAppRuntime.shutdown();
+        Assert.assertEquals(messages.size(), 3);
+        Assert.assertTrue(messages.contains("Benjamin Watson"));
+        Assert.assertTrue(messages.contains("Cameron Jordan"));
+        Assert.assertTrue(messages.contains("Drew Brees"));
+    }
+
+    @Test
+    public void basicSourceTestWithSharedEventLoopGroups() throws Exception {
+        logger.info("Test case to send and receive events on shared event loop groups");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+        String stream1 = "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', transport = 'nio', worker.threads = '2', " +
+                "@map(type='json')) " +
+                "define stream BarStream (message String);";
+        String stream2 = "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', transport = 'nio', worker.threads = '2', " +
+                "headers = \"'stream.id:BarStream'\", @map(type='json')) " +
+                "define stream FooStream (message String);" +
+                "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', transport = 'nio', worker.threads = '2', " +
+                "compression = 'gzip', headers = \"'stream.id:BarStream'\", @map(type='json')) " +
+                "define stream GzipStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime sourceAppRuntime = siddhiManager.createSiddhiAppRuntime(stream1 + query);
+        SiddhiAppRuntime sinkAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2);
+        sourceAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (io.siddhi.core.event.Event inEvent : inEvents) {
+                    messages.add((String) inEvent.getData()[0]);
+                }
+            }
+        });
+
+        sourceAppRuntime.start();
+        sinkAppRuntime.start();
+        // the boss group of the server and one worker group shared by the server and both channels
+        Assert.assertEquals(GrpcEventLoopGroups.getInstance().getNumGroups(), 2);
+        sinkAppRuntime.getInputHandler("FooStream").send(new Object[]{"Benjamin Watson"});
+        sinkAppRuntime.getInputHandler("GzipStream").send(new Object[]{"Cameron Jordan"});
+        Thread.sleep(1000);
+        sinkAppRuntime.shutdown();
+        sourceAppRuntime.shutdown();
+        Assert.assertEquals(messages.size(), 2);
+        Assert.assertTrue(messages.contains("Benjamin Watson"));
+        Assert.assertTrue(messages.contains("Cameron Jordan"));
+        Assert.assertEquals(GrpcEventLoopGroups.getInstance().getNumGroups(), 0);
+    }
+
+    @Test
+    public void basicSourceTestWithPooledAllocator() throws Exception {
+        logger.info("Test case to send and receive events through a shared pooled allocator");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+        String allocatorOptions = "allocator.direct.arenas = '1', allocator.chunk.size = '65536', " +
+                "allocator.thread.local.cache = 'false', ";
+        String stream1 = "@app:statistics(reporter = 'console', interval = '60') " +
+                "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', " + allocatorOptions + "@map(type='json')) " +
+                "define stream BarStream (message String);";
+        String stream2 = "@app:statistics(reporter = 'console', interval = '60') " +
+                "@sink(type='grpc', publisher.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', " + allocatorOptions +
+                "headers = \"'stream.id:BarStream'\", @map(type='json')) " +
+                "define stream FooStream (message String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime sourceAppRuntime = siddhiManager.createSiddhiAppRuntime(stream1 + query);
+        SiddhiAppRuntime sinkAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2);
+        sourceAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (io.siddhi.core.event.Event inEvent : inEvents) {
+                    messages.add((String) inEvent.getData()[0]);
+                }
+            }
+        });
+
+        sourceAppRuntime.start();
+        sinkAppRuntime.start();
+        // the server and the channel ask for the same allocator options and share one allocator
+        Assert.assertEquals(GrpcByteBufAllocators.getInstance().getNumAllocators(), 1);
+        sinkAppRuntime.getInputHandler("FooStream").send(new Object[]{"Benjamin Watson"});
+        Thread.sleep(1000);
+        PooledByteBufAllocator allocator = GrpcServerManager.getInstance().getServer(Integer.parseInt(port))
+                .getByteBufAllocator();
+        Assert.assertEquals(allocator.metric().chunkSize(), 65536);
+        Assert.assertTrue(allocator.metric().usedDirectMemory() > 0);
+        sinkAppRuntime.shutdown();
+        sourceAppRuntime.shutdown();
+        Assert.assertEquals(messages, Collections.singletonList("Benjamin Watson"));
+        Assert.assertEquals(GrpcByteBufAllocators.getInstance().getNumAllocators(), 0);
+    }
+
     @Test
     public void testWithMetaData() throws Exception {
         logger.info("Test case to call process");
@@ -193,6 +737,70 @@ public class GrpcSourceTestCase {
         channel.awaitTermination(1, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void testWithMetaDataAndUnknownFields() throws Exception {
+        logger.info("Test case to read the payload and headers of events with unknown fields");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+        String stream2 = "@source(type='grpc', receiver.url = 'grpc://localhost:" + port +
+                "/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json', @attributes(name='trp:name', message='message'))) " +
+                "define stream BarStream (message String, name String);";
+        String query = "@info(name = 'query') "
+                + "from BarStream "
+                + "select *  "
+                + "insert into outputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream2 + query);
+        siddhiAppRuntime.addCallback("query", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, io.siddhi.core.event.Event[] inEvents,
+                                io.siddhi.core.event.Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (io.siddhi.core.event.Event inEvent : inEvents) {
+                    messages.add(inEvent.getData()[0] + " " + inEvent.getData()[1]);
+                }
+            }
+        });
+
+        Event request = Event.newBuilder()
+                .setPayload("{ \"message\": \"H\u00e9llo \u2713\"}")
+                .putHeaders("stream.id", "BarStream")
+                .putHeaders("nam", "cameron")
+                .putHeaders("name", "benjamin")
+                .setUnknownFields(UnknownFieldSet.newBuilder().addField(3, UnknownFieldSet.Field.newBuilder()
+                        .addVarint(42).build()).build())
+                .build();
+        ManagedChannel channel = ManagedChannelBuilder.forTarget("localhost:" + port).usePlaintext().build();
+        EventServiceGrpc.EventServiceStub asyncStub = EventServiceGrpc.newStub(channel);
+
+        StreamObserver<Empty> responseObserver = new StreamObserver<Empty>() {
+            @Override
+            public void onNext(Empty event) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+
+        siddhiAppRuntime.start();
+        StreamObserver<Event> requestObserver = asyncStub.consume(responseObserver);
+        requestObserver.onNext(request);
+        Thread.sleep(10);
+        requestObserver.onCompleted();
+        Thread.sleep(1000);
+        siddhiAppRuntime.shutdown();
+        channel.shutdown();
+        channel.awaitTermination(1, TimeUnit.SECONDS);
+        Assert.assertEquals(messages, Collections.singletonList("H\u00e9llo \u2713 benjamin"));
+    }
+
     @Test
     public void testWithMetaDataConcurrancy() throws Exception {
         logger.info("Test case to call process");
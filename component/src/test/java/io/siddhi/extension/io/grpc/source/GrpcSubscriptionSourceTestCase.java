@@ -0,0 +1,188 @@
+/*
+ * Copyright (c)  2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.io.grpc.source;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.stream.output.StreamCallback;
+import io.siddhi.core.util.EventPrinter;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.grpc.Event;
+import org.wso2.grpc.EventServiceGrpc;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for grpc-subscription source.
+ */
+public class GrpcSubscriptionSourceTestCase {
+    private static final Logger logger = LogManager.getLogger(GrpcSubscriptionSourceTestCase.class);
+    private int port = 8383;
+
+    @Test
+    public void testSubscriptionResumesAfterLastOffset() throws Exception {
+        logger.info("Test case to resume a subscription after the last offset received");
+        List<Event> subscriptionRequests = new CopyOnWriteArrayList<>();
+        String[] messages = {"Benjamin Watson", "Cameron Brown", "Dana Scully", "Fox Mulder", "Walter Skinner"};
+        Server server = NettyServerBuilder.forPort(port).addService(new EventServiceGrpc.EventServiceImplBase() {
+            @Override
+            public void subscribe(Event request, StreamObserver<Event> responseObserver) {
+                subscriptionRequests.add(request);
+                String offset = request.getHeadersMap().get("offset");
+                int next = offset == null ? 0 : Integer.parseInt(offset) + 1;
+                // the first subscription breaks after three events, the next one sends the rest
+                int end = subscriptionRequests.size() == 1 ? 3 : messages.length;
+                for (int i = next; i < end; i++) {
+                    responseObserver.onNext(Event.newBuilder()
+                            .setPayload("{ \"message\": \"" + messages[i] + "\"}")
+                            .putHeaders("offset", String.valueOf(i))
+                            .build());
+                }
+                // the last subscription stays open, as the source subscribes again once it is ended
+                if (end < messages.length) {
+                    responseObserver.onError(new StatusRuntimeException(Status.UNAVAILABLE));
+                }
+            }
+        }).build().start();
+
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "@source(type='grpc-subscription', " +
+                "publisher.url = 'grpc://localhost:" + port + "/org.wso2.grpc.EventService/subscribe', " +
+                "headers = \"'stream.id:Characters'\", request.size = '2', " +
+                "@map(type='json', @attributes(offset='trp:offset', message='message'))) " +
+                "define stream FooStream (offset string, message string);";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream);
+        List<Object[]> received = new CopyOnWriteArrayList<>();
+        CountDownLatch allReceived = new CountDownLatch(messages.length);
+        siddhiAppRuntime.addCallback("FooStream", new StreamCallback() {
+            @Override
+            public void receive(io.siddhi.core.event.Event[] events) {
+                EventPrinter.print(events);
+                for (io.siddhi.core.event.Event event : events) {
+                    received.add(event.getData());
+                    allReceived.countDown();
+                }
+            }
+        });
+        siddhiAppRuntime.start();
+        try {
+            Assert.assertTrue(allReceived.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(received.size(), messages.length);
+            for (int i = 0; i < messages.length; i++) {
+                Assert.assertEquals(received.get(i), new Object[]{String.valueOf(i), messages[i]});
+            }
+            Assert.assertEquals(subscriptionRequests.size(), 2);
+            Assert.assertEquals(subscriptionRequests.get(0).getHeadersMap().get("stream.id"), "Characters");
+            Assert.assertFalse(subscriptionRequests.get(0).containsHeaders("offset"));
+            Assert.assertEquals(subscriptionRequests.get(1).getHeadersMap().get("stream.id"), "Characters");
+            Assert.assertEquals(subscriptionRequests.get(1).getHeadersMap().get("offset"), "2");
+        } finally {
+            siddhiAppRuntime.shutdown();
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSubscriptionResumesWhenEndedByServer() throws Exception {
+        logger.info("Test case to subscribe again after the last offset received when the server ends the " +
+                "subscription");
+        List<Event> subscriptionRequests = new CopyOnWriteArrayList<>();
+        String[] messages = {"Benjamin Watson", "Cameron Brown", "Dana Scully", "Fox Mulder"};
+        Server server = NettyServerBuilder.forPort(port).addService(new EventServiceGrpc.EventServiceImplBase() {
+            @Override
+            public void subscribe(Event request, StreamObserver<Event> responseObserver) {
+                subscriptionRequests.add(request);
+                String offset = request.getHeadersMap().get("offset");
+                int next = offset == null ? 0 : Integer.parseInt(offset) + 1;
+                // the first subscription is ended after two events, the next one sends the rest and stays open
+                int end = subscriptionRequests.size() == 1 ? 2 : messages.length;
+                for (int i = next; i < end; i++) {
+                    responseObserver.onNext(Event.newBuilder()
+                            .setPayload("{ \"message\": \"" + messages[i] + "\"}")
+                            .putHeaders("offset", String.valueOf(i))
+                            .build());
+                }
+                if (end < messages.length) {
+                    responseObserver.onCompleted();
+                }
+            }
+        }).build().start();
+
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "@source(type='grpc-subscription', " +
+                "publisher.url = 'grpc://localhost:" + port + "/org.wso2.grpc.EventService/subscribe', " +
+                "@map(type='json', @attributes(offset='trp:offset', message='message'))) " +
+                "define stream FooStream (offset string, message string);";
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream);
+        List<Object[]> received = new CopyOnWriteArrayList<>();
+        CountDownLatch allReceived = new CountDownLatch(messages.length);
+        siddhiAppRuntime.addCallback("FooStream", new StreamCallback() {
+            @Override
+            public void receive(io.siddhi.core.event.Event[] events) {
+                EventPrinter.print(events);
+                for (io.siddhi.core.event.Event event : events) {
+                    received.add(event.getData());
+                    allReceived.countDown();
+                }
+            }
+        });
+        siddhiAppRuntime.start();
+        try {
+            Assert.assertTrue(allReceived.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(received.size(), messages.length);
+            for (int i = 0; i < messages.length; i++) {
+                Assert.assertEquals(received.get(i), new Object[]{String.valueOf(i), messages[i]});
+            }
+            Assert.assertEquals(subscriptionRequests.size(), 2);
+            Assert.assertFalse(subscriptionRequests.get(0).containsHeaders("offset"));
+            Assert.assertEquals(subscriptionRequests.get(1).getHeadersMap().get("offset"), "1");
+        } finally {
+            siddhiAppRuntime.shutdown();
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSubscriptionWithOtherMethod() {
+        logger.info("Test case to subscribe through a method other than subscribe");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "@source(type='grpc-subscription', " +
+                "publisher.url = 'grpc://localhost:" + port + "/org.wso2.grpc.EventService/consume', " +
+                "@map(type='json')) " +
+                "define stream FooStream (message string);";
+        try {
+            siddhiManager.createSiddhiAppRuntime(stream);
+            Assert.fail();
+        } catch (SiddhiAppValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("grpc-subscription source subscribes through " +
+                    "org.wso2.grpc.EventService/subscribe"));
+        }
+    }
+}
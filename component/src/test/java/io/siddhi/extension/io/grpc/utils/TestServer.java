@@ -26,6 +26,7 @@ import io.grpc.stub.StreamObserver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.grpc.Event;
+import org.wso2.grpc.EventBatch;
 import org.wso2.grpc.EventServiceGrpc;
 
 import java.io.IOException;
@@ -48,6 +49,13 @@ public class TestServer {
                 logger.debug("Server process hit with payload = " + request.getPayload() + " and Headers = {"
                         + request.getHeadersMap().toString() + "}");
             }
+            if (request.getHeadersMap().containsKey("delay")) {
+                try {
+                    Thread.sleep(Long.parseLong(request.getHeadersMap().get("delay")));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
             Event.Builder responseBuilder = Event.newBuilder();
             String json = "{ \"message\": \"Hello from Server!\"}";
             responseBuilder.setPayload(json);
@@ -79,6 +87,33 @@ public class TestServer {
                 }
             };
         }
+
+        @Override
+        public StreamObserver<EventBatch> consumeBatch(StreamObserver<Empty> responseObserver) {
+            return new StreamObserver<EventBatch>() {
+                @Override
+                public void onNext(EventBatch batch) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Server consumeBatch hit with " + batch.getEventsCount() + " events");
+                        for (Event request : batch.getEventsList()) {
+                            logger.debug("Server consume hit with payload = " + request.getPayload() +
+                                    " and Headers = {" + request.getHeadersMap().toString() + "}");
+                        }
+                    }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+
+                }
+
+                @Override
+                public void onCompleted() {
+                    responseObserver.onNext(Empty.getDefaultInstance());
+                    responseObserver.onCompleted();
+                }
+            };
+        }
     };
 
     public TestServer(int port) {